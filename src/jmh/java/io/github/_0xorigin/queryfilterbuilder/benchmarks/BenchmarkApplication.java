@@ -0,0 +1,19 @@
+package io.github._0xorigin.queryfilterbuilder.benchmarks;
+
+import io.github._0xorigin.queryfilterbuilder.entities.User;
+import io.github._0xorigin.queryfilterbuilder.entities.UserRepository;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * Minimal Spring Boot application used by the benchmarks to bootstrap the library auto-configuration
+ * against the in-memory H2 database and the test entities.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+@EntityScan(basePackageClasses = User.class)
+@EnableJpaRepositories(basePackageClasses = UserRepository.class)
+public class BenchmarkApplication {
+}
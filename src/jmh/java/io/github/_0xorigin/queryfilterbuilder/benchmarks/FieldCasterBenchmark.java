@@ -0,0 +1,69 @@
+package io.github._0xorigin.queryfilterbuilder.benchmarks;
+
+import io.github._0xorigin.queryfilterbuilder.base.filterfield.FieldCaster;
+import io.github._0xorigin.queryfilterbuilder.filters.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link FieldCaster#cast(String)} for every filter in the {@code filters} package
+ * with a representative valid input.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldCasterBenchmark {
+
+    private static final Map<String, Sample> SAMPLES = Map.ofEntries(
+        Map.entry("BigDecimal", new Sample(new BigDecimalFilter(), "12345.6789")),
+        Map.entry("BigInteger", new Sample(new BigIntegerFilter(), "123456789012345678901234567890")),
+        Map.entry("Boolean", new Sample(new BooleanFilter(), "true")),
+        Map.entry("Byte", new Sample(new ByteFilter(), "12")),
+        Map.entry("Character", new Sample(new CharacterFilter(), "a")),
+        Map.entry("Double", new Sample(new DoubleFilter(), "1234.5678")),
+        Map.entry("Float", new Sample(new FloatFilter(), "12.5")),
+        Map.entry("Instant", new Sample(new InstantFilter(), "2024-01-15T10:15:30Z")),
+        Map.entry("Integer", new Sample(new IntegerFilter(), "123456")),
+        Map.entry("LocalDate", new Sample(new LocalDateFilter(), "2024-01-15")),
+        Map.entry("LocalDateTime", new Sample(new LocalDateTimeFilter(), "2024-01-15T10:15:30")),
+        Map.entry("LocalTime", new Sample(new LocalTimeFilter(), "10:15:30")),
+        Map.entry("Long", new Sample(new LongFilter(), "1234567890123")),
+        Map.entry("OffsetDateTime", new Sample(new OffsetDateTimeFilter(), "2024-01-15T10:15:30+02:00")),
+        Map.entry("OffsetTime", new Sample(new OffsetTimeFilter(), "10:15:30+02:00")),
+        Map.entry("Short", new Sample(new ShortFilter(), "1234")),
+        Map.entry("String", new Sample(new StringFilter(), "value")),
+        Map.entry("Uuid", new Sample(new UuidFilter(), "c0a86433-9e3b-198a-819e-3be990bf0000")),
+        Map.entry("Year", new Sample(new YearFilter(), "2024")),
+        Map.entry("YearMonth", new Sample(new YearMonthFilter(), "2024-01")),
+        Map.entry("ZonedDateTime", new Sample(new ZonedDateTimeFilter(), "2024-01-15T10:15:30+02:00[Africa/Cairo]"))
+    );
+
+    @Param({
+        "BigDecimal", "BigInteger", "Boolean", "Byte", "Character", "Double", "Float", "Instant", "Integer",
+        "LocalDate", "LocalDateTime", "LocalTime", "Long", "OffsetDateTime", "OffsetTime", "Short", "String",
+        "Uuid", "Year", "YearMonth", "ZonedDateTime"
+    })
+    private String type;
+
+    private FieldCaster<?> fieldCaster;
+    private String value;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Sample sample = SAMPLES.get(type);
+        fieldCaster = sample.fieldCaster();
+        value = sample.value();
+    }
+
+    @Benchmark
+    public Object cast() {
+        return fieldCaster.cast(value);
+    }
+
+    private record Sample(FieldCaster<?> fieldCaster, String value) {}
+}
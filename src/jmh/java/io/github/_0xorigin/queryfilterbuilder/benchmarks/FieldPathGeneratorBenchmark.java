@@ -0,0 +1,44 @@
+package io.github._0xorigin.queryfilterbuilder.benchmarks;
+
+import io.github._0xorigin.queryfilterbuilder.base.generators.FieldPathGenerator;
+import io.github._0xorigin.queryfilterbuilder.entities.User;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link FieldPathGenerator#generate} for direct, nested and association-leaf paths.
+ * Each invocation needs a fresh {@link Root}, so {@link #createRoot(SpringState)} is included as a baseline
+ * to subtract from the other results.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldPathGeneratorBenchmark {
+
+    @Param({"firstName", "createdBy.firstName", "createdBy.createdBy.lastName", "createdBy"})
+    private String field;
+
+    private final BindingResult bindingResult = new BeanPropertyBindingResult(this, "benchmark");
+
+    @Benchmark
+    public Root<User> createRoot(SpringState state) {
+        CriteriaQuery<User> criteriaQuery = state.entityManager.getCriteriaBuilder().createQuery(User.class);
+        return criteriaQuery.from(User.class);
+    }
+
+    @Benchmark
+    public Expression<?> generate(SpringState state) {
+        CriteriaQuery<User> criteriaQuery = state.entityManager.getCriteriaBuilder().createQuery(User.class);
+        Root<User> root = criteriaQuery.from(User.class);
+        return state.pathGenerator.generate(root, field, field, bindingResult);
+    }
+}
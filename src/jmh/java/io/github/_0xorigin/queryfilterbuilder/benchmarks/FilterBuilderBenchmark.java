@@ -0,0 +1,39 @@
+package io.github._0xorigin.queryfilterbuilder.benchmarks;
+
+import io.github._0xorigin.queryfilterbuilder.FilterContext;
+import io.github._0xorigin.queryfilterbuilder.base.builders.FilterBuilderImp;
+import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterWrapper;
+import io.github._0xorigin.queryfilterbuilder.entities.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link FilterBuilderImp#getDistinctFilterWrappers(FilterContext)}, which parses the sources of a
+ * context and resolves each filter against the template.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilterBuilderBenchmark {
+
+    @Benchmark
+    public Collection<FilterWrapper> getDistinctFilterWrappersQueryParams(SpringState state) {
+        FilterContext<User> filterContext = state.filterTemplate.newSourceBuilder()
+            .withQuerySource(state.request)
+            .buildFilterContext();
+        return state.filterBuilder.getDistinctFilterWrappers(filterContext);
+    }
+
+    @Benchmark
+    public Collection<FilterWrapper> getDistinctFilterWrappersBothSources(SpringState state) {
+        FilterContext<User> filterContext = state.filterTemplate.newSourceBuilder()
+            .withQuerySource(state.request)
+            .withBodySource(state.filterRequests)
+            .buildFilterContext();
+        return state.filterBuilder.getDistinctFilterWrappers(filterContext);
+    }
+}
@@ -0,0 +1,44 @@
+package io.github._0xorigin.queryfilterbuilder.benchmarks;
+
+import io.github._0xorigin.queryfilterbuilder.base.utils.FilterUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Benchmarks {@link FilterUtils#splitWithEscapedDelimiter(String, String)} against the previous regex-based
+ * implementation, which compiled a {@link Pattern} and URL-decoded every part on each call.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="FilterUtilsBenchmark -prof gc"} to also
+ * report allocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilterUtilsBenchmark {
+
+    @Param({"firstName", "firstName.eq", "customer.address.city.icontains", "name%2Efull.eq"})
+    private String value;
+
+    private final String delimiter = ".";
+
+    @Benchmark
+    public String[] splitWithEscapedDelimiter() {
+        return FilterUtils.splitWithEscapedDelimiter(value, delimiter);
+    }
+
+    @Benchmark
+    public String[] regexSplitBaseline() {
+        String[] parts = Pattern.compile(Pattern.quote(delimiter)).split(value);
+        for (int i = 0; i < parts.length; i++) {
+            parts[i] = URLDecoder.decode(parts[i], StandardCharsets.UTF_8);
+        }
+        return parts;
+    }
+}
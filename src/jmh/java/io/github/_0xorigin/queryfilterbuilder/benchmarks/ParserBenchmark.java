@@ -0,0 +1,41 @@
+package io.github._0xorigin.queryfilterbuilder.benchmarks;
+
+import io.github._0xorigin.queryfilterbuilder.base.parsers.FilterParserImp;
+import io.github._0xorigin.queryfilterbuilder.base.parsers.SortParserImp;
+import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterWrapper;
+import io.github._0xorigin.queryfilterbuilder.base.wrappers.SortWrapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link FilterParserImp} and {@link SortParserImp} for both query parameter and request body sources.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+
+    @Benchmark
+    public List<FilterWrapper> filterParseQueryParams(SpringState state) {
+        return state.filterParser.parse(state.request);
+    }
+
+    @Benchmark
+    public List<FilterWrapper> filterParseRequestBody(SpringState state) {
+        return state.filterParser.parse(state.filterRequests);
+    }
+
+    @Benchmark
+    public List<SortWrapper> sortParseQueryParams(SpringState state) {
+        return state.sortParser.parse(state.request);
+    }
+
+    @Benchmark
+    public List<SortWrapper> sortParseRequestBody(SpringState state) {
+        return state.sortParser.parse(state.sortRequests);
+    }
+}
@@ -0,0 +1,55 @@
+package io.github._0xorigin.queryfilterbuilder.benchmarks;
+
+import io.github._0xorigin.queryfilterbuilder.FilterContext;
+import io.github._0xorigin.queryfilterbuilder.QueryFilterBuilderImp;
+import io.github._0xorigin.queryfilterbuilder.SortContext;
+import io.github._0xorigin.queryfilterbuilder.entities.User;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end benchmarks of {@link QueryFilterBuilderImp}: building the context and the specification, then applying
+ * it to a fresh criteria query backed by the H2 metamodel. No SQL is executed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpecificationBenchmark {
+
+    @Benchmark
+    public Predicate filterSpecification(SpringState state) {
+        FilterContext<User> filterContext = state.filterTemplate.newSourceBuilder()
+            .withQuerySource(state.request)
+            .withBodySource(state.filterRequests)
+            .buildFilterContext();
+        Specification<User> specification = state.queryFilterBuilder.buildFilterSpecification(filterContext);
+
+        CriteriaBuilder criteriaBuilder = state.entityManager.getCriteriaBuilder();
+        CriteriaQuery<User> criteriaQuery = criteriaBuilder.createQuery(User.class);
+        Root<User> root = criteriaQuery.from(User.class);
+        return specification.toPredicate(root, criteriaQuery, criteriaBuilder);
+    }
+
+    @Benchmark
+    public CriteriaQuery<User> sortSpecification(SpringState state) {
+        SortContext<User> sortContext = state.sortTemplate.newSourceBuilder()
+            .withQuerySource(state.request)
+            .withBodySource(state.sortRequests)
+            .buildSortContext();
+        Specification<User> specification = state.queryFilterBuilder.buildSortSpecification(sortContext);
+
+        CriteriaBuilder criteriaBuilder = state.entityManager.getCriteriaBuilder();
+        CriteriaQuery<User> criteriaQuery = criteriaBuilder.createQuery(User.class);
+        Root<User> root = criteriaQuery.from(User.class);
+        specification.toPredicate(root, criteriaQuery, criteriaBuilder);
+        return criteriaQuery;
+    }
+}
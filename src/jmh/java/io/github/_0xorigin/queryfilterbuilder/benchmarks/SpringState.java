@@ -0,0 +1,119 @@
+package io.github._0xorigin.queryfilterbuilder.benchmarks;
+
+import io.github._0xorigin.queryfilterbuilder.FilterContext;
+import io.github._0xorigin.queryfilterbuilder.QueryFilterBuilder;
+import io.github._0xorigin.queryfilterbuilder.SortContext;
+import io.github._0xorigin.queryfilterbuilder.base.builders.FilterBuilder;
+import io.github._0xorigin.queryfilterbuilder.base.dtos.FilterRequest;
+import io.github._0xorigin.queryfilterbuilder.base.dtos.SortRequest;
+import io.github._0xorigin.queryfilterbuilder.base.filteroperator.Operator;
+import io.github._0xorigin.queryfilterbuilder.base.generators.PathGenerator;
+import io.github._0xorigin.queryfilterbuilder.base.parsers.FilterParser;
+import io.github._0xorigin.queryfilterbuilder.base.parsers.SortParser;
+import io.github._0xorigin.queryfilterbuilder.entities.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Sort;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+/**
+ * Shared benchmark state holding a running Spring context backed by an in-memory H2 database,
+ * the library beans under test, and representative templates and requests for the {@link User} entity.
+ */
+@State(Scope.Benchmark)
+public class SpringState {
+
+    ConfigurableApplicationContext context;
+    EntityManager entityManager;
+    QueryFilterBuilder<User> queryFilterBuilder;
+    FilterBuilder<User> filterBuilder;
+    PathGenerator<User> pathGenerator;
+    FilterParser filterParser;
+    SortParser sortParser;
+
+    FilterContext.Template<User> filterTemplate;
+    SortContext.Template<User> sortTemplate;
+    MockHttpServletRequest request;
+    List<FilterRequest> filterRequests;
+    List<SortRequest> sortRequests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BenchmarkApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties("spring.jpa.show-sql=false", "logging.level.root=WARN")
+            .run();
+        entityManager = context.getBean(EntityManagerFactory.class).createEntityManager();
+        queryFilterBuilder = getBean(QueryFilterBuilder.class);
+        filterBuilder = getBean(FilterBuilder.class);
+        pathGenerator = getBean(PathGenerator.class);
+        filterParser = context.getBean(FilterParser.class);
+        sortParser = context.getBean(SortParser.class);
+
+        filterTemplate = FilterContext.buildTemplateForType(User.class)
+            .queryParam(configurer -> configurer
+                .addFilter("role", Operator.EQ, Operator.IN)
+                .addFilter("firstName", Operator.EQ, Operator.ICONTAINS)
+                .addFilter("isActive", Operator.EQ)
+                .addFilter("createdAt", Operator.GTE, Operator.LT)
+                .addFilter("creator", "createdBy.firstName", Operator.EQ)
+            )
+            .requestBody(configurer -> configurer
+                .addFilter("role", Operator.EQ, Operator.IN)
+                .addFilter("lastName", Operator.ICONTAINS)
+                .addFilter("lastLogin", Operator.BETWEEN)
+                .addFilter("createdBy.lastName", Operator.EQ)
+            )
+            .buildTemplate();
+
+        sortTemplate = SortContext.buildTemplateForType(User.class)
+            .queryParam(configurer -> configurer
+                .addSorts("firstName")
+                .addSorts("createdAt")
+                .addDescSort("createdBy.firstName")
+            )
+            .requestBody(configurer -> configurer
+                .addSorts("lastName")
+                .addSorts("role")
+            )
+            .buildTemplate();
+
+        request = new MockHttpServletRequest();
+        request.addParameter("role.in", "ADMIN,USER");
+        request.addParameter("firstName.icontains", "adm");
+        request.addParameter("isActive", "true");
+        request.addParameter("createdAt.gte", "2024-01-01T00:00:00Z");
+        request.addParameter("creator", "Admin");
+        request.addParameter("page", "0");
+        request.addParameter("sort", "-createdAt,firstName,-createdBy.firstName");
+
+        filterRequests = List.of(
+            new FilterRequest("role", Operator.EQ.getValue(), "USER"),
+            new FilterRequest("lastName", Operator.ICONTAINS.getValue(), "user"),
+            new FilterRequest("lastLogin", Operator.BETWEEN.getValue(), "2024-01-01T00:00:00Z,2025-01-01T00:00:00Z"),
+            new FilterRequest("createdBy.lastName", Operator.EQ.getValue(), "Admin")
+        );
+        sortRequests = List.of(
+            new SortRequest("role", Sort.Direction.ASC),
+            new SortRequest("lastName", Sort.Direction.DESC)
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManager.close();
+        context.close();
+    }
+
+    // The library beans are declared with an unbound type variable, so they can only be looked up by raw type
+    @SuppressWarnings("unchecked")
+    private <B> B getBean(Class<?> beanType) {
+        return (B) context.getBean(beanType);
+    }
+}
@@ -1,12 +1,15 @@
 package io.github._0xorigin.queryfilterbuilder;
 
 import io.github._0xorigin.queryfilterbuilder.base.dtos.FilterRequest;
+import io.github._0xorigin.queryfilterbuilder.base.enums.FilterType;
 import io.github._0xorigin.queryfilterbuilder.base.enums.SourceType;
 import io.github._0xorigin.queryfilterbuilder.base.filteroperator.Operator;
 import io.github._0xorigin.queryfilterbuilder.base.functions.CustomFilterFunction;
 import io.github._0xorigin.queryfilterbuilder.base.functions.ExpressionProviderFunction;
 import io.github._0xorigin.queryfilterbuilder.base.holders.CustomFilterHolder;
 import io.github._0xorigin.queryfilterbuilder.base.holders.FilterHolder;
+import io.github._0xorigin.queryfilterbuilder.base.plans.FilterPlan;
+import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterWrapper;
 import jakarta.persistence.Entity;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.lang.NonNull;
@@ -23,9 +26,14 @@ import java.util.stream.Collectors;
  * @param <T> The type of the entity to which the filter will be applied.
  */
 public final class FilterContext<T> {
+    private final Class<T> type;
     private final Map<String, FilterHolder<T, ? extends Comparable<?>>> filters;
     private final Map<String, CustomFilterHolder<T, ? extends Comparable<?>>> customFilters;
     private final Map<String, String> aliasToFieldMap;
+    private final Map<PlanKey, FilterPlan<T>> requestFilterPlans;
+    private final Map<PlanKey, FilterPlan<T>> filterPlans;
+    private final Map<PlanKey, FilterPlan<T>> customFilterPlans;
+    private final List<String> fetchPaths;
     private final HttpServletRequest request;
     private final List<FilterRequest> filterRequests;
 
@@ -35,9 +43,14 @@ public final class FilterContext<T> {
      * @param sourceBuilder The source builder.
      */
     private FilterContext(@NonNull final SourceBuilder<T> sourceBuilder) {
+        this.type = sourceBuilder.getTemplate().getType();
         this.filters = Map.copyOf(sourceBuilder.getTemplate().getFilters());
         this.customFilters = Map.copyOf(sourceBuilder.getTemplate().getCustomFilters());
         this.aliasToFieldMap = Map.copyOf(sourceBuilder.getTemplate().getAliasToFieldMap());
+        this.requestFilterPlans = sourceBuilder.getTemplate().getRequestFilterPlans();
+        this.filterPlans = sourceBuilder.getTemplate().getFilterPlans();
+        this.customFilterPlans = sourceBuilder.getTemplate().getCustomFilterPlans();
+        this.fetchPaths = sourceBuilder.getTemplate().getFetchPaths();
         this.request = sourceBuilder.getRequest().orElse(null);
         this.filterRequests = sourceBuilder.getFilterRequests().orElse(null);
     }
@@ -57,17 +70,27 @@ public final class FilterContext<T> {
         if (!type.isAnnotationPresent(Entity.class)) {
             throw new IllegalArgumentException("Class " + type.getName() + " is not a JPA Entity");
         }
-        return templateBuilder();
+        return templateBuilder(type);
     }
 
     /**
      * Returns a new {@link TemplateBuilder} instance.
      *
-     * @param <T> The type of the entity.
+     * @param type The entity class.
+     * @param <T>  The type of the entity.
      * @return A new {@link TemplateBuilder} instance.
      */
-    private static <T> TemplateBuilder<T> templateBuilder() {
-        return new TemplateBuilder<>();
+    private static <T> TemplateBuilder<T> templateBuilder(final Class<T> type) {
+        return new TemplateBuilder<>(type);
+    }
+
+    /**
+     * Returns the entity class this context was built for.
+     *
+     * @return The entity class.
+     */
+    public Class<T> getType() {
+        return type;
     }
 
     /**
@@ -96,6 +119,60 @@ public final class FilterContext<T> {
         return aliasToFieldMap;
     }
 
+    /**
+     * Returns the association paths to fetch with the entities, as marked by {@link TemplateBuilder#fetch}.
+     *
+     * @return An unmodifiable list of delimited association paths, in declaration order.
+     */
+    public List<String> getFetchPaths() {
+        return fetchPaths;
+    }
+
+    /**
+     * Resolves a parsed {@link FilterWrapper} against the precompiled filter plans of the template.
+     * <p>
+     * A normal filter is matched by the requested field (or alias), operator and source type, and the returned wrapper
+     * carries the resolved entity field. Otherwise, a custom filter is matched by the original field name and source type.
+     * The {@code originalFieldName} is always kept unchanged for error reporting.
+     *
+     * @param filterWrapper The parsed filter wrapper.
+     * @return An {@link Optional} containing the resolved wrapper with its filter type set, or empty if no filter matches.
+     */
+    public Optional<FilterWrapper> resolveFilterWrapper(@NonNull final FilterWrapper filterWrapper) {
+        final FilterPlan<T> plan = requestFilterPlans.get(new PlanKey(filterWrapper.field(), filterWrapper.operator(), filterWrapper.sourceType()));
+        if (plan != null)
+            return Optional.of(withResolvedField(filterWrapper, plan.field(), FilterType.NORMAL));
+
+        if (customFilterPlans.containsKey(new PlanKey(filterWrapper.originalFieldName(), null, filterWrapper.sourceType())))
+            return Optional.of(withResolvedField(filterWrapper, aliasToFieldMap.getOrDefault(filterWrapper.field(), filterWrapper.field()), FilterType.CUSTOM));
+
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the precompiled plan for an already resolved {@link FilterWrapper}.
+     *
+     * @param filterWrapper The resolved filter wrapper, as returned by {@link #resolveFilterWrapper(FilterWrapper)}.
+     * @return An {@link Optional} containing the matching plan, or empty if the wrapper has no filter type or does not match any filter.
+     */
+    public Optional<FilterPlan<T>> getFilterPlan(@NonNull final FilterWrapper filterWrapper) {
+        return filterWrapper.filterType().map(filterType -> switch (filterType) {
+            case NORMAL -> filterPlans.get(new PlanKey(filterWrapper.field(), filterWrapper.operator(), filterWrapper.sourceType()));
+            case CUSTOM -> customFilterPlans.get(new PlanKey(filterWrapper.originalFieldName(), null, filterWrapper.sourceType()));
+        });
+    }
+
+    private static FilterWrapper withResolvedField(final FilterWrapper filterWrapper, final String field, final FilterType filterType) {
+        return new FilterWrapper(
+            field,
+            filterWrapper.originalFieldName(),
+            filterWrapper.operator(),
+            filterWrapper.values(),
+            filterWrapper.sourceType(),
+            Optional.of(filterType)
+        );
+    }
+
     /**
      * Returns the {@link HttpServletRequest} if the filter source is query parameters.
      *
@@ -202,19 +279,81 @@ public final class FilterContext<T> {
      * @param <T> The type of the entity.
      */
     public static final class Template<T> {
+        private final Class<T> type;
         private final Map<String, FilterHolder<T, ? extends Comparable<?>>> filters;
         private final Map<String, CustomFilterHolder<T, ? extends Comparable<?>>> customFilters;
         private final Map<String, String> aliasToFieldMap;
+        private final Map<PlanKey, FilterPlan<T>> requestFilterPlans;
+        private final Map<PlanKey, FilterPlan<T>> filterPlans;
+        private final Map<PlanKey, FilterPlan<T>> customFilterPlans;
+        private final List<String> fetchPaths;
 
         /**
-         * Creates a new {@link Template} instance.
+         * Creates a new {@link Template} instance and precompiles the filter plans.
          *
          * @param templateBuilder The template builder.
          */
         private Template(TemplateBuilder<T> templateBuilder) {
+            this.type = templateBuilder.getType();
             this.filters = Map.copyOf(templateBuilder.getFilters());
             this.customFilters = Map.copyOf(templateBuilder.getCustomFilters());
             this.aliasToFieldMap = Map.copyOf(templateBuilder.getAliasToField());
+            this.filterPlans = compileFilterPlans();
+            this.requestFilterPlans = compileRequestFilterPlans();
+            this.customFilterPlans = compileCustomFilterPlans();
+            this.fetchPaths = List.copyOf(templateBuilder.getFetchPaths());
+        }
+
+        /**
+         * Compiles one plan per (entity field, operator, source type) combination allowed by the defined filters.
+         *
+         * @return An unmodifiable map of filter plans, keyed by entity field, operator and source type.
+         */
+        private Map<PlanKey, FilterPlan<T>> compileFilterPlans() {
+            final Map<PlanKey, FilterPlan<T>> plans = new HashMap<>();
+            filters.forEach((field, filterHolder) -> putFilterPlans(plans, field, FilterPlan.normal(field, filterHolder)));
+            return Map.copyOf(plans);
+        }
+
+        /**
+         * Compiles one plan per (requested field or alias, operator, source type) combination, with the alias already
+         * resolved to its entity field. A requested name that is not a registered alias resolves to itself.
+         *
+         * @return An unmodifiable map of filter plans, keyed by requested field, operator and source type.
+         */
+        private Map<PlanKey, FilterPlan<T>> compileRequestFilterPlans() {
+            final Set<String> requestedNames = new HashSet<>(filters.keySet());
+            requestedNames.addAll(aliasToFieldMap.keySet());
+
+            final Map<PlanKey, FilterPlan<T>> plans = new HashMap<>();
+            for (String requestedName : requestedNames) {
+                final String field = aliasToFieldMap.getOrDefault(requestedName, requestedName);
+                final FilterHolder<T, ? extends Comparable<?>> filterHolder = filters.get(field);
+                if (filterHolder != null)
+                    putFilterPlans(plans, requestedName, FilterPlan.normal(field, filterHolder));
+            }
+            return Map.copyOf(plans);
+        }
+
+        /**
+         * Compiles one plan per (custom filter name, source type) combination.
+         *
+         * @return An unmodifiable map of custom filter plans, keyed by filter name and source type.
+         */
+        private Map<PlanKey, FilterPlan<T>> compileCustomFilterPlans() {
+            final Map<PlanKey, FilterPlan<T>> plans = new HashMap<>();
+            customFilters.forEach((filterName, customFilterHolder) -> {
+                final FilterPlan<T> plan = FilterPlan.custom(filterName, customFilterHolder);
+                customFilterHolder.sourceTypes().forEach(sourceType -> plans.put(new PlanKey(filterName, null, sourceType), plan));
+            });
+            return Map.copyOf(plans);
+        }
+
+        private void putFilterPlans(final Map<PlanKey, FilterPlan<T>> plans, final String name, final FilterPlan<T> plan) {
+            final FilterHolder<T, ? extends Comparable<?>> filterHolder = plan.filterHolder().orElseThrow();
+            for (Operator operator : filterHolder.operators())
+                for (SourceType sourceType : filterHolder.sourceTypes())
+                    plans.put(new PlanKey(name, operator, sourceType), plan);
         }
 
         /**
@@ -244,6 +383,51 @@ public final class FilterContext<T> {
             return aliasToFieldMap;
         }
 
+        /**
+         * Returns the precompiled filter plans keyed by requested field or alias.
+         *
+         * @return An unmodifiable map of filter plans.
+         */
+        private Map<PlanKey, FilterPlan<T>> getRequestFilterPlans() {
+            return requestFilterPlans;
+        }
+
+        /**
+         * Returns the precompiled filter plans keyed by resolved entity field.
+         *
+         * @return An unmodifiable map of filter plans.
+         */
+        private Map<PlanKey, FilterPlan<T>> getFilterPlans() {
+            return filterPlans;
+        }
+
+        /**
+         * Returns the precompiled custom filter plans keyed by filter name.
+         *
+         * @return An unmodifiable map of custom filter plans.
+         */
+        private Map<PlanKey, FilterPlan<T>> getCustomFilterPlans() {
+            return customFilterPlans;
+        }
+
+        /**
+         * Returns the entity class of the template.
+         *
+         * @return The entity class.
+         */
+        private Class<T> getType() {
+            return type;
+        }
+
+        /**
+         * Returns the association paths to fetch with the entities.
+         *
+         * @return An unmodifiable list of delimited association paths.
+         */
+        private List<String> getFetchPaths() {
+            return fetchPaths;
+        }
+
         /**
          * Creates a new {@link SourceBuilder} from this template, which can then be used to specify the source of the filter data.
          *
@@ -260,14 +444,19 @@ public final class FilterContext<T> {
      * @param <T> The type of the entity.
      */
     public static final class TemplateBuilder<T> {
+        private final Class<T> type;
         private final Map<String, FilterHolder<T, ? extends Comparable<?>>> filters = new HashMap<>();
         private final Map<String, CustomFilterHolder<T, ? extends Comparable<?>>> customFilters = new HashMap<>();
         private final Map<String, String> aliasToField = new HashMap<>();
+        private final Set<String> fetchPaths = new LinkedHashSet<>();
 
         /**
          * Creates a new {@link TemplateBuilder} instance.
+         *
+         * @param type The entity class.
          */
-        private TemplateBuilder() {
+        private TemplateBuilder(final Class<T> type) {
+            this.type = type;
         }
 
         /**
@@ -325,6 +514,41 @@ public final class FilterContext<T> {
             return customFilters;
         }
 
+        /**
+         * Marks association paths (e.g., "customer.address") to be fetched with the entities by the generated
+         * filter specification, so that accessing them once the entities are loaded does not trigger lazy loading.
+         * Associations that the filters of the request go through are fetched by the inner joins the filters would
+         * otherwise create, and the other ones by left joins.
+         *
+         * @param paths The delimited association paths to fetch. Must not be null.
+         * @return This builder instance for chaining.
+         * @throws NullPointerException if the paths, or any of them, are null.
+         */
+        public TemplateBuilder<T> fetch(@NonNull final String... paths) {
+            Objects.requireNonNull(paths, "Paths must not be null");
+            for (String path : paths)
+                fetchPaths.add(Objects.requireNonNull(path, "Path must not be null"));
+            return this;
+        }
+
+        /**
+         * Returns the association paths to fetch.
+         *
+         * @return A set of delimited association paths, in declaration order.
+         */
+        private Set<String> getFetchPaths() {
+            return fetchPaths;
+        }
+
+        /**
+         * Returns the entity class of the template being built.
+         *
+         * @return The entity class.
+         */
+        private Class<T> getType() {
+            return type;
+        }
+
         /**
          * Builds the final {@link Template} instance.
          *
@@ -788,4 +1012,13 @@ public final class FilterContext<T> {
                 throw new IllegalArgumentException("Alias '" + alias + "' is already mapped to a different field: " + existing);
         }
     }
+
+    /**
+     * The lookup key of a precompiled {@link FilterPlan}.
+     *
+     * @param name       The requested field, alias, entity field or custom filter name.
+     * @param operator   The filter operator, or {@code null} for custom filters.
+     * @param sourceType The source of the filter.
+     */
+    private record PlanKey(String name, Operator operator, SourceType sourceType) {}
 }
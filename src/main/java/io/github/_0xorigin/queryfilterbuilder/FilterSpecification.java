@@ -0,0 +1,71 @@
+package io.github._0xorigin.queryfilterbuilder;
+
+import io.github._0xorigin.queryfilterbuilder.base.utils.RepositoryUtils;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.io.Serial;
+
+/**
+ * A JPA Specification for filtering, which also tells whether its filters provably match no entity.
+ * <p>
+ * Some filter combinations cannot match anything (e.g., a {@code between} filter with reversed bounds). They are
+ * detected when the specification is built, so that {@link RepositoryUtils} can return an empty result without
+ * querying the database. The specification itself stays valid, and still matches no row when applied.
+ *
+ * @param <T> The type of the entity being filtered.
+ */
+public final class FilterSpecification<T> implements Specification<T> {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final Specification<T> specification;
+    private final boolean emptyResult;
+
+    /**
+     * Constructs a new FilterSpecification.
+     *
+     * @param specification The specification applying the filters.
+     * @param emptyResult   Whether the filters provably match no entity.
+     */
+    public FilterSpecification(final Specification<T> specification, final boolean emptyResult) {
+        this.specification = specification;
+        this.emptyResult = emptyResult;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Predicate toPredicate(@NonNull final Root<T> root, @NonNull final CriteriaQuery<?> query, @NonNull final CriteriaBuilder criteriaBuilder) {
+        return specification.toPredicate(root, query, criteriaBuilder);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The combined specification keeps the empty result signal of this specification, and of the other one when it
+     * is also a {@code FilterSpecification}, since a conjunction matches no entity as soon as one side does not.
+     */
+    @Override
+    public FilterSpecification<T> and(@Nullable final Specification<T> other) {
+        final boolean otherEmptyResult = other instanceof FilterSpecification<T> filterSpecification && filterSpecification.isEmptyResult();
+        return new FilterSpecification<>(Specification.super.and(other), emptyResult || otherEmptyResult);
+    }
+
+    /**
+     * Tells whether the filters provably match no entity, in which case querying the database can be skipped.
+     * The detection is best-effort: {@code false} does not mean that the filters match any entity.
+     *
+     * @return {@code true} if the filters match no entity.
+     */
+    public boolean isEmptyResult() {
+        return emptyResult;
+    }
+}
@@ -0,0 +1,78 @@
+package io.github._0xorigin.queryfilterbuilder;
+
+import org.springframework.lang.NonNull;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * An alternative backend of {@link QueryFilterBuilder} that evaluates filters and sorts on entities already loaded in
+ * memory (e.g., cached reference data), without a database round-trip.
+ * The same {@link FilterContext} and {@link SortContext} templates are used, and the same validation errors are reported.
+ *
+ * @param <T> The type of the entity being filtered and sorted.
+ */
+public interface InMemoryQueryFilterBuilder<T> {
+
+    /**
+     * Builds a {@link Predicate} of in-memory entities based on the provided FilterContext.
+     * Unlike {@link QueryFilterBuilder#buildFilterSpecification}, the filters are parsed and validated immediately.
+     *
+     * @param filterContext The context containing the filtering criteria. Must not be null.
+     * @return A predicate that matches the entities satisfying all the filters.
+     * @throws NullPointerException if the filterContext is null.
+     */
+    Predicate<T> buildFilterPredicate(@NonNull FilterContext<T> filterContext);
+
+    /**
+     * Builds a {@link Comparator} of in-memory entities based on the provided SortContext.
+     * Unlike {@link QueryFilterBuilder#buildSortSpecification}, the sorts are parsed and validated immediately.
+     *
+     * @param sortContext The context containing the sorting criteria. Must not be null.
+     * @return A comparator that orders the entities by all the sorts, in order.
+     * @throws NullPointerException if the sortContext is null.
+     */
+    Comparator<T> buildSortComparator(@NonNull SortContext<T> sortContext);
+
+    /**
+     * Filters and sorts the given entities based on the provided FilterContext and SortContext.
+     * Large collections are evaluated in parallel; the result is the same as a sequential evaluation.
+     *
+     * @param entities      The entities to filter and sort. Must not be null.
+     * @param filterContext The context containing the filtering criteria. Must not be null.
+     * @param sortContext   The context containing the sorting criteria. Must not be null.
+     * @return The matching entities, sorted by all the sorts. Entities that are equal for all the sorts keep the order of
+     *         {@code entities}.
+     * @throws NullPointerException if any of the arguments is null.
+     */
+    default List<T> evaluate(
+        @NonNull Collection<? extends T> entities,
+        @NonNull FilterContext<T> filterContext,
+        @NonNull SortContext<T> sortContext
+    ) {
+        return evaluate(entities, filterContext, sortContext, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Filters and sorts the given entities based on the provided FilterContext and SortContext, and returns at most
+     * {@code limit} of them. Only the best {@code limit} matches are kept while sorting, instead of sorting all the
+     * matches and discarding the rest.
+     *
+     * @param entities      The entities to filter and sort. Must not be null.
+     * @param filterContext The context containing the filtering criteria. Must not be null.
+     * @param sortContext   The context containing the sorting criteria. Must not be null.
+     * @param limit         The maximum number of entities to return. Must be positive.
+     * @return The first {@code limit} matching entities, sorted by all the sorts.
+     * @throws NullPointerException     if any of the arguments is null.
+     * @throws IllegalArgumentException if the limit is not positive.
+     */
+    List<T> evaluate(
+        @NonNull Collection<? extends T> entities,
+        @NonNull FilterContext<T> filterContext,
+        @NonNull SortContext<T> sortContext,
+        int limit
+    );
+
+}
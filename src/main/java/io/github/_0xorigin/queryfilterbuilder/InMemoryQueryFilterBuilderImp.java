@@ -0,0 +1,149 @@
+package io.github._0xorigin.queryfilterbuilder;
+
+import io.github._0xorigin.queryfilterbuilder.base.builders.FilterBuilder;
+import io.github._0xorigin.queryfilterbuilder.base.builders.InMemoryBuilder;
+import io.github._0xorigin.queryfilterbuilder.base.builders.SortBuilder;
+import io.github._0xorigin.queryfilterbuilder.base.holders.ErrorHolder;
+import io.github._0xorigin.queryfilterbuilder.base.utils.FilterUtils;
+import io.github._0xorigin.queryfilterbuilder.base.utils.InMemoryUtils;
+import io.github._0xorigin.queryfilterbuilder.base.utils.LazyBindingResult;
+import io.github._0xorigin.queryfilterbuilder.configs.QueryFilterBuilderProperties;
+import org.springframework.core.MethodParameter;
+import org.springframework.lang.NonNull;
+import org.springframework.validation.BindingResult;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * Implementation of the InMemoryQueryFilterBuilder interface, responsible for building predicates and comparators of
+ * in-memory entities for filtering and sorting.
+ *
+ * @param <T> The type of the entity being filtered and sorted.
+ */
+public final class InMemoryQueryFilterBuilderImp<T> implements InMemoryQueryFilterBuilder<T> {
+
+    private final FilterBuilder<T> filterBuilder;
+    private final SortBuilder<T> sortBuilder;
+    private final InMemoryBuilder<T> inMemoryBuilder;
+    private final QueryFilterBuilderProperties properties;
+    private final MethodParameter filterMethodParameter;
+    private final MethodParameter sortMethodParameter;
+
+    /**
+     * Constructs a new InMemoryQueryFilterBuilderImp with the specified builders.
+     *
+     * @param filterBuilder   The builder responsible for parsing the filter requests. Must not be null.
+     * @param sortBuilder     The builder responsible for parsing the sort requests. Must not be null.
+     * @param inMemoryBuilder The builder responsible for creating in-memory predicates and comparators. Must not be null.
+     * @param properties      Configuration properties, such as the parallel evaluation threshold. Must not be null.
+     */
+    public InMemoryQueryFilterBuilderImp(
+        final FilterBuilder<T> filterBuilder,
+        final SortBuilder<T> sortBuilder,
+        final InMemoryBuilder<T> inMemoryBuilder,
+        final QueryFilterBuilderProperties properties
+    ) {
+        this.filterBuilder = filterBuilder;
+        this.sortBuilder = sortBuilder;
+        this.inMemoryBuilder = inMemoryBuilder;
+        this.properties = properties;
+        this.filterMethodParameter = getMethodParameter("buildFilterPredicate", FilterContext.class);
+        this.sortMethodParameter = getMethodParameter("buildSortComparator", SortContext.class);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation combines the predicates of all the filters defined in the {@link FilterContext} with a
+     * logical AND. If the provided context is null, it throws a {@link NullPointerException}.
+     * If any of the filter criteria are invalid, a client-side exception is thrown.
+     * If no predicates are generated, the returned predicate matches all entities.
+     */
+    @Override
+    public Predicate<T> buildFilterPredicate(@NonNull final FilterContext<T> filterContext) {
+        Objects.requireNonNull(filterContext, "FilterContext must not be null");
+        final ErrorHolder errorHolder = new ErrorHolder(getBindingResult(), filterMethodParameter);
+        final List<Predicate<T>> predicates = filterBuilder.getDistinctFilterWrappers(filterContext).stream()
+                .map(filterWrapper -> inMemoryBuilder.buildPredicateForWrapper(filterContext, filterWrapper, errorHolder))
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .toList();
+        FilterUtils.throwClientSideExceptionIfInvalid(errorHolder);
+        return switch (predicates.size()) {
+            case 0 -> entity -> true;
+            case 1 -> predicates.get(0);
+            default -> entity -> {
+                for (Predicate<T> predicate : predicates) {
+                    if (!predicate.test(entity))
+                        return false;
+                }
+                return true;
+            };
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation chains the comparators of all the sorts defined in the {@link SortContext}, in order.
+     * If the provided context is null, it throws a {@link NullPointerException}.
+     * If any of the sort criteria are invalid, a client-side exception is thrown.
+     * If no comparators are generated, the returned comparator considers all entities equal.
+     */
+    @Override
+    public Comparator<T> buildSortComparator(@NonNull final SortContext<T> sortContext) {
+        Objects.requireNonNull(sortContext, "SortContext must not be null");
+        return getComparator(sortContext).orElse((first, second) -> 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation evaluates the entities with {@link InMemoryUtils#filterAndSort}. When the SortContext has no
+     * sorts, the matches are returned in the order of {@code entities}, and the evaluation stops as soon as
+     * {@code limit} matches are found.
+     */
+    @Override
+    public List<T> evaluate(
+        @NonNull final Collection<? extends T> entities,
+        @NonNull final FilterContext<T> filterContext,
+        @NonNull final SortContext<T> sortContext,
+        final int limit
+    ) {
+        Objects.requireNonNull(entities, "Entities must not be null");
+        Objects.requireNonNull(filterContext, "FilterContext must not be null");
+        Objects.requireNonNull(sortContext, "SortContext must not be null");
+        final Predicate<T> predicate = buildFilterPredicate(filterContext);
+        final Comparator<T> comparator = getComparator(sortContext).orElse(null);
+        return InMemoryUtils.filterAndSort(entities, predicate, comparator, limit, properties.defaults().inMemory());
+    }
+
+    private Optional<Comparator<T>> getComparator(final SortContext<T> sortContext) {
+        final ErrorHolder errorHolder = new ErrorHolder(getBindingResult(), sortMethodParameter);
+        final Optional<Comparator<T>> comparator = sortBuilder.getDistinctSortWrappers(sortContext).stream()
+                .map(sortWrapper -> inMemoryBuilder.buildComparatorForWrapper(sortContext, sortWrapper, errorHolder))
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .reduce(Comparator::thenComparing);
+        FilterUtils.throwClientSideExceptionIfInvalid(errorHolder);
+        return comparator;
+    }
+
+    // Errors are rare, so the underlying binding result is only created once the first error is recorded
+    private BindingResult getBindingResult() {
+        return new LazyBindingResult(this, "queryFilterBuilder");
+    }
+
+    private MethodParameter getMethodParameter(String methodName, Class<?>... parameterTypes) {
+        try {
+            return new MethodParameter(this.getClass().getMethod(methodName, parameterTypes), 0);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
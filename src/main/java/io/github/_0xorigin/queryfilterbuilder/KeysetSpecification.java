@@ -0,0 +1,93 @@
+package io.github._0xorigin.queryfilterbuilder;
+
+import io.github._0xorigin.queryfilterbuilder.base.wrappers.KeysetWrapper;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.lang.NonNull;
+
+import java.io.Serial;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * A JPA Specification for keyset (seek) pagination.
+ * <p>
+ * When applied, it orders the query by the requested sorts followed by the entity id, and restricts it to the rows
+ * that come after the cursor it was built with. Combined with a page size (e.g., {@code PageRequest.ofSize(size)}),
+ * each page becomes an index seek instead of an offset scan. The cursor of the next page is obtained from the last
+ * returned row through {@link #nextCursor(List)}.
+ *
+ * @param <T> The type of the entity being paginated.
+ */
+public final class KeysetSpecification<T> implements Specification<T> {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final Specification<T> specification;
+    private final List<KeysetWrapper> keysetWrappers;
+    private final transient Function<T, String> cursorGenerator;
+
+    /**
+     * Constructs a new KeysetSpecification.
+     *
+     * @param specification   The specification applying the order and the seek predicate.
+     * @param keysetWrappers  The keys of the pagination, in comparison order.
+     * @param cursorGenerator The function that encodes the cursor of a given row.
+     */
+    public KeysetSpecification(
+        final Specification<T> specification,
+        final List<KeysetWrapper> keysetWrappers,
+        final Function<T, String> cursorGenerator
+    ) {
+        this.specification = specification;
+        this.keysetWrappers = List.copyOf(keysetWrappers);
+        this.cursorGenerator = cursorGenerator;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Predicate toPredicate(@NonNull final Root<T> root, @NonNull final CriteriaQuery<?> query, @NonNull final CriteriaBuilder criteriaBuilder) {
+        return specification.toPredicate(root, query, criteriaBuilder);
+    }
+
+    /**
+     * Returns the keys of the pagination, in comparison order. The last key is always the entity id.
+     *
+     * @return An unmodifiable list of {@link KeysetWrapper}s.
+     */
+    public List<KeysetWrapper> getKeysetWrappers() {
+        return keysetWrappers;
+    }
+
+    /**
+     * Encodes the cursor that points right after the given row.
+     *
+     * @param row The row to encode. Must not be null.
+     * @return The opaque cursor.
+     * @throws IllegalStateException if one of the key values of the row is null.
+     */
+    public String cursorOf(@NonNull final T row) {
+        Objects.requireNonNull(row, "Row must not be null");
+        return cursorGenerator.apply(row);
+    }
+
+    /**
+     * Encodes the cursor of the next page from the rows of the current page.
+     *
+     * @param rows The rows of the current page, in query order. Must not be null.
+     * @return An {@link Optional} containing the cursor of the last row, or empty if there are no rows.
+     * @throws IllegalStateException if one of the key values of the last row is null.
+     */
+    public Optional<String> nextCursor(@NonNull final List<T> rows) {
+        Objects.requireNonNull(rows, "Rows must not be null");
+        return rows.isEmpty() ? Optional.empty() : Optional.of(cursorOf(rows.get(rows.size() - 1)));
+    }
+}
@@ -2,6 +2,7 @@ package io.github._0xorigin.queryfilterbuilder;
 
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 
 public interface QueryFilterBuilder<T> {
 
@@ -9,7 +10,8 @@ public interface QueryFilterBuilder<T> {
      * Builds a JPA Specification for filtering based on the provided FilterContext.
      *
      * @param filterContext The context containing the filtering criteria. Must not be null.
-     * @return A JPA Specification representing the filter.
+     * @return A JPA Specification representing the filter. The built-in implementation returns a
+     *         {@link FilterSpecification}, which also tells whether the filter provably matches no entity.
      * @throws NullPointerException if the filterContext is null.
      */
     Specification<T> buildFilterSpecification(@NonNull FilterContext<T> filterContext);
@@ -23,4 +25,52 @@ public interface QueryFilterBuilder<T> {
      */
     Specification<T> buildSortSpecification(@NonNull SortContext<T> sortContext);
 
+    /**
+     * Builds a JPA Specification for keyset (seek) pagination based on the provided SortContext.
+     * The specification orders the query by the requested sorts, with the entity id as a tie-breaker, and only
+     * matches the rows after the given cursor.
+     *
+     * @param sortContext The context containing the sorting criteria. Must not be null.
+     * @param cursor      The cursor returned with the previous page, or null for the first page.
+     * @return A {@link KeysetSpecification} that can also encode the cursor of the next page.
+     * @throws NullPointerException if the sortContext is null.
+     */
+    KeysetSpecification<T> buildKeysetSpecification(@NonNull SortContext<T> sortContext, @Nullable String cursor);
+
+    /**
+     * Validates the filters of the provided FilterContext without building a query, so that invalid requests are
+     * rejected before a repository is called, and before a transaction or a database connection is acquired.
+     * The filters are parsed, their aliases are resolved, and their values are cast and checked by their operators,
+     * like when the filter specification is applied.
+     *
+     * @param filterContext The context containing the filtering criteria. Must not be null.
+     * @throws NullPointerException if the filterContext is null.
+     * @throws io.github._0xorigin.queryfilterbuilder.exceptions.InvalidQueryParameterException if any filter value is invalid.
+     * @throws io.github._0xorigin.queryfilterbuilder.exceptions.QueryBuilderConfigurationException if a field cannot be
+     *         resolved or an operator is not supported for the data type of its field.
+     */
+    void validate(@NonNull FilterContext<T> filterContext);
+
+    /**
+     * Validates the sorts of the provided SortContext without building a query, so that invalid sorts are rejected
+     * before a repository is called. The sorts are parsed, their aliases are resolved, and their fields are resolved.
+     *
+     * @param sortContext The context containing the sorting criteria. Must not be null.
+     * @throws NullPointerException if the sortContext is null.
+     * @throws io.github._0xorigin.queryfilterbuilder.exceptions.QueryBuilderConfigurationException if a field cannot be resolved.
+     */
+    void validate(@NonNull SortContext<T> sortContext);
+
+    /**
+     * Builds the canonical signature of the provided FilterContext and SortContext, after alias resolution and value casting.
+     * Equivalent requests (e.g., the same filters sent as query parameters or in the request body, in any order)
+     * have equal signatures, so that the signature can be used as the key of a result cache or as an ETag.
+     *
+     * @param filterContext The context containing the filtering criteria. Must not be null.
+     * @param sortContext   The context containing the sorting criteria. Must not be null.
+     * @return The {@link QuerySignature} of the request.
+     * @throws NullPointerException if the filterContext or the sortContext is null.
+     */
+    QuerySignature buildSignature(@NonNull FilterContext<T> filterContext, @NonNull SortContext<T> sortContext);
+
 }
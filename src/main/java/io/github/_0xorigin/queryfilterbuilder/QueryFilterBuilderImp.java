@@ -1,20 +1,27 @@
 package io.github._0xorigin.queryfilterbuilder;
 
 import io.github._0xorigin.queryfilterbuilder.base.builders.FilterBuilder;
+import io.github._0xorigin.queryfilterbuilder.base.builders.KeysetBuilder;
 import io.github._0xorigin.queryfilterbuilder.base.builders.SortBuilder;
 import io.github._0xorigin.queryfilterbuilder.base.holders.ErrorHolder;
+import io.github._0xorigin.queryfilterbuilder.base.utils.CriteriaQueryUtils;
 import io.github._0xorigin.queryfilterbuilder.base.utils.FilterUtils;
+import io.github._0xorigin.queryfilterbuilder.base.utils.LazyBindingResult;
+import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterWrapper;
+import io.github._0xorigin.queryfilterbuilder.base.wrappers.KeysetWrapper;
+import io.github._0xorigin.queryfilterbuilder.base.wrappers.SortWrapper;
 import jakarta.persistence.criteria.Order;
 import jakarta.persistence.criteria.Predicate;
 import org.springframework.core.MethodParameter;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.lang.NonNull;
-import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.lang.Nullable;
 import org.springframework.validation.BindingResult;
 
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Implementation of the QueryFilterBuilder interface, responsible for building JPA Specifications for filtering and sorting.
@@ -25,19 +32,35 @@ public final class QueryFilterBuilderImp<T> implements QueryFilterBuilder<T> {
 
     private final FilterBuilder<T> filterBuilder;
     private final SortBuilder<T> sortBuilder;
+    private final KeysetBuilder<T> keysetBuilder;
+    private final MethodParameter filterMethodParameter;
+    private final MethodParameter sortMethodParameter;
+    private final MethodParameter keysetMethodParameter;
+    private final MethodParameter validateFilterMethodParameter;
+    private final MethodParameter validateSortMethodParameter;
+    private final MethodParameter signatureMethodParameter;
 
     /**
      * Constructs a new QueryFilterBuilderImp with the specified filter and sort builders.
      *
      * @param filterBuilder The builder responsible for creating filter predicates. Must not be null.
      * @param sortBuilder The builder responsible for creating sort orders. Must not be null.
+     * @param keysetBuilder The builder responsible for creating keyset pagination orders and seek predicates. Must not be null.
      */
     public QueryFilterBuilderImp(
         final FilterBuilder<T> filterBuilder,
-        final SortBuilder<T> sortBuilder
+        final SortBuilder<T> sortBuilder,
+        final KeysetBuilder<T> keysetBuilder
     ) {
         this.filterBuilder = filterBuilder;
         this.sortBuilder = sortBuilder;
+        this.keysetBuilder = keysetBuilder;
+        this.filterMethodParameter = getMethodParameter("buildFilterSpecification", FilterContext.class);
+        this.sortMethodParameter = getMethodParameter("buildSortSpecification", SortContext.class);
+        this.keysetMethodParameter = getMethodParameter("buildKeysetSpecification", SortContext.class, String.class);
+        this.validateFilterMethodParameter = getMethodParameter("validate", FilterContext.class);
+        this.validateSortMethodParameter = getMethodParameter("validate", SortContext.class);
+        this.signatureMethodParameter = getMethodParameter("buildSignature", FilterContext.class, SortContext.class);
     }
 
     /**
@@ -48,60 +71,190 @@ public final class QueryFilterBuilderImp<T> implements QueryFilterBuilder<T> {
      * If the provided context is null, it throws a {@link NullPointerException}.
      * If any of the filter criteria are invalid, a client-side exception is thrown.
      * If no predicates are generated, the specification will not filter any results.
+     * <p>
+     * Before the predicates are built, the association paths marked in the {@link FilterContext} are fetched, unless
+     * the query does not select the entity (e.g., a count query). Invalid fetch paths raise a server-side exception.
+     * <p>
+     * The filters are parsed, resolved and cast once, when the specification is built, and checked for a filter that
+     * provably matches no entity. Each query the specification is applied to (e.g., the content and count queries of a
+     * page) only builds the predicates. Each filter is cast with its own errors, which are kept with its cast values
+     * and reported when the specification is applied; a specification with invalid filters is never empty, so that
+     * they are always reported.
      */
     @Override
-    public Specification<T> buildFilterSpecification(@NonNull final FilterContext<T> filterContext) {
+    public FilterSpecification<T> buildFilterSpecification(@NonNull final FilterContext<T> filterContext) {
         Objects.requireNonNull(filterContext, "FilterContext must not be null");
-        final ErrorHolder errorHolder = new ErrorHolder(
-                getBindingResult(),
-                getMethodParameter("buildFilterSpecification", FilterContext.class)
+        final ErrorHolder errorHolder = new ErrorHolder(getBindingResult(), filterMethodParameter);
+        final List<FilterWrapper> filterWrappers = filterBuilder.getDistinctFilterWrappers(filterContext).stream()
+                .map(filterWrapper -> filterBuilder.castValues(filterContext, filterWrapper, new ErrorHolder(getBindingResult(), filterMethodParameter)))
+                .toList();
+        final boolean emptyResult = filterWrappers.stream().noneMatch(QueryFilterBuilderImp::hasCastErrors)
+                && filterWrappers.stream().anyMatch(filterWrapper -> filterBuilder.isUnsatisfiable(filterContext, filterWrapper));
+        return new FilterSpecification<>(
+            (root, criteriaQuery, criteriaBuilder) -> {
+                fetchAssociations(fetchErrorHolder -> filterBuilder.fetchAssociations(root, criteriaQuery, filterContext, filterWrappers, fetchErrorHolder), filterMethodParameter);
+                final List<Predicate> predicates = filterWrappers.stream()
+                        .map(filterWrapper -> filterBuilder.buildPredicateForWrapper(root, criteriaQuery, criteriaBuilder, filterContext, filterWrapper, errorHolder))
+                        .filter(Optional::isPresent)
+                        .map(Optional::get)
+                        .toList();
+                FilterUtils.throwClientSideExceptionIfInvalid(errorHolder);
+                return predicates.isEmpty() ? null : criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+            },
+            emptyResult
         );
-        return (root, criteriaQuery, criteriaBuilder) -> {
-            final List<Predicate> predicates = filterBuilder.getDistinctFilterWrappers(filterContext).stream()
-                    .map(filterWrapper -> filterBuilder.buildPredicateForWrapper(root, criteriaQuery, criteriaBuilder, filterContext, filterWrapper, errorHolder))
-                    .filter(Optional::isPresent)
-                    .map(Optional::get)
-                    .toList();
-            FilterUtils.throwClientSideExceptionIfInvalid(errorHolder);
-            return predicates.isEmpty() ? null : criteriaBuilder.and(predicates.toArray(new Predicate[0]));
-        };
     }
 
     /**
      * {@inheritDoc}
      * <p>
      * This implementation builds a specification that applies sorting to the query.
+     * The sorts are parsed and resolved once, when the specification is built.
      * It processes each sort criterion defined in the {@link SortContext}, generating an {@link Order} for each.
      * If the provided context is null, it throws a {@link NullPointerException}.
      * If any of the sort criteria are invalid, a client-side exception is thrown.
      * The generated orders are applied to the query.
+     * Count queries (see {@link CriteriaQueryUtils#isCountQuery}) are not ordered, and only build the sorts whose joins
+     * may change their rows (see {@link SortBuilder#mayChangeRows}), so that they count the rows of the content query.
+     * Before the orders are built, the association paths marked in the {@link SortContext} are fetched, unless the
+     * query does not select the entity (e.g., a count query). Invalid fetch paths raise a server-side exception.
      */
     @Override
     public Specification<T> buildSortSpecification(@NonNull final SortContext<T> sortContext) {
         Objects.requireNonNull(sortContext, "SortContext must not be null");
-        final ErrorHolder errorHolder = new ErrorHolder(
-                getBindingResult(),
-                getMethodParameter("buildSortSpecification", SortContext.class)
-        );
+        final ErrorHolder errorHolder = new ErrorHolder(getBindingResult(), sortMethodParameter);
+        final List<SortWrapper> sortWrappers = List.copyOf(sortBuilder.getDistinctSortWrappers(sortContext));
         return (root, criteriaQuery, criteriaBuilder) -> {
-            final List<Order> orders = sortBuilder.getDistinctSortWrappers(sortContext).stream()
+            final boolean countQuery = CriteriaQueryUtils.isCountQuery(criteriaQuery);
+            fetchAssociations(fetchErrorHolder -> sortBuilder.fetchAssociations(root, criteriaQuery, sortContext, sortWrappers, fetchErrorHolder), sortMethodParameter);
+            // A count query only builds the sorts whose joins may change its rows, and is never ordered
+            final List<Order> orders = sortWrappers.stream()
+                    .filter(sortWrapper -> !countQuery || sortBuilder.mayChangeRows(sortContext, sortWrapper))
                     .map(sortWrapper -> sortBuilder.buildOrderForWrapper(root, criteriaQuery, criteriaBuilder, sortContext, sortWrapper, errorHolder))
                     .filter(Optional::isPresent)
                     .map(Optional::get)
                     .toList();
             FilterUtils.throwClientSideExceptionIfInvalid(errorHolder);
-            criteriaQuery.orderBy(orders);
+            if (!countQuery)
+                criteriaQuery.orderBy(orders);
             return null;
         };
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation resolves the keys of the pagination once, when the specification is built, so that the
+     * cursor of the next page can be encoded from the returned rows.
+     * When applied, it replaces the order of the query with the orders of the keys, and returns the seek predicate.
+     * If any of the sort criteria or the cursor are invalid, a client-side exception is thrown.
+     * For the first page (no cursor), the specification only applies the order.
+     * Count queries get the seek predicate, but are not ordered.
+     */
+    @Override
+    public KeysetSpecification<T> buildKeysetSpecification(@NonNull final SortContext<T> sortContext, @Nullable final String cursor) {
+        Objects.requireNonNull(sortContext, "SortContext must not be null");
+        final ErrorHolder errorHolder = new ErrorHolder(getBindingResult(), keysetMethodParameter);
+        final List<KeysetWrapper> keysetWrappers = keysetBuilder.getKeysetWrappers(sortContext, errorHolder);
+        return new KeysetSpecification<>(
+            (root, criteriaQuery, criteriaBuilder) -> {
+                FilterUtils.throwClientSideExceptionIfInvalid(errorHolder);
+                final List<Order> orders = keysetBuilder.buildOrders(root, criteriaQuery, criteriaBuilder, keysetWrappers, errorHolder);
+                final Optional<Predicate> seekPredicate = keysetBuilder.buildSeekPredicate(root, criteriaQuery, criteriaBuilder, keysetWrappers, cursor, errorHolder);
+                FilterUtils.throwClientSideExceptionIfInvalid(errorHolder);
+                // The keys are still joined in count queries, since their joins may change the rows
+                if (!CriteriaQueryUtils.isCountQuery(criteriaQuery))
+                    criteriaQuery.orderBy(orders);
+                return seekPredicate.orElse(null);
+            },
+            keysetWrappers,
+            row -> keysetBuilder.buildCursor(row, keysetWrappers)
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation validates each filter with {@link FilterBuilder#validate} and its own errors, so that the
+     * configuration errors of a filter are not mixed with the invalid values of the other filters. The invalid values
+     * of all the filters are then reported at once, with a client-side exception.
+     * Filters with an expression provider can only be validated when the specification is applied.
+     */
+    @Override
+    public void validate(@NonNull final FilterContext<T> filterContext) {
+        Objects.requireNonNull(filterContext, "FilterContext must not be null");
+        final ErrorHolder errorHolder = new ErrorHolder(getBindingResult(), validateFilterMethodParameter);
+        filterBuilder.getDistinctFilterWrappers(filterContext).forEach(filterWrapper -> {
+            final ErrorHolder filterErrorHolder = new ErrorHolder(getBindingResult(), validateFilterMethodParameter);
+            filterBuilder.validate(filterContext, filterWrapper, filterErrorHolder);
+            filterErrorHolder.bindingResult().getAllErrors()
+                .forEach(error -> FilterUtils.addError(errorHolder.bindingResult(), error));
+        });
+        FilterUtils.throwClientSideExceptionIfInvalid(errorHolder);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation validates each sort with {@link SortBuilder#validate}. Since the sorts of the request are
+     * restricted to the sorts of the template, an unresolvable field is reported with a server-side exception.
+     * Custom sorts and sorts with an expression provider can only be validated when the specification is applied.
+     */
+    @Override
+    public void validate(@NonNull final SortContext<T> sortContext) {
+        Objects.requireNonNull(sortContext, "SortContext must not be null");
+        final ErrorHolder errorHolder = new ErrorHolder(getBindingResult(), validateSortMethodParameter);
+        sortBuilder.getDistinctSortWrappers(sortContext)
+            .forEach(sortWrapper -> sortBuilder.validate(sortContext, sortWrapper, errorHolder));
+        FilterUtils.throwServerSideExceptionIfInvalid(errorHolder);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation parses the filters and sorts of the contexts like the specifications do, and casts the filter
+     * values without building a query. Filters and sorts that are not defined in the templates are ignored.
+     * If the provided contexts are null, it throws a {@link NullPointerException}.
+     * If any of the filter criteria are invalid, a client-side exception is thrown.
+     */
+    @Override
+    public QuerySignature buildSignature(@NonNull final FilterContext<T> filterContext, @NonNull final SortContext<T> sortContext) {
+        Objects.requireNonNull(filterContext, "FilterContext must not be null");
+        Objects.requireNonNull(sortContext, "SortContext must not be null");
+        final ErrorHolder errorHolder = new ErrorHolder(getBindingResult(), signatureMethodParameter);
+        final List<QuerySignature.FilterTerm> filterTerms = filterBuilder.getDistinctFilterWrappers(filterContext).stream()
+                .map(filterWrapper -> QuerySignature.FilterTerm.of(
+                    filterWrapper.field(),
+                    filterWrapper.operator(),
+                    filterBuilder.getCastedValues(filterContext, filterWrapper, errorHolder)
+                ))
+                .toList();
+        FilterUtils.throwClientSideExceptionIfInvalid(errorHolder);
+        final List<QuerySignature.SortTerm> sortTerms = sortBuilder.getDistinctSortWrappers(sortContext).stream()
+                .map(sortWrapper -> new QuerySignature.SortTerm(sortWrapper.field(), sortWrapper.direction()))
+                .toList();
+        return new QuerySignature(filterContext.getType(), filterTerms, sortTerms);
+    }
+
+    private static boolean hasCastErrors(final FilterWrapper filterWrapper) {
+        return filterWrapper.castValues().filter(FilterWrapper.CastValues::hasErrors).isPresent();
+    }
+
+    // Invalid fetch paths come from the template, so they are reported apart from the errors of the request
+    private void fetchAssociations(final Consumer<ErrorHolder> fetch, final MethodParameter methodParameter) {
+        final ErrorHolder fetchErrorHolder = new ErrorHolder(getBindingResult(), methodParameter);
+        fetch.accept(fetchErrorHolder);
+        FilterUtils.throwServerSideExceptionIfInvalid(fetchErrorHolder);
+    }
+
+    // Errors are rare, so the underlying binding result is only created once the first error is recorded
     private BindingResult getBindingResult() {
-        return new BeanPropertyBindingResult(this, "queryFilterBuilder");
+        return new LazyBindingResult(this, "queryFilterBuilder");
     }
 
-    private MethodParameter getMethodParameter(String methodName, Class<?> clazz) {
+    private MethodParameter getMethodParameter(String methodName, Class<?>... parameterTypes) {
         try {
-            return new MethodParameter(this.getClass().getMethod(methodName, clazz), 0);
+            return new MethodParameter(this.getClass().getMethod(methodName, parameterTypes), 0);
         } catch (NoSuchMethodException e) {
             throw new IllegalArgumentException(e);
         }
@@ -0,0 +1,84 @@
+package io.github._0xorigin.queryfilterbuilder;
+
+import jakarta.persistence.Tuple;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+/**
+ * Queries only the given fields of the entities matching a specification, instead of hydrating the full entities.
+ * <p>
+ * The fields are delimited paths (e.g., "createdBy.firstName"), resolved like the fields of the filters. The joins
+ * created by the specification (e.g., by {@link QueryFilterBuilder#buildFilterSpecification}) are reused, and the
+ * missing ones are created as left joins. The results are either {@link Tuple}s, whose elements are aliased by their
+ * field, or DTOs (e.g., records) built through a constructor taking the fields in order.
+ * The specification must not fetch associations, since the entities themselves are not selected.
+ *
+ * @param <T> The type of the entity being queried.
+ */
+public interface QueryProjector<T> {
+
+    /**
+     * Returns the given fields of all the entities matching the specification.
+     *
+     * @param entityType    The entity class to query. Must not be null.
+     * @param specification The specification to apply, which may be null to match all entities.
+     * @param fields        The delimited paths of the fields to select. Must not be empty.
+     * @return A tuple per matching entity, with the fields in order, or an empty list if the specification is a
+     * {@link FilterSpecification} that matches no entity.
+     * @throws io.github._0xorigin.queryfilterbuilder.exceptions.QueryBuilderConfigurationException if a field cannot be resolved.
+     */
+    List<Tuple> findAll(@NonNull Class<T> entityType, @Nullable Specification<T> specification, @NonNull List<String> fields);
+
+    /**
+     * Returns a page of the given fields of the entities matching the specification.
+     * The sort of the {@code pageable}, if any, replaces the order of the specification.
+     *
+     * @param entityType    The entity class to query. Must not be null.
+     * @param specification The specification to apply, which may be null to match all entities.
+     * @param fields        The delimited paths of the fields to select. Must not be empty.
+     * @param pageable      The page to return. Must not be null.
+     * @return A page of tuples, with the fields in order.
+     * @throws io.github._0xorigin.queryfilterbuilder.exceptions.QueryBuilderConfigurationException if a field cannot be resolved.
+     */
+    Page<Tuple> findAll(@NonNull Class<T> entityType, @Nullable Specification<T> specification, @NonNull List<String> fields, @NonNull Pageable pageable);
+
+    /**
+     * Returns the given fields of all the entities matching the specification, as DTOs.
+     *
+     * @param entityType    The entity class to query. Must not be null.
+     * @param specification The specification to apply, which may be null to match all entities.
+     * @param fields        The delimited paths of the fields to select. Must not be empty.
+     * @param resultType    The DTO class, which must have a constructor taking the fields in order. Must not be null.
+     * @param <R>           The type of the DTOs.
+     * @return A DTO per matching entity, or an empty list if the specification is a {@link FilterSpecification} that
+     * matches no entity.
+     * @throws io.github._0xorigin.queryfilterbuilder.exceptions.QueryBuilderConfigurationException if a field cannot be resolved.
+     */
+    <R> List<R> findAll(@NonNull Class<T> entityType, @Nullable Specification<T> specification, @NonNull List<String> fields, @NonNull Class<R> resultType);
+
+    /**
+     * Returns a page of the given fields of the entities matching the specification, as DTOs.
+     * The sort of the {@code pageable}, if any, replaces the order of the specification.
+     *
+     * @param entityType    The entity class to query. Must not be null.
+     * @param specification The specification to apply, which may be null to match all entities.
+     * @param fields        The delimited paths of the fields to select. Must not be empty.
+     * @param resultType    The DTO class, which must have a constructor taking the fields in order. Must not be null.
+     * @param pageable      The page to return. Must not be null.
+     * @param <R>           The type of the DTOs.
+     * @return A page of DTOs.
+     * @throws io.github._0xorigin.queryfilterbuilder.exceptions.QueryBuilderConfigurationException if a field cannot be resolved.
+     */
+    <R> Page<R> findAll(
+        @NonNull Class<T> entityType,
+        @Nullable Specification<T> specification,
+        @NonNull List<String> fields,
+        @NonNull Class<R> resultType,
+        @NonNull Pageable pageable
+    );
+}
@@ -0,0 +1,201 @@
+package io.github._0xorigin.queryfilterbuilder;
+
+import io.github._0xorigin.queryfilterbuilder.base.generators.PathGenerator;
+import io.github._0xorigin.queryfilterbuilder.base.holders.ErrorHolder;
+import io.github._0xorigin.queryfilterbuilder.base.utils.FilterUtils;
+import io.github._0xorigin.queryfilterbuilder.base.utils.LazyBindingResult;
+import io.github._0xorigin.queryfilterbuilder.base.utils.RepositoryUtils;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.core.MethodParameter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.validation.BindingResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Implementation of the QueryProjector interface, querying the selected fields with a JPA criteria query.
+ *
+ * @param <T> The type of the entity being queried.
+ */
+public final class QueryProjectorImp<T> implements QueryProjector<T> {
+
+    private final EntityManager entityManager;
+    private final PathGenerator<T> pathGenerator;
+    private final MethodParameter projectionMethodParameter;
+
+    /**
+     * Constructs a new QueryProjectorImp.
+     *
+     * @param entityManager The entity manager used to run the queries. Must not be null.
+     * @param pathGenerator The generator resolving the paths of the selected fields. Must not be null.
+     */
+    public QueryProjectorImp(final EntityManager entityManager, final PathGenerator<T> pathGenerator) {
+        this.entityManager = entityManager;
+        this.pathGenerator = pathGenerator;
+        this.projectionMethodParameter = getMethodParameter("findAll", Class.class, Specification.class, List.class);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Tuple> findAll(@NonNull final Class<T> entityType, @Nullable final Specification<T> specification, @NonNull final List<String> fields) {
+        return findAll(entityType, specification, fields, Tuple.class);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<Tuple> findAll(
+        @NonNull final Class<T> entityType,
+        @Nullable final Specification<T> specification,
+        @NonNull final List<String> fields,
+        @NonNull final Pageable pageable
+    ) {
+        return findAll(entityType, specification, fields, Tuple.class, pageable);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <R> List<R> findAll(
+        @NonNull final Class<T> entityType,
+        @Nullable final Specification<T> specification,
+        @NonNull final List<String> fields,
+        @NonNull final Class<R> resultType
+    ) {
+        validate(entityType, fields, resultType);
+        if (RepositoryUtils.isEmptyResult(specification))
+            return List.of();
+
+        return createQuery(entityType, specification, fields, resultType, Sort.unsorted()).getResultList();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation only issues the count query when the size of the page does not tell the total, like
+     * Spring Data repositories. The count query applies the specification without its order.
+     */
+    @Override
+    public <R> Page<R> findAll(
+        @NonNull final Class<T> entityType,
+        @Nullable final Specification<T> specification,
+        @NonNull final List<String> fields,
+        @NonNull final Class<R> resultType,
+        @NonNull final Pageable pageable
+    ) {
+        validate(entityType, fields, resultType);
+        Objects.requireNonNull(pageable, "Pageable must not be null");
+        if (RepositoryUtils.isEmptyResult(specification))
+            return Page.empty(pageable);
+
+        final TypedQuery<R> query = createQuery(entityType, specification, fields, resultType, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult(Math.toIntExact(pageable.getOffset()));
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(entityType, specification));
+    }
+
+    private void validate(final Class<T> entityType, final List<String> fields, final Class<?> resultType) {
+        Objects.requireNonNull(entityType, "Entity type must not be null");
+        Objects.requireNonNull(fields, "Fields must not be null");
+        Objects.requireNonNull(resultType, "Result type must not be null");
+        if (fields.isEmpty())
+            throw new IllegalArgumentException("Fields must not be empty");
+    }
+
+    private <R> TypedQuery<R> createQuery(
+        final Class<T> entityType,
+        final Specification<T> specification,
+        final List<String> fields,
+        final Class<R> resultType,
+        final Sort sort
+    ) {
+        final CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<R> criteriaQuery = criteriaBuilder.createQuery(resultType);
+        final Root<T> root = criteriaQuery.from(entityType);
+        applySpecification(specification, root, criteriaQuery, criteriaBuilder);
+
+        // Generated after the specification is applied, so that the selections reuse its joins
+        final List<Selection<?>> selections = getSelections(root, fields);
+        if (resultType == Tuple.class)
+            criteriaQuery.multiselect(selections);
+        else
+            criteriaQuery.select(criteriaBuilder.construct(resultType, selections.toArray(Selection<?>[]::new)));
+
+        if (sort.isSorted())
+            criteriaQuery.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+        return entityManager.createQuery(criteriaQuery);
+    }
+
+    private List<Selection<?>> getSelections(final Root<T> root, final List<String> fields) {
+        final ErrorHolder errorHolder = new ErrorHolder(getBindingResult(), projectionMethodParameter);
+        final List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (String field : fields) {
+            final Expression<?> expression = pathGenerator.generateSelection(root, field, field, errorHolder.bindingResult());
+            if (expression != null)
+                selections.add(expression.alias(field));
+        }
+        FilterUtils.throwServerSideExceptionIfInvalid(errorHolder);
+        return selections;
+    }
+
+    private long count(final Class<T> entityType, final Specification<T> specification) {
+        final CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Long> criteriaQuery = criteriaBuilder.createQuery(Long.class);
+        final Root<T> root = criteriaQuery.from(entityType);
+        applySpecification(specification, root, criteriaQuery, criteriaBuilder);
+        criteriaQuery.select(criteriaQuery.isDistinct() ? criteriaBuilder.countDistinct(root) : criteriaBuilder.count(root));
+        // The order set by the specification (e.g., a sort specification) does not change the count
+        criteriaQuery.orderBy(List.of());
+        return entityManager.createQuery(criteriaQuery).getSingleResult();
+    }
+
+    private void applySpecification(
+        final Specification<T> specification,
+        final Root<T> root,
+        final CriteriaQuery<?> criteriaQuery,
+        final CriteriaBuilder criteriaBuilder
+    ) {
+        if (specification == null)
+            return;
+
+        final Predicate predicate = specification.toPredicate(root, criteriaQuery, criteriaBuilder);
+        if (predicate != null)
+            criteriaQuery.where(predicate);
+    }
+
+    // Errors are rare, so the underlying binding result is only created once the first error is recorded
+    private BindingResult getBindingResult() {
+        return new LazyBindingResult(this, "queryProjector");
+    }
+
+    private MethodParameter getMethodParameter(String methodName, Class<?>... parameterTypes) {
+        try {
+            return new MethodParameter(this.getClass().getMethod(methodName, parameterTypes), 0);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
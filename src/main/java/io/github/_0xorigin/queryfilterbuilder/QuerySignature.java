@@ -0,0 +1,121 @@
+package io.github._0xorigin.queryfilterbuilder;
+
+import io.github._0xorigin.queryfilterbuilder.base.filteroperator.Operator;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The canonical signature of a filter and sort request, built by {@link QueryFilterBuilder#buildSignature}.
+ * <p>
+ * The signature holds the resolved fields (after alias resolution), the operators and the cast values of the filters,
+ * and the resolved fields and directions of the sorts. Equivalent requests have equal signatures, whatever their
+ * source (query parameters or request body), the order of their filters, or the formatting of their values.
+ * Signatures can be used as keys of result caches, and {@link #digest()} as an ETag.
+ *
+ * @param entityType The entity class of the request.
+ * @param filters    The filters of the request, ordered by field and operator.
+ * @param sorts      The sorts of the request, in sort order.
+ */
+public record QuerySignature(Class<?> entityType, List<FilterTerm> filters, List<SortTerm> sorts) {
+
+    private static final Comparator<FilterTerm> FILTER_ORDER = Comparator.comparing(FilterTerm::field).thenComparing(FilterTerm::operator);
+
+    /**
+     * Creates a new {@code QuerySignature}, ordering the filters by field and operator.
+     */
+    public QuerySignature {
+        Objects.requireNonNull(entityType, "Entity type must not be null");
+        filters = filters.stream().sorted(FILTER_ORDER).toList();
+        sorts = List.copyOf(sorts);
+    }
+
+    /**
+     * Returns a digest of the signature, which is the URL-safe Base64 encoded SHA-256 hash of its canonical form.
+     * The digest is stable across JVMs, and can be used as an ETag or as a compact cache key.
+     *
+     * @return The digest of the signature.
+     */
+    public String digest() {
+        final StringBuilder canonicalForm = new StringBuilder();
+        appendComponent(canonicalForm, entityType.getName());
+        appendCount(canonicalForm, filters.size());
+        for (FilterTerm filter : filters) {
+            appendComponent(canonicalForm, filter.field());
+            appendComponent(canonicalForm, filter.operator().getValue());
+            appendCount(canonicalForm, filter.values().size());
+            filter.values().forEach(value -> appendComponent(canonicalForm, value));
+        }
+        appendCount(canonicalForm, sorts.size());
+        for (SortTerm sort : sorts) {
+            appendComponent(canonicalForm, sort.field());
+            appendComponent(canonicalForm, sort.direction().name());
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(sha256(canonicalForm.toString()));
+    }
+
+    // Each component is prefixed by its length, so that no value can be confused with a separator
+    private static void appendComponent(StringBuilder canonicalForm, String component) {
+        canonicalForm.append(component.length()).append(':').append(component);
+    }
+
+    // Each count is terminated, so that it cannot run into the length prefix of the next component
+    private static void appendCount(StringBuilder canonicalForm, int count) {
+        canonicalForm.append(count).append(';');
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * A filter of a {@link QuerySignature}.
+     *
+     * @param field    The resolved field, or the name of the custom filter.
+     * @param operator The operator of the filter.
+     * @param values   The string form of the cast values. The values of the set operators ({@code in} and
+     *                 {@code notIn}) are sorted and deduplicated, since their order does not matter.
+     */
+    public record FilterTerm(String field, Operator operator, List<String> values) {
+
+        private static final Set<Operator> SET_OPERATORS = Set.of(Operator.IN, Operator.NOT_IN);
+
+        /**
+         * Creates a new {@code FilterTerm}, normalizing the values of the set operators.
+         */
+        public FilterTerm {
+            values = SET_OPERATORS.contains(operator) ? values.stream().distinct().sorted().toList() : List.copyOf(values);
+        }
+
+        /**
+         * Creates a new {@code FilterTerm} from cast values.
+         *
+         * @param field    The resolved field, or the name of the custom filter.
+         * @param operator The operator of the filter.
+         * @param values   The cast values of the filter.
+         * @return The filter term.
+         */
+        public static FilterTerm of(String field, Operator operator, List<?> values) {
+            return new FilterTerm(field, operator, values.stream().map(String::valueOf).toList());
+        }
+    }
+
+    /**
+     * A sort of a {@link QuerySignature}.
+     *
+     * @param field     The resolved field, or the name of the custom sort.
+     * @param direction The direction of the sort.
+     */
+    public record SortTerm(String field, Sort.Direction direction) {}
+}
@@ -0,0 +1,123 @@
+package io.github._0xorigin.queryfilterbuilder;
+
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.util.stream.Stream;
+
+/**
+ * Streams the entities matching a specification through a scrollable database cursor, instead of loading them all
+ * or paging through them with offsets.
+ * <p>
+ * It is meant for exports (e.g., CSV or NDJSON) of large results: the rows are fetched in batches of the fetch size.
+ * Bulk exports should use {@linkplain StreamOptions#withStateless(boolean) stateless} streams, which keep no
+ * persistence context, so that their memory stays bounded. The streams hold a database cursor, and must be closed,
+ * preferably with a try-with-resources statement.
+ *
+ * @param <T> The type of the entity being streamed.
+ */
+public interface QueryStreamer<T> {
+
+    /**
+     * Streams the entities matching the specification with the default options, which are read-only entities from
+     * the current persistence context, and the configured fetch size and clear interval.
+     * <p>
+     * Every streamed entity stays in the persistence context of the transaction unless a clear interval is
+     * configured. With a clear interval, the context is flushed and cleared every {@code clearInterval} entities,
+     * which detaches every entity of the context, including those loaded by the caller before or while streaming:
+     * later changes to them are not saved. Bulk exports should rather use a stateless stream.
+     *
+     * @param entityType    The entity class to query. Must not be null.
+     * @param specification The specification to apply, which may be null to match all entities.
+     * @return A stream of the matching entities, which must be closed, or an empty stream if the specification is a
+     * {@link FilterSpecification} that matches no entity.
+     * @throws IllegalStateException if no transaction is active.
+     */
+    Stream<T> stream(@NonNull Class<T> entityType, @Nullable Specification<T> specification);
+
+    /**
+     * Streams the entities matching the specification with the given options.
+     *
+     * @param entityType    The entity class to query. Must not be null.
+     * @param specification The specification to apply, which may be null to match all entities.
+     * @param options       The options of the stream. Must not be null.
+     * @return A stream of the matching entities, which must be closed, or an empty stream if the specification is a
+     * {@link FilterSpecification} that matches no entity.
+     * @throws IllegalStateException if no transaction is active and the stream is not stateless.
+     */
+    Stream<T> stream(@NonNull Class<T> entityType, @Nullable Specification<T> specification, @NonNull StreamOptions options);
+
+    /**
+     * Returns the default options of the streams, built from the configuration properties.
+     *
+     * @return The default options.
+     */
+    StreamOptions getDefaultOptions();
+
+    /**
+     * The options of a stream.
+     *
+     * @param fetchSize     The number of rows fetched from the database per round trip. Must be positive.
+     * @param clearInterval The number of streamed entities after which the persistence context is flushed and
+     *                      cleared, which detaches every entity of the context, including those loaded by the
+     *                      caller; {@code 0} never clears it.
+     * @param readOnly      Whether the entities are loaded read-only, so that no snapshot is kept for dirty checking.
+     * @param stateless     Whether the entities are loaded by a dedicated stateless session, which has no
+     *                      persistence context at all and runs its own read-only transaction. Its entities are
+     *                      detached, so their lazy associations must be fetched by the specification.
+     */
+    record StreamOptions(int fetchSize, int clearInterval, boolean readOnly, boolean stateless) {
+
+        /**
+         * Creates new {@code StreamOptions}, validating the fetch size and the clear interval.
+         */
+        public StreamOptions {
+            if (fetchSize <= 0)
+                throw new IllegalArgumentException("Fetch size must be positive");
+            if (clearInterval < 0)
+                throw new IllegalArgumentException("Clear interval must not be negative");
+        }
+
+        /**
+         * Returns a copy of these options with the given fetch size.
+         *
+         * @param fetchSize The number of rows fetched from the database per round trip. Must be positive.
+         * @return The new options.
+         */
+        public StreamOptions withFetchSize(int fetchSize) {
+            return new StreamOptions(fetchSize, clearInterval, readOnly, stateless);
+        }
+
+        /**
+         * Returns a copy of these options with the given clear interval.
+         *
+         * @param clearInterval The number of streamed entities after which the persistence context is cleared;
+         *                      {@code 0} never clears it.
+         * @return The new options.
+         */
+        public StreamOptions withClearInterval(int clearInterval) {
+            return new StreamOptions(fetchSize, clearInterval, readOnly, stateless);
+        }
+
+        /**
+         * Returns a copy of these options with the given read-only mode.
+         *
+         * @param readOnly Whether the entities are loaded read-only.
+         * @return The new options.
+         */
+        public StreamOptions withReadOnly(boolean readOnly) {
+            return new StreamOptions(fetchSize, clearInterval, readOnly, stateless);
+        }
+
+        /**
+         * Returns a copy of these options with the given stateless mode.
+         *
+         * @param stateless Whether the entities are loaded by a dedicated stateless session.
+         * @return The new options.
+         */
+        public StreamOptions withStateless(boolean stateless) {
+            return new StreamOptions(fetchSize, clearInterval, readOnly, stateless);
+        }
+    }
+}
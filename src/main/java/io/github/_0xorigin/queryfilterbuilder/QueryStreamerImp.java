@@ -0,0 +1,180 @@
+package io.github._0xorigin.queryfilterbuilder;
+
+import io.github._0xorigin.queryfilterbuilder.base.utils.RepositoryUtils;
+import io.github._0xorigin.queryfilterbuilder.configs.QueryFilterBuilderProperties;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.SharedSessionContract;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.query.Query;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Implementation of the QueryStreamer interface, streaming the entities through Hibernate's {@link ScrollableResults}.
+ * <p>
+ * Stateful streams run in the persistence context of the current transaction, which is cleared every
+ * {@code clearInterval} entities when a clear interval is set. Stateless streams open a {@link StatelessSession}, which is closed with the stream.
+ *
+ * @param <T> The type of the entity being streamed.
+ */
+public final class QueryStreamerImp<T> implements QueryStreamer<T> {
+
+    private final EntityManager entityManager;
+    private final StreamOptions defaultOptions;
+
+    /**
+     * Constructs a new QueryStreamerImp.
+     *
+     * @param entityManager The entity manager used to run the queries, bound to the current transaction. Must not be null.
+     * @param properties    Configuration properties, such as the default fetch size and clear interval. Must not be null.
+     */
+    public QueryStreamerImp(final EntityManager entityManager, final QueryFilterBuilderProperties properties) {
+        this.entityManager = entityManager;
+        final QueryFilterBuilderProperties.Streaming streaming = properties.defaults().streaming();
+        this.defaultOptions = new StreamOptions(streaming.fetchSize(), streaming.clearInterval(), true, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<T> stream(@NonNull final Class<T> entityType, @Nullable final Specification<T> specification) {
+        return stream(entityType, specification, defaultOptions);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<T> stream(
+        @NonNull final Class<T> entityType,
+        @Nullable final Specification<T> specification,
+        @NonNull final StreamOptions options
+    ) {
+        Objects.requireNonNull(entityType, "Entity type must not be null");
+        Objects.requireNonNull(options, "Options must not be null");
+        if (RepositoryUtils.isEmptyResult(specification))
+            return Stream.empty();
+
+        return options.stateless()
+            ? streamStateless(entityType, specification, options)
+            : streamStateful(entityType, specification, options);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StreamOptions getDefaultOptions() {
+        return defaultOptions;
+    }
+
+    private Stream<T> streamStateful(final Class<T> entityType, final Specification<T> specification, final StreamOptions options) {
+        // Outside a transaction, the shared entity manager would be closed before the stream is consumed
+        if (!TransactionSynchronizationManager.isActualTransactionActive())
+            throw new IllegalStateException("Streaming entities requires an active transaction, which keeps the cursor open until the stream is consumed");
+
+        final Session session = entityManager.unwrap(Session.class);
+        // The streamed entities are read once, so they are neither read from nor put into the second-level cache
+        final Query<T> query = createQuery(session, entityType, specification, options)
+            .setReadOnly(options.readOnly())
+            .setCacheMode(CacheMode.IGNORE);
+        final ScrollableResults<T> results = query.scroll(ScrollMode.FORWARD_ONLY);
+        return StreamSupport.stream(new ScrollSpliterator<>(results, session, options.clearInterval()), false)
+            .onClose(results::close);
+    }
+
+    private Stream<T> streamStateless(final Class<T> entityType, final Specification<T> specification, final StreamOptions options) {
+        final StatelessSession session = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).openStatelessSession();
+        try {
+            // Some drivers (e.g., PostgreSQL) only honor the fetch size when the connection is not in auto-commit mode
+            final Transaction transaction = session.beginTransaction();
+            final ScrollableResults<T> results = createQuery(session, entityType, specification, options).scroll(ScrollMode.FORWARD_ONLY);
+            // A stateless session has no persistence context to clear, and bypasses the second-level cache
+            return StreamSupport.stream(new ScrollSpliterator<>(results, null, 0), false)
+                .onClose(() -> {
+                    // Nothing is written, so the transaction is rolled back before the session is closed
+                    try (session) {
+                        results.close();
+                        if (transaction.isActive())
+                            transaction.rollback();
+                    }
+                });
+        } catch (RuntimeException e) {
+            session.close();
+            throw e;
+        }
+    }
+
+    private Query<T> createQuery(
+        final SharedSessionContract session,
+        final Class<T> entityType,
+        final Specification<T> specification,
+        final StreamOptions options
+    ) {
+        final CriteriaBuilder criteriaBuilder = session.getCriteriaBuilder();
+        final CriteriaQuery<T> criteriaQuery = criteriaBuilder.createQuery(entityType);
+        final Root<T> root = criteriaQuery.from(entityType);
+        criteriaQuery.select(root);
+        if (specification != null) {
+            final Predicate predicate = specification.toPredicate(root, criteriaQuery, criteriaBuilder);
+            if (predicate != null)
+                criteriaQuery.where(predicate);
+        }
+
+        return session.createQuery(criteriaQuery).setFetchSize(options.fetchSize());
+    }
+
+    /**
+     * Advances a scrollable result, flushing and clearing the persistence context every {@code clearInterval}
+     * entities. The context is cleared before reading the next entity, so that the entity being processed stays attached.
+     */
+    private static final class ScrollSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+        private final ScrollableResults<T> results;
+        private final Session session;
+        private final int clearInterval;
+        private long count;
+
+        private ScrollSpliterator(final ScrollableResults<T> results, @Nullable final Session session, final int clearInterval) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.results = results;
+            this.session = session;
+            this.clearInterval = clearInterval;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super T> action) {
+            if (session != null && clearInterval > 0 && count > 0 && count % clearInterval == 0) {
+                // Flushed first, so that the changes made to the streamed entities are not lost
+                session.flush();
+                session.clear();
+            }
+            if (!results.next())
+                return false;
+
+            count++;
+            action.accept(results.get());
+            return true;
+        }
+    }
+}
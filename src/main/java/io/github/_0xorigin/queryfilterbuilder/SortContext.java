@@ -1,11 +1,14 @@
 package io.github._0xorigin.queryfilterbuilder;
 
 import io.github._0xorigin.queryfilterbuilder.base.dtos.SortRequest;
+import io.github._0xorigin.queryfilterbuilder.base.enums.SortType;
 import io.github._0xorigin.queryfilterbuilder.base.enums.SourceType;
 import io.github._0xorigin.queryfilterbuilder.base.functions.CustomSortFunction;
 import io.github._0xorigin.queryfilterbuilder.base.functions.ExpressionProviderFunction;
 import io.github._0xorigin.queryfilterbuilder.base.holders.CustomSortHolder;
 import io.github._0xorigin.queryfilterbuilder.base.holders.SortHolder;
+import io.github._0xorigin.queryfilterbuilder.base.plans.SortPlan;
+import io.github._0xorigin.queryfilterbuilder.base.wrappers.SortWrapper;
 import jakarta.persistence.Entity;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.data.domain.Sort;
@@ -23,9 +26,14 @@ import java.util.stream.Collectors;
  * @param <T> The type of the entity to which the sort will be applied.
  */
 public final class SortContext<T> {
+    private final Class<T> type;
     private final Map<String, SortHolder<T, ? extends Comparable<?>>> sorts;
     private final Map<String, CustomSortHolder<T>> customSorts;
     private final Map<String, String> aliasToFieldMap;
+    private final Map<PlanKey, SortPlan<T>> requestSortPlans;
+    private final Map<PlanKey, SortPlan<T>> sortPlans;
+    private final Map<PlanKey, SortPlan<T>> customSortPlans;
+    private final List<String> fetchPaths;
     private final HttpServletRequest request;
     private final List<SortRequest> sortRequests;
 
@@ -35,9 +43,14 @@ public final class SortContext<T> {
      * @param sourceBuilder The source builder.
      */
     private SortContext(@NonNull final SourceBuilder<T> sourceBuilder) {
+        this.type = sourceBuilder.getTemplate().getType();
         this.sorts = Map.copyOf(sourceBuilder.getTemplate().getSorts());
         this.customSorts = Map.copyOf(sourceBuilder.getTemplate().getCustomSorts());
         this.aliasToFieldMap = Map.copyOf(sourceBuilder.getTemplate().getAliasToFieldMap());
+        this.requestSortPlans = sourceBuilder.getTemplate().getRequestSortPlans();
+        this.sortPlans = sourceBuilder.getTemplate().getSortPlans();
+        this.customSortPlans = sourceBuilder.getTemplate().getCustomSortPlans();
+        this.fetchPaths = sourceBuilder.getTemplate().getFetchPaths();
         this.request = sourceBuilder.getRequest().orElse(null);
         this.sortRequests = sourceBuilder.getSortRequests().orElse(null);
     }
@@ -57,17 +70,27 @@ public final class SortContext<T> {
         if (!type.isAnnotationPresent(Entity.class)) {
             throw new IllegalArgumentException("Class " + type.getName() + " is not a JPA Entity");
         }
-        return templateBuilder();
+        return templateBuilder(type);
     }
 
     /**
      * Returns a new {@link TemplateBuilder} instance.
      *
-     * @param <T> The type of the entity.
+     * @param type The entity class.
+     * @param <T>  The type of the entity.
      * @return A new {@link TemplateBuilder} instance.
      */
-    private static <T> TemplateBuilder<T> templateBuilder() {
-        return new TemplateBuilder<>();
+    private static <T> TemplateBuilder<T> templateBuilder(final Class<T> type) {
+        return new TemplateBuilder<>(type);
+    }
+
+    /**
+     * Returns the entity class this context was built for.
+     *
+     * @return The entity class.
+     */
+    public Class<T> getType() {
+        return type;
     }
 
     /**
@@ -95,6 +118,59 @@ public final class SortContext<T> {
         return aliasToFieldMap;
     }
 
+    /**
+     * Returns the association paths to fetch with the entities, as marked by {@link TemplateBuilder#fetch}.
+     *
+     * @return An unmodifiable list of delimited association paths, in declaration order.
+     */
+    public List<String> getFetchPaths() {
+        return fetchPaths;
+    }
+
+    /**
+     * Resolves a parsed {@link SortWrapper} against the precompiled sort plans of the template.
+     * <p>
+     * A normal sort is matched by the requested field (or alias), direction and source type, and the returned wrapper
+     * carries the resolved entity field. Otherwise, a custom sort is matched by the original field name and source type.
+     * The {@code originalFieldName} is always kept unchanged for error reporting.
+     *
+     * @param sortWrapper The parsed sort wrapper.
+     * @return An {@link Optional} containing the resolved wrapper with its sort type set, or empty if no sort matches.
+     */
+    public Optional<SortWrapper> resolveSortWrapper(@NonNull final SortWrapper sortWrapper) {
+        final SortPlan<T> plan = requestSortPlans.get(new PlanKey(sortWrapper.field(), sortWrapper.direction(), sortWrapper.sourceType()));
+        if (plan != null)
+            return Optional.of(withResolvedField(sortWrapper, plan.field(), SortType.NORMAL));
+
+        if (customSortPlans.containsKey(new PlanKey(sortWrapper.originalFieldName(), null, sortWrapper.sourceType())))
+            return Optional.of(withResolvedField(sortWrapper, aliasToFieldMap.getOrDefault(sortWrapper.field(), sortWrapper.field()), SortType.CUSTOM));
+
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the precompiled plan for an already resolved {@link SortWrapper}.
+     *
+     * @param sortWrapper The resolved sort wrapper, as returned by {@link #resolveSortWrapper(SortWrapper)}.
+     * @return An {@link Optional} containing the matching plan, or empty if the wrapper has no sort type or does not match any sort.
+     */
+    public Optional<SortPlan<T>> getSortPlan(@NonNull final SortWrapper sortWrapper) {
+        return sortWrapper.sortType().map(sortType -> switch (sortType) {
+            case NORMAL -> sortPlans.get(new PlanKey(sortWrapper.field(), sortWrapper.direction(), sortWrapper.sourceType()));
+            case CUSTOM -> customSortPlans.get(new PlanKey(sortWrapper.originalFieldName(), null, sortWrapper.sourceType()));
+        });
+    }
+
+    private static SortWrapper withResolvedField(final SortWrapper sortWrapper, final String field, final SortType sortType) {
+        return new SortWrapper(
+            field,
+            sortWrapper.originalFieldName(),
+            sortWrapper.direction(),
+            sortWrapper.sourceType(),
+            Optional.of(sortType)
+        );
+    }
+
     /**
      * Returns the {@link HttpServletRequest} if the sort source is query parameters.
      *
@@ -201,19 +277,87 @@ public final class SortContext<T> {
      * @param <T> The type of the entity.
      */
     public static final class Template<T> {
+        private final Class<T> type;
         private final Map<String, SortHolder<T, ? extends Comparable<?>>> sorts;
         private final Map<String, CustomSortHolder<T>> customSorts;
         private final Map<String, String> aliasToFieldMap;
+        private final Map<PlanKey, SortPlan<T>> requestSortPlans;
+        private final Map<PlanKey, SortPlan<T>> sortPlans;
+        private final Map<PlanKey, SortPlan<T>> customSortPlans;
+        private final List<String> fetchPaths;
 
         /**
-         * Creates a new {@link Template} instance.
+         * Creates a new {@link Template} instance and precompiles the sort plans.
          *
          * @param templateBuilder The template builder.
          */
         private Template(TemplateBuilder<T> templateBuilder) {
+            this.type = templateBuilder.getType();
             this.sorts = Map.copyOf(templateBuilder.getSorts());
             this.aliasToFieldMap = Map.copyOf(templateBuilder.getAliasToField());
             this.customSorts = Map.copyOf(templateBuilder.getCustomSorts());
+            this.sortPlans = compileSortPlans();
+            this.requestSortPlans = compileRequestSortPlans();
+            this.customSortPlans = compileCustomSortPlans();
+            this.fetchPaths = List.copyOf(templateBuilder.getFetchPaths());
+        }
+
+        /**
+         * Compiles one plan per (entity field, direction, source type) combination allowed by the defined sorts.
+         *
+         * @return An unmodifiable map of sort plans, keyed by entity field, direction and source type.
+         */
+        private Map<PlanKey, SortPlan<T>> compileSortPlans() {
+            final Map<PlanKey, SortPlan<T>> plans = new HashMap<>();
+            sorts.forEach((field, sortHolder) -> putSortPlans(plans, field, field, sortHolder));
+            return Map.copyOf(plans);
+        }
+
+        /**
+         * Compiles one plan per (requested field or alias, direction, source type) combination, with the alias already
+         * resolved to its entity field. A requested name that is not a registered alias resolves to itself.
+         *
+         * @return An unmodifiable map of sort plans, keyed by requested field, direction and source type.
+         */
+        private Map<PlanKey, SortPlan<T>> compileRequestSortPlans() {
+            final Set<String> requestedNames = new HashSet<>(sorts.keySet());
+            requestedNames.addAll(aliasToFieldMap.keySet());
+
+            final Map<PlanKey, SortPlan<T>> plans = new HashMap<>();
+            for (String requestedName : requestedNames) {
+                final String field = aliasToFieldMap.getOrDefault(requestedName, requestedName);
+                final SortHolder<T, ? extends Comparable<?>> sortHolder = sorts.get(field);
+                if (sortHolder != null)
+                    putSortPlans(plans, requestedName, field, sortHolder);
+            }
+            return Map.copyOf(plans);
+        }
+
+        /**
+         * Compiles one plan per (custom sort name, source type) combination.
+         *
+         * @return An unmodifiable map of custom sort plans, keyed by sort name and source type.
+         */
+        private Map<PlanKey, SortPlan<T>> compileCustomSortPlans() {
+            final Map<PlanKey, SortPlan<T>> plans = new HashMap<>();
+            customSorts.forEach((sortName, customSortHolder) -> {
+                final SortPlan<T> plan = SortPlan.custom(sortName, customSortHolder);
+                customSortHolder.sourceTypes().forEach(sourceType -> plans.put(new PlanKey(sortName, null, sourceType), plan));
+            });
+            return Map.copyOf(plans);
+        }
+
+        private void putSortPlans(
+            final Map<PlanKey, SortPlan<T>> plans,
+            final String name,
+            final String field,
+            final SortHolder<T, ? extends Comparable<?>> sortHolder
+        ) {
+            for (Sort.Direction direction : sortHolder.directions()) {
+                final SortPlan<T> plan = SortPlan.normal(field, direction, sortHolder);
+                for (SourceType sourceType : sortHolder.sourceTypes())
+                    plans.put(new PlanKey(name, direction, sourceType), plan);
+            }
         }
 
         /**
@@ -238,6 +382,51 @@ public final class SortContext<T> {
             return aliasToFieldMap;
         }
 
+        /**
+         * Returns the precompiled sort plans keyed by requested field or alias.
+         *
+         * @return An unmodifiable map of sort plans.
+         */
+        private Map<PlanKey, SortPlan<T>> getRequestSortPlans() {
+            return requestSortPlans;
+        }
+
+        /**
+         * Returns the precompiled sort plans keyed by resolved entity field.
+         *
+         * @return An unmodifiable map of sort plans.
+         */
+        private Map<PlanKey, SortPlan<T>> getSortPlans() {
+            return sortPlans;
+        }
+
+        /**
+         * Returns the precompiled custom sort plans keyed by sort name.
+         *
+         * @return An unmodifiable map of custom sort plans.
+         */
+        private Map<PlanKey, SortPlan<T>> getCustomSortPlans() {
+            return customSortPlans;
+        }
+
+        /**
+         * Returns the entity class of the template.
+         *
+         * @return The entity class.
+         */
+        private Class<T> getType() {
+            return type;
+        }
+
+        /**
+         * Returns the association paths to fetch with the entities.
+         *
+         * @return An unmodifiable list of delimited association paths.
+         */
+        private List<String> getFetchPaths() {
+            return fetchPaths;
+        }
+
         /**
          * Creates a new {@link SourceBuilder} from this template, which can then be used to specify the source of the sort data.
          *
@@ -254,14 +443,19 @@ public final class SortContext<T> {
      * @param <T> The type of the entity.
      */
     public static final class TemplateBuilder<T> {
+        private final Class<T> type;
         private final Map<String, SortHolder<T, ? extends Comparable<?>>> sorts = new HashMap<>();
         private final Map<String, CustomSortHolder<T>> customSorts = new HashMap<>();
         private final Map<String, String> aliasToField = new HashMap<>();
+        private final Set<String> fetchPaths = new LinkedHashSet<>();
 
         /**
          * Creates a new {@link TemplateBuilder} instance.
+         *
+         * @param type The entity class.
          */
-        private TemplateBuilder() {
+        private TemplateBuilder(final Class<T> type) {
+            this.type = type;
         }
 
         /**
@@ -319,6 +513,41 @@ public final class SortContext<T> {
             return customSorts;
         }
 
+        /**
+         * Marks association paths (e.g., "customer.address") to be fetched with the entities by the generated
+         * sort specification, so that accessing them once the entities are loaded does not trigger lazy loading.
+         * Associations that the sorts of the request go through are fetched by the inner joins the sorts would
+         * otherwise create, and the other ones by left joins.
+         *
+         * @param paths The delimited association paths to fetch. Must not be null.
+         * @return This builder instance for chaining.
+         * @throws NullPointerException if the paths, or any of them, are null.
+         */
+        public TemplateBuilder<T> fetch(@NonNull final String... paths) {
+            Objects.requireNonNull(paths, "Paths must not be null");
+            for (String path : paths)
+                fetchPaths.add(Objects.requireNonNull(path, "Path must not be null"));
+            return this;
+        }
+
+        /**
+         * Returns the association paths to fetch.
+         *
+         * @return A set of delimited association paths, in declaration order.
+         */
+        private Set<String> getFetchPaths() {
+            return fetchPaths;
+        }
+
+        /**
+         * Returns the entity class of the template being built.
+         *
+         * @return The entity class.
+         */
+        private Class<T> getType() {
+            return type;
+        }
+
         /**
          * Builds the final {@link Template} instance.
          *
@@ -1071,4 +1300,13 @@ public final class SortContext<T> {
             templateBuilder.getAliasToField().put(alias, fieldName);
         }
     }
+
+    /**
+     * The lookup key of a precompiled {@link SortPlan}.
+     *
+     * @param name       The requested field, alias, entity field or custom sort name.
+     * @param direction  The sort direction, or {@code null} for custom sorts.
+     * @param sourceType The source of the sort.
+     */
+    private record PlanKey(String name, Sort.Direction direction, SourceType sourceType) {}
 }
@@ -10,6 +10,7 @@ import jakarta.persistence.criteria.Root;
 import org.springframework.lang.NonNull;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface FilterBuilder<T> {
@@ -24,6 +25,35 @@ public interface FilterBuilder<T> {
      */
     Collection<FilterWrapper> getDistinctFilterWrappers(@NonNull FilterContext<T> filterContext);
 
+    /**
+     * Casts the values of a given {@link FilterWrapper} once, without building a query, so that the predicates built
+     * for the filter by every query of a specification (e.g., the content and count queries of a page) reuse them.
+     * Only the values whose data type is known without a query can be cast ahead of the queries.
+     *
+     * @param filterContext The context containing the filter definitions.
+     * @param filterWrapper The specific filter wrapper whose values are cast.
+     * @param errorHolder   An object to collect any validation errors found while casting the values, which must only
+     *                      hold the errors of this filter.
+     * @return The filter wrapper with its cast values and the errors of the invalid values, which are reported when
+     *         the predicate is built, or the given filter wrapper if its values cannot be cast ahead of the queries.
+     */
+    FilterWrapper castValues(FilterContext<T> filterContext, FilterWrapper filterWrapper, ErrorHolder errorHolder);
+
+    /**
+     * Validates a given {@link FilterWrapper} without building a query, so that invalid requests are rejected before
+     * a repository is called: the field is resolved, the operator is checked against the data type of the field and
+     * the values are cast and checked by the operator.
+     * Only the filters whose data type is known without a query can be validated ahead of the queries; the others are
+     * validated when the predicate is built.
+     *
+     * @param filterContext The context containing the filter definitions.
+     * @param filterWrapper The specific filter wrapper to validate.
+     * @param errorHolder   An object to collect the errors of the values, which must only hold the errors of this filter.
+     * @throws io.github._0xorigin.queryfilterbuilder.exceptions.QueryBuilderConfigurationException if the field cannot
+     *         be resolved or the operator is not supported for its data type.
+     */
+    void validate(FilterContext<T> filterContext, FilterWrapper filterWrapper, ErrorHolder errorHolder);
+
     /**
      * Builds a JPA {@link Predicate} for a given {@link FilterWrapper}.
      * This method contains the core logic for converting a single filter request into a database query condition.
@@ -39,4 +69,43 @@ public interface FilterBuilder<T> {
      */
     Optional<Predicate> buildPredicateForWrapper(Root<T> root, CriteriaQuery<?> criteriaQuery, CriteriaBuilder criteriaBuilder, FilterContext<T> filterContext, FilterWrapper filterWrapper, ErrorHolder errorHolder);
 
+    /**
+     * Checks, without building a query, whether a given {@link FilterWrapper} provably matches no entity
+     * (e.g., a {@code between} filter whose lower bound is greater than its upper bound).
+     * The check is best-effort and only uses the values cast by {@link #castValues}: a filter whose values were not
+     * cast ahead of the query, or are invalid, is reported as satisfiable.
+     * <p>
+     * The default implementation reports every filter as satisfiable.
+     *
+     * @param filterContext The context containing the filter definitions.
+     * @param filterWrapper The specific filter wrapper to check, as returned by {@link #castValues}.
+     * @return {@code true} if the filter is valid and matches no entity, {@code false} otherwise.
+     */
+    default boolean isUnsatisfiable(FilterContext<T> filterContext, FilterWrapper filterWrapper) {
+        return false;
+    }
+
+    /**
+     * Validates and casts the values of a given {@link FilterWrapper} to the data type of its field, without building a query.
+     *
+     * @param filterContext The context containing the filter definitions.
+     * @param filterWrapper The specific filter wrapper whose values are cast.
+     * @param errorHolder   An object to collect any validation or processing errors that occur.
+     * @return The cast values. Returns an empty list if the filter has no plan or its field cannot be resolved
+     *         (which will be logged in the errorHolder).
+     */
+    List<?> getCastedValues(FilterContext<T> filterContext, FilterWrapper filterWrapper, ErrorHolder errorHolder);
+
+    /**
+     * Fetches the association paths marked in the {@link FilterContext} with the root entity.
+     * It must be called before the predicates are built, so that the filters going through a fetched association
+     * reuse its fetch instead of joining it again.
+     *
+     * @param root           The root entity in the query.
+     * @param criteriaQuery  The criteria query being built.
+     * @param filterContext  The context containing the fetch paths and the filter definitions.
+     * @param filterWrappers The filters that the predicates are built for.
+     * @param errorHolder    An object to collect the errors of the fetch paths, which are configuration errors.
+     */
+    void fetchAssociations(Root<T> root, CriteriaQuery<?> criteriaQuery, FilterContext<T> filterContext, Collection<FilterWrapper> filterWrappers, ErrorHolder errorHolder);
 }
@@ -3,17 +3,17 @@ package io.github._0xorigin.queryfilterbuilder.base.builders;
 import io.github._0xorigin.queryfilterbuilder.FilterContext;
 import io.github._0xorigin.queryfilterbuilder.base.enumfield.AbstractEnumFilterField;
 import io.github._0xorigin.queryfilterbuilder.base.enums.FilterType;
-import io.github._0xorigin.queryfilterbuilder.base.filterfield.AbstractFilterField;
-import io.github._0xorigin.queryfilterbuilder.base.filterfield.FieldCaster;
 import io.github._0xorigin.queryfilterbuilder.base.filteroperator.FilterOperator;
 import io.github._0xorigin.queryfilterbuilder.base.filteroperator.Operator;
 import io.github._0xorigin.queryfilterbuilder.base.generators.PathGenerator;
 import io.github._0xorigin.queryfilterbuilder.base.holders.CustomFilterHolder;
 import io.github._0xorigin.queryfilterbuilder.base.holders.ErrorHolder;
 import io.github._0xorigin.queryfilterbuilder.base.parsers.FilterParser;
+import io.github._0xorigin.queryfilterbuilder.base.plans.FilterPlan;
 import io.github._0xorigin.queryfilterbuilder.base.services.LocalizationService;
+import io.github._0xorigin.queryfilterbuilder.base.utils.FilterSimplificationUtils;
+import io.github._0xorigin.queryfilterbuilder.base.utils.FilterSimplificationUtils.SimplifiedFilter;
 import io.github._0xorigin.queryfilterbuilder.base.utils.FilterUtils;
-import io.github._0xorigin.queryfilterbuilder.base.validators.FilterValidator;
 import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterErrorWrapper;
 import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterWrapper;
 import io.github._0xorigin.queryfilterbuilder.registries.FilterFieldRegistry;
@@ -33,10 +33,8 @@ public final class FilterBuilderImp<T> implements FilterBuilder<T> {
 
     private final PathGenerator<T> fieldPathGenerator;
     private final FilterParser filterParser;
-    private final FilterFieldRegistry filterFieldRegistry;
     private final FilterOperatorRegistry filterOperatorRegistry;
-    private final AbstractEnumFilterField enumFilterField;
-    private final LocalizationService localizationService;
+    private final FilterValueCaster filterValueCaster;
 
     /**
      * Constructs a new FilterBuilderImp with the necessary dependencies.
@@ -58,10 +56,8 @@ public final class FilterBuilderImp<T> implements FilterBuilder<T> {
     ) {
         this.fieldPathGenerator = fieldPathGenerator;
         this.filterParser = filterParser;
-        this.filterFieldRegistry = filterFieldRegistry;
         this.filterOperatorRegistry = filterOperatorRegistry;
-        this.enumFilterField = enumFilterField;
-        this.localizationService = localizationService;
+        this.filterValueCaster = new FilterValueCaster(filterFieldRegistry, enumFilterField, localizationService);
     }
 
     /**
@@ -79,243 +75,329 @@ public final class FilterBuilderImp<T> implements FilterBuilder<T> {
     public Collection<FilterWrapper> getDistinctFilterWrappers(@NonNull final FilterContext<T> filterContext) {
         final Map<String, FilterWrapper> filterWrappers = new LinkedHashMap<>();
         filterContext.getRequest().ifPresent(request ->
-            filterParser.parse(request).forEach(filterWrapper -> {
-                final FilterWrapper resolved = resolveAlias(filterContext, filterWrapper);
-                filterWrappers.compute(resolved.field(), (k, currentValue) -> setFilterType(filterContext, resolved, currentValue));
-            })
+            filterParser.parse(request).forEach(filterWrapper -> putResolvedFilterWrapper(filterContext, filterWrapper, filterWrappers))
         );
         filterContext.getFilterRequests().ifPresent(filterRequests ->
-            filterParser.parse(filterRequests).forEach(filterWrapper -> {
-                final FilterWrapper resolved = resolveAlias(filterContext, filterWrapper);
-                filterWrappers.compute(resolved.field(), (k, currentValue) -> setFilterType(filterContext, resolved, currentValue));
-            })
+            filterParser.parse(filterRequests).forEach(filterWrapper -> putResolvedFilterWrapper(filterContext, filterWrapper, filterWrappers))
         );
         return filterWrappers.values();
     }
 
+    private void putResolvedFilterWrapper(
+        final FilterContext<T> filterContext,
+        final FilterWrapper filterWrapper,
+        final Map<String, FilterWrapper> filterWrappers
+    ) {
+        filterContext.resolveFilterWrapper(filterWrapper)
+            .ifPresent(resolved -> filterWrappers.put(resolved.field(), resolved));
+    }
+
     /**
      * {@inheritDoc}
      * <p>
-     * This implementation determines whether the filter is a standard field filter or a custom filter by checking
-     * the {@code filterType} of the {@code filterWrapper}. It then delegates to the appropriate private method
-     * ({@code buildFilterPredicate} or {@code buildCustomFilterPredicate}) to construct the final JPA {@link Predicate}.
-     * If the filter type is not set or not supported, it returns an empty optional.
+     * The values of a standard filter are cast to the Java type of its field path, which is resolved without a query,
+     * and the values of a custom filter to its data type. The values of a standard filter with an expression provider
+     * cannot be typed without a query. Filters that would raise a configuration error are not cast, so that the error
+     * is raised when the predicate is built. Invalid values are kept with their errors, which are reported again each
+     * time a predicate is built for the filter, instead of casting the values again.
      */
     @Override
-    public Optional<Predicate> buildPredicateForWrapper(
-        final Root<T> root,
-        final CriteriaQuery<?> criteriaQuery,
-        final CriteriaBuilder criteriaBuilder,
-        final FilterContext<T> filterContext,
+    public FilterWrapper castValues(final FilterContext<T> filterContext, final FilterWrapper filterWrapper, final ErrorHolder errorHolder) {
+        final Optional<FilterPlan<T>> filterPlan = filterContext.getFilterPlan(filterWrapper);
+        if (filterPlan.isEmpty())
+            return filterWrapper;
+
+        final Class<?> dataType = switch (filterPlan.get().filterType()) {
+            case NORMAL -> filterPlan.get().filterHolder().orElseThrow().expressionProviderFunction().isPresent()
+                ? null
+                : resolveDataType(filterContext, filterWrapper, errorHolder);
+            case CUSTOM -> filterPlan.get().customFilterHolder().orElseThrow().dataType();
+        };
+        // Custom filters are validated like an 'eq' filter on their data type
+        final Operator operator = filterPlan.get().filterType() == FilterType.CUSTOM ? Operator.EQ : filterWrapper.operator();
+        final FilterOperator filterOperator = filterOperatorRegistry.getOperator(operator);
+        if (dataType == null || filterOperator == null || !filterValueCaster.supports(dataType, operator))
+            return filterWrapper;
+
+        final List<?> values = castValues(dataType, filterOperator, filterWrapper, errorHolder);
+        return filterWrapper.withCastValues(dataType, values, errorHolder.bindingResult().getAllErrors());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The Java type of a standard filter is resolved without a query, and its values are cast and simplified exactly
+     * like {@link #buildPredicateForWrapper} would do. The checks of the simplified operator on the values (e.g., the
+     * maximum size of an {@code in} list) are then run with {@link FilterOperator#validate}. The values of a custom
+     * filter are cast to its data type, and filters with an expression provider cannot be typed without a query.
+     */
+    @Override
+    public void validate(final FilterContext<T> filterContext, final FilterWrapper filterWrapper, final ErrorHolder errorHolder) {
+        final Optional<FilterPlan<T>> filterPlan = filterContext.getFilterPlan(filterWrapper);
+        if (filterPlan.isEmpty())
+            return;
+
+        switch (filterPlan.get().filterType()) {
+            case NORMAL -> {
+                if (filterPlan.get().filterHolder().orElseThrow().expressionProviderFunction().isPresent())
+                    return;
+
+                final Class<?> dataType = resolveDataType(filterContext, filterWrapper, errorHolder);
+                // Fields that cannot be resolved come from the template, like when the predicate is built
+                FilterUtils.throwServerSideExceptionIfInvalid(errorHolder);
+                if (dataType != null)
+                    validateValues(dataType, filterWrapper, errorHolder);
+            }
+            // Custom filters are validated like an 'eq' filter on their data type
+            case CUSTOM -> {
+                final Class<?> dataType = filterPlan.get().customFilterHolder().orElseThrow().dataType();
+                if (getCastValues(filterWrapper, dataType, errorHolder).isEmpty())
+                    castValues(dataType, filterOperatorRegistry.getOperator(Operator.EQ), filterWrapper, errorHolder);
+            }
+        }
+    }
+
+    private <K extends Comparable<? super K> & Serializable> void validateValues(
+        final Class<?> dataType,
         final FilterWrapper filterWrapper,
         final ErrorHolder errorHolder
     ) {
-        final Optional<FilterType> filterType = filterWrapper.filterType();
-        if (filterType.isEmpty())
-            return Optional.empty();
+        final FilterOperator filterOperator = filterOperatorRegistry.getOperator(filterWrapper.operator());
+        final List<K> values = this.<K>getCastValues(filterWrapper, dataType, errorHolder)
+            .orElseGet(() -> castValues(dataType, filterOperator, filterWrapper, errorHolder));
+        if (errorHolder.bindingResult().hasErrors())
+            return;
+
+        final SimplifiedFilter<K> simplifiedFilter = FilterSimplificationUtils.simplify(filterWrapper.operator(), values);
+        if (simplifiedFilter.outcome() != SimplifiedFilter.Outcome.APPLY)
+            return;
 
         final FilterErrorWrapper filterErrorWrapper = new FilterErrorWrapper(errorHolder.bindingResult(), filterWrapper);
-        return switch (filterType.get()) {
-            case NORMAL -> buildFilterPredicate(root, criteriaQuery, criteriaBuilder, filterContext, filterWrapper, errorHolder, filterErrorWrapper);
-            case CUSTOM -> buildCustomFilterPredicate(root, criteriaQuery, criteriaBuilder, filterContext, filterWrapper, errorHolder, filterErrorWrapper);
-            default -> Optional.empty();
-        };
+        getOperator(filterWrapper, filterOperator, simplifiedFilter.operator()).validate(simplifiedFilter.values(), filterErrorWrapper);
     }
 
-    private <K extends Comparable<? super K> & Serializable> Optional<Predicate> buildFilterPredicate(
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation looks up the precompiled {@link FilterPlan} of the {@code filterWrapper} in the context, which
+     * determines whether the filter is a standard field filter or a custom filter. It then delegates to the appropriate
+     * private method ({@code buildFilterPredicate} or {@code buildCustomFilterPredicate}) to construct the final JPA {@link Predicate}.
+     * If the filter type is not set or no plan matches, it returns an empty optional.
+     * <p>
+     * The values cast by {@link #castValues} are reused when they were cast to the type of the filtered expression.
+     * Once the values of a standard filter are cast, the filter is simplified with {@link FilterSimplificationUtils},
+     * so that degenerate filters (e.g., a {@code between} with reversed bounds) are built as constant or cheaper
+     * predicates.
+     */
+    @Override
+    public Optional<Predicate> buildPredicateForWrapper(
         final Root<T> root,
         final CriteriaQuery<?> criteriaQuery,
         final CriteriaBuilder criteriaBuilder,
         final FilterContext<T> filterContext,
         final FilterWrapper filterWrapper,
-        final ErrorHolder errorHolder,
-        final FilterErrorWrapper filterErrorWrapper
+        final ErrorHolder errorHolder
     ) {
-        if (!isValidFilter(filterContext, filterWrapper))
+        final Optional<FilterPlan<T>> filterPlan = filterContext.getFilterPlan(filterWrapper);
+        if (filterPlan.isEmpty())
             return Optional.empty();
 
-        final Expression<K> expression = getExpression(root, criteriaQuery, criteriaBuilder, filterContext, filterWrapper, errorHolder);
-        FilterUtils.throwServerSideExceptionIfInvalid(errorHolder);
-
-        final Class<? extends K> dataType = getFieldDataType(expression);
-        final FilterOperator filterOperator = filterOperatorRegistry.getOperator(filterWrapper.operator());
-        if (dataType.isEnum()) {
-            List<K> enumValues = validateAndGetCastedEnumValues(dataType, filterOperator, filterWrapper, errorHolder, filterErrorWrapper);
-            return filterOperator.apply(expression, criteriaBuilder, enumValues, filterErrorWrapper);
-        }
-
-        final AbstractFilterField<? extends Comparable<?>> filterField = getFilterField(dataType);
-        final List<K> values = validateAndGetCastedValues(filterField, filterOperator, filterWrapper, errorHolder, filterErrorWrapper);
-        return filterOperator.apply(expression, criteriaBuilder, values, filterErrorWrapper);
+        final FilterErrorWrapper filterErrorWrapper = new FilterErrorWrapper(errorHolder.bindingResult(), filterWrapper);
+        return switch (filterPlan.get().filterType()) {
+            case NORMAL -> buildFilterPredicate(root, criteriaQuery, criteriaBuilder, filterPlan.get(), filterWrapper, errorHolder, filterErrorWrapper);
+            case CUSTOM -> buildCustomFilterPredicate(root, criteriaQuery, criteriaBuilder, filterPlan.get(), filterWrapper, errorHolder, filterErrorWrapper);
+        };
     }
 
-    private <K extends Comparable<? super K> & Serializable> Optional<Predicate> buildCustomFilterPredicate(
-        final Root<T> root,
-        final CriteriaQuery<?> criteriaQuery,
-        final CriteriaBuilder cb,
-        final FilterContext<T> filterContext,
-        final FilterWrapper filterWrapper,
-        final ErrorHolder errorHolder,
-        final FilterErrorWrapper filterErrorWrapper
-    ) {
-        if (!isValidCustomFilter(filterContext, filterWrapper))
-            return Optional.empty();
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation only analyses standard filters whose operator may never match according to
+     * {@link FilterSimplificationUtils#canNeverMatch}, and whose values were cast without errors by {@link #castValues}.
+     * The cast values are simplified exactly like {@link #buildPredicateForWrapper} would do.
+     */
+    @Override
+    public boolean isUnsatisfiable(final FilterContext<T> filterContext, final FilterWrapper filterWrapper) {
+        if (!FilterSimplificationUtils.canNeverMatch(filterWrapper.operator()))
+            return false;
+
+        final Optional<FilterPlan<T>> filterPlan = filterContext.getFilterPlan(filterWrapper);
+        if (filterPlan.isEmpty() || filterPlan.get().filterType() != FilterType.NORMAL)
+            return false;
+
+        return filterWrapper.castValues()
+            .filter(castValues -> !castValues.hasErrors())
+            .map(castValues -> neverMatches(filterWrapper.operator(), castValues.values()))
+            .orElse(false);
+    }
 
-        @SuppressWarnings("unchecked")
-        final CustomFilterHolder<T, K> customFilter = (CustomFilterHolder<T, K>)(filterContext.getCustomFilters().get(filterWrapper.originalFieldName()));
-        final FilterOperator filterOperator = filterOperatorRegistry.getOperator(Operator.EQ);
-        if (customFilter.dataType().isEnum()) {
-            List<K> enumValues = validateAndGetCastedEnumValues(customFilter.dataType(), filterOperator, filterWrapper, errorHolder, filterErrorWrapper);
-            return customFilter.customFilterFunction().apply(root, criteriaQuery, cb, enumValues, filterErrorWrapper);
-        }
+    @SuppressWarnings("unchecked")
+    private <K extends Comparable<? super K> & Serializable> boolean neverMatches(final Operator operator, final List<?> values) {
+        return FilterSimplificationUtils.simplify(operator, (List<K>) values).outcome() == SimplifiedFilter.Outcome.NEVER_MATCHES;
+    }
 
-        final AbstractFilterField<? extends Comparable<?>> filterField = getFilterField(customFilter.dataType());
-        final List<K> values = validateAndGetCastedValues(filterField, filterOperator, filterWrapper, errorHolder, filterErrorWrapper);
-        return customFilter.customFilterFunction().apply(root, criteriaQuery, cb, values, filterErrorWrapper);
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The values of a standard filter are cast to the Java type of its field path, which is resolved without a query,
+     * and the values of a custom filter to its data type. The values of a standard filter with an expression provider
+     * cannot be typed without a query, so they are returned as is.
+     */
+    @Override
+    public List<?> getCastedValues(final FilterContext<T> filterContext, final FilterWrapper filterWrapper, final ErrorHolder errorHolder) {
+        final Optional<FilterPlan<T>> filterPlan = filterContext.getFilterPlan(filterWrapper);
+        if (filterPlan.isEmpty())
+            return List.of();
+        if (filterWrapper.castValues().isPresent())
+            return getCastValues(filterWrapper, filterWrapper.castValues().get().dataType(), errorHolder).orElseThrow();
+
+        return switch (filterPlan.get().filterType()) {
+            case NORMAL -> {
+                if (filterPlan.get().filterHolder().orElseThrow().expressionProviderFunction().isPresent())
+                    yield filterWrapper.values();
+
+                final Class<?> dataType = resolveDataType(filterContext, filterWrapper, errorHolder);
+                yield dataType == null
+                    ? List.of()
+                    : castValues(dataType, filterOperatorRegistry.getOperator(filterWrapper.operator()), filterWrapper, errorHolder);
+            }
+            case CUSTOM -> castValues(
+                filterPlan.get().customFilterHolder().orElseThrow().dataType(),
+                filterOperatorRegistry.getOperator(Operator.EQ),
+                filterWrapper,
+                errorHolder
+            );
+        };
     }
 
-    private <K extends Comparable<? super K> & Serializable> Expression<K> getExpression(
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation delegates to {@link PathGenerator#fetch}, with the fields of the standard filters as the
+     * traversed fields. The paths of custom filters and of filters with an expression provider are not known.
+     */
+    @Override
+    public void fetchAssociations(
         final Root<T> root,
         final CriteriaQuery<?> criteriaQuery,
-        final CriteriaBuilder criteriaBuilder,
         final FilterContext<T> filterContext,
-        final FilterWrapper filterWrapper,
+        final Collection<FilterWrapper> filterWrappers,
         final ErrorHolder errorHolder
     ) {
-        var filterHolder = filterContext.getFilters().get(filterWrapper.field());
-        Optional<Expression<K>> providerFunction = filterHolder.getExpression(root, criteriaQuery, criteriaBuilder);
-        return providerFunction.orElseGet(() -> fieldPathGenerator.generate(root, filterWrapper.field(), filterWrapper.originalFieldName(), errorHolder.bindingResult()));
+        if (filterContext.getFetchPaths().isEmpty())
+            return;
+
+        final List<String> traversedFields = filterWrappers.stream()
+            .map(filterContext::getFilterPlan)
+            .flatMap(Optional::stream)
+            .filter(filterPlan -> filterPlan.filterType() == FilterType.NORMAL
+                && filterPlan.filterHolder().orElseThrow().expressionProviderFunction().isEmpty())
+            .map(FilterPlan::field)
+            .toList();
+        fieldPathGenerator.fetch(root, criteriaQuery, filterContext.getFetchPaths(), traversedFields, errorHolder.bindingResult());
     }
 
-    private <K extends Comparable<? super K> & Serializable> Class<? extends K> getFieldDataType(final Expression<K> expression) {
-        return expression.getJavaType();
+    private Class<?> resolveDataType(final FilterContext<T> filterContext, final FilterWrapper filterWrapper, final ErrorHolder errorHolder) {
+        return fieldPathGenerator.resolveJavaType(
+            filterContext.getType(),
+            filterWrapper.field(),
+            filterWrapper.originalFieldName(),
+            errorHolder.bindingResult()
+        );
     }
 
-    private <K extends Comparable<? super K> & Serializable> AbstractFilterField<? extends Comparable<?>> getFilterField(final Class<K> dataType) {
-        return filterFieldRegistry.getFilterField(dataType);
+    // The values cast ahead of the queries are only reused for the data type they were cast to, with their errors
+    @SuppressWarnings("unchecked")
+    private <K extends Comparable<? super K> & Serializable> Optional<List<K>> getCastValues(
+        final FilterWrapper filterWrapper,
+        final Class<?> dataType,
+        final ErrorHolder errorHolder
+    ) {
+        return filterWrapper.castValues()
+            .filter(castValues -> castValues.dataType().equals(dataType))
+            .map(castValues -> {
+                castValues.errors().forEach(error -> FilterUtils.addError(errorHolder.bindingResult(), error));
+                return (List<K>) castValues.values();
+            });
     }
 
-    private <K extends Comparable<? super K> & Serializable> List<K> validateAndGetCastedValues(
-        final AbstractFilterField<? extends Comparable<?>> filterField,
+    @SuppressWarnings("unchecked")
+    private <K extends Comparable<? super K> & Serializable> List<K> castValues(
+        final Class<?> dataType,
         final FilterOperator filterOperator,
         final FilterWrapper filterWrapper,
+        final ErrorHolder errorHolder
+    ) {
+        final FilterErrorWrapper filterErrorWrapper = new FilterErrorWrapper(errorHolder.bindingResult(), filterWrapper);
+        return filterValueCaster.validateAndCast((Class<? extends K>) dataType, filterOperator, filterWrapper, errorHolder, filterErrorWrapper);
+    }
+
+    private <K extends Comparable<? super K> & Serializable> Optional<Predicate> buildFilterPredicate(
+        final Root<T> root,
+        final CriteriaQuery<?> criteriaQuery,
+        final CriteriaBuilder criteriaBuilder,
+        final FilterPlan<T> filterPlan,
+        final FilterWrapper filterWrapper,
         final ErrorHolder errorHolder,
         final FilterErrorWrapper filterErrorWrapper
     ) {
-        FilterValidator.validateFilterFieldAndOperator(
-            filterField,
-            filterOperator,
-            filterWrapper,
-            filterErrorWrapper,
-            localizationService
+        var filterHolder = filterPlan.filterHolder().orElseThrow();
+        final Optional<Expression<K>> providerFunction = filterHolder.getExpression(root, criteriaQuery, criteriaBuilder);
+        if (providerFunction.isPresent())
+            return buildFilterPredicate(providerFunction.get(), criteriaBuilder, filterWrapper, errorHolder, filterErrorWrapper);
+
+        // The path generator decides where the predicate is evaluated (e.g., in an EXISTS subquery for to-many paths)
+        return fieldPathGenerator.<K>generatePredicate(
+            root,
+            criteriaQuery,
+            criteriaBuilder,
+            filterWrapper.field(),
+            filterWrapper.originalFieldName(),
+            errorHolder.bindingResult(),
+            expression -> buildFilterPredicate(expression, criteriaBuilder, filterWrapper, errorHolder, filterErrorWrapper)
         );
-        FilterUtils.throwServerSideExceptionIfInvalid(errorHolder);
-
-        final FieldCaster<K> fieldCaster = getFieldCaster(filterField);
-        return getCastedValues(filterWrapper, fieldCaster, filterErrorWrapper);
     }
 
-    private <K extends Comparable<? super K> & Serializable> List<K> validateAndGetCastedEnumValues(
-        final Class<? extends K> dataType,
-        final FilterOperator filterOperator,
+    private <K extends Comparable<? super K> & Serializable> Optional<Predicate> buildFilterPredicate(
+        final Expression<K> expression,
+        final CriteriaBuilder criteriaBuilder,
         final FilterWrapper filterWrapper,
         final ErrorHolder errorHolder,
         final FilterErrorWrapper filterErrorWrapper
     ) {
-        FilterValidator.validateEnumFilterOperator(
-            enumFilterField,
-            filterOperator,
-            filterWrapper,
-            filterErrorWrapper,
-            localizationService
-        );
         FilterUtils.throwServerSideExceptionIfInvalid(errorHolder);
-        return getCastedEnumValues(filterWrapper, dataType, filterErrorWrapper);
-    }
 
-    @SuppressWarnings("unchecked")
-    private <K extends Comparable<? super K> & Serializable> FieldCaster<K> getFieldCaster(final AbstractFilterField<? extends Comparable<?>> filterField) {
-        return (FieldCaster<K>) filterField;
+        final Class<? extends K> dataType = expression.getJavaType();
+        final FilterOperator filterOperator = filterOperatorRegistry.getOperator(filterWrapper.operator());
+        final List<K> values = this.<K>getCastValues(filterWrapper, dataType, errorHolder)
+            .orElseGet(() -> filterValueCaster.validateAndCast(dataType, filterOperator, filterWrapper, errorHolder, filterErrorWrapper));
+        final SimplifiedFilter<K> simplifiedFilter = FilterSimplificationUtils.simplify(filterWrapper.operator(), values);
+        return switch (simplifiedFilter.outcome()) {
+            case NEVER_MATCHES -> Optional.of(criteriaBuilder.disjunction());
+            case MATCHES_NON_NULL -> Optional.of(criteriaBuilder.isNotNull(expression));
+            case APPLY -> getOperator(filterWrapper, filterOperator, simplifiedFilter.operator())
+                .apply(expression, criteriaBuilder, simplifiedFilter.values(), filterErrorWrapper);
+        };
     }
 
-    private <K extends Comparable<? super K> & Serializable> List<K> getCastedValues(
-        final FilterWrapper filterWrapper,
-        final FieldCaster<K> filterCaster,
-        final FilterErrorWrapper filterErrorWrapper
-    ) {
-        return filterWrapper.values()
-            .stream()
-            .map(value -> filterCaster.safeCast(value, filterErrorWrapper))
-            .toList();
+    private FilterOperator getOperator(final FilterWrapper filterWrapper, final FilterOperator filterOperator, final Operator operator) {
+        return filterWrapper.operator() == operator ? filterOperator : filterOperatorRegistry.getOperator(operator);
     }
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
-    private <K extends Comparable<? super K> & Serializable> List<K> getCastedEnumValues(
+    private <K extends Comparable<? super K> & Serializable> Optional<Predicate> buildCustomFilterPredicate(
+        final Root<T> root,
+        final CriteriaQuery<?> criteriaQuery,
+        final CriteriaBuilder cb,
+        final FilterPlan<T> filterPlan,
         final FilterWrapper filterWrapper,
-        final Class<? extends K> enumClass,
+        final ErrorHolder errorHolder,
         final FilterErrorWrapper filterErrorWrapper
     ) {
-        return filterWrapper.values()
-            .stream()
-            .map(value ->  (K)(enumFilterField.safeCast((Class<? extends Enum>) enumClass, value, filterErrorWrapper)))
-            .toList();
-    }
-
-    private FilterWrapper setFilterType(final FilterContext<T> filterContext, final FilterWrapper filterWrapper, final FilterWrapper currentValue) {
-        if (isValidFilter(filterContext, filterWrapper))
-            return filterWrapper.withFilterType(FilterType.NORMAL);
-
-        if (isValidCustomFilter(filterContext, filterWrapper))
-            return filterWrapper.withFilterType(FilterType.CUSTOM);
-
-        return currentValue;
-    }
-
-    private boolean isValidFilter(final FilterContext<T> filterContext, final FilterWrapper filterWrapper) {
-        final var filters = filterContext.getFilters();
-        final boolean isFilterExists = filters.containsKey(filterWrapper.field());
-        final var filterHolder = filters.get(filterWrapper.field());
-        return (
-            isFilterExists
-                && filterHolder.operators().contains(filterWrapper.operator())
-                && filterHolder.sourceTypes().contains(filterWrapper.sourceType())
-        );
-    }
-
-    private boolean isValidCustomFilter(final FilterContext<T> filterContext, final FilterWrapper filterWrapper) {
-        final var customFilters = filterContext.getCustomFilters();
-        final boolean isFilterExists = customFilters.containsKey(filterWrapper.originalFieldName());
-        final var customFilterHolder = customFilters.get(filterWrapper.originalFieldName());
-        return (
-            isFilterExists
-                && customFilterHolder.sourceTypes().contains(filterWrapper.sourceType())
-        );
-    }
-
-    /**
-     * Resolve a parsed FilterWrapper's field to the configured entity field name if an alias was registered.
-     * This will return a new FilterWrapper with the resolved entity field in the 'field' position while keeping
-     * originalFieldName unchanged (for error reporting and custom-filter lookup).
-     */
-    private FilterWrapper resolveAlias(final FilterContext<T> filterContext, final FilterWrapper wrapper) {
-        final Map<String, String> map = filterContext.getAliasToFieldMap();
-        if (map.isEmpty())
-            return wrapper;
-
-        // try using the parsed field (query param case) first, then originalFieldName (body case)
-        String candidate = wrapper.field();
-        String mapped = map.get(candidate);
-
-        if (mapped != null && !mapped.equals(wrapper.field())) {
-            return new FilterWrapper(
-                mapped,
-                wrapper.originalFieldName(),
-                wrapper.operator(),
-                wrapper.values(),
-                wrapper.sourceType(),
-                wrapper.filterType()
-            );
-        }
-        return wrapper;
+        @SuppressWarnings("unchecked")
+        final CustomFilterHolder<T, K> customFilter = (CustomFilterHolder<T, K>)(filterPlan.customFilterHolder().orElseThrow());
+        final FilterOperator filterOperator = filterOperatorRegistry.getOperator(Operator.EQ);
+        final List<K> values = this.<K>getCastValues(filterWrapper, customFilter.dataType(), errorHolder)
+            .orElseGet(() -> filterValueCaster.validateAndCast(customFilter.dataType(), filterOperator, filterWrapper, errorHolder, filterErrorWrapper));
+        return customFilter.customFilterFunction().apply(root, criteriaQuery, cb, values, filterErrorWrapper);
     }
 }
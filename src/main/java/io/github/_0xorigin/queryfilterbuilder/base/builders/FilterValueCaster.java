@@ -0,0 +1,172 @@
+package io.github._0xorigin.queryfilterbuilder.base.builders;
+
+import io.github._0xorigin.queryfilterbuilder.base.enumfield.AbstractEnumFilterField;
+import io.github._0xorigin.queryfilterbuilder.base.enums.MessageKey;
+import io.github._0xorigin.queryfilterbuilder.base.filterfield.AbstractFilterField;
+import io.github._0xorigin.queryfilterbuilder.base.filterfield.CastResult;
+import io.github._0xorigin.queryfilterbuilder.base.filterfield.FieldCaster;
+import io.github._0xorigin.queryfilterbuilder.base.filteroperator.FilterOperator;
+import io.github._0xorigin.queryfilterbuilder.base.filteroperator.Operator;
+import io.github._0xorigin.queryfilterbuilder.base.holders.ErrorHolder;
+import io.github._0xorigin.queryfilterbuilder.base.services.LocalizationService;
+import io.github._0xorigin.queryfilterbuilder.base.utils.FilterUtils;
+import io.github._0xorigin.queryfilterbuilder.base.validators.FilterValidator;
+import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterErrorWrapper;
+import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterWrapper;
+import io.github._0xorigin.queryfilterbuilder.registries.FilterFieldRegistry;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Validates the operator of a filter against the data type of the filtered field, and casts the raw filter values
+ * to that data type. It is shared by the filter builders, so that the database and in-memory backends report the
+ * same errors for the same filter.
+ */
+final class FilterValueCaster {
+
+    private final FilterFieldRegistry filterFieldRegistry;
+    private final AbstractEnumFilterField enumFilterField;
+    private final LocalizationService localizationService;
+
+    /**
+     * Constructs a new FilterValueCaster.
+     *
+     * @param filterFieldRegistry Registry for available filter field types (e.g., String, Integer).
+     * @param enumFilterField     Enum filter field provider.
+     * @param localizationService Service for retrieving localized error messages.
+     */
+    FilterValueCaster(
+        final FilterFieldRegistry filterFieldRegistry,
+        final AbstractEnumFilterField enumFilterField,
+        final LocalizationService localizationService
+    ) {
+        this.filterFieldRegistry = filterFieldRegistry;
+        this.enumFilterField = enumFilterField;
+        this.localizationService = localizationService;
+    }
+
+    /**
+     * Checks whether the operator is supported for the data type, i.e. whether {@link #validateAndCast} would not
+     * report a configuration error for them.
+     *
+     * @param dataType The data type of the filtered field.
+     * @param operator The operator of the filter.
+     * @return {@code true} if the data type has a filter field that supports the operator.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    boolean supports(final Class<?> dataType, final Operator operator) {
+        if (dataType.isEnum())
+            return enumFilterField.getSupportedOperators().contains(operator);
+
+        final AbstractFilterField<? extends Comparable<?>> filterField = filterFieldRegistry.getFilterField((Class) dataType);
+        return filterField != null && filterField.getSupportedOperators().contains(operator);
+    }
+
+    /**
+     * Validates the filter operator against the data type and casts the filter values.
+     * Configuration errors (e.g., an unsupported data type) are thrown as a server-side exception, while values that
+     * cannot be cast are added as client errors and returned as {@code null} elements. Values rejected without
+     * a message are reported with the localized invalid-value message.
+     *
+     * @param dataType           The data type of the filtered field.
+     * @param filterOperator     The operator of the filter.
+     * @param filterWrapper      The filter being processed.
+     * @param errorHolder        The holder of the binding result where errors are collected.
+     * @param filterErrorWrapper The error wrapper of the filter.
+     * @param <K>                The data type of the field.
+     * @return The casted values.
+     */
+    <K extends Comparable<? super K> & Serializable> List<K> validateAndCast(
+        final Class<? extends K> dataType,
+        final FilterOperator filterOperator,
+        final FilterWrapper filterWrapper,
+        final ErrorHolder errorHolder,
+        final FilterErrorWrapper filterErrorWrapper
+    ) {
+        if (dataType.isEnum())
+            return validateAndGetCastedEnumValues(dataType, filterOperator, filterWrapper, errorHolder, filterErrorWrapper);
+
+        final AbstractFilterField<? extends Comparable<?>> filterField = filterFieldRegistry.getFilterField(dataType);
+        return validateAndGetCastedValues(filterField, filterOperator, filterWrapper, errorHolder, filterErrorWrapper);
+    }
+
+    private <K extends Comparable<? super K> & Serializable> List<K> validateAndGetCastedValues(
+        final AbstractFilterField<? extends Comparable<?>> filterField,
+        final FilterOperator filterOperator,
+        final FilterWrapper filterWrapper,
+        final ErrorHolder errorHolder,
+        final FilterErrorWrapper filterErrorWrapper
+    ) {
+        FilterValidator.validateFilterFieldAndOperator(
+            filterField,
+            filterOperator,
+            filterWrapper,
+            filterErrorWrapper,
+            localizationService
+        );
+        FilterUtils.throwServerSideExceptionIfInvalid(errorHolder);
+
+        final FieldCaster<K> fieldCaster = getFieldCaster(filterField);
+        return getCastedValues(filterWrapper, fieldCaster, filterErrorWrapper);
+    }
+
+    private <K extends Comparable<? super K> & Serializable> List<K> validateAndGetCastedEnumValues(
+        final Class<? extends K> dataType,
+        final FilterOperator filterOperator,
+        final FilterWrapper filterWrapper,
+        final ErrorHolder errorHolder,
+        final FilterErrorWrapper filterErrorWrapper
+    ) {
+        FilterValidator.validateEnumFilterOperator(
+            enumFilterField,
+            filterOperator,
+            filterWrapper,
+            filterErrorWrapper,
+            localizationService
+        );
+        FilterUtils.throwServerSideExceptionIfInvalid(errorHolder);
+        return getCastedEnumValues(filterWrapper, dataType, filterErrorWrapper);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <K extends Comparable<? super K> & Serializable> FieldCaster<K> getFieldCaster(final AbstractFilterField<? extends Comparable<?>> filterField) {
+        return (FieldCaster<K>) filterField;
+    }
+
+    private <K extends Comparable<? super K> & Serializable> List<K> getCastedValues(
+        final FilterWrapper filterWrapper,
+        final FieldCaster<K> filterCaster,
+        final FilterErrorWrapper filterErrorWrapper
+    ) {
+        return filterWrapper.values()
+            .stream()
+            .map(value -> getValue(filterCaster.tryCast(value), value, filterErrorWrapper))
+            .toList();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private <K extends Comparable<? super K> & Serializable> List<K> getCastedEnumValues(
+        final FilterWrapper filterWrapper,
+        final Class<? extends K> enumClass,
+        final FilterErrorWrapper filterErrorWrapper
+    ) {
+        return filterWrapper.values()
+            .stream()
+            .map(value -> (K) getValue(enumFilterField.tryCast((Class<? extends Enum>) enumClass, value), value, filterErrorWrapper))
+            .toList();
+    }
+
+    private <K> K getValue(final CastResult<K> result, final String value, final FilterErrorWrapper filterErrorWrapper) {
+        if (!result.success())
+            FilterUtils.addFieldError(
+                filterErrorWrapper.bindingResult(),
+                filterErrorWrapper.filterWrapper().originalFieldName(),
+                value,
+                result.errorMessage() != null
+                    ? result.errorMessage()
+                    : localizationService.getMessage(MessageKey.VALUE_NOT_VALID.getCode(), value)
+            );
+        return result.value();
+    }
+}
@@ -0,0 +1,42 @@
+package io.github._0xorigin.queryfilterbuilder.base.builders;
+
+import io.github._0xorigin.queryfilterbuilder.FilterContext;
+import io.github._0xorigin.queryfilterbuilder.SortContext;
+import io.github._0xorigin.queryfilterbuilder.base.holders.ErrorHolder;
+import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterWrapper;
+import io.github._0xorigin.queryfilterbuilder.base.wrappers.SortWrapper;
+
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+public interface InMemoryBuilder<T> {
+
+    /**
+     * Builds a {@link Predicate} on in-memory entities for a given {@link FilterWrapper}.
+     * This is the in-memory counterpart of {@link FilterBuilder#buildPredicateForWrapper}, and reports the same errors
+     * for the same filter.
+     *
+     * @param filterContext The context containing the filter definitions.
+     * @param filterWrapper The specific filter wrapper for which to build the predicate.
+     * @param errorHolder   An object to collect any validation or processing errors that occur.
+     * @return An {@link Optional} containing the generated {@link Predicate} if the filter is valid and applicable.
+     *         Returns an empty optional if the filter is invalid, cannot be evaluated in memory, or an error occurs
+     *         (which will be logged in the errorHolder).
+     */
+    Optional<Predicate<T>> buildPredicateForWrapper(FilterContext<T> filterContext, FilterWrapper filterWrapper, ErrorHolder errorHolder);
+
+    /**
+     * Builds a {@link Comparator} of in-memory entities for a given {@link SortWrapper}.
+     * This is the in-memory counterpart of {@link SortBuilder#buildOrderForWrapper}.
+     *
+     * @param sortContext The context containing the sort definitions.
+     * @param sortWrapper The specific sort wrapper for which to build the comparator.
+     * @param errorHolder An object to collect any validation or processing errors that occur.
+     * @return An {@link Optional} containing the generated {@link Comparator} if the sort is valid and applicable.
+     *         Returns an empty optional if the sort is invalid, cannot be evaluated in memory, or an error occurs
+     *         (which will be logged in the errorHolder).
+     */
+    Optional<Comparator<T>> buildComparatorForWrapper(SortContext<T> sortContext, SortWrapper sortWrapper, ErrorHolder errorHolder);
+
+}
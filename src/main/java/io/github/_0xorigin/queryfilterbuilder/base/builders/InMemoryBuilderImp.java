@@ -0,0 +1,180 @@
+package io.github._0xorigin.queryfilterbuilder.base.builders;
+
+import io.github._0xorigin.queryfilterbuilder.FilterContext;
+import io.github._0xorigin.queryfilterbuilder.SortContext;
+import io.github._0xorigin.queryfilterbuilder.base.enumfield.AbstractEnumFilterField;
+import io.github._0xorigin.queryfilterbuilder.base.enums.FilterType;
+import io.github._0xorigin.queryfilterbuilder.base.enums.MessageKey;
+import io.github._0xorigin.queryfilterbuilder.base.enums.SortType;
+import io.github._0xorigin.queryfilterbuilder.base.filteroperator.FilterOperator;
+import io.github._0xorigin.queryfilterbuilder.base.generators.AccessorGenerator;
+import io.github._0xorigin.queryfilterbuilder.base.generators.FieldAccessor;
+import io.github._0xorigin.queryfilterbuilder.base.holders.ErrorHolder;
+import io.github._0xorigin.queryfilterbuilder.base.plans.FilterPlan;
+import io.github._0xorigin.queryfilterbuilder.base.plans.SortPlan;
+import io.github._0xorigin.queryfilterbuilder.base.services.LocalizationService;
+import io.github._0xorigin.queryfilterbuilder.base.utils.FilterSimplificationUtils;
+import io.github._0xorigin.queryfilterbuilder.base.utils.FilterSimplificationUtils.SimplifiedFilter;
+import io.github._0xorigin.queryfilterbuilder.base.utils.FilterUtils;
+import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterErrorWrapper;
+import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterWrapper;
+import io.github._0xorigin.queryfilterbuilder.base.wrappers.SortWrapper;
+import io.github._0xorigin.queryfilterbuilder.registries.FilterFieldRegistry;
+import io.github._0xorigin.queryfilterbuilder.registries.FilterOperatorRegistry;
+
+import java.io.Serializable;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * Implementation of the InMemoryBuilder interface, responsible for compiling filter and sort requests into predicates
+ * and comparators of in-memory entities.
+ * <p>
+ * Filters and sorts are resolved, validated and cast exactly like {@link FilterBuilderImp} and {@link SortBuilderImp}
+ * do, and each {@link FilterOperator} compiles the same condition it would send to the database. Custom filters and
+ * sorts, filters and sorts with an expression provider, and operators that do not support in-memory evaluation are
+ * built from JPA criteria only and are rejected.
+ *
+ * @param <T> The type of the entity being filtered and sorted.
+ */
+public final class InMemoryBuilderImp<T> implements InMemoryBuilder<T> {
+
+    private final AccessorGenerator<T> accessorGenerator;
+    private final FilterOperatorRegistry filterOperatorRegistry;
+    private final FilterValueCaster filterValueCaster;
+    private final LocalizationService localizationService;
+
+    /**
+     * Constructs a new InMemoryBuilderImp with the necessary dependencies.
+     *
+     * @param accessorGenerator       Generator for creating field accessors from field names.
+     * @param filterFieldRegistry     Registry for available filter field types (e.g., String, Integer).
+     * @param filterOperatorRegistry  Registry for available filter operators (e.g., EQ, GT).
+     * @param enumFilterField         Enum filter field provider.
+     * @param localizationService     Service for retrieving localized error messages.
+     */
+    public InMemoryBuilderImp(
+        final AccessorGenerator<T> accessorGenerator,
+        final FilterFieldRegistry filterFieldRegistry,
+        final FilterOperatorRegistry filterOperatorRegistry,
+        final AbstractEnumFilterField enumFilterField,
+        final LocalizationService localizationService
+    ) {
+        this.accessorGenerator = accessorGenerator;
+        this.filterOperatorRegistry = filterOperatorRegistry;
+        this.filterValueCaster = new FilterValueCaster(filterFieldRegistry, enumFilterField, localizationService);
+        this.localizationService = localizationService;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation looks up the precompiled {@link FilterPlan} of the {@code filterWrapper} in the context.
+     * A filter on a path through a to-many association matches when any associated entity matches, like the
+     * {@code EXISTS} strategy of the database backend. Filters are simplified with {@link FilterSimplificationUtils} like
+     * the database backend does.
+     */
+    @Override
+    public Optional<Predicate<T>> buildPredicateForWrapper(
+        final FilterContext<T> filterContext,
+        final FilterWrapper filterWrapper,
+        final ErrorHolder errorHolder
+    ) {
+        final Optional<FilterPlan<T>> filterPlan = filterContext.getFilterPlan(filterWrapper);
+        if (filterPlan.isEmpty())
+            return Optional.empty();
+
+        if (filterPlan.get().filterType() == FilterType.CUSTOM || filterPlan.get().filterHolder().orElseThrow().expressionProviderFunction().isPresent()) {
+            addNotSupportedError(filterWrapper.originalFieldName(), errorHolder);
+            return Optional.empty();
+        }
+
+        final FieldAccessor fieldAccessor = accessorGenerator.generate(filterContext.getType(), filterWrapper.field(), filterWrapper.originalFieldName(), errorHolder.bindingResult());
+        FilterUtils.throwServerSideExceptionIfInvalid(errorHolder);
+        return buildPredicate(fieldAccessor, filterWrapper, errorHolder);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <K extends Comparable<? super K> & Serializable> Optional<Predicate<T>> buildPredicate(
+        final FieldAccessor fieldAccessor,
+        final FilterWrapper filterWrapper,
+        final ErrorHolder errorHolder
+    ) {
+        final FilterErrorWrapper filterErrorWrapper = new FilterErrorWrapper(errorHolder.bindingResult(), filterWrapper);
+        final Class<? extends K> dataType = (Class<? extends K>) fieldAccessor.getJavaType();
+        final FilterOperator filterOperator = filterOperatorRegistry.getOperator(filterWrapper.operator());
+        final List<K> values = filterValueCaster.validateAndCast(dataType, filterOperator, filterWrapper, errorHolder, filterErrorWrapper);
+        final SimplifiedFilter<K> simplifiedFilter = FilterSimplificationUtils.simplify(filterWrapper.operator(), values);
+        final Optional<Predicate<K>> valuePredicate = switch (simplifiedFilter.outcome()) {
+            case NEVER_MATCHES -> Optional.of(value -> false);
+            case MATCHES_NON_NULL -> Optional.of(Objects::nonNull);
+            case APPLY -> compile(filterOperatorRegistry.getOperator(simplifiedFilter.operator()), simplifiedFilter.values(), filterWrapper, errorHolder, filterErrorWrapper);
+        };
+        return valuePredicate.map(predicate -> entity -> fieldAccessor.anyMatch(entity, value -> predicate.test((K) value)));
+    }
+
+    private <K extends Comparable<? super K> & Serializable> Optional<Predicate<K>> compile(
+        final FilterOperator filterOperator,
+        final List<K> values,
+        final FilterWrapper filterWrapper,
+        final ErrorHolder errorHolder,
+        final FilterErrorWrapper filterErrorWrapper
+    ) {
+        if (!filterOperator.supportsInMemory()) {
+            addNotSupportedError(filterWrapper.originalFieldName(), errorHolder);
+            return Optional.empty();
+        }
+        return filterOperator.compile(values, filterErrorWrapper);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation looks up the precompiled {@link SortPlan} of the {@code sortWrapper} in the context.
+     * {@code null} values are ordered as the smallest values, so they come first in ascending order and last in
+     * descending order. Sorts on a path through a to-many association are rejected, as an entity has no single value
+     * to be ordered by.
+     */
+    @Override
+    public Optional<Comparator<T>> buildComparatorForWrapper(
+        final SortContext<T> sortContext,
+        final SortWrapper sortWrapper,
+        final ErrorHolder errorHolder
+    ) {
+        final Optional<SortPlan<T>> sortPlan = sortContext.getSortPlan(sortWrapper);
+        if (sortPlan.isEmpty())
+            return Optional.empty();
+
+        if (sortPlan.get().sortType() == SortType.CUSTOM || sortPlan.get().sortHolder().orElseThrow().expressionProviderFunction().isPresent()) {
+            addNotSupportedError(sortWrapper.originalFieldName(), errorHolder);
+            return Optional.empty();
+        }
+
+        final FieldAccessor fieldAccessor = accessorGenerator.generate(sortContext.getType(), sortWrapper.field(), sortWrapper.originalFieldName(), errorHolder.bindingResult());
+        FilterUtils.throwServerSideExceptionIfInvalid(errorHolder);
+        if (fieldAccessor.isPlural()) {
+            addNotSupportedError(sortWrapper.originalFieldName(), errorHolder);
+            return Optional.empty();
+        }
+
+        final Comparator<T> comparator = getComparator(fieldAccessor);
+        return Optional.of(sortPlan.get().direction().isAscending() ? comparator : comparator.reversed());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Comparator<T> getComparator(final FieldAccessor fieldAccessor) {
+        return Comparator.comparing(entity -> (Comparable) fieldAccessor.get(entity), Comparator.nullsFirst(Comparator.naturalOrder()));
+    }
+
+    private void addNotSupportedError(final String originalFieldName, final ErrorHolder errorHolder) {
+        FilterUtils.addFieldError(
+            errorHolder.bindingResult(),
+            originalFieldName,
+            originalFieldName,
+            localizationService.getMessage(MessageKey.IN_MEMORY_NOT_SUPPORTED.getCode(), originalFieldName)
+        );
+    }
+}
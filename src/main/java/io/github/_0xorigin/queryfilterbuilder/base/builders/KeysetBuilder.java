@@ -0,0 +1,67 @@
+package io.github._0xorigin.queryfilterbuilder.base.builders;
+
+import io.github._0xorigin.queryfilterbuilder.SortContext;
+import io.github._0xorigin.queryfilterbuilder.base.holders.ErrorHolder;
+import io.github._0xorigin.queryfilterbuilder.base.wrappers.KeysetWrapper;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface KeysetBuilder<T> {
+
+    /**
+     * Resolves the keys of a keyset pagination from the sorts requested in the given {@link SortContext}.
+     * The entity id is appended as the last, ascending key when it is not already one of the sorts, so that the
+     * resulting order is total.
+     *
+     * @param sortContext The context containing the sort definitions and the source of sort requests. Must not be null.
+     * @param errorHolder An object to collect any validation errors, such as sorts that cannot be used as keys.
+     * @return The keys of the pagination, in comparison order.
+     */
+    List<KeysetWrapper> getKeysetWrappers(@NonNull SortContext<T> sortContext, ErrorHolder errorHolder);
+
+    /**
+     * Builds the JPA {@link Order}s of the given keys.
+     *
+     * @param root            The root entity in the query. Used to build path expressions.
+     * @param criteriaQuery   The criteria query being built.
+     * @param criteriaBuilder The builder used to construct criteria query objects.
+     * @param keysetWrappers  The keys of the pagination.
+     * @param errorHolder     An object to collect any processing errors that occur.
+     * @return The orders, in key order.
+     */
+    List<Order> buildOrders(Root<T> root, CriteriaQuery<?> criteriaQuery, CriteriaBuilder criteriaBuilder, List<KeysetWrapper> keysetWrappers, ErrorHolder errorHolder);
+
+    /**
+     * Builds the seek predicate that restricts the query to the rows after the given cursor, i.e.
+     * {@code (a > x) OR (a = x AND b > y) OR ...}, where each comparison follows the direction of its key.
+     *
+     * @param root            The root entity in the query. Used to build path expressions.
+     * @param criteriaQuery   The criteria query being built.
+     * @param criteriaBuilder The builder used to construct criteria query objects.
+     * @param keysetWrappers  The keys of the pagination.
+     * @param cursor          The cursor of the previous page, or null for the first page.
+     * @param errorHolder     An object to collect any validation errors, such as an invalid cursor.
+     * @return An {@link Optional} containing the seek predicate, or empty for the first page or if the cursor is invalid
+     *         (which will be logged in the errorHolder).
+     */
+    Optional<Predicate> buildSeekPredicate(Root<T> root, CriteriaQuery<?> criteriaQuery, CriteriaBuilder criteriaBuilder, List<KeysetWrapper> keysetWrappers, @Nullable String cursor, ErrorHolder errorHolder);
+
+    /**
+     * Encodes the cursor that points right after the given row.
+     *
+     * @param row            The row to encode.
+     * @param keysetWrappers The keys of the pagination.
+     * @return The opaque cursor.
+     * @throws IllegalStateException if one of the key values of the row is null.
+     */
+    String buildCursor(T row, List<KeysetWrapper> keysetWrappers);
+
+}
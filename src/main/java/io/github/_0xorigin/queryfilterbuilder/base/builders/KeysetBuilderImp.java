@@ -0,0 +1,275 @@
+package io.github._0xorigin.queryfilterbuilder.base.builders;
+
+import io.github._0xorigin.queryfilterbuilder.SortContext;
+import io.github._0xorigin.queryfilterbuilder.base.enumfield.AbstractEnumFilterField;
+import io.github._0xorigin.queryfilterbuilder.base.enums.MessageKey;
+import io.github._0xorigin.queryfilterbuilder.base.enums.SortType;
+import io.github._0xorigin.queryfilterbuilder.base.filterfield.AbstractFilterField;
+import io.github._0xorigin.queryfilterbuilder.base.filterfield.CastResult;
+import io.github._0xorigin.queryfilterbuilder.base.generators.PathGenerator;
+import io.github._0xorigin.queryfilterbuilder.base.holders.ErrorHolder;
+import io.github._0xorigin.queryfilterbuilder.base.plans.SortPlan;
+import io.github._0xorigin.queryfilterbuilder.base.services.LocalizationService;
+import io.github._0xorigin.queryfilterbuilder.base.utils.CursorUtils;
+import io.github._0xorigin.queryfilterbuilder.base.utils.FilterUtils;
+import io.github._0xorigin.queryfilterbuilder.base.wrappers.KeysetWrapper;
+import io.github._0xorigin.queryfilterbuilder.base.wrappers.SortWrapper;
+import io.github._0xorigin.queryfilterbuilder.configs.QueryFilterBuilderProperties;
+import io.github._0xorigin.queryfilterbuilder.registries.FilterFieldRegistry;
+import jakarta.persistence.criteria.*;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.Metamodel;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessor;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Implementation of the KeysetBuilder interface, responsible for constructing the orders and seek predicates
+ * of keyset (seek) pagination from sort requests.
+ *
+ * @param <T> The type of the entity being paginated.
+ */
+public final class KeysetBuilderImp<T> implements KeysetBuilder<T> {
+
+    private static final String CURSOR_FIELD_NAME = "cursor";
+
+    private final SortBuilder<T> sortBuilder;
+    private final PathGenerator<T> fieldPathGenerator;
+    private final Metamodel metamodel;
+    private final QueryFilterBuilderProperties properties;
+    private final FilterFieldRegistry filterFieldRegistry;
+    private final AbstractEnumFilterField enumFilterField;
+    private final LocalizationService localizationService;
+    private final ConcurrentMap<Class<?>, String> idAttributes = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new KeysetBuilderImp with the necessary dependencies.
+     *
+     * @param sortBuilder         Builder used to resolve the requested sorts.
+     * @param fieldPathGenerator  Generator for creating JPA Path expressions from field names.
+     * @param metamodel           The JPA metamodel, used to find the id attribute of the entity.
+     * @param properties          Configuration properties for the query builder, such as the field delimiter.
+     * @param filterFieldRegistry Registry of field types, used to cast the cursor values.
+     * @param enumFilterField     Enum filter field, used to cast the cursor values of enum keys.
+     * @param localizationService Service for retrieving localized error messages.
+     */
+    public KeysetBuilderImp(
+        final SortBuilder<T> sortBuilder,
+        final PathGenerator<T> fieldPathGenerator,
+        final Metamodel metamodel,
+        final QueryFilterBuilderProperties properties,
+        final FilterFieldRegistry filterFieldRegistry,
+        final AbstractEnumFilterField enumFilterField,
+        final LocalizationService localizationService
+    ) {
+        this.sortBuilder = sortBuilder;
+        this.fieldPathGenerator = fieldPathGenerator;
+        this.metamodel = metamodel;
+        this.properties = properties;
+        this.filterFieldRegistry = filterFieldRegistry;
+        this.enumFilterField = enumFilterField;
+        this.localizationService = localizationService;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only normal sorts on entity fields can be used as keys, since the key values of a row must be readable to build
+     * the next cursor. Custom sorts and sorts with an expression provider are rejected as client-side errors.
+     *
+     * @throws IllegalArgumentException if the entity does not have a single id attribute.
+     */
+    @Override
+    public List<KeysetWrapper> getKeysetWrappers(@NonNull final SortContext<T> sortContext, final ErrorHolder errorHolder) {
+        final List<KeysetWrapper> keysetWrappers = new ArrayList<>();
+        for (SortWrapper sortWrapper : sortBuilder.getDistinctSortWrappers(sortContext)) {
+            final Optional<SortPlan<T>> sortPlan = sortContext.getSortPlan(sortWrapper);
+            if (sortPlan.isEmpty())
+                continue;
+
+            if (!isKeysetSort(sortPlan.get())) {
+                FilterUtils.addFieldError(
+                    errorHolder.bindingResult(),
+                    sortWrapper.originalFieldName(),
+                    sortWrapper.originalFieldName(),
+                    localizationService.getMessage(MessageKey.KEYSET_SORT_NOT_SUPPORTED.getCode(), sortWrapper.originalFieldName())
+                );
+                continue;
+            }
+            keysetWrappers.add(new KeysetWrapper(sortPlan.get().field(), sortWrapper.originalFieldName(), sortPlan.get().direction()));
+        }
+
+        final String idAttribute = getIdAttribute(sortContext.getType());
+        if (keysetWrappers.stream().noneMatch(keysetWrapper -> keysetWrapper.field().equals(idAttribute)))
+            keysetWrappers.add(new KeysetWrapper(idAttribute, idAttribute, Sort.Direction.ASC));
+
+        return List.copyOf(keysetWrappers);
+    }
+
+    private boolean isKeysetSort(final SortPlan<T> sortPlan) {
+        return sortPlan.sortType() == SortType.NORMAL
+            && sortPlan.sortHolder().map(sortHolder -> sortHolder.expressionProviderFunction().isEmpty()).orElse(false);
+    }
+
+    private String getIdAttribute(final Class<T> type) {
+        return idAttributes.computeIfAbsent(type, key -> {
+            final EntityType<?> entityType = metamodel.entity(key);
+            if (!entityType.hasSingleIdAttribute())
+                throw new IllegalArgumentException("Keyset pagination requires " + key.getName() + " to have a single id attribute");
+            return entityType.getId(entityType.getIdType().getJavaType()).getName();
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Order> buildOrders(
+        final Root<T> root,
+        final CriteriaQuery<?> criteriaQuery,
+        final CriteriaBuilder criteriaBuilder,
+        final List<KeysetWrapper> keysetWrappers,
+        final ErrorHolder errorHolder
+    ) {
+        final List<Order> orders = new ArrayList<>(keysetWrappers.size());
+        for (KeysetWrapper keysetWrapper : keysetWrappers) {
+            final Expression<?> expression = getExpression(root, keysetWrapper, errorHolder);
+            FilterUtils.throwServerSideExceptionIfInvalid(errorHolder);
+            orders.add(keysetWrapper.direction().isAscending() ? criteriaBuilder.asc(expression) : criteriaBuilder.desc(expression));
+        }
+        return orders;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The cursor values are cast to the data types of their keys using the registered filter fields.
+     * A cursor that cannot be decoded, that does not have one value per key, or whose values cannot be cast, is
+     * rejected as a client-side error. A key whose data type is not supported is a server-side error.
+     */
+    @Override
+    public Optional<Predicate> buildSeekPredicate(
+        final Root<T> root,
+        final CriteriaQuery<?> criteriaQuery,
+        final CriteriaBuilder criteriaBuilder,
+        final List<KeysetWrapper> keysetWrappers,
+        @Nullable final String cursor,
+        final ErrorHolder errorHolder
+    ) {
+        if (cursor == null || cursor.isEmpty())
+            return Optional.empty();
+
+        final Optional<List<String>> values = CursorUtils.decode(cursor).filter(decoded -> decoded.size() == keysetWrappers.size());
+        if (values.isEmpty()) {
+            addInvalidCursorError(cursor, errorHolder);
+            return Optional.empty();
+        }
+
+        final List<Expression<?>> expressions = new ArrayList<>(keysetWrappers.size());
+        final List<Comparable<?>> castedValues = new ArrayList<>(keysetWrappers.size());
+        for (int i = 0; i < keysetWrappers.size(); i++) {
+            final Expression<?> expression = getExpression(root, keysetWrappers.get(i), errorHolder);
+            FilterUtils.throwServerSideExceptionIfInvalid(errorHolder);
+            expressions.add(expression);
+            castedValues.add(cast(expression.getJavaType(), values.get().get(i), cursor, errorHolder));
+        }
+        if (errorHolder.bindingResult().hasErrors())
+            return Optional.empty();
+
+        final List<Predicate> seekPredicates = new ArrayList<>(keysetWrappers.size());
+        for (int i = 0; i < keysetWrappers.size(); i++) {
+            final Predicate[] predicates = new Predicate[i + 1];
+            for (int j = 0; j < i; j++)
+                predicates[j] = criteriaBuilder.equal(expressions.get(j), castedValues.get(j));
+            predicates[i] = compare(criteriaBuilder, expressions.get(i), castedValues.get(i), keysetWrappers.get(i).direction());
+            seekPredicates.add(i == 0 ? predicates[0] : criteriaBuilder.and(predicates));
+        }
+        return Optional.of(criteriaBuilder.or(seekPredicates.toArray(new Predicate[0])));
+    }
+
+    private <K extends Comparable<? super K> & Serializable> Expression<K> getExpression(
+        final Root<T> root,
+        final KeysetWrapper keysetWrapper,
+        final ErrorHolder errorHolder
+    ) {
+        return fieldPathGenerator.generate(root, keysetWrapper.field(), keysetWrapper.originalFieldName(), errorHolder.bindingResult());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Comparable<?> cast(final Class<?> dataType, final String value, final String cursor, final ErrorHolder errorHolder) {
+        final AbstractFilterField<? extends Comparable<?>> filterField = dataType.isEnum() ? null : filterFieldRegistry.getFilterField((Class) dataType);
+        if (!dataType.isEnum() && filterField == null) {
+            FilterUtils.addFieldError(
+                errorHolder.bindingResult(),
+                CURSOR_FIELD_NAME,
+                cursor,
+                localizationService.getMessage(MessageKey.DATA_TYPE_NOT_SUPPORTED.getCode())
+            );
+            FilterUtils.throwServerSideExceptionIfInvalid(errorHolder);
+        }
+
+        final CastResult<? extends Comparable<?>> result = dataType.isEnum() ?
+            enumFilterField.tryCast((Class<? extends Enum>) dataType, value) :
+            filterField.tryCast(value);
+        if (!result.success())
+            addInvalidCursorError(cursor, errorHolder);
+        return result.value();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate compare(final CriteriaBuilder criteriaBuilder, final Expression expression, final Comparable value, final Sort.Direction direction) {
+        return direction.isAscending() ?
+            criteriaBuilder.greaterThan(expression, value) :
+            criteriaBuilder.lessThan(expression, value);
+    }
+
+    private void addInvalidCursorError(final String cursor, final ErrorHolder errorHolder) {
+        FilterUtils.addFieldError(
+            errorHolder.bindingResult(),
+            CURSOR_FIELD_NAME,
+            cursor,
+            localizationService.getMessage(MessageKey.KEYSET_CURSOR_NOT_VALID.getCode())
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The key values are read through the getters of the row, falling back to direct field access, and encoded with
+     * their string form ({@link Enum#name()} for enums), which is the form expected by the filter field casters.
+     */
+    @Override
+    public String buildCursor(final T row, final List<KeysetWrapper> keysetWrappers) {
+        final BeanWrapper beanWrapper = PropertyAccessorFactory.forBeanPropertyAccess(row);
+        PropertyAccessor fieldAccessor = null;
+        final List<String> values = new ArrayList<>(keysetWrappers.size());
+        for (KeysetWrapper keysetWrapper : keysetWrappers) {
+            final String propertyPath = String.join(
+                ".",
+                FilterUtils.splitWithEscapedDelimiter(keysetWrapper.field(), properties.defaults().fieldDelimiter())
+            );
+            final Object value;
+            if (beanWrapper.isReadableProperty(propertyPath)) {
+                value = beanWrapper.getPropertyValue(propertyPath);
+            } else {
+                if (fieldAccessor == null)
+                    fieldAccessor = PropertyAccessorFactory.forDirectFieldAccess(row);
+                value = fieldAccessor.getPropertyValue(propertyPath);
+            }
+            if (value == null)
+                throw new IllegalStateException("Keyset pagination requires non-null key values, but '" + keysetWrapper.field() + "' is null");
+            values.add(value instanceof Enum<?> enumValue ? enumValue.name() : value.toString());
+        }
+        return CursorUtils.encode(values);
+    }
+}
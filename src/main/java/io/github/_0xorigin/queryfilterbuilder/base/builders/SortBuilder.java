@@ -39,4 +39,39 @@ public interface SortBuilder<T> {
      */
     Optional<Order> buildOrderForWrapper(Root<T> root, CriteriaQuery<?> criteriaQuery, CriteriaBuilder criteriaBuilder, SortContext<T> sortContext, SortWrapper sortWrapper, ErrorHolder errorHolder);
 
+    /**
+     * Validates a given {@link SortWrapper} without building a query, so that invalid sorts are rejected before a
+     * repository is called. Only the sorts whose field is known without a query can be validated ahead of the queries;
+     * the others are validated when the order is built.
+     *
+     * @param sortContext The context containing the sort definitions.
+     * @param sortWrapper The specific sort wrapper to validate.
+     * @param errorHolder An object to collect the errors of the field, which are configuration errors.
+     */
+    void validate(SortContext<T> sortContext, SortWrapper sortWrapper, ErrorHolder errorHolder);
+
+    /**
+     * Checks whether building the order of a sort may change the rows of the query, through the joins it creates.
+     * Count queries do not need the orders, but must still build the sorts whose joins may change the rows, so that
+     * they count the rows of the content query.
+     *
+     * @param sortContext The context containing the sort definitions.
+     * @param sortWrapper The sort to check.
+     * @return {@code true} if the sort must be built in count queries.
+     */
+    boolean mayChangeRows(SortContext<T> sortContext, SortWrapper sortWrapper);
+
+    /**
+     * Fetches the association paths marked in the {@link SortContext} with the root entity.
+     * It must be called before the orders are built, so that the sorts going through a fetched association reuse
+     * its fetch instead of joining it again.
+     *
+     * @param root          The root entity in the query.
+     * @param criteriaQuery The criteria query being built.
+     * @param sortContext   The context containing the fetch paths and the sort definitions.
+     * @param sortWrappers  The sorts that the orders are built for.
+     * @param errorHolder   An object to collect the errors of the fetch paths, which are configuration errors.
+     */
+    void fetchAssociations(Root<T> root, CriteriaQuery<?> criteriaQuery, SortContext<T> sortContext, Collection<SortWrapper> sortWrappers, ErrorHolder errorHolder);
+
 }
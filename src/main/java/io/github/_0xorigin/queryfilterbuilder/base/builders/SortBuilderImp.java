@@ -6,16 +6,17 @@ import io.github._0xorigin.queryfilterbuilder.base.generators.PathGenerator;
 import io.github._0xorigin.queryfilterbuilder.base.holders.CustomSortHolder;
 import io.github._0xorigin.queryfilterbuilder.base.holders.ErrorHolder;
 import io.github._0xorigin.queryfilterbuilder.base.parsers.SortParser;
+import io.github._0xorigin.queryfilterbuilder.base.plans.SortPlan;
 import io.github._0xorigin.queryfilterbuilder.base.utils.FilterUtils;
 import io.github._0xorigin.queryfilterbuilder.base.wrappers.SortErrorWrapper;
 import io.github._0xorigin.queryfilterbuilder.base.wrappers.SortWrapper;
 import jakarta.persistence.criteria.*;
-import org.springframework.data.domain.Sort;
 import org.springframework.lang.NonNull;
 
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -58,37 +59,30 @@ public final class SortBuilderImp<T> implements SortBuilder<T> {
     public Collection<SortWrapper> getDistinctSortWrappers(@NonNull final SortContext<T> sortContext) {
         final Map<String, SortWrapper> sortWrappers = new LinkedHashMap<>();
         sortContext.getRequest().ifPresent(request ->
-            sortParser.parse(request).forEach(sortWrapper -> {
-                final SortWrapper resolved = resolveAlias(sortContext, sortWrapper);
-                sortWrappers.compute(resolved.field(), (k, currentValue) -> setSortType(sortContext, resolved, currentValue));
-            })
+            sortParser.parse(request).forEach(sortWrapper -> putResolvedSortWrapper(sortContext, sortWrapper, sortWrappers))
         );
         sortContext.getSortRequests().ifPresent(sortRequests ->
-            sortParser.parse(sortRequests).forEach(sortWrapper -> {
-                final SortWrapper resolved = resolveAlias(sortContext, sortWrapper);
-                sortWrappers.compute(resolved.field(), (k, currentValue) -> setSortType(sortContext, resolved, currentValue));
-            })
+            sortParser.parse(sortRequests).forEach(sortWrapper -> putResolvedSortWrapper(sortContext, sortWrapper, sortWrappers))
         );
         return sortWrappers.values();
     }
 
-    private SortWrapper setSortType(final SortContext<T> sortContext, final SortWrapper sortWrapper, final SortWrapper currentValue) {
-        if (isValidSortDirection(sortContext, sortWrapper))
-            return sortWrapper.withSortType(SortType.NORMAL);
-
-        if (isValidCustomSort(sortContext, sortWrapper))
-            return sortWrapper.withSortType(SortType.CUSTOM);
-
-        return currentValue;
+    private void putResolvedSortWrapper(
+        final SortContext<T> sortContext,
+        final SortWrapper sortWrapper,
+        final Map<String, SortWrapper> sortWrappers
+    ) {
+        sortContext.resolveSortWrapper(sortWrapper)
+            .ifPresent(resolved -> sortWrappers.put(resolved.field(), resolved));
     }
 
     /**
      * {@inheritDoc}
      * <p>
-     * This implementation determines whether the sort is a standard field sort or a custom sort by checking
-     * the {@code sortType} of the {@code sortWrapper}. It then delegates to the appropriate private method
-     * ({@code buildSortOrder} or {@code buildCustomSortOrder}) to construct the final JPA {@link Order}.
-     * If the sort type is not set or not supported, it returns an empty optional.
+     * This implementation looks up the precompiled {@link SortPlan} of the {@code sortWrapper} in the context, which
+     * determines whether the sort is a standard field sort or a custom sort. It then delegates to the appropriate
+     * private method ({@code buildSortOrder} or {@code buildCustomSortOrder}) to construct the final JPA {@link Order}.
+     * If the sort type is not set or no plan matches, it returns an empty optional.
      */
     public Optional<Order> buildOrderForWrapper(
         final Root<T> root,
@@ -98,45 +92,99 @@ public final class SortBuilderImp<T> implements SortBuilder<T> {
         final SortWrapper sortWrapper,
         final ErrorHolder errorHolder
     ) {
-        final Optional<SortType> sortType = sortWrapper.sortType();
-        if (sortType.isEmpty())
+        final Optional<SortPlan<T>> sortPlan = sortContext.getSortPlan(sortWrapper);
+        if (sortPlan.isEmpty())
             return Optional.empty();
 
-        return switch (sortType.get()) {
-            case NORMAL -> buildSortOrder(root, criteriaQuery, criteriaBuilder, sortContext, sortWrapper, errorHolder);
-            case CUSTOM -> buildCustomSortOrder(root, criteriaQuery, criteriaBuilder, sortContext, sortWrapper, errorHolder);
-            default -> Optional.empty();
+        return switch (sortPlan.get().sortType()) {
+            case NORMAL -> buildSortOrder(root, criteriaQuery, criteriaBuilder, sortPlan.get(), sortWrapper, errorHolder);
+            case CUSTOM -> buildCustomSortOrder(root, criteriaQuery, criteriaBuilder, sortPlan.get(), sortWrapper, errorHolder);
         };
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation resolves the field path of a standard sort with {@link PathGenerator#resolveJavaType}.
+     * Custom sorts and sorts with an expression provider are only known when the order is built.
+     */
+    @Override
+    public void validate(final SortContext<T> sortContext, final SortWrapper sortWrapper, final ErrorHolder errorHolder) {
+        sortContext.getSortPlan(sortWrapper)
+            .filter(sortPlan -> sortPlan.sortType() == SortType.NORMAL
+                && sortPlan.sortHolder().orElseThrow().expressionProviderFunction().isEmpty())
+            .ifPresent(sortPlan -> fieldPathGenerator.resolveJavaType(
+                sortContext.getType(),
+                sortWrapper.field(),
+                sortWrapper.originalFieldName(),
+                errorHolder.bindingResult()
+            ));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The joins of a standard sort are checked with {@link PathGenerator#preservesRows}. Custom sorts and sorts with an
+     * expression provider may create any join, so they are assumed to change the rows.
+     */
+    @Override
+    public boolean mayChangeRows(final SortContext<T> sortContext, final SortWrapper sortWrapper) {
+        return sortContext.getSortPlan(sortWrapper)
+            .map(sortPlan -> sortPlan.sortType() != SortType.NORMAL
+                || sortPlan.sortHolder().orElseThrow().expressionProviderFunction().isPresent()
+                || !fieldPathGenerator.preservesRows(sortContext.getType(), sortPlan.field()))
+            .orElse(false);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation delegates to {@link PathGenerator#fetch}, with the fields of the standard sorts as the
+     * traversed fields. The paths of custom sorts and of sorts with an expression provider are not known.
+     */
+    @Override
+    public void fetchAssociations(
+        final Root<T> root,
+        final CriteriaQuery<?> criteriaQuery,
+        final SortContext<T> sortContext,
+        final Collection<SortWrapper> sortWrappers,
+        final ErrorHolder errorHolder
+    ) {
+        if (sortContext.getFetchPaths().isEmpty())
+            return;
+
+        final List<String> traversedFields = sortWrappers.stream()
+            .map(sortContext::getSortPlan)
+            .flatMap(Optional::stream)
+            .filter(sortPlan -> sortPlan.sortType() == SortType.NORMAL
+                && sortPlan.sortHolder().orElseThrow().expressionProviderFunction().isEmpty())
+            .map(SortPlan::field)
+            .toList();
+        fieldPathGenerator.fetch(root, criteriaQuery, sortContext.getFetchPaths(), traversedFields, errorHolder.bindingResult());
+    }
+
     private <K extends Comparable<? super K> & Serializable> Optional<Order> buildSortOrder(
         final Root<T> root,
         final CriteriaQuery<?> criteriaQuery,
         final CriteriaBuilder criteriaBuilder,
-        final SortContext<T> sortContext,
+        final SortPlan<T> sortPlan,
         final SortWrapper sortWrapper,
         final ErrorHolder errorHolder
     ) {
-        if (!isValidSortDirection(sortContext, sortWrapper))
-            return Optional.empty();
-
-        final Expression<K> expression = getExpression(root, criteriaQuery, criteriaBuilder, sortContext, sortWrapper, errorHolder);
+        final Expression<K> expression = getExpression(root, criteriaQuery, criteriaBuilder, sortPlan, sortWrapper, errorHolder);
         FilterUtils.throwServerSideExceptionIfInvalid(errorHolder);
-        return getOrder(expression, criteriaBuilder, sortWrapper);
+        return getOrder(expression, criteriaBuilder, sortPlan);
     }
 
     private Optional<Order> buildCustomSortOrder(
         final Root<T> root,
         final CriteriaQuery<?> criteriaQuery,
         final CriteriaBuilder criteriaBuilder,
-        final SortContext<T> sortContext,
+        final SortPlan<T> sortPlan,
         final SortWrapper sortWrapper,
         final ErrorHolder errorHolder
     ) {
-        if (!isValidCustomSort(sortContext, sortWrapper))
-            return Optional.empty();
-
-        final CustomSortHolder<T> customSortHolder = sortContext.getCustomSorts().get(sortWrapper.originalFieldName());
+        final CustomSortHolder<T> customSortHolder = sortPlan.customSortHolder().orElseThrow();
         final SortErrorWrapper sortErrorWrapper = new SortErrorWrapper(errorHolder.bindingResult(), sortWrapper);
         return customSortHolder.customSortFunction().apply(root, criteriaQuery, criteriaBuilder, sortErrorWrapper);
     }
@@ -144,60 +192,24 @@ public final class SortBuilderImp<T> implements SortBuilder<T> {
     private <K extends Comparable<? super K> & Serializable> Optional<Order> getOrder(
         final Expression<K> expression,
         final CriteriaBuilder criteriaBuilder,
-        final SortWrapper sortWrapper
+        final SortPlan<T> sortPlan
     ) {
-        final Sort.Direction direction = Optional.ofNullable(sortWrapper.direction()).orElse(Sort.Direction.ASC);
         return Optional.ofNullable(
-            direction.isAscending() ?
+            sortPlan.direction().isAscending() ?
                 criteriaBuilder.asc(expression) :
                 criteriaBuilder.desc(expression)
         );
     }
 
-    private boolean isValidSortDirection(final SortContext<T> sortContext, final SortWrapper sortWrapper) {
-        final var sorts = sortContext.getSorts();
-        final boolean isSortExists = sorts.containsKey(sortWrapper.field());
-        final var sortHolder = sorts.get(sortWrapper.field());
-        return (
-            isSortExists
-                && sortHolder.directions().contains(sortWrapper.direction())
-                && sortHolder.sourceTypes().contains(sortWrapper.sourceType())
-        );
-    }
-
-    private boolean isValidCustomSort(final SortContext<T> sortContext, final SortWrapper sortWrapper) {
-        final var customSorts = sortContext.getCustomSorts();
-        final boolean isSortExists = customSorts.containsKey(sortWrapper.originalFieldName());
-        final var customSortHolder = customSorts.get(sortWrapper.originalFieldName());
-        return (
-            isSortExists
-                && customSortHolder.sourceTypes().contains(sortWrapper.sourceType())
-        );
-    }
-
-    private SortWrapper resolveAlias(final SortContext<T> sortContext, final SortWrapper wrapper) {
-        final Map<String, String> map = sortContext.getAliasToFieldMap();
-        if (map.isEmpty())
-            return wrapper;
-
-        String candidate = wrapper.field();
-        String mapped = map.get(candidate);
-
-        if (mapped != null && !mapped.equals(wrapper.field())) {
-            return new SortWrapper(mapped, wrapper.originalFieldName(), wrapper.direction(), wrapper.sourceType(), wrapper.sortType());
-        }
-        return wrapper;
-    }
-
     private <K extends Comparable<? super K> & Serializable> Expression<K> getExpression(
         final Root<T> root,
         final CriteriaQuery<?> criteriaQuery,
         final CriteriaBuilder criteriaBuilder,
-        final SortContext<T> sortContext,
+        final SortPlan<T> sortPlan,
         final SortWrapper sortWrapper,
         final ErrorHolder errorHolder
     ) {
-        final var sortHolder = sortContext.getSorts().get(sortWrapper.field());
+        final var sortHolder = sortPlan.sortHolder().orElseThrow();
         final Optional<Expression<K>> providerFunction = sortHolder.getExpression(root, criteriaQuery, criteriaBuilder);
         return providerFunction.orElseGet(() -> fieldPathGenerator.generate(root, sortWrapper.field(), sortWrapper.originalFieldName(), errorHolder.bindingResult()));
     }
@@ -0,0 +1,121 @@
+package io.github._0xorigin.queryfilterbuilder.base.cache;
+
+import io.github._0xorigin.queryfilterbuilder.QuerySignature;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * The default {@link QueryResultCache}, keeping the results in memory with size- and time-based eviction.
+ * <p>
+ * Each entity type has its own region, which keeps at most {@code maximumSize} results and evicts the least recently
+ * used one beyond that. A result expires {@code timeToLive} after it was loaded. A result loaded while its region is
+ * evicted is returned but not cached, so that a query racing with a write never caches a stale result.
+ * Loaders are called outside of any lock, so concurrent misses of the same key may each execute the query.
+ */
+public final class LocalQueryResultCache implements QueryResultCache {
+
+    private final int maximumSize;
+    private final Duration timeToLive;
+    private final Clock clock;
+    private final ConcurrentMap<Class<?>, Region> regions = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new {@code LocalQueryResultCache}.
+     *
+     * @param maximumSize The maximum number of results cached per entity type.
+     * @param timeToLive  The duration after which a cached result expires.
+     */
+    public LocalQueryResultCache(final int maximumSize, final Duration timeToLive) {
+        this(maximumSize, timeToLive, Clock.systemUTC());
+    }
+
+    LocalQueryResultCache(final int maximumSize, final Duration timeToLive, final Clock clock) {
+        if (maximumSize <= 0)
+            throw new IllegalArgumentException("Maximum size must be positive");
+        this.maximumSize = maximumSize;
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * {@code null} results are returned but not cached.
+     */
+    @Override
+    public <R> R get(final QuerySignature signature, final Object discriminator, final Supplier<R> loader) {
+        final Region region = regions.computeIfAbsent(signature.entityType(), entityType -> new Region(maximumSize));
+        final Key key = new Key(signature, discriminator);
+        final Instant now = clock.instant();
+
+        final long generation;
+        synchronized (region) {
+            final Entry entry = region.entries.get(key);
+            if (entry != null && now.isBefore(entry.expiresAt()))
+                return cast(entry.value());
+            if (entry != null)
+                region.entries.remove(key);
+            generation = region.generation;
+        }
+
+        final R value = loader.get();
+        if (value != null) {
+            synchronized (region) {
+                if (region.generation == generation)
+                    region.entries.put(key, new Entry(value, clock.instant().plus(timeToLive)));
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public void evict(final Class<?> entityType) {
+        regions.forEach((regionType, region) -> {
+            if (regionType.isAssignableFrom(entityType) || entityType.isAssignableFrom(regionType))
+                region.clear();
+        });
+    }
+
+    @Override
+    public void evictAll() {
+        regions.values().forEach(Region::clear);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> R cast(final Object value) {
+        return (R) value;
+    }
+
+    /**
+     * The results of an entity type, in least recently used order.
+     * The generation is incremented on each eviction, so that results loaded before it are not cached.
+     */
+    private static final class Region {
+
+        private final Map<Key, Entry> entries;
+        private long generation;
+
+        private Region(final int maximumSize) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<Key, Entry> eldest) {
+                    return size() > maximumSize;
+                }
+            };
+        }
+
+        private synchronized void clear() {
+            entries.clear();
+            generation++;
+        }
+    }
+
+    private record Entry(Object value, Instant expiresAt) {}
+}
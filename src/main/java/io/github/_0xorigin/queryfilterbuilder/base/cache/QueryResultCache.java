@@ -0,0 +1,46 @@
+package io.github._0xorigin.queryfilterbuilder.base.cache;
+
+import io.github._0xorigin.queryfilterbuilder.QuerySignature;
+
+import java.util.function.Supplier;
+
+/**
+ * A cache of query results, keyed by the {@link QuerySignature} of the request and grouped by entity type.
+ * <p>
+ * The cached value is whatever the loader returns (e.g., a list of ids or a page of DTOs), and the key combines the
+ * signature with an application-defined discriminator (e.g., the {@code Pageable} of the request).
+ * All the results of an entity type are evicted together, when an entity of that type is written.
+ */
+public interface QueryResultCache {
+
+    /**
+     * Returns the cached result of the given request, loading and caching it if absent or expired.
+     *
+     * @param signature     The signature of the request.
+     * @param discriminator An additional part of the key (e.g., the requested page), or {@code null} if none.
+     * @param loader        The function executing the query, called on a cache miss.
+     * @param <R>           The type of the result.
+     * @return The cached or loaded result.
+     */
+    <R> R get(QuerySignature signature, Object discriminator, Supplier<R> loader);
+
+    /**
+     * Evicts the cached results of the given entity type, and of the types it inherits from or that inherit from it.
+     *
+     * @param entityType The entity type whose results are evicted.
+     */
+    void evict(Class<?> entityType);
+
+    /**
+     * Evicts all the cached results.
+     */
+    void evictAll();
+
+    /**
+     * The key of a cached result.
+     *
+     * @param signature     The signature of the request.
+     * @param discriminator An additional part of the key, or {@code null} if none.
+     */
+    record Key(QuerySignature signature, Object discriminator) {}
+}
@@ -0,0 +1,79 @@
+package io.github._0xorigin.queryfilterbuilder.base.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * A Hibernate listener evicting the {@link QueryResultCache} results of an entity type once a transaction inserting,
+ * updating or deleting an entity of that type is committed.
+ * <p>
+ * Writes that bypass the entity lifecycle (bulk JPQL updates, native queries, or changes made by other applications)
+ * are not detected, and neither are writes to an associated entity type that a filter path goes through: such results
+ * are only refreshed when they expire, or when they are evicted explicitly.
+ */
+public final class QueryResultCacheInvalidator implements PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private final transient QueryResultCache queryResultCache;
+
+    /**
+     * Creates a new {@code QueryResultCacheInvalidator}.
+     *
+     * @param queryResultCache The cache to evict.
+     */
+    public QueryResultCacheInvalidator(final QueryResultCache queryResultCache) {
+        this.queryResultCache = queryResultCache;
+    }
+
+    /**
+     * Registers this listener with the Hibernate session factory of the given entity manager factory.
+     *
+     * @param entityManagerFactory The entity manager factory, backed by Hibernate.
+     */
+    public void register(final EntityManagerFactory entityManagerFactory) {
+        final EventListenerRegistry eventListenerRegistry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .getService(EventListenerRegistry.class);
+        eventListenerRegistry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        eventListenerRegistry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        eventListenerRegistry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(final PostInsertEvent event) {
+        queryResultCache.evict(event.getPersister().getMappedClass());
+    }
+
+    @Override
+    public void onPostUpdate(final PostUpdateEvent event) {
+        queryResultCache.evict(event.getPersister().getMappedClass());
+    }
+
+    @Override
+    public void onPostDelete(final PostDeleteEvent event) {
+        queryResultCache.evict(event.getPersister().getMappedClass());
+    }
+
+    // Nothing was written when the transaction failed to commit
+    @Override
+    public void onPostInsertCommitFailed(final PostInsertEvent event) {}
+
+    @Override
+    public void onPostUpdateCommitFailed(final PostUpdateEvent event) {}
+
+    @Override
+    public void onPostDeleteCommitFailed(final PostDeleteEvent event) {}
+
+    @Override
+    public boolean requiresPostCommitHandling(final EntityPersister persister) {
+        return true;
+    }
+}
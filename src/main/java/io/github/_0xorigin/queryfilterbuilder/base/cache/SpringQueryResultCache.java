@@ -0,0 +1,64 @@
+package io.github._0xorigin.queryfilterbuilder.base.cache;
+
+import io.github._0xorigin.queryfilterbuilder.QuerySignature;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * A {@link QueryResultCache} backed by a Spring {@link CacheManager}, e.g. a {@code CaffeineCacheManager}, whose
+ * caches define the size- and time-based eviction.
+ * <p>
+ * The results of each entity type are kept in their own cache, named after the prefix and the entity class name
+ * (e.g., {@code queryFilterBuilder.com.example.User}). Unlike {@link LocalQueryResultCache}, a result loaded while its
+ * cache is evicted may still be cached, depending on the underlying cache.
+ */
+public final class SpringQueryResultCache implements QueryResultCache {
+
+    private final CacheManager cacheManager;
+    private final String cacheNamePrefix;
+    private final Set<Class<?>> entityTypes = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates a new {@code SpringQueryResultCache}.
+     *
+     * @param cacheManager    The cache manager providing the caches.
+     * @param cacheNamePrefix The prefix of the cache names.
+     */
+    public SpringQueryResultCache(final CacheManager cacheManager, final String cacheNamePrefix) {
+        this.cacheManager = cacheManager;
+        this.cacheNamePrefix = cacheNamePrefix;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The result is loaded through {@link Cache#get(Object, java.util.concurrent.Callable)}.
+     */
+    @Override
+    public <R> R get(final QuerySignature signature, final Object discriminator, final Supplier<R> loader) {
+        entityTypes.add(signature.entityType());
+        return getCache(signature.entityType()).get(new Key(signature, discriminator), loader::get);
+    }
+
+    @Override
+    public void evict(final Class<?> entityType) {
+        entityTypes.stream()
+            .filter(cachedType -> cachedType.isAssignableFrom(entityType) || entityType.isAssignableFrom(cachedType))
+            .forEach(cachedType -> getCache(cachedType).clear());
+    }
+
+    @Override
+    public void evictAll() {
+        entityTypes.forEach(entityType -> getCache(entityType).clear());
+    }
+
+    private Cache getCache(final Class<?> entityType) {
+        final String cacheName = cacheNamePrefix + "." + entityType.getName();
+        return Objects.requireNonNull(cacheManager.getCache(cacheName), () -> "No cache named " + cacheName);
+    }
+}
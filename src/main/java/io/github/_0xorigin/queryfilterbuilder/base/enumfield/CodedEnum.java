@@ -0,0 +1,15 @@
+package io.github._0xorigin.queryfilterbuilder.base.enumfield;
+
+/**
+ * An enum whose constants can be filtered by a custom code (e.g., "A" for {@code ACTIVE}), in addition to their names.
+ * It is implemented by the enum types themselves, and honored by {@link EnumFilterFieldImp}.
+ */
+public interface CodedEnum {
+
+    /**
+     * Gets the code of the constant, which should be unique among the constants of the enum.
+     *
+     * @return The code of the constant, or null if the constant has none.
+     */
+    String getCode();
+}
@@ -1,5 +1,6 @@
 package io.github._0xorigin.queryfilterbuilder.base.enumfield;
 
+import io.github._0xorigin.queryfilterbuilder.base.filterfield.CastResult;
 import io.github._0xorigin.queryfilterbuilder.base.utils.FilterUtils;
 import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterErrorWrapper;
 
@@ -21,8 +22,27 @@ public interface EnumFieldCaster {
     <T extends Enum<T>> T cast(Class<T> enumClass, String value);
 
     /**
-     * Safely casts the given string value, handling any runtime exceptions that occur during casting.
-     * If an exception is caught, an error is added to the provided {@link FilterErrorWrapper} and null is returned.
+     * Casts the given string value to the target enum type {@code T} without throwing, reporting a malformed value
+     * through the returned result instead.
+     * <p>
+     * The default implementation delegates to {@link #cast(Class, String)} and catches the runtime exceptions it
+     * throws, so that custom fields keep working unchanged.
+     *
+     * @param enumClass The enum class to cast to.
+     * @param value     The string value to cast.
+     * @return The result holding the casted value, or the message describing why the value could not be cast.
+     */
+    default <T extends Enum<T>> CastResult<T> tryCast(Class<T> enumClass, String value) {
+        try {
+            return CastResult.success(cast(enumClass, value));
+        } catch (RuntimeException exception) {
+            return CastResult.failure(exception.getLocalizedMessage());
+        }
+    }
+
+    /**
+     * Safely casts the given string value through {@link #tryCast(Class, String)}.
+     * If the value cannot be cast, an error is added to the provided {@link FilterErrorWrapper} and null is returned.
      *
      * @param enumClass          The enum class to cast to.
      * @param value              The string value to cast.
@@ -30,16 +50,14 @@ public interface EnumFieldCaster {
      * @return The casted value of enum type {@code T}, or {@code null} if a casting error occurs.
      */
     default <T extends Enum<T>> T safeCast(Class<T> enumClass, String value, FilterErrorWrapper filterErrorWrapper) {
-        try {
-            return cast(enumClass, value);
-        } catch (RuntimeException exception) {
+        final CastResult<T> result = tryCast(enumClass, value);
+        if (!result.success())
             FilterUtils.addFieldError(
                 filterErrorWrapper.bindingResult(),
                 filterErrorWrapper.filterWrapper().originalFieldName(),
                 value,
-                exception.getLocalizedMessage()
+                result.errorMessage()
             );
-            return null;
-        }
+        return result.value();
     }
 }
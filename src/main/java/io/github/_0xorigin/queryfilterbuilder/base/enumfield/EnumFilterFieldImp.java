@@ -1,17 +1,160 @@
 package io.github._0xorigin.queryfilterbuilder.base.enumfield;
 
+import com.fasterxml.jackson.annotation.JsonValue;
+import io.github._0xorigin.queryfilterbuilder.base.filterfield.CastResult;
+import io.github._0xorigin.queryfilterbuilder.configs.QueryFilterBuilderProperties;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
 /**
  * A concrete implementation of the {@link AbstractEnumFilterField} abstraction.
- * This class provides a default implementation for the {@link #cast(Class, String)} method,
- * which uses the {@link Enum#valueOf(Class, String)} method to cast a string value to an enum type.
+ * This class casts a string value to an enum type by looking it up in a table built once per enum type,
+ * which reports unknown constants without throwing.
+ * <p>
+ * The constants are matched by their exact names, like {@link Enum#valueOf(Class, String)}, and by the code of the
+ * enums that implement {@link CodedEnum}. Optionally, they are also matched by their {@link JsonValue}, and
+ * case-insensitively. When several constants match a value, exact names take precedence over codes, codes over
+ * JSON values, and the first declared constant is used.
  */
 public final class EnumFilterFieldImp extends AbstractEnumFilterField {
 
+    private final QueryFilterBuilderProperties.EnumMatching enumMatching;
+    private final ClassValue<EnumLookup<?>> lookups = new ClassValue<>() {
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        protected EnumLookup<?> computeValue(final Class<?> type) {
+            return EnumLookup.of((Class) type, enumMatching);
+        }
+    };
+
+    /**
+     * Constructs the filter field, matching the constants by their exact names and codes only.
+     */
+    public EnumFilterFieldImp() {
+        this(new QueryFilterBuilderProperties.EnumMatching(false, false));
+    }
+
+    /**
+     * Constructs the filter field with the given matching settings.
+     *
+     * @param enumMatching The settings of the matching of the constants. Must not be null.
+     */
+    public EnumFilterFieldImp(final QueryFilterBuilderProperties.EnumMatching enumMatching) {
+        this.enumMatching = Objects.requireNonNull(enumMatching, "Enum matching must not be null");
+    }
+
     /**
      * {@inheritDoc}
+     *
+     * @throws NullPointerException     if the value is null.
+     * @throws IllegalArgumentException if no constant matches the value.
      */
     @Override
     public <T extends Enum<T>> T cast(Class<T> enumClass, String value) {
-        return Enum.valueOf(enumClass, value);
+        final CastResult<T> result = tryCast(enumClass, value);
+        if (!result.success())
+            throw value == null ? new NullPointerException(result.errorMessage()) : new IllegalArgumentException(result.errorMessage());
+        return result.value();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Unknown constants are reported with the message of {@link Enum#valueOf(Class, String)}.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Enum<T>> CastResult<T> tryCast(Class<T> enumClass, String value) {
+        if (value == null)
+            return CastResult.failure("Name is null");
+
+        final T constant = ((EnumLookup<T>) lookups.get(enumClass)).find(value);
+        return constant != null
+            ? CastResult.success(constant)
+            : CastResult.failure("No enum constant " + enumClass.getCanonicalName() + "." + value);
+    }
+
+    /**
+     * The constants of an enum type, keyed by the values that match them.
+     *
+     * @param constants                The constants keyed by their names, codes and JSON values.
+     * @param caseInsensitiveConstants The constants keyed by the same values in lower case, or null if the constants
+     *                                 are not matched case-insensitively.
+     * @param <T>                      The enum type.
+     */
+    private record EnumLookup<T extends Enum<T>>(Map<String, T> constants, Map<String, T> caseInsensitiveConstants) {
+
+        private static <T extends Enum<T>> EnumLookup<T> of(final Class<T> enumClass, final QueryFilterBuilderProperties.EnumMatching enumMatching) {
+            final T[] values = enumClass.getEnumConstants();
+            // The keys in order of precedence: names, codes, then JSON values
+            final List<Map.Entry<String, T>> keys = new ArrayList<>();
+            for (T constant : values)
+                keys.add(new SimpleImmutableEntry<>(constant.name(), constant));
+            for (T constant : values) {
+                if (constant instanceof CodedEnum codedEnum && codedEnum.getCode() != null)
+                    keys.add(new SimpleImmutableEntry<>(codedEnum.getCode(), constant));
+            }
+            final AccessibleObject jsonValue = enumMatching.jsonValue() ? findJsonValue(enumClass) : null;
+            if (jsonValue != null) {
+                for (T constant : values) {
+                    final Object key = readJsonValue(jsonValue, constant);
+                    if (key != null)
+                        keys.add(new SimpleImmutableEntry<>(key.toString(), constant));
+                }
+            }
+
+            final Map<String, T> constants = new HashMap<>();
+            final Map<String, T> caseInsensitiveConstants = enumMatching.caseInsensitive() ? new HashMap<>() : null;
+            for (Map.Entry<String, T> key : keys) {
+                constants.putIfAbsent(key.getKey(), key.getValue());
+                if (caseInsensitiveConstants != null)
+                    caseInsensitiveConstants.putIfAbsent(key.getKey().toLowerCase(Locale.ROOT), key.getValue());
+            }
+            return new EnumLookup<>(Map.copyOf(constants), caseInsensitiveConstants != null ? Map.copyOf(caseInsensitiveConstants) : null);
+        }
+
+        private T find(final String value) {
+            final T constant = constants.get(value);
+            if (constant != null || caseInsensitiveConstants == null)
+                return constant;
+            return caseInsensitiveConstants.get(value.toLowerCase(Locale.ROOT));
+        }
+
+        private static AccessibleObject findJsonValue(final Class<?> enumClass) {
+            for (Method method : enumClass.getDeclaredMethods()) {
+                if (isJsonValue(method, method) && method.getParameterCount() == 0 && method.getReturnType() != void.class)
+                    return method;
+            }
+            for (Field field : enumClass.getDeclaredFields()) {
+                if (isJsonValue(field, field) && !field.isEnumConstant())
+                    return field;
+            }
+            return null;
+        }
+
+        private static boolean isJsonValue(final AccessibleObject accessibleObject, final Member member) {
+            final JsonValue jsonValue = accessibleObject.getAnnotation(JsonValue.class);
+            return jsonValue != null && jsonValue.value() && !Modifier.isStatic(member.getModifiers());
+        }
+
+        private static Object readJsonValue(final AccessibleObject jsonValue, final Enum<?> constant) {
+            try {
+                jsonValue.trySetAccessible();
+                return jsonValue instanceof Method method ? method.invoke(constant) : ((Field) jsonValue).get(constant);
+            } catch (ReflectiveOperationException exception) {
+                throw new IllegalStateException("Cannot read the @JsonValue of " + constant.getDeclaringClass().getName(), exception);
+            }
+        }
     }
 }
@@ -32,7 +32,27 @@ public enum MessageKey {
     /**
      * Error when generating a field path and an intermediate part of the path is not an association.
      */
-    NON_ASSOCIATION_IN_INTERMEDIATE_PATH("error.path.generator.non.association.in.intermediate.path");
+    NON_ASSOCIATION_IN_INTERMEDIATE_PATH("error.path.generator.non.association.in.intermediate.path"),
+    /**
+     * Error when a requested sort cannot take part in keyset pagination (e.g., a custom sort).
+     */
+    KEYSET_SORT_NOT_SUPPORTED("error.keyset.sort.not.supported"),
+    /**
+     * Error when a keyset pagination cursor cannot be decoded or does not match the requested sort.
+     */
+    KEYSET_CURSOR_NOT_VALID("error.keyset.cursor.not.valid"),
+    /**
+     * Error when the value list of an operator (like 'in') has more elements than allowed.
+     */
+    VALUE_LIST_TOO_LARGE("error.operator.value.list.too.large"),
+    /**
+     * Error when a requested filter or sort cannot be evaluated in memory (e.g., a custom filter).
+     */
+    IN_MEMORY_NOT_SUPPORTED("error.in.memory.not.supported"),
+    /**
+     * Error when a filter value cannot be cast to the data type of the filtered field.
+     */
+    VALUE_NOT_VALID("error.value.not.valid");
 
     private final String code;
 
@@ -0,0 +1,17 @@
+package io.github._0xorigin.queryfilterbuilder.base.enums;
+
+/**
+ * Specifies how filters on paths that go through a to-many association (e.g., {@code @OneToMany}) are applied.
+ */
+public enum ToManyFilterStrategy {
+    /**
+     * The association is inner joined, which returns the root entity once per matching associated entity.
+     * Filters on the same association share the join, so they must all match the same associated entity.
+     */
+    JOIN,
+    /**
+     * The filter is applied in a correlated {@code EXISTS} subquery, which returns each root entity at most once.
+     * Each filter has its own subquery, so filters on the same association may match different associated entities.
+     */
+    EXISTS
+}
@@ -0,0 +1,47 @@
+package io.github._0xorigin.queryfilterbuilder.base.filterfield;
+
+/**
+ * The outcome of casting a string value without throwing: either the cast value, which may be null
+ * (e.g., the string "null" cast to a {@link Boolean}), or the message describing why the value could not be cast.
+ *
+ * @param success      Whether the value was cast.
+ * @param value        The cast value, or null if the cast failed.
+ * @param errorMessage The message describing the failure, or null if the cast succeeded or the failure has no message,
+ *                     in which case it is reported with the localized invalid-value message.
+ * @param <T>          The type of the cast value.
+ */
+public record CastResult<T>(boolean success, T value, String errorMessage) {
+
+    /**
+     * Creates a successful result.
+     *
+     * @param value The cast value, which may be null.
+     * @param <T>   The type of the cast value.
+     * @return The successful result.
+     */
+    public static <T> CastResult<T> success(T value) {
+        return new CastResult<>(true, value, null);
+    }
+
+    /**
+     * Creates a failed result.
+     *
+     * @param errorMessage The message describing why the value could not be cast, which may be null
+     *                     (e.g., when it is the message of an exception that has none).
+     * @param <T>          The type the value was cast to.
+     * @return The failed result.
+     */
+    public static <T> CastResult<T> failure(String errorMessage) {
+        return new CastResult<>(false, null, errorMessage);
+    }
+
+    /**
+     * Creates a failed result without a message, which is reported with the localized invalid-value message.
+     *
+     * @param <T> The type the value was cast to.
+     * @return The failed result.
+     */
+    public static <T> CastResult<T> invalid() {
+        return failure(null);
+    }
+}
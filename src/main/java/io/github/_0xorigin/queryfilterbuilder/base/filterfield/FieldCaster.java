@@ -25,24 +25,42 @@ public interface FieldCaster<T extends Comparable<? super T> & Serializable> {
     T cast(String value);
 
     /**
-     * Safely casts the given string value, handling any runtime exceptions that occur during casting.
-     * If an exception is caught, an error is added to the provided {@link FilterErrorWrapper} and null is returned.
+     * Casts the given string value to the target type {@code T} without throwing, reporting a malformed value
+     * through the returned result instead.
+     * <p>
+     * The default implementation delegates to {@link #cast(String)} and catches the runtime exceptions it throws,
+     * so that custom fields keep working unchanged. The built-in fields override it to reject malformed values
+     * without constructing an exception, with a constant message per cause (e.g., a value that is not a number, or
+     * a number out of range).
+     *
+     * @param value The string value to cast.
+     * @return The result holding the casted value, or the message describing why the value could not be cast.
+     */
+    default CastResult<T> tryCast(String value) {
+        try {
+            return CastResult.success(cast(value));
+        } catch (RuntimeException exception) {
+            return CastResult.failure(exception.getLocalizedMessage());
+        }
+    }
+
+    /**
+     * Safely casts the given string value through {@link #tryCast(String)}.
+     * If the value cannot be cast, an error is added to the provided {@link FilterErrorWrapper} and null is returned.
      *
      * @param value              The string value to cast.
      * @param filterErrorWrapper The wrapper used to collect errors.
      * @return The casted value of type {@code T}, or {@code null} if a casting error occurs.
      */
     default T safeCast(String value, FilterErrorWrapper filterErrorWrapper) {
-        try {
-            return cast(value);
-        } catch (RuntimeException exception) {
+        final CastResult<T> result = tryCast(value);
+        if (!result.success())
             FilterUtils.addFieldError(
                 filterErrorWrapper.bindingResult(),
                 filterErrorWrapper.filterWrapper().originalFieldName(),
                 value,
-                exception.getLocalizedMessage()
+                result.errorMessage()
             );
-            return null;
-        }
+        return result.value();
     }
 }
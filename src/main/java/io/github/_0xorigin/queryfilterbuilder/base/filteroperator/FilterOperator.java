@@ -12,7 +12,8 @@ import java.util.Optional;
 /**
  * Defines the contract for a specific filter operator implementation.
  * Each implementation is responsible for creating a JPA {@link Predicate}
- * for a given expression and set of values.
+ * for a given expression and set of values, and optionally for compiling the same condition into a
+ * {@link java.util.function.Predicate} that is evaluated on in-memory entities.
  */
 public interface FilterOperator {
 
@@ -28,6 +29,49 @@ public interface FilterOperator {
      */
     <T extends Comparable<? super T> & Serializable> Optional<Predicate> apply(Expression<T> expression, CriteriaBuilder cb, List<T> values, FilterErrorWrapper filterErrorWrapper);
 
+    /**
+     * Runs the checks of the operator on the values without building a predicate (e.g., the maximum size of an
+     * {@code in} list), so that invalid filters are reported before a query is built.
+     * Each error is added to the {@code filterErrorWrapper}, as {@link #apply} would add it.
+     * <p>
+     * The default implementation does nothing, for operators without checks on their values.
+     *
+     * @param values             The list of values to be used in the comparison.
+     * @param filterErrorWrapper A wrapper for collecting errors that may occur during the operation.
+     * @param <T>                The data type of the values.
+     */
+    default <T extends Comparable<? super T> & Serializable> void validate(List<T> values, FilterErrorWrapper filterErrorWrapper) {
+    }
+
+    /**
+     * Checks whether the operator can be evaluated on in-memory entities, i.e. whether it implements {@link #compile}.
+     * <p>
+     * The default implementation returns {@code false}, for operators that can only be evaluated by the database.
+     *
+     * @return {@code true} if the operator can be compiled into a predicate on in-memory entities.
+     */
+    default boolean supportsInMemory() {
+        return false;
+    }
+
+    /**
+     * Compiles the filter logic into a predicate on the value of a field of an in-memory entity.
+     * The compiled predicate must match the same values as the predicate created by {@link #apply}; in particular,
+     * a {@code null} field value is only matched by the null checks, as in SQL.
+     * <p>
+     * This method is only called on operators whose {@link #supportsInMemory()} returns {@code true}, which must
+     * override it. The default implementation throws an {@link UnsupportedOperationException}.
+     *
+     * @param values             The list of values to be used in the comparison. The number of values required depends on the operator.
+     * @param filterErrorWrapper A wrapper for collecting errors that may occur during the operation.
+     * @param <T>                The data type of the field and values.
+     * @return An {@link Optional} containing the compiled predicate, or empty if the operation is not applicable or an error occurs.
+     * @throws UnsupportedOperationException if the operator does not support in-memory evaluation.
+     */
+    default <T extends Comparable<? super T> & Serializable> Optional<java.util.function.Predicate<T>> compile(List<T> values, FilterErrorWrapper filterErrorWrapper) {
+        throw new UnsupportedOperationException("Operator '" + getOperatorConstant().getValue() + "' cannot be evaluated in memory");
+    }
+
     /**
      * Gets the corresponding {@link Operator} enum constant for this implementation.
      *
@@ -0,0 +1,25 @@
+package io.github._0xorigin.queryfilterbuilder.base.generators;
+
+import org.springframework.validation.BindingResult;
+
+/**
+ * A functional interface for generating a {@link FieldAccessor} from a string field path.
+ * It is the in-memory counterpart of {@link PathGenerator}: implementations resolve delimited paths
+ * (e.g., "customer.address.city") the same way, but read the values from loaded entities instead of the database.
+ *
+ * @param <T> The type of the root entity.
+ */
+@FunctionalInterface
+public interface AccessorGenerator<T> {
+
+    /**
+     * Generates a {@link FieldAccessor} for the given field path.
+     *
+     * @param rootType          The class of the root entity, from which to start path navigation.
+     * @param field             The delimited field path (e.g., "customer.name").
+     * @param originalFieldName The original field name from the request, used for error reporting.
+     * @param bindingResult     The binding result to which any path resolution errors will be added.
+     * @return The generated {@link FieldAccessor}, or {@code null} if the path cannot be resolved.
+     */
+    FieldAccessor generate(Class<T> rootType, String field, String originalFieldName, BindingResult bindingResult);
+}
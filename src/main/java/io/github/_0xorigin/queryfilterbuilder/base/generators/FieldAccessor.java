@@ -0,0 +1,113 @@
+package io.github._0xorigin.queryfilterbuilder.base.generators;
+
+import org.springframework.lang.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Reads the value of a (possibly nested) field from in-memory entities.
+ * An accessor is a chain of getters, one per attribute of the field path, generated by an {@link AccessorGenerator}.
+ * <p>
+ * To match the inner joins created for the same path in a query, an entity whose intermediate association is
+ * {@code null} has no value for the field, and a to-many association matches when any of its elements does.
+ * A {@code null} final association is the exception, as its id is read from the foreign key without a join.
+ */
+public final class FieldAccessor {
+
+    private final Function<Object, Object>[] getters;
+    private final boolean[] pluralGetters;
+    private final int joinCount;
+    private final boolean plural;
+    private final Class<?> javaType;
+
+    /**
+     * Constructs a new FieldAccessor.
+     *
+     * @param getters       The getters of the path, in order: the joined associations, the final attribute, and the
+     *                      id of the final attribute when it is an association.
+     * @param pluralGetters Whether each getter returns a to-many association, whose elements are traversed.
+     * @param joinCount     The number of joined associations at the start of {@code getters}.
+     * @param javaType      The Java type of the value of the field.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    FieldAccessor(List<Function<Object, Object>> getters, List<Boolean> pluralGetters, int joinCount, Class<?> javaType) {
+        this.getters = getters.toArray(new Function[0]);
+        this.pluralGetters = new boolean[pluralGetters.size()];
+        for (int i = 0; i < this.pluralGetters.length; i++)
+            this.pluralGetters[i] = pluralGetters.get(i);
+        this.joinCount = joinCount;
+        this.plural = pluralGetters.contains(Boolean.TRUE);
+        this.javaType = javaType;
+    }
+
+    /**
+     * Returns the Java type of the value of the field. Primitive types are returned as their wrapper types.
+     *
+     * @return The Java type of the value.
+     */
+    public Class<?> getJavaType() {
+        return javaType;
+    }
+
+    /**
+     * Checks whether the path goes through a to-many association, in which case an entity has several values.
+     *
+     * @return {@code true} if the path goes through a to-many association.
+     */
+    public boolean isPlural() {
+        return plural;
+    }
+
+    /**
+     * Reads the single value of the field from the given entity.
+     *
+     * @param entity The entity to read from.
+     * @return The value, or {@code null} if the value or an intermediate association is {@code null}.
+     * @throws IllegalStateException if the path goes through a to-many association.
+     */
+    @Nullable
+    public Object get(Object entity) {
+        if (plural)
+            throw new IllegalStateException("A path through a to-many association has no single value");
+
+        Object current = entity;
+        for (int i = 0; i < getters.length && current != null; i++)
+            current = getters[i].apply(current);
+        return current;
+    }
+
+    /**
+     * Checks whether any value of the field in the given entity matches the predicate.
+     *
+     * @param entity    The entity to read from.
+     * @param predicate The predicate to test the values with. It is called with {@code null} for a {@code null} value.
+     * @return {@code true} if any value matches.
+     */
+    public boolean anyMatch(Object entity, Predicate<Object> predicate) {
+        return anyMatch(entity, 0, predicate);
+    }
+
+    private boolean anyMatch(Object current, int index, Predicate<Object> predicate) {
+        Object value = current;
+        for (int i = index; i < getters.length; i++) {
+            if (value == null)
+                return i > joinCount && predicate.test(null);
+
+            value = getters[i].apply(value);
+            if (pluralGetters[i])
+                return value != null && anyElementMatch((Collection<?>) value, i + 1, predicate);
+        }
+        return predicate.test(value);
+    }
+
+    private boolean anyElementMatch(Collection<?> elements, int index, Predicate<Object> predicate) {
+        for (Object element : elements) {
+            if (anyMatch(element, index, predicate))
+                return true;
+        }
+        return false;
+    }
+}
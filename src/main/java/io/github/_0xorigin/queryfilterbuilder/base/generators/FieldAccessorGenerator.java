@@ -0,0 +1,231 @@
+package io.github._0xorigin.queryfilterbuilder.base.generators;
+
+import io.github._0xorigin.queryfilterbuilder.base.enums.MessageKey;
+import io.github._0xorigin.queryfilterbuilder.base.services.LocalizationService;
+import io.github._0xorigin.queryfilterbuilder.base.utils.FilterUtils;
+import io.github._0xorigin.queryfilterbuilder.configs.QueryFilterBuilderProperties;
+import jakarta.persistence.metamodel.*;
+import org.springframework.validation.BindingResult;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * The default implementation of {@link AccessorGenerator}.
+ * It uses the JPA {@link Metamodel} to traverse delimited paths (e.g., "customer.address.city") exactly like
+ * {@link FieldPathGenerator}, and generates a getter for each attribute of the path.
+ * <p>
+ * Getters are generated once per attribute with {@link LambdaMetafactory}, so that reading a value costs the same as
+ * a direct method call. The JavaBeans getter of an attribute is preferred over its field, so that lazy associations
+ * are initialized when read. When a getter cannot be spun (e.g., the entity class is not accessible to this library),
+ * the {@link MethodHandle} of the getter or field is invoked instead.
+ *
+ * @param <T> The type of the root entity.
+ */
+public final class FieldAccessorGenerator<T> implements AccessorGenerator<T> {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final Metamodel metamodel;
+    private final QueryFilterBuilderProperties properties;
+    private final LocalizationService localizationService;
+    private final ConcurrentMap<AccessorKey, FieldAccessor> accessors = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new FieldAccessorGenerator.
+     *
+     * @param metamodel           The JPA metamodel, used for reflection on the entity structure.
+     * @param properties          Configuration properties for the query builder, such as the field delimiter.
+     * @param localizationService Service for retrieving localized error messages.
+     */
+    public FieldAccessorGenerator(
+        Metamodel metamodel,
+        QueryFilterBuilderProperties properties,
+        LocalizationService localizationService
+    ) {
+        this.metamodel = metamodel;
+        this.properties = properties;
+        this.localizationService = localizationService;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation parses the {@code field} string using the configured delimiter.
+     * If an intermediate part of the path is not an association, or if the path is invalid, an error is added
+     * to the {@code bindingResult} and {@code null} is returned.
+     * If the final part of the path is an association, it automatically resolves to the ID of that association.
+     * <p>
+     * Successfully generated accessors are cached per root entity type and field. Invalid paths are not cached,
+     * as they come from client input and must not grow the cache.
+     */
+    @Override
+    public FieldAccessor generate(Class<T> rootType, String field, String originalFieldName, BindingResult bindingResult) {
+        Objects.requireNonNull(rootType, "Root type cannot be null");
+        Objects.requireNonNull(field, "Field cannot be null");
+        Objects.requireNonNull(originalFieldName, "Original field name cannot be null");
+        Objects.requireNonNull(bindingResult, "Binding result cannot be null");
+
+        final AccessorKey accessorKey = new AccessorKey(rootType, field);
+        FieldAccessor accessor = accessors.get(accessorKey);
+        if (accessor == null) {
+            accessor = resolveAccessor(accessorKey, originalFieldName, bindingResult);
+            if (accessor != null)
+                accessors.putIfAbsent(accessorKey, accessor);
+        }
+        return accessor;
+    }
+
+    /**
+     * Resolves the attribute chain of a field against the metamodel and generates its getters.
+     *
+     * @param accessorKey       The root entity type and the delimited field path.
+     * @param originalFieldName The original field name, used for error reporting.
+     * @param bindingResult     The binding result to which errors are added.
+     * @return The accessor, or {@code null} if the path is invalid.
+     */
+    private FieldAccessor resolveAccessor(AccessorKey accessorKey, String originalFieldName, BindingResult bindingResult) {
+        final String FIELD_DELIMITER = properties.defaults().fieldDelimiter();
+        final String[] parts = FilterUtils.splitWithEscapedDelimiter(accessorKey.field(), FIELD_DELIMITER);
+        final List<Function<Object, Object>> getters = new ArrayList<>(parts.length + 1);
+        final List<Boolean> pluralGetters = new ArrayList<>(parts.length + 1);
+        Class<?> currentJavaType = accessorKey.rootType();
+
+        try {
+            for (int i = 0; i < parts.length - 1; i++) {
+                String part = parts[i];
+
+                ManagedType<?> modelType = metamodel.managedType(currentJavaType);
+                Attribute<?, ?> attribute = modelType.getAttribute(part);
+
+                if (!attribute.isAssociation()) {
+                    FilterUtils.addFieldError(
+                        bindingResult,
+                        originalFieldName,
+                        "",
+                        localizationService.getMessage(MessageKey.NON_ASSOCIATION_IN_INTERMEDIATE_PATH.getCode(), part)
+                    );
+                    return null;
+                }
+
+                getters.add(createGetter(attribute));
+                pluralGetters.add(attribute instanceof PluralAttribute<?, ?, ?>);
+                currentJavaType = attribute instanceof PluralAttribute<?, ?, ?> pluralAttribute ?
+                    pluralAttribute.getElementType().getJavaType() :
+                    attribute.getJavaType();
+            }
+
+            final int joinCount = getters.size();
+            String finalPart = parts.length > 0 ? parts[parts.length - 1] : "";
+            ManagedType<?> finalModelType = metamodel.managedType(currentJavaType);
+            Attribute<?, ?> finalAttribute = finalModelType.getAttribute(finalPart);
+            getters.add(createGetter(finalAttribute));
+            pluralGetters.add(false);
+
+            if (!finalAttribute.isAssociation())
+                return new FieldAccessor(getters, pluralGetters, joinCount, wrap(finalAttribute.getJavaType()));
+
+            // Currently only support the singular id type
+            EntityType<?> associatedEntity = metamodel.entity(finalAttribute.getJavaType());
+            SingularAttribute<?, ?> idAttribute = associatedEntity.getId(associatedEntity.getIdType().getJavaType());
+            getters.add(createGetter(idAttribute));
+            pluralGetters.add(false);
+            return new FieldAccessor(getters, pluralGetters, joinCount, wrap(idAttribute.getJavaType()));
+        } catch (IllegalStateException | IllegalArgumentException exception) {
+            FilterUtils.addFieldError(
+                bindingResult,
+                originalFieldName,
+                "",
+                exception.getLocalizedMessage()
+            );
+            return null;
+        }
+    }
+
+    private Function<Object, Object> createGetter(Attribute<?, ?> attribute) {
+        final Member member = attribute.getJavaMember();
+        final Method getter = member instanceof Method method ? method : findGetter(member.getDeclaringClass(), attribute);
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(member.getDeclaringClass(), MethodHandles.lookup());
+            if (getter == null)
+                return invoker(lookup.unreflectGetter((Field) member));
+
+            final MethodHandle handle = lookup.unreflect(getter);
+            try {
+                return spinGetter(lookup, handle);
+            } catch (Throwable throwable) {
+                // The lookup may lack the full privilege access required to define the getter class
+                return invoker(handle);
+            }
+        } catch (IllegalAccessException exception) {
+            throw new IllegalStateException("Cannot access attribute '" + attribute.getName() + "' of " + member.getDeclaringClass().getName(), exception);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Function<Object, Object> spinGetter(MethodHandles.Lookup lookup, MethodHandle handle) throws Throwable {
+        final CallSite callSite = LambdaMetafactory.metafactory(
+            lookup,
+            "apply",
+            MethodType.methodType(Function.class),
+            GETTER_TYPE,
+            handle,
+            handle.type().wrap()
+        );
+        return (Function<Object, Object>) callSite.getTarget().invokeExact();
+    }
+
+    private Function<Object, Object> invoker(MethodHandle handle) {
+        final MethodHandle getter = handle.asType(GETTER_TYPE);
+        return target -> {
+            try {
+                return (Object) getter.invokeExact(target);
+            } catch (RuntimeException | Error exception) {
+                throw exception;
+            } catch (Throwable throwable) {
+                throw new IllegalStateException(throwable);
+            }
+        };
+    }
+
+    // Finds the JavaBeans getter of a field attribute, if any
+    private Method findGetter(Class<?> declaringClass, Attribute<?, ?> attribute) {
+        final String name = attribute.getName();
+        final String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for (String getterName : List.of("get" + suffix, "is" + suffix)) {
+            try {
+                final Method method = declaringClass.getDeclaredMethod(getterName);
+                if (!Modifier.isStatic(method.getModifiers()) && method.getReturnType() != void.class)
+                    return method;
+            } catch (NoSuchMethodException ignored) {
+                // Try the next naming convention, then fall back to the field
+            }
+        }
+        return null;
+    }
+
+    private Class<?> wrap(Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    /**
+     * The cache key of a generated accessor.
+     *
+     * @param rootType The Java type of the root entity.
+     * @param field    The delimited field path.
+     */
+    private record AccessorKey(Class<?> rootType, String field) {}
+}
@@ -1,17 +1,25 @@
 package io.github._0xorigin.queryfilterbuilder.base.generators;
 
 import io.github._0xorigin.queryfilterbuilder.base.enums.MessageKey;
+import io.github._0xorigin.queryfilterbuilder.base.enums.ToManyFilterStrategy;
 import io.github._0xorigin.queryfilterbuilder.base.services.LocalizationService;
+import io.github._0xorigin.queryfilterbuilder.base.utils.CriteriaQueryUtils;
 import io.github._0xorigin.queryfilterbuilder.base.utils.FilterUtils;
 import io.github._0xorigin.queryfilterbuilder.configs.QueryFilterBuilderProperties;
 import jakarta.persistence.criteria.*;
 import jakarta.persistence.metamodel.*;
+import org.springframework.util.ClassUtils;
 import org.springframework.validation.BindingResult;
+import org.springframework.validation.MapBindingResult;
 
 import java.io.Serializable;
-import java.util.HashSet;
-import java.util.Objects;
-import java.util.Set;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 
 /**
  * The default implementation of {@link PathGenerator}.
@@ -25,6 +33,12 @@ public final class FieldPathGenerator<T> implements PathGenerator<T> {
     private final Metamodel metamodel;
     private final QueryFilterBuilderProperties properties;
     private final LocalizationService localizationService;
+    private final ConcurrentMap<PathKey, ResolvedPath> resolvedPaths = new ConcurrentHashMap<>();
+    private final ConcurrentMap<PathKey, AssociationChain> resolvedFetchPaths = new ConcurrentHashMap<>();
+    // The join registries by query root, which live as long as their root: the roots are weakly referenced, and the
+    // registries only weakly reference the joins, which their root holds
+    private final ConcurrentMap<RootKey, JoinNode> joinRegistries = new ConcurrentHashMap<>();
+    private final ReferenceQueue<From<?, ?>> collectedRoots = new ReferenceQueue<>();
 
     /**
      * Constructs a new FieldPathGenerator.
@@ -47,63 +61,320 @@ public final class FieldPathGenerator<T> implements PathGenerator<T> {
      * {@inheritDoc}
      * <p>
      * This implementation parses the {@code field} string using the configured delimiter.
-     * It traverses the entity graph from the {@code root}, creating inner joins for each association in the path.
+     * It traverses the entity graph from the {@code root}, creating inner joins for each association in the path
+     * (to-many associations are traversed through their element type).
      * If an intermediate part of the path is not an association, or if the path is invalid, an error is added
      * to the {@code bindingResult} and {@code null} is returned.
      * If the final part of the path is an association, it automatically resolves to the ID of that association.
+     * <p>
+     * The metamodel lookups for a given root entity type and field are static, so successfully resolved paths are
+     * cached and later calls only walk the cached chain to create (or reuse) the joins. Invalid paths are not cached,
+     * as they come from client input and must not grow the cache.
+     * <p>
+     * The joins of a query are registered by their parent and attribute name, so that the filters and sorts applied
+     * to the same query (e.g., by the filter and sort specifications) reuse them without scanning the joins of their
+     * parent again. Each root (of a query or of a subquery) has its own registry, which lives as long as the root and
+     * is looked up without a lock. On a miss, the joins and fetches of the parent are scanned before a join is
+     * created, so that the joins added to the query by other code (e.g., a custom specification composed between the
+     * filter and sort specifications) are reused too.
      */
     @Override
-    @SuppressWarnings("unchecked")
     public <K extends Comparable<? super K> & Serializable> Expression<K> generate(Root<T> root, String field, String originalFieldName, BindingResult bindingResult) {
-        final String FIELD_DELIMITER = properties.defaults().fieldDelimiter();
+        final ResolvedPath resolvedPath = getResolvedPath(root, field, originalFieldName, bindingResult);
+        if (resolvedPath == null)
+            return null;
+
+        return getExpression(join(root, resolvedPath.joinAttributes(), true, JoinType.INNER), resolvedPath);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * When the path goes through a to-many association and the configured {@link ToManyFilterStrategy} is
+     * {@link ToManyFilterStrategy#EXISTS EXISTS}, the associations up to the first to-many one are joined (or reused)
+     * in the outer query as usual, and the rest of the path is joined inside a correlated subquery. The predicate is
+     * then evaluated inside the subquery and returned wrapped in {@code EXISTS}, so that the root entity is not
+     * repeated once per matching associated entity. Otherwise, this behaves like {@link #generate}.
+     */
+    @Override
+    public <K extends Comparable<? super K> & Serializable> Optional<Predicate> generatePredicate(
+        Root<T> root,
+        CriteriaQuery<?> criteriaQuery,
+        CriteriaBuilder criteriaBuilder,
+        String field,
+        String originalFieldName,
+        BindingResult bindingResult,
+        Function<Expression<K>, Optional<Predicate>> predicateFunction
+    ) {
+        final ResolvedPath resolvedPath = getResolvedPath(root, field, originalFieldName, bindingResult);
+        if (resolvedPath == null)
+            return predicateFunction.apply(null);
+
+        final List<String> joinAttributes = resolvedPath.joinAttributes();
+        final int pluralJoinIndex = resolvedPath.pluralJoinIndex();
+        if (pluralJoinIndex < 0 || properties.defaults().toManyFilterStrategy() != ToManyFilterStrategy.EXISTS)
+            return predicateFunction.apply(getExpression(join(root, joinAttributes, true, JoinType.INNER), resolvedPath));
+
+        final From<?, ?> outerFrom = join(root, joinAttributes.subList(0, pluralJoinIndex), true, JoinType.INNER);
+        final Subquery<Integer> subquery = criteriaQuery.subquery(Integer.class);
+        final From<?, ?> innerFrom = join(correlate(subquery, outerFrom), joinAttributes.subList(pluralJoinIndex, joinAttributes.size()), false, JoinType.INNER);
+        return predicateFunction.apply(this.<K>getExpression(innerFrom, resolvedPath))
+            .map(predicate -> criteriaBuilder.exists(subquery.select(criteriaBuilder.literal(1)).where(predicate)));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation resolves the path exactly like {@link #generate}, and shares its cache of resolved paths.
+     * Primitive types are returned as their wrapper type.
+     */
+    @Override
+    public Class<?> resolveJavaType(Class<T> rootType, String field, String originalFieldName, BindingResult bindingResult) {
+        Objects.requireNonNull(rootType, "Root type cannot be null");
+        final ResolvedPath resolvedPath = getResolvedPath(rootType, field, originalFieldName, bindingResult);
+        return resolvedPath == null ? null : ClassUtils.resolvePrimitiveIfNecessary(resolvedPath.javaType());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation resolves the path exactly like {@link #generate}, and reuses the existing joins (e.g., those
+     * created by the filters and sorts of the query). The missing joins are created as left joins, so that selecting a
+     * nested field does not drop the root entities whose association is null. A path going through a to-many
+     * association selects one value per associated entity.
+     */
+    @Override
+    public Expression<?> generateSelection(Root<T> root, String field, String originalFieldName, BindingResult bindingResult) {
+        final ResolvedPath resolvedPath = getResolvedPath(root, field, originalFieldName, bindingResult);
+        if (resolvedPath == null)
+            return null;
+
+        return getPath(join(root, resolvedPath.joinAttributes(), true, JoinType.LEFT), resolvedPath);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Each association of a fetch path is fetched by an inner join when one of the traversed fields goes through it,
+     * so that the rows returned are the same as without the fetch, and by a left join otherwise, so that the entities
+     * whose association is null are kept. The part of a traversed field evaluated in a correlated subquery (see
+     * {@link ToManyFilterStrategy#EXISTS}) does not count. Existing fetches are reused, but plain joins are not, since
+     * they do not load the association. The resolved fetch paths are cached like the field paths.
+     */
+    @Override
+    public void fetch(
+        Root<T> root,
+        CriteriaQuery<?> criteriaQuery,
+        Collection<String> fetchPaths,
+        Collection<String> traversedFields,
+        BindingResult bindingResult
+    ) {
+        Objects.requireNonNull(root, "Root cannot be null");
+        Objects.requireNonNull(criteriaQuery, "Criteria query cannot be null");
+        if (fetchPaths.isEmpty() || !CriteriaQueryUtils.selectsRoot(root, criteriaQuery))
+            return;
+
+        // Invalid traversed fields are reported when their paths are generated, so their errors are discarded here
+        final List<List<String>> traversedJoins = traversedFields.stream()
+            .map(field -> getResolvedPath(root, field, field, new MapBindingResult(new HashMap<>(), field)))
+            .filter(Objects::nonNull)
+            .map(this::getOuterJoinAttributes)
+            .toList();
+        for (String fetchPath : fetchPaths) {
+            final AssociationChain associationChain = getResolvedFetchPath(root.getJavaType(), fetchPath, bindingResult);
+            if (associationChain != null)
+                fetch(root, associationChain.attributes(), traversedJoins);
+        }
+    }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation resolves the path like {@link #generate}. The joins preserve the rows when all the joined
+     * associations are mandatory to-one associations. Invalid paths are reported as not preserving the rows, and
+     * their errors are discarded, since they are reported when their paths are generated.
+     */
+    @Override
+    public boolean preservesRows(Class<T> rootType, String field) {
+        Objects.requireNonNull(rootType, "Root type cannot be null");
+        final ResolvedPath resolvedPath = getResolvedPath(rootType, field, field, new MapBindingResult(new HashMap<>(), field));
+        return resolvedPath != null && resolvedPath.rowPreserving();
+    }
+
+    private ResolvedPath getResolvedPath(Root<T> root, String field, String originalFieldName, BindingResult bindingResult) {
         Objects.requireNonNull(root, "Root cannot be null");
+        return getResolvedPath(root.getJavaType(), field, originalFieldName, bindingResult);
+    }
+
+    private ResolvedPath getResolvedPath(Class<?> rootType, String field, String originalFieldName, BindingResult bindingResult) {
         Objects.requireNonNull(field, "Field cannot be null");
         Objects.requireNonNull(originalFieldName, "Original field name cannot be null");
         Objects.requireNonNull(bindingResult, "Binding result cannot be null");
 
-        final String[] parts = FilterUtils.splitWithEscapedDelimiter(field, FIELD_DELIMITER);
-        Path<T> path = root;
-        Class<?> currentJavaType = root.getJavaType();
+        final PathKey pathKey = new PathKey(rootType, field);
+        ResolvedPath resolvedPath = resolvedPaths.get(pathKey);
+        if (resolvedPath == null) {
+            resolvedPath = resolvePath(pathKey, originalFieldName, bindingResult);
+            if (resolvedPath != null)
+                resolvedPaths.putIfAbsent(pathKey, resolvedPath);
+        }
+        return resolvedPath;
+    }
 
-        try {
-            for (int i = 0; i < parts.length - 1; i++) {
-                String part = parts[i];
+    private AssociationChain getResolvedFetchPath(Class<?> rootType, String fetchPath, BindingResult bindingResult) {
+        Objects.requireNonNull(fetchPath, "Fetch path cannot be null");
+        final PathKey pathKey = new PathKey(rootType, fetchPath);
+        AssociationChain associationChain = resolvedFetchPaths.get(pathKey);
+        if (associationChain == null) {
+            final String[] parts = FilterUtils.splitWithEscapedDelimiter(fetchPath, properties.defaults().fieldDelimiter());
+            try {
+                associationChain = resolveAssociations(rootType, parts, parts.length, fetchPath, bindingResult);
+            } catch (IllegalStateException | IllegalArgumentException exception) {
+                FilterUtils.addFieldError(bindingResult, fetchPath, "", exception.getLocalizedMessage());
+                return null;
+            }
+            if (associationChain != null)
+                resolvedFetchPaths.putIfAbsent(pathKey, associationChain);
+        }
+        return associationChain;
+    }
 
-                ManagedType<?> modelType = metamodel.managedType(currentJavaType);
-                Attribute<?, ?> attribute = modelType.getAttribute(part);
+    // The joins of the outer query only, without those created inside a correlated subquery
+    private List<String> getOuterJoinAttributes(ResolvedPath resolvedPath) {
+        final List<String> joinAttributes = resolvedPath.joinAttributes();
+        if (resolvedPath.pluralJoinIndex() < 0 || properties.defaults().toManyFilterStrategy() != ToManyFilterStrategy.EXISTS)
+            return joinAttributes;
+        return joinAttributes.subList(0, resolvedPath.pluralJoinIndex());
+    }
 
-                if (!attribute.isAssociation()) {
-                    FilterUtils.addFieldError(
-                        bindingResult,
-                        originalFieldName,
-                        "",
-                        localizationService.getMessage(MessageKey.NON_ASSOCIATION_IN_INTERMEDIATE_PATH.getCode(), part)
-                    );
-                    return null;
-                }
+    private void fetch(Root<T> root, List<String> associations, List<List<String>> traversedJoins) {
+        From<?, ?> current = root;
+        for (int i = 0; i < associations.size(); i++) {
+            final String association = associations.get(i);
+            final Join<?, ?> existingFetch = findExistingFetch(current, association);
+            if (existingFetch != null) {
+                current = existingFetch;
+                continue;
+            }
 
-                From<?, ?> from = (path instanceof Root<?>) ? (Root<?>) path : (From<?, ?>) path;
+            final List<String> joined = associations.subList(0, i + 1);
+            final boolean traversed = traversedJoins.stream()
+                .anyMatch(joinAttributes -> joinAttributes.size() >= joined.size() && joinAttributes.subList(0, joined.size()).equals(joined));
+            // Fetches are joins in the usual providers (e.g., Hibernate), which is needed to fetch nested associations
+            if (!(current.fetch(association, traversed ? JoinType.INNER : JoinType.LEFT) instanceof Join<?, ?> fetch))
+                return;
+            current = fetch;
+        }
+    }
 
-                // Try to reuse an existing join for this attribute on the current path (root or from)
-                Join<?, ?> existingJoin = findExistingJoin(from, part);
-                path = existingJoin != null ? (Path<T>) existingJoin : from.join(part, JoinType.INNER);
+    // Walks the join attributes from the given From, reusing existing joins only when allowed
+    private From<?, ?> join(From<?, ?> from, List<String> joinAttributes, boolean reuseJoins, JoinType joinType) {
+        if (!reuseJoins) {
+            From<?, ?> current = from;
+            for (String joinAttribute : joinAttributes)
+                current = current.join(joinAttribute, joinType);
+            return current;
+        }
 
-                currentJavaType = attribute.getJavaType();
+        JoinNode node = getJoinRegistry(from);
+        From<?, ?> current = from;
+        for (String joinAttribute : joinAttributes) {
+            // Reuse the join registered for this attribute on the current path (root or from)
+            JoinNode child = node.children().get(joinAttribute);
+            Join<?, ?> join = child == null ? null : child.join().get();
+            if (join == null) {
+                // The joins added to the query by other code (e.g., a custom specification) are not registered
+                join = findExistingJoin(current, joinAttribute);
+                if (join == null)
+                    join = current.join(joinAttribute, joinType);
+                child = new JoinNode(new WeakReference<>(join), new HashMap<>());
+                node.children().put(joinAttribute, child);
             }
+            node = child;
+            current = join;
+        }
+        return current;
+    }
+
+    // The registry of the given From, created on first use. The registries of the collected roots are dropped first
+    private JoinNode getJoinRegistry(From<?, ?> from) {
+        Reference<?> collectedRoot;
+        while ((collectedRoot = collectedRoots.poll()) != null)
+            joinRegistries.remove(collectedRoot);
+
+        final JoinNode joinRegistry = joinRegistries.get(new RootKey(from, null));
+        return joinRegistry != null
+            ? joinRegistry
+            : joinRegistries.computeIfAbsent(new RootKey(from, collectedRoots), key -> new JoinNode(null, new HashMap<>()));
+    }
+
+    // Scans the live joins (or fetches) of a From, e.g., the joins created by a custom specification, without copying them
+    private Join<?, ?> findExistingJoin(From<?, ?> from, String attributeName) {
+        final Set<? extends Join<?, ?>> joins = from.getJoins();
+        if (joins != null) {
+            for (Join<?, ?> join : joins) {
+                if (hasAttribute(join, attributeName))
+                    return join;
+            }
+        }
+        return findExistingFetch(from, attributeName);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <K extends Comparable<? super K> & Serializable> Expression<K> getExpression(From<?, ?> from, ResolvedPath resolvedPath) {
+        return (Expression<K>) getPath(from, resolvedPath);
+    }
+
+    private Path<?> getPath(From<?, ?> from, ResolvedPath resolvedPath) {
+        final Path<?> finalPath = from.get(resolvedPath.finalAttribute());
+        return resolvedPath.idAttribute()
+            .<Path<?>>map(finalPath::get)
+            .orElse(finalPath);
+    }
+
+    private From<?, ?> correlate(Subquery<?> subquery, From<?, ?> from) {
+        if (from instanceof Root<?> root)
+            return correlateRoot(subquery, root);
+        return correlateJoin(subquery, (Join<?, ?>) from);
+    }
+
+    private <Y> Root<Y> correlateRoot(Subquery<?> subquery, Root<Y> root) {
+        return subquery.correlate(root);
+    }
+
+    private <X, Y> Join<X, Y> correlateJoin(Subquery<?> subquery, Join<X, Y> join) {
+        return subquery.correlate(join);
+    }
+
+    /**
+     * Resolves the attribute chain of a field against the metamodel.
+     *
+     * @param pathKey           The root entity type and the delimited field path.
+     * @param originalFieldName The original field name, used for error reporting.
+     * @param bindingResult     The binding result to which errors are added.
+     * @return The resolved path, or {@code null} if the path is invalid.
+     */
+    private ResolvedPath resolvePath(PathKey pathKey, String originalFieldName, BindingResult bindingResult) {
+        final String FIELD_DELIMITER = properties.defaults().fieldDelimiter();
+        final String[] parts = FilterUtils.splitWithEscapedDelimiter(pathKey.field(), FIELD_DELIMITER);
+
+        try {
+            final AssociationChain associationChain = resolveAssociations(pathKey.rootType(), parts, parts.length - 1, originalFieldName, bindingResult);
+            if (associationChain == null)
+                return null;
 
             // Get the final field for the condition (e.g., "name" in "user.manager.department.name")
             String finalPart = parts.length > 0 ? parts[parts.length - 1] : "";
-            ManagedType<?> finalModelType = metamodel.managedType(currentJavaType);
+            ManagedType<?> finalModelType = metamodel.managedType(associationChain.javaType());
             Attribute<?, ?> finalAttribute = finalModelType.getAttribute(finalPart);
 
             if (!finalAttribute.isAssociation())
-                return path.get(finalPart);
+                return new ResolvedPath(associationChain.attributes(), associationChain.pluralJoinIndex(), associationChain.rowPreserving(), finalPart, Optional.empty(), finalAttribute.getJavaType());
 
             // Currently only support the singular id type
             EntityType<?> associatedEntity = metamodel.entity(finalAttribute.getJavaType());
             SingularAttribute<?, ?> idAttribute = associatedEntity.getId(associatedEntity.getIdType().getJavaType());
-            return path.get(finalPart).get(idAttribute.getName());
+            return new ResolvedPath(associationChain.attributes(), associationChain.pluralJoinIndex(), associationChain.rowPreserving(), finalPart, Optional.of(idAttribute.getName()), idAttribute.getJavaType());
         } catch (IllegalStateException | IllegalArgumentException exception) {
             FilterUtils.addFieldError(
                 bindingResult,
@@ -115,46 +386,152 @@ public final class FieldPathGenerator<T> implements PathGenerator<T> {
         }
     }
 
-    // Helper to find an existing join on a From by attribute name to avoid duplicate joins
-    private Join<?, ?> findExistingJoin(From<?, ?> from, String attributeName) {
-        if (from == null || attributeName == null)
-            return null;
+    /**
+     * Resolves the first {@code count} parts of a path as a chain of associations.
+     *
+     * @param rootType          The Java type of the root entity.
+     * @param parts             The parts of the delimited path.
+     * @param count             The number of parts to resolve.
+     * @param originalFieldName The original field name, used for error reporting.
+     * @param bindingResult     The binding result to which errors are added.
+     * @return The resolved associations, or {@code null} if a part is not an association.
+     * @throws IllegalArgumentException if a part is not an attribute of its managed type.
+     */
+    private AssociationChain resolveAssociations(Class<?> rootType, String[] parts, int count, String originalFieldName, BindingResult bindingResult) {
+        final List<String> attributes = new ArrayList<>(Math.max(count, 0));
+        int pluralJoinIndex = -1;
+        boolean rowPreserving = true;
+        Class<?> currentJavaType = rootType;
 
-        for (Join<?, ?> join : getAllJoins(from)) {
-            Attribute<?, ?> attr = safeGetAttribute(join);
-            if (attr != null && attributeName.equals(attr.getName())) {
-                return join;
+        for (int i = 0; i < count; i++) {
+            String part = parts[i];
+
+            ManagedType<?> modelType = metamodel.managedType(currentJavaType);
+            Attribute<?, ?> attribute = modelType.getAttribute(part);
+
+            if (!attribute.isAssociation()) {
+                FilterUtils.addFieldError(
+                    bindingResult,
+                    originalFieldName,
+                    "",
+                    localizationService.getMessage(MessageKey.NON_ASSOCIATION_IN_INTERMEDIATE_PATH.getCode(), part)
+                );
+                return null;
             }
+
+            // An inner join keeps each row exactly once only through a mandatory to-one association
+            rowPreserving &= attribute instanceof SingularAttribute<?, ?> singularAttribute && !singularAttribute.isOptional();
+            if (attribute instanceof PluralAttribute<?, ?, ?> pluralAttribute) {
+                if (pluralJoinIndex < 0)
+                    pluralJoinIndex = attributes.size();
+                currentJavaType = pluralAttribute.getElementType().getJavaType();
+            } else {
+                currentJavaType = attribute.getJavaType();
+            }
+            attributes.add(part);
         }
-        return null;
+        return new AssociationChain(List.copyOf(attributes), pluralJoinIndex, rowPreserving, currentJavaType);
     }
 
-    // Collect joins from both getJoins() and getFetches() depending on configuration
-    private Set<Join<?, ?>> getAllJoins(From<?, ?> from) {
-        Set<Join<?, ?>> all = new HashSet<>();
-        Set<? extends Join<?, ?>> joins = from.getJoins();
-        if (joins != null && !joins.isEmpty())
-            all.addAll(joins);
+    // Helper to find an existing fetch on a From by attribute name, ignoring the plain joins that do not load the association
+    private Join<?, ?> findExistingFetch(From<?, ?> from, String attributeName) {
+        final Set<? extends Fetch<?, ?>> fetches = from.getFetches();
+        if (fetches == null)
+            return null;
 
-        // Only include fetches if configured to do so. Some users prefer to control fetch handling
-        Set<? extends Fetch<?, ?>> fetches = from.getFetches();
-        if (fetches != null && !fetches.isEmpty()) {
-            for (Fetch<?, ?> fetch : fetches) {
-                if (fetch instanceof Join<?, ?> join)
-                    all.add(join);
-            }
+        for (Fetch<?, ?> fetch : fetches) {
+            if (fetch instanceof Join<?, ?> join && hasAttribute(join, attributeName))
+                return join;
         }
-        return all;
+        return null;
     }
 
-    // Safe wrapper around Join.getAttribute() because some JPA implementations may throw from it
-    private Attribute<?, ?> safeGetAttribute(Join<?, ?> join) {
-        if (join == null)
-            return null;
+    private boolean hasAttribute(Join<?, ?> join, String attributeName) {
+        return attributeName.equals(getAttributeName(join));
+    }
+
+    // Safe access to Join.getAttribute() because some JPA implementations may throw from it
+    private String getAttributeName(Join<?, ?> join) {
         try {
-            return join.getAttribute();
+            final Attribute<?, ?> attribute = join.getAttribute();
+            return attribute == null ? null : attribute.getName();
         } catch (Exception ignored) {
             return null;
         }
     }
+
+    /**
+     * The cache key of a resolved path.
+     *
+     * @param rootType The Java type of the root entity.
+     * @param field    The delimited field path.
+     */
+    private record PathKey(Class<?> rootType, String field) {}
+
+    /**
+     * The key of the join registry of a query root, which weakly references the root and compares it by identity,
+     * since criteria nodes may not implement {@code equals}.
+     */
+    private static final class RootKey extends WeakReference<From<?, ?>> {
+
+        private final int hash;
+
+        private RootKey(From<?, ?> root, ReferenceQueue<From<?, ?>> queue) {
+            super(root, queue);
+            this.hash = System.identityHashCode(root);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other)
+                return true;
+            final From<?, ?> root = get();
+            return root != null && other instanceof RootKey key && root == key.get();
+        }
+    }
+
+    /**
+     * A node of the join registry of a query root: the join created or reused for an attribute path, and the nodes
+     * of the attributes joined from it. A registry is only used by the thread that builds its query.
+     *
+     * @param join     The join, weakly referenced so that the registry does not keep its root reachable, or
+     *                 {@code null} for the root node.
+     * @param children The nodes of the attributes joined from this node, by attribute name.
+     */
+    private record JoinNode(WeakReference<Join<?, ?>> join, Map<String, JoinNode> children) {}
+
+    /**
+     * An attribute chain resolved against the metamodel.
+     *
+     * @param joinAttributes  The association attributes to join, in order.
+     * @param pluralJoinIndex The index of the first to-many association in {@code joinAttributes}, or -1 if there is none.
+     * @param rowPreserving   Whether inner joining the associations keeps each row of the query exactly once.
+     * @param finalAttribute  The name of the final attribute.
+     * @param idAttribute     The name of the id attribute, present when the final attribute is an association.
+     * @param javaType        The Java type of the resolved expression.
+     */
+    private record ResolvedPath(
+        List<String> joinAttributes,
+        int pluralJoinIndex,
+        boolean rowPreserving,
+        String finalAttribute,
+        Optional<String> idAttribute,
+        Class<?> javaType
+    ) {}
+
+    /**
+     * A chain of associations resolved against the metamodel.
+     *
+     * @param attributes      The association attributes, in order.
+     * @param pluralJoinIndex The index of the first to-many association in {@code attributes}, or -1 if there is none.
+     * @param rowPreserving   Whether inner joining the associations keeps each row of the query exactly once, which is
+     *                        the case when they are all mandatory to-one associations.
+     * @param javaType        The Java type of the last association (its element type for a to-many association).
+     */
+    private record AssociationChain(List<String> attributes, int pluralJoinIndex, boolean rowPreserving, Class<?> javaType) {}
 }
@@ -1,10 +1,16 @@
 package io.github._0xorigin.queryfilterbuilder.base.generators;
 
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import org.springframework.validation.BindingResult;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * A functional interface for generating a JPA {@link Expression} from a string field path.
@@ -28,4 +34,100 @@ public interface PathGenerator<T> {
      */
     <K extends Comparable<? super K> & Serializable> Expression<K> generate(Root<T> root, String field, String originalFieldName, BindingResult bindingResult);
 
+    /**
+     * Generates a JPA {@link Predicate} on the given field path, by applying the {@code predicateFunction} to the
+     * expression of the field.
+     * <p>
+     * Unlike {@link #generate}, the implementation decides where the predicate is evaluated, e.g. inside a correlated
+     * subquery for paths that go through a to-many association. The default implementation applies the function to
+     * the expression returned by {@link #generate}.
+     *
+     * @param root              The root of the query, from which to start path navigation.
+     * @param criteriaQuery     The criteria query being built.
+     * @param criteriaBuilder   The builder used to construct criteria query objects.
+     * @param field             The delimited field path (e.g., "customer.name").
+     * @param originalFieldName The original field name from the request, used for error reporting.
+     * @param bindingResult     The binding result to which any path resolution errors will be added.
+     * @param predicateFunction The function building the predicate from the expression of the field. It is called
+     *                          with a {@code null} expression if the path cannot be resolved.
+     * @param <K>               The data type of the target field.
+     * @return An {@link Optional} containing the generated predicate, or empty if the function returns no predicate.
+     */
+    default <K extends Comparable<? super K> & Serializable> Optional<Predicate> generatePredicate(
+        Root<T> root,
+        CriteriaQuery<?> criteriaQuery,
+        CriteriaBuilder criteriaBuilder,
+        String field,
+        String originalFieldName,
+        BindingResult bindingResult,
+        Function<Expression<K>, Optional<Predicate>> predicateFunction
+    ) {
+        return predicateFunction.apply(generate(root, field, originalFieldName, bindingResult));
+    }
+
+    /**
+     * Resolves the Java type of the value of the given field path, without building a query.
+     * The default implementation cannot resolve types and returns {@code null}.
+     *
+     * @param rootType          The Java type of the root entity.
+     * @param field             The delimited field path (e.g., "customer.name").
+     * @param originalFieldName The original field name from the request, used for error reporting.
+     * @param bindingResult     The binding result to which any path resolution errors will be added.
+     * @return The Java type of the value, or {@code null} if it cannot be resolved.
+     */
+    default Class<?> resolveJavaType(Class<T> rootType, String field, String originalFieldName, BindingResult bindingResult) {
+        return null;
+    }
+
+    /**
+     * Generates a JPA {@link Expression} selecting the value of the given field path, e.g., in a projection.
+     * Unlike {@link #generate}, the value does not need to be comparable, and associations that are not needed by the
+     * rest of the query should not drop the root entities whose association is null.
+     * The default implementation returns the expression of {@link #generate}.
+     *
+     * @param root              The root of the query, from which to start path navigation.
+     * @param field             The delimited field path (e.g., "customer.name").
+     * @param originalFieldName The original field name from the request, used for error reporting.
+     * @param bindingResult     The binding result to which any path resolution errors will be added.
+     * @return The generated {@link Expression}, or {@code null} if the path cannot be resolved.
+     */
+    default Expression<?> generateSelection(Root<T> root, String field, String originalFieldName, BindingResult bindingResult) {
+        return generate(root, field, originalFieldName, bindingResult);
+    }
+
+    /**
+     * Checks whether the joins of the given field path keep each row of the query exactly once, so that a count
+     * query can skip them when they are only needed to sort. An inner join drops the rows whose association is null,
+     * and repeats the rows with several associated entities.
+     * The default implementation cannot tell and returns {@code false}.
+     *
+     * @param rootType The Java type of the root entity.
+     * @param field    The delimited field path (e.g., "customer.name").
+     * @return {@code true} if the joins of the path preserve the rows.
+     */
+    default boolean preservesRows(Class<T> rootType, String field) {
+        return false;
+    }
+
+    /**
+     * Fetches the given association paths with the root entity, reusing the existing fetches.
+     * The associations that the {@code traversedFields} go through are fetched by inner joins, which the paths of
+     * these fields then reuse, and the other ones by left joins.
+     * The default implementation does not fetch.
+     *
+     * @param root            The root of the query, from which to start path navigation.
+     * @param criteriaQuery   The criteria query being built. Nothing is fetched if it does not select the root entity
+     *                        (e.g., a count query).
+     * @param fetchPaths      The delimited association paths to fetch (e.g., "customer.address").
+     * @param traversedFields The delimited field paths that the query generates afterwards (e.g., "customer.name").
+     * @param bindingResult   The binding result to which any fetch path resolution errors will be added.
+     */
+    default void fetch(
+        Root<T> root,
+        CriteriaQuery<?> criteriaQuery,
+        Collection<String> fetchPaths,
+        Collection<String> traversedFields,
+        BindingResult bindingResult
+    ) {}
+
 }
@@ -0,0 +1,98 @@
+package io.github._0xorigin.queryfilterbuilder.base.metrics;
+
+import io.github._0xorigin.queryfilterbuilder.FilterContext;
+import io.github._0xorigin.queryfilterbuilder.base.builders.FilterBuilder;
+import io.github._0xorigin.queryfilterbuilder.base.holders.ErrorHolder;
+import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterWrapper;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.lang.NonNull;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A {@link FilterBuilder} decorator recording a {@link QueryFilterBuilderMetrics#PREDICATE_TIMER} timer per built
+ * predicate, tagged by entity type, resolved field, operator and source type.
+ *
+ * @param <T> The type of the entity being filtered.
+ */
+public final class InstrumentedFilterBuilder<T> implements FilterBuilder<T> {
+
+    private final FilterBuilder<T> delegate;
+    private final QueryFilterBuilderMetrics metrics;
+
+    /**
+     * Creates a new {@code InstrumentedFilterBuilder}.
+     *
+     * @param delegate The filter builder to instrument.
+     * @param metrics  The metrics recorder.
+     */
+    public InstrumentedFilterBuilder(FilterBuilder<T> delegate, QueryFilterBuilderMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Collection<FilterWrapper> getDistinctFilterWrappers(@NonNull FilterContext<T> filterContext) {
+        return delegate.getDistinctFilterWrappers(filterContext);
+    }
+
+    @Override
+    public FilterWrapper castValues(FilterContext<T> filterContext, FilterWrapper filterWrapper, ErrorHolder errorHolder) {
+        return delegate.castValues(filterContext, filterWrapper, errorHolder);
+    }
+
+    @Override
+    public void validate(FilterContext<T> filterContext, FilterWrapper filterWrapper, ErrorHolder errorHolder) {
+        delegate.validate(filterContext, filterWrapper, errorHolder);
+    }
+
+    @Override
+    public Optional<Predicate> buildPredicateForWrapper(
+        Root<T> root,
+        CriteriaQuery<?> criteriaQuery,
+        CriteriaBuilder criteriaBuilder,
+        FilterContext<T> filterContext,
+        FilterWrapper filterWrapper,
+        ErrorHolder errorHolder
+    ) {
+        final Tags tags = Tags.of(
+            QueryFilterBuilderMetrics.entity(root.getJavaType()),
+            Tag.of(QueryFilterBuilderMetrics.FIELD_TAG, filterWrapper.field()),
+            QueryFilterBuilderMetrics.of(QueryFilterBuilderMetrics.OPERATOR_TAG, filterWrapper.operator()),
+            QueryFilterBuilderMetrics.of(QueryFilterBuilderMetrics.SOURCE_TAG, filterWrapper.sourceType())
+        );
+        return metrics.record(
+            QueryFilterBuilderMetrics.PREDICATE_TIMER,
+            tags,
+            () -> delegate.buildPredicateForWrapper(root, criteriaQuery, criteriaBuilder, filterContext, filterWrapper, errorHolder)
+        );
+    }
+
+    @Override
+    public boolean isUnsatisfiable(FilterContext<T> filterContext, FilterWrapper filterWrapper) {
+        return delegate.isUnsatisfiable(filterContext, filterWrapper);
+    }
+
+    @Override
+    public List<?> getCastedValues(FilterContext<T> filterContext, FilterWrapper filterWrapper, ErrorHolder errorHolder) {
+        return delegate.getCastedValues(filterContext, filterWrapper, errorHolder);
+    }
+
+    @Override
+    public void fetchAssociations(
+        Root<T> root,
+        CriteriaQuery<?> criteriaQuery,
+        FilterContext<T> filterContext,
+        Collection<FilterWrapper> filterWrappers,
+        ErrorHolder errorHolder
+    ) {
+        delegate.fetchAssociations(root, criteriaQuery, filterContext, filterWrappers, errorHolder);
+    }
+}
@@ -0,0 +1,45 @@
+package io.github._0xorigin.queryfilterbuilder.base.metrics;
+
+import io.github._0xorigin.queryfilterbuilder.base.dtos.FilterRequest;
+import io.github._0xorigin.queryfilterbuilder.base.enums.SourceType;
+import io.github._0xorigin.queryfilterbuilder.base.parsers.FilterParser;
+import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterWrapper;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.List;
+
+/**
+ * A {@link FilterParser} decorator recording a {@link QueryFilterBuilderMetrics#PARSE_TIMER} timer per source type.
+ */
+public final class InstrumentedFilterParser implements FilterParser {
+
+    private static final Tags QUERY_PARAM_TAGS = Tags.of(QueryFilterBuilderMetrics.KIND_TAG, "filter")
+        .and(QueryFilterBuilderMetrics.of(QueryFilterBuilderMetrics.SOURCE_TAG, SourceType.QUERY_PARAM));
+    private static final Tags REQUEST_BODY_TAGS = Tags.of(QueryFilterBuilderMetrics.KIND_TAG, "filter")
+        .and(QueryFilterBuilderMetrics.of(QueryFilterBuilderMetrics.SOURCE_TAG, SourceType.REQUEST_BODY));
+
+    private final FilterParser delegate;
+    private final QueryFilterBuilderMetrics metrics;
+
+    /**
+     * Creates a new {@code InstrumentedFilterParser}.
+     *
+     * @param delegate The parser to instrument.
+     * @param metrics  The metrics recorder.
+     */
+    public InstrumentedFilterParser(FilterParser delegate, QueryFilterBuilderMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public List<FilterWrapper> parse(HttpServletRequest request) {
+        return metrics.record(QueryFilterBuilderMetrics.PARSE_TIMER, QUERY_PARAM_TAGS, () -> delegate.parse(request));
+    }
+
+    @Override
+    public List<FilterWrapper> parse(List<FilterRequest> filterRequests) {
+        return metrics.record(QueryFilterBuilderMetrics.PARSE_TIMER, REQUEST_BODY_TAGS, () -> delegate.parse(filterRequests));
+    }
+}
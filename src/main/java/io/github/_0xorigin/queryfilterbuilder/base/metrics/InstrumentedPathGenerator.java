@@ -0,0 +1,113 @@
+package io.github._0xorigin.queryfilterbuilder.base.metrics;
+
+import io.github._0xorigin.queryfilterbuilder.base.generators.PathGenerator;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.validation.BindingResult;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * A {@link PathGenerator} decorator recording a {@link QueryFilterBuilderMetrics#PATH_TIMER} timer per generated
+ * path, tagged by entity type and resolved field.
+ *
+ * @param <T> The type of the root entity.
+ */
+public final class InstrumentedPathGenerator<T> implements PathGenerator<T> {
+
+    private final PathGenerator<T> delegate;
+    private final QueryFilterBuilderMetrics metrics;
+
+    /**
+     * Creates a new {@code InstrumentedPathGenerator}.
+     *
+     * @param delegate The path generator to instrument.
+     * @param metrics  The metrics recorder.
+     */
+    public InstrumentedPathGenerator(PathGenerator<T> delegate, QueryFilterBuilderMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public <K extends Comparable<? super K> & Serializable> Expression<K> generate(
+        Root<T> root,
+        String field,
+        String originalFieldName,
+        BindingResult bindingResult
+    ) {
+        final Tags tags = Tags.of(
+            QueryFilterBuilderMetrics.entity(root.getJavaType()),
+            Tag.of(QueryFilterBuilderMetrics.FIELD_TAG, field)
+        );
+        return metrics.record(
+            QueryFilterBuilderMetrics.PATH_TIMER,
+            tags,
+            () -> delegate.<K>generate(root, field, originalFieldName, bindingResult)
+        );
+    }
+
+    @Override
+    public <K extends Comparable<? super K> & Serializable> Optional<Predicate> generatePredicate(
+        Root<T> root,
+        CriteriaQuery<?> criteriaQuery,
+        CriteriaBuilder criteriaBuilder,
+        String field,
+        String originalFieldName,
+        BindingResult bindingResult,
+        Function<Expression<K>, Optional<Predicate>> predicateFunction
+    ) {
+        // Delegated so that the generator can still choose where the predicate is evaluated; the timing includes the predicate function
+        final Tags tags = Tags.of(
+            QueryFilterBuilderMetrics.entity(root.getJavaType()),
+            Tag.of(QueryFilterBuilderMetrics.FIELD_TAG, field)
+        );
+        return metrics.record(
+            QueryFilterBuilderMetrics.PATH_TIMER,
+            tags,
+            () -> delegate.generatePredicate(root, criteriaQuery, criteriaBuilder, field, originalFieldName, bindingResult, predicateFunction)
+        );
+    }
+
+    @Override
+    public Class<?> resolveJavaType(Class<T> rootType, String field, String originalFieldName, BindingResult bindingResult) {
+        return delegate.resolveJavaType(rootType, field, originalFieldName, bindingResult);
+    }
+
+    @Override
+    public Expression<?> generateSelection(Root<T> root, String field, String originalFieldName, BindingResult bindingResult) {
+        final Tags tags = Tags.of(
+            QueryFilterBuilderMetrics.entity(root.getJavaType()),
+            Tag.of(QueryFilterBuilderMetrics.FIELD_TAG, field)
+        );
+        return metrics.record(
+            QueryFilterBuilderMetrics.PATH_TIMER,
+            tags,
+            () -> delegate.generateSelection(root, field, originalFieldName, bindingResult)
+        );
+    }
+
+    @Override
+    public boolean preservesRows(Class<T> rootType, String field) {
+        return delegate.preservesRows(rootType, field);
+    }
+
+    @Override
+    public void fetch(
+        Root<T> root,
+        CriteriaQuery<?> criteriaQuery,
+        Collection<String> fetchPaths,
+        Collection<String> traversedFields,
+        BindingResult bindingResult
+    ) {
+        delegate.fetch(root, criteriaQuery, fetchPaths, traversedFields, bindingResult);
+    }
+}
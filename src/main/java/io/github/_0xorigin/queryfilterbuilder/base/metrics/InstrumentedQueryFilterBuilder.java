@@ -0,0 +1,96 @@
+package io.github._0xorigin.queryfilterbuilder.base.metrics;
+
+import io.github._0xorigin.queryfilterbuilder.FilterContext;
+import io.github._0xorigin.queryfilterbuilder.FilterSpecification;
+import io.github._0xorigin.queryfilterbuilder.KeysetSpecification;
+import io.github._0xorigin.queryfilterbuilder.QueryFilterBuilder;
+import io.github._0xorigin.queryfilterbuilder.QuerySignature;
+import io.github._0xorigin.queryfilterbuilder.SortContext;
+import io.github._0xorigin.queryfilterbuilder.base.utils.RepositoryUtils;
+import io.github._0xorigin.queryfilterbuilder.exceptions.InvalidQueryParameterException;
+import io.github._0xorigin.queryfilterbuilder.exceptions.QueryBuilderConfigurationException;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * A {@link QueryFilterBuilder} decorator counting the errors raised while the built specifications are applied or the
+ * contexts are validated, as {@link QueryFilterBuilderMetrics#ERRORS_COUNTER} tagged by entity type and side:
+ * {@code client} for {@link InvalidQueryParameterException} and {@code server} for {@link QueryBuilderConfigurationException}.
+ *
+ * @param <T> The type of the entity being filtered and sorted.
+ */
+public final class InstrumentedQueryFilterBuilder<T> implements QueryFilterBuilder<T> {
+
+    private final QueryFilterBuilder<T> delegate;
+    private final QueryFilterBuilderMetrics metrics;
+
+    /**
+     * Creates a new {@code InstrumentedQueryFilterBuilder}.
+     *
+     * @param delegate The query filter builder to instrument.
+     * @param metrics  The metrics recorder.
+     */
+    public InstrumentedQueryFilterBuilder(QueryFilterBuilder<T> delegate, QueryFilterBuilderMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public FilterSpecification<T> buildFilterSpecification(@NonNull FilterContext<T> filterContext) {
+        final Specification<T> specification = delegate.buildFilterSpecification(filterContext);
+        return new FilterSpecification<>(countErrors(specification), RepositoryUtils.isEmptyResult(specification));
+    }
+
+    @Override
+    public Specification<T> buildSortSpecification(@NonNull SortContext<T> sortContext) {
+        return countErrors(delegate.buildSortSpecification(sortContext));
+    }
+
+    @Override
+    public KeysetSpecification<T> buildKeysetSpecification(@NonNull SortContext<T> sortContext, @Nullable String cursor) {
+        final KeysetSpecification<T> specification = delegate.buildKeysetSpecification(sortContext, cursor);
+        return new KeysetSpecification<>(countErrors(specification), specification.getKeysetWrappers(), specification::cursorOf);
+    }
+
+    @Override
+    public void validate(@NonNull FilterContext<T> filterContext) {
+        countErrors(filterContext.getType(), () -> delegate.validate(filterContext));
+    }
+
+    @Override
+    public void validate(@NonNull SortContext<T> sortContext) {
+        countErrors(sortContext.getType(), () -> delegate.validate(sortContext));
+    }
+
+    @Override
+    public QuerySignature buildSignature(@NonNull FilterContext<T> filterContext, @NonNull SortContext<T> sortContext) {
+        return delegate.buildSignature(filterContext, sortContext);
+    }
+
+    private void countErrors(Class<T> entityType, Runnable validation) {
+        try {
+            validation.run();
+        } catch (InvalidQueryParameterException exception) {
+            metrics.incrementErrors(entityType, "client");
+            throw exception;
+        } catch (QueryBuilderConfigurationException exception) {
+            metrics.incrementErrors(entityType, "server");
+            throw exception;
+        }
+    }
+
+    private Specification<T> countErrors(Specification<T> specification) {
+        return (root, criteriaQuery, criteriaBuilder) -> {
+            try {
+                return specification.toPredicate(root, criteriaQuery, criteriaBuilder);
+            } catch (InvalidQueryParameterException exception) {
+                metrics.incrementErrors(root.getJavaType(), "client");
+                throw exception;
+            } catch (QueryBuilderConfigurationException exception) {
+                metrics.incrementErrors(root.getJavaType(), "server");
+                throw exception;
+            }
+        };
+    }
+}
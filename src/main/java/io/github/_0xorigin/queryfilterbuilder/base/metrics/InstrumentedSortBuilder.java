@@ -0,0 +1,87 @@
+package io.github._0xorigin.queryfilterbuilder.base.metrics;
+
+import io.github._0xorigin.queryfilterbuilder.SortContext;
+import io.github._0xorigin.queryfilterbuilder.base.builders.SortBuilder;
+import io.github._0xorigin.queryfilterbuilder.base.holders.ErrorHolder;
+import io.github._0xorigin.queryfilterbuilder.base.wrappers.SortWrapper;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Root;
+import org.springframework.lang.NonNull;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * A {@link SortBuilder} decorator recording a {@link QueryFilterBuilderMetrics#ORDER_TIMER} timer per built order,
+ * tagged by entity type, resolved field, direction and source type.
+ *
+ * @param <T> The type of the entity being sorted.
+ */
+public final class InstrumentedSortBuilder<T> implements SortBuilder<T> {
+
+    private final SortBuilder<T> delegate;
+    private final QueryFilterBuilderMetrics metrics;
+
+    /**
+     * Creates a new {@code InstrumentedSortBuilder}.
+     *
+     * @param delegate The sort builder to instrument.
+     * @param metrics  The metrics recorder.
+     */
+    public InstrumentedSortBuilder(SortBuilder<T> delegate, QueryFilterBuilderMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Collection<SortWrapper> getDistinctSortWrappers(@NonNull SortContext<T> sortContext) {
+        return delegate.getDistinctSortWrappers(sortContext);
+    }
+
+    @Override
+    public Optional<Order> buildOrderForWrapper(
+        Root<T> root,
+        CriteriaQuery<?> criteriaQuery,
+        CriteriaBuilder criteriaBuilder,
+        SortContext<T> sortContext,
+        SortWrapper sortWrapper,
+        ErrorHolder errorHolder
+    ) {
+        final Tags tags = Tags.of(
+            QueryFilterBuilderMetrics.entity(root.getJavaType()),
+            Tag.of(QueryFilterBuilderMetrics.FIELD_TAG, sortWrapper.field()),
+            QueryFilterBuilderMetrics.of(QueryFilterBuilderMetrics.DIRECTION_TAG, sortWrapper.direction()),
+            QueryFilterBuilderMetrics.of(QueryFilterBuilderMetrics.SOURCE_TAG, sortWrapper.sourceType())
+        );
+        return metrics.record(
+            QueryFilterBuilderMetrics.ORDER_TIMER,
+            tags,
+            () -> delegate.buildOrderForWrapper(root, criteriaQuery, criteriaBuilder, sortContext, sortWrapper, errorHolder)
+        );
+    }
+
+    @Override
+    public void validate(SortContext<T> sortContext, SortWrapper sortWrapper, ErrorHolder errorHolder) {
+        delegate.validate(sortContext, sortWrapper, errorHolder);
+    }
+
+    @Override
+    public boolean mayChangeRows(SortContext<T> sortContext, SortWrapper sortWrapper) {
+        return delegate.mayChangeRows(sortContext, sortWrapper);
+    }
+
+    @Override
+    public void fetchAssociations(
+        Root<T> root,
+        CriteriaQuery<?> criteriaQuery,
+        SortContext<T> sortContext,
+        Collection<SortWrapper> sortWrappers,
+        ErrorHolder errorHolder
+    ) {
+        delegate.fetchAssociations(root, criteriaQuery, sortContext, sortWrappers, errorHolder);
+    }
+}
@@ -0,0 +1,45 @@
+package io.github._0xorigin.queryfilterbuilder.base.metrics;
+
+import io.github._0xorigin.queryfilterbuilder.base.dtos.SortRequest;
+import io.github._0xorigin.queryfilterbuilder.base.enums.SourceType;
+import io.github._0xorigin.queryfilterbuilder.base.parsers.SortParser;
+import io.github._0xorigin.queryfilterbuilder.base.wrappers.SortWrapper;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.List;
+
+/**
+ * A {@link SortParser} decorator recording a {@link QueryFilterBuilderMetrics#PARSE_TIMER} timer per source type.
+ */
+public final class InstrumentedSortParser implements SortParser {
+
+    private static final Tags QUERY_PARAM_TAGS = Tags.of(QueryFilterBuilderMetrics.KIND_TAG, "sort")
+        .and(QueryFilterBuilderMetrics.of(QueryFilterBuilderMetrics.SOURCE_TAG, SourceType.QUERY_PARAM));
+    private static final Tags REQUEST_BODY_TAGS = Tags.of(QueryFilterBuilderMetrics.KIND_TAG, "sort")
+        .and(QueryFilterBuilderMetrics.of(QueryFilterBuilderMetrics.SOURCE_TAG, SourceType.REQUEST_BODY));
+
+    private final SortParser delegate;
+    private final QueryFilterBuilderMetrics metrics;
+
+    /**
+     * Creates a new {@code InstrumentedSortParser}.
+     *
+     * @param delegate The parser to instrument.
+     * @param metrics  The metrics recorder.
+     */
+    public InstrumentedSortParser(SortParser delegate, QueryFilterBuilderMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public List<SortWrapper> parse(HttpServletRequest request) {
+        return metrics.record(QueryFilterBuilderMetrics.PARSE_TIMER, QUERY_PARAM_TAGS, () -> delegate.parse(request));
+    }
+
+    @Override
+    public List<SortWrapper> parse(List<SortRequest> sortRequests) {
+        return metrics.record(QueryFilterBuilderMetrics.PARSE_TIMER, REQUEST_BODY_TAGS, () -> delegate.parse(sortRequests));
+    }
+}
@@ -0,0 +1,105 @@
+package io.github._0xorigin.queryfilterbuilder.base.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Holds the meter names and tag keys recorded by the instrumented components, and records them against a
+ * {@link MeterRegistry}.
+ * <p>
+ * Tag values are taken from the template configuration (resolved fields, operators, directions, source types),
+ * never from raw request input, so the number of time series stays bounded.
+ */
+public final class QueryFilterBuilderMetrics {
+
+    /** Timer around {@code FilterParser.parse} and {@code SortParser.parse}. */
+    public static final String PARSE_TIMER = "query.filter.builder.parse";
+    /** Timer around {@code FilterBuilder.buildPredicateForWrapper}. */
+    public static final String PREDICATE_TIMER = "query.filter.builder.predicate";
+    /** Timer around {@code SortBuilder.buildOrderForWrapper}. */
+    public static final String ORDER_TIMER = "query.filter.builder.order";
+    /** Timer around {@code PathGenerator.generate}. */
+    public static final String PATH_TIMER = "query.filter.builder.path";
+    /** Counter of client-side and server-side errors raised while applying a specification. */
+    public static final String ERRORS_COUNTER = "query.filter.builder.errors";
+
+    /** Tag holding the simple name of the root entity. */
+    public static final String ENTITY_TAG = "entity";
+    /** Tag holding the resolved field or custom filter/sort name. */
+    public static final String FIELD_TAG = "field";
+    /** Tag holding the filter operator. */
+    public static final String OPERATOR_TAG = "operator";
+    /** Tag holding the sort direction. */
+    public static final String DIRECTION_TAG = "direction";
+    /** Tag holding the source of the filter or sort. */
+    public static final String SOURCE_TAG = "source";
+    /** Tag holding what is being parsed, either {@code filter} or {@code sort}. */
+    public static final String KIND_TAG = "kind";
+    /** Tag holding the side of an error, either {@code client} or {@code server}. */
+    public static final String SIDE_TAG = "side";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Creates a new {@code QueryFilterBuilderMetrics}.
+     *
+     * @param meterRegistry The registry to record the meters to.
+     */
+    public QueryFilterBuilderMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Times the given action with a timer of the given name and tags.
+     *
+     * @param name   The name of the timer.
+     * @param tags   The tags of the timer.
+     * @param action The action to time.
+     * @param <R>    The result type of the action.
+     * @return The result of the action.
+     */
+    public <R> R record(String name, Tags tags, Supplier<R> action) {
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return action.get();
+        } finally {
+            sample.stop(meterRegistry.timer(name, tags));
+        }
+    }
+
+    /**
+     * Increments the error counter.
+     *
+     * @param entityType The root entity type.
+     * @param side       The side of the error, either {@code client} or {@code server}.
+     */
+    public void incrementErrors(Class<?> entityType, String side) {
+        meterRegistry.counter(ERRORS_COUNTER, Tags.of(entity(entityType), Tag.of(SIDE_TAG, side))).increment();
+    }
+
+    /**
+     * Creates the entity tag for the given root entity type.
+     *
+     * @param entityType The root entity type, may be {@code null}.
+     * @return The entity tag.
+     */
+    public static Tag entity(Class<?> entityType) {
+        return Tag.of(ENTITY_TAG, entityType == null ? "unknown" : entityType.getSimpleName());
+    }
+
+    /**
+     * Creates a tag whose value is the lower-cased name of the given enum constant.
+     *
+     * @param key   The tag key.
+     * @param value The enum constant, may be {@code null}.
+     * @return The tag.
+     */
+    public static Tag of(String key, Enum<?> value) {
+        return Tag.of(key, value == null ? "none" : value.name().toLowerCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,79 @@
+package io.github._0xorigin.queryfilterbuilder.base.metrics;
+
+import io.github._0xorigin.queryfilterbuilder.QueryFilterBuilder;
+import io.github._0xorigin.queryfilterbuilder.base.builders.FilterBuilder;
+import io.github._0xorigin.queryfilterbuilder.base.builders.SortBuilder;
+import io.github._0xorigin.queryfilterbuilder.base.generators.PathGenerator;
+import io.github._0xorigin.queryfilterbuilder.base.parsers.FilterParser;
+import io.github._0xorigin.queryfilterbuilder.base.parsers.SortParser;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.lang.NonNull;
+
+/**
+ * A {@link BeanPostProcessor} wrapping the query building beans in their instrumented decorators when a
+ * {@link MeterRegistry} bean is available. Without a registry, beans are returned unchanged.
+ * <p>
+ * The registry is looked up lazily, when the first query building bean is initialized, so that the outcome does
+ * not depend on the order in which auto-configurations are processed.
+ */
+public final class QueryFilterBuilderMetricsPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private QueryFilterBuilderMetrics metrics;
+
+    /**
+     * Creates a new {@code QueryFilterBuilderMetricsPostProcessor}.
+     *
+     * @param meterRegistry A provider of the meter registry to record to.
+     */
+    public QueryFilterBuilderMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) throws BeansException {
+        if (!isInstrumentable(bean))
+            return bean;
+
+        final QueryFilterBuilderMetrics queryFilterBuilderMetrics = getMetrics();
+        if (queryFilterBuilderMetrics == null)
+            return bean;
+
+        return instrument(bean, queryFilterBuilderMetrics);
+    }
+
+    private static boolean isInstrumentable(Object bean) {
+        return bean instanceof FilterParser
+            || bean instanceof SortParser
+            || bean instanceof FilterBuilder<?>
+            || bean instanceof SortBuilder<?>
+            || bean instanceof PathGenerator<?>
+            || bean instanceof QueryFilterBuilder<?>;
+    }
+
+    private static Object instrument(Object bean, QueryFilterBuilderMetrics metrics) {
+        if (bean instanceof FilterParser filterParser)
+            return new InstrumentedFilterParser(filterParser, metrics);
+        if (bean instanceof SortParser sortParser)
+            return new InstrumentedSortParser(sortParser, metrics);
+        if (bean instanceof FilterBuilder<?> filterBuilder)
+            return new InstrumentedFilterBuilder<>(filterBuilder, metrics);
+        if (bean instanceof SortBuilder<?> sortBuilder)
+            return new InstrumentedSortBuilder<>(sortBuilder, metrics);
+        if (bean instanceof PathGenerator<?> pathGenerator)
+            return new InstrumentedPathGenerator<>(pathGenerator, metrics);
+        return new InstrumentedQueryFilterBuilder<>((QueryFilterBuilder<?>) bean, metrics);
+    }
+
+    private QueryFilterBuilderMetrics getMetrics() {
+        if (metrics == null) {
+            final MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry != null)
+                metrics = new QueryFilterBuilderMetrics(registry);
+        }
+        return metrics;
+    }
+}
@@ -0,0 +1,49 @@
+package io.github._0xorigin.queryfilterbuilder.base.plans;
+
+import io.github._0xorigin.queryfilterbuilder.base.enums.FilterType;
+import io.github._0xorigin.queryfilterbuilder.base.holders.CustomFilterHolder;
+import io.github._0xorigin.queryfilterbuilder.base.holders.FilterHolder;
+
+import java.util.Optional;
+
+/**
+ * An immutable, precompiled plan for a single filter.
+ * Plans are produced once when a filter template is built, so that request-time processing only needs
+ * a hash lookup instead of re-resolving aliases and re-checking the allowed operators and source types.
+ *
+ * @param field              The resolved entity field (for normal filters) or the custom filter name (for custom filters).
+ * @param filterType         The type of the filter (normal or custom).
+ * @param filterHolder       The holder of a normal filter, present only when {@code filterType} is {@link FilterType#NORMAL}.
+ * @param customFilterHolder The holder of a custom filter, present only when {@code filterType} is {@link FilterType#CUSTOM}.
+ * @param <T>                The type of the root entity.
+ */
+public record FilterPlan<T>(
+    String field,
+    FilterType filterType,
+    Optional<FilterHolder<T, ? extends Comparable<?>>> filterHolder,
+    Optional<CustomFilterHolder<T, ? extends Comparable<?>>> customFilterHolder
+) {
+    /**
+     * Creates a plan for a normal (field-based) filter.
+     *
+     * @param field        The resolved entity field.
+     * @param filterHolder The holder of the filter configuration.
+     * @param <T>          The type of the root entity.
+     * @return A new normal {@code FilterPlan}.
+     */
+    public static <T> FilterPlan<T> normal(final String field, final FilterHolder<T, ? extends Comparable<?>> filterHolder) {
+        return new FilterPlan<>(field, FilterType.NORMAL, Optional.of(filterHolder), Optional.empty());
+    }
+
+    /**
+     * Creates a plan for a custom filter.
+     *
+     * @param filterName         The name of the custom filter.
+     * @param customFilterHolder The holder of the custom filter configuration.
+     * @param <T>                The type of the root entity.
+     * @return A new custom {@code FilterPlan}.
+     */
+    public static <T> FilterPlan<T> custom(final String filterName, final CustomFilterHolder<T, ? extends Comparable<?>> customFilterHolder) {
+        return new FilterPlan<>(filterName, FilterType.CUSTOM, Optional.empty(), Optional.of(customFilterHolder));
+    }
+}
@@ -0,0 +1,53 @@
+package io.github._0xorigin.queryfilterbuilder.base.plans;
+
+import io.github._0xorigin.queryfilterbuilder.base.enums.SortType;
+import io.github._0xorigin.queryfilterbuilder.base.holders.CustomSortHolder;
+import io.github._0xorigin.queryfilterbuilder.base.holders.SortHolder;
+import org.springframework.data.domain.Sort;
+
+import java.util.Optional;
+
+/**
+ * An immutable, precompiled plan for a single sort.
+ * Plans are produced once when a sort template is built, so that request-time processing only needs
+ * a hash lookup followed by the creation of the JPA order.
+ *
+ * @param field            The resolved entity field (for normal sorts) or the custom sort name (for custom sorts).
+ * @param sortType         The type of the sort (normal or custom).
+ * @param direction        The direction to apply for normal sorts, or {@code null} for custom sorts which decide it themselves.
+ * @param sortHolder       The holder of a normal sort, present only when {@code sortType} is {@link SortType#NORMAL}.
+ * @param customSortHolder The holder of a custom sort, present only when {@code sortType} is {@link SortType#CUSTOM}.
+ * @param <T>              The type of the root entity.
+ */
+public record SortPlan<T>(
+    String field,
+    SortType sortType,
+    Sort.Direction direction,
+    Optional<SortHolder<T, ? extends Comparable<?>>> sortHolder,
+    Optional<CustomSortHolder<T>> customSortHolder
+) {
+    /**
+     * Creates a plan for a normal (field-based) sort.
+     *
+     * @param field      The resolved entity field.
+     * @param direction  The direction of the sort.
+     * @param sortHolder The holder of the sort configuration.
+     * @param <T>        The type of the root entity.
+     * @return A new normal {@code SortPlan}.
+     */
+    public static <T> SortPlan<T> normal(final String field, final Sort.Direction direction, final SortHolder<T, ? extends Comparable<?>> sortHolder) {
+        return new SortPlan<>(field, SortType.NORMAL, direction, Optional.of(sortHolder), Optional.empty());
+    }
+
+    /**
+     * Creates a plan for a custom sort.
+     *
+     * @param sortName         The name of the custom sort.
+     * @param customSortHolder The holder of the custom sort configuration.
+     * @param <T>              The type of the root entity.
+     * @return A new custom {@code SortPlan}.
+     */
+    public static <T> SortPlan<T> custom(final String sortName, final CustomSortHolder<T> customSortHolder) {
+        return new SortPlan<>(sortName, SortType.CUSTOM, null, Optional.empty(), Optional.of(customSortHolder));
+    }
+}
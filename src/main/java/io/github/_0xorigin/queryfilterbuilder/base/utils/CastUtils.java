@@ -0,0 +1,190 @@
+package io.github._0xorigin.queryfilterbuilder.base.utils;
+
+import io.github._0xorigin.queryfilterbuilder.base.filterfield.CastResult;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.Format;
+import java.text.ParsePosition;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQuery;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * A utility class for casting string values without throwing, used by the built-in filter fields.
+ * <p>
+ * A value is first checked against a plain pattern of its type, and values that do not match are rejected with a
+ * constant message naming the expected type, without constructing an exception. The values that match are then
+ * cast by the JDK parser, so the rare values it still rejects (e.g., numbers out of range) are rejected with a
+ * constant out-of-range message.
+ * This class cannot be instantiated.
+ */
+public final class CastUtils {
+
+    private static final Pattern INTEGER = Pattern.compile("[+-]?\\p{Nd}+");
+    private static final Pattern DECIMAL = Pattern.compile("[+-]?(\\p{Nd}+\\.?\\p{Nd}*|\\.\\p{Nd}+)([eE][+-]?\\p{Nd}+)?");
+    private static final Pattern FLOATING_POINT = Pattern.compile(
+        "[\\x00-\\x20]*[+-]?(NaN|Infinity|((\\d+\\.?\\d*|\\.\\d+)([eE][+-]?\\d+)?"
+            + "|0[xX](\\p{XDigit}+\\.?\\p{XDigit}*|\\.\\p{XDigit}+)[pP][+-]?\\d+)[fFdD]?)[\\x00-\\x20]*"
+    );
+    private static final Pattern UUID_PATTERN = Pattern.compile("\\p{XDigit}+(-\\p{XDigit}+){4}");
+
+    private static final String NOT_AN_INTEGER = "Value is not a valid integer.";
+    private static final String NOT_A_DECIMAL = "Value is not a valid decimal number.";
+    private static final String NOT_A_FLOATING_POINT = "Value is not a valid floating-point number.";
+    private static final String NOT_A_UUID = "Value is not a valid UUID.";
+    private static final String NOT_A_TEMPORAL = "Value is not a valid date or time.";
+    private static final String OUT_OF_RANGE = "Value is out of range.";
+
+    private CastUtils() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Casts the value with the given parser, reporting any runtime exception it throws as a failure with the
+     * message of the exception.
+     *
+     * @param value  The string value to cast.
+     * @param parser The parser, which may throw a runtime exception.
+     * @param <T>    The target type.
+     * @return The result of the cast.
+     */
+    public static <T> CastResult<T> tryParse(String value, Function<String, T> parser) {
+        try {
+            return CastResult.success(parser.apply(value));
+        } catch (RuntimeException exception) {
+            return CastResult.failure(exception.getLocalizedMessage());
+        }
+    }
+
+    /**
+     * Casts the value like {@link Integer#parseInt(String)}.
+     *
+     * @param value The string value to cast.
+     * @return The result of the cast.
+     */
+    public static CastResult<Integer> toInteger(String value) {
+        return parseIfMatches(INTEGER, value, Integer::parseInt, NOT_AN_INTEGER);
+    }
+
+    /**
+     * Casts the value like {@link Long#parseLong(String)}.
+     *
+     * @param value The string value to cast.
+     * @return The result of the cast.
+     */
+    public static CastResult<Long> toLong(String value) {
+        return parseIfMatches(INTEGER, value, Long::parseLong, NOT_AN_INTEGER);
+    }
+
+    /**
+     * Casts the value like {@link Short#parseShort(String)}.
+     *
+     * @param value The string value to cast.
+     * @return The result of the cast.
+     */
+    public static CastResult<Short> toShort(String value) {
+        return parseIfMatches(INTEGER, value, Short::parseShort, NOT_AN_INTEGER);
+    }
+
+    /**
+     * Casts the value like {@link Byte#parseByte(String)}.
+     *
+     * @param value The string value to cast.
+     * @return The result of the cast.
+     */
+    public static CastResult<Byte> toByte(String value) {
+        return parseIfMatches(INTEGER, value, Byte::parseByte, NOT_AN_INTEGER);
+    }
+
+    /**
+     * Casts the value like {@link Double#parseDouble(String)}.
+     *
+     * @param value The string value to cast.
+     * @return The result of the cast.
+     */
+    public static CastResult<Double> toDouble(String value) {
+        return parseIfMatches(FLOATING_POINT, value, Double::parseDouble, NOT_A_FLOATING_POINT);
+    }
+
+    /**
+     * Casts the value like {@link Float#parseFloat(String)}.
+     *
+     * @param value The string value to cast.
+     * @return The result of the cast.
+     */
+    public static CastResult<Float> toFloat(String value) {
+        return parseIfMatches(FLOATING_POINT, value, Float::parseFloat, NOT_A_FLOATING_POINT);
+    }
+
+    /**
+     * Casts the value like {@link BigInteger#BigInteger(String)}.
+     *
+     * @param value The string value to cast.
+     * @return The result of the cast.
+     */
+    public static CastResult<BigInteger> toBigInteger(String value) {
+        return parseIfMatches(INTEGER, value, BigInteger::new, NOT_AN_INTEGER);
+    }
+
+    /**
+     * Casts the value like {@link BigDecimal#BigDecimal(String)}.
+     *
+     * @param value The string value to cast.
+     * @return The result of the cast.
+     */
+    public static CastResult<BigDecimal> toBigDecimal(String value) {
+        return parseIfMatches(DECIMAL, value, BigDecimal::new, NOT_A_DECIMAL);
+    }
+
+    /**
+     * Casts the value like {@link UUID#fromString(String)}.
+     *
+     * @param value The string value to cast.
+     * @return The result of the cast.
+     */
+    public static CastResult<UUID> toUuid(String value) {
+        return parseIfMatches(UUID_PATTERN, value, UUID::fromString, NOT_A_UUID);
+    }
+
+    /**
+     * Creates a caster that casts the values like the {@code parse(CharSequence)} method of a {@code java.time} type.
+     * <p>
+     * The values are parsed and resolved once with the given formatter, which must be the one used by that method,
+     * and the values that cannot be parsed or resolved, or that are followed by unparsed text, are rejected with a
+     * constant message.
+     *
+     * @param formatter The formatter used by the {@code parse(CharSequence)} method.
+     * @param query     The query that obtains the target type from the parsed temporal.
+     * @param <T>       The target type.
+     * @return The caster, which is thread-safe.
+     */
+    public static <T extends TemporalAccessor> Function<String, CastResult<T>> temporalCaster(DateTimeFormatter formatter, TemporalQuery<T> query) {
+        final Format format = formatter.toFormat(query);
+        return value -> {
+            final T parsed = value != null ? parseFully(format, value) : null;
+            return parsed != null ? CastResult.success(parsed) : CastResult.failure(NOT_A_TEMPORAL);
+        };
+    }
+
+    // Rejects the values that do not match the pattern with the given message, and those the parser rejects as out of range
+    private static <T> CastResult<T> parseIfMatches(Pattern pattern, String value, Function<String, T> parser, String malformedMessage) {
+        if (value == null || !pattern.matcher(value).matches())
+            return CastResult.failure(malformedMessage);
+        try {
+            return CastResult.success(parser.apply(value));
+        } catch (RuntimeException exception) {
+            return CastResult.failure(OUT_OF_RANGE);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T parseFully(Format format, String value) {
+        final ParsePosition position = new ParsePosition(0);
+        final Object parsed = format.parseObject(value, position);
+        return position.getIndex() == value.length() ? (T) parsed : null;
+    }
+}
@@ -0,0 +1,41 @@
+package io.github._0xorigin.queryfilterbuilder.base.utils;
+
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * A utility class for telling what a criteria query selects, so that a specification only builds what the query needs.
+ * <p>
+ * Spring Data builds the count query of a page with the same specification as its content query, but with a
+ * {@code Long} result type. Such a query has no use for an order, or for the joins and fetches only needed to sort.
+ * This class cannot be instantiated.
+ */
+public final class CriteriaQueryUtils {
+
+    private CriteriaQueryUtils() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Checks whether the query is a count query, i.e. its result type is {@code Long}.
+     *
+     * @param criteriaQuery The criteria query being built.
+     * @return {@code true} if the query is a count query.
+     */
+    public static boolean isCountQuery(CriteriaQuery<?> criteriaQuery) {
+        final Class<?> resultType = criteriaQuery.getResultType();
+        return resultType == Long.class || resultType == long.class;
+    }
+
+    /**
+     * Checks whether the query selects the root entity, which is required to fetch its associations.
+     * Count queries and projections do not.
+     *
+     * @param root          The root of the query.
+     * @param criteriaQuery The criteria query being built.
+     * @return {@code true} if the result type of the query is the type of the root entity.
+     */
+    public static boolean selectsRoot(Root<?> root, CriteriaQuery<?> criteriaQuery) {
+        return root.getJavaType().equals(criteriaQuery.getResultType());
+    }
+}
@@ -0,0 +1,67 @@
+package io.github._0xorigin.queryfilterbuilder.base.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A utility class for encoding and decoding the opaque cursors of keyset pagination.
+ * <p>
+ * A cursor holds the string form of each key value of the last returned row. Each value is Base64 (URL-safe, unpadded)
+ * encoded, and the encoded values are joined with a dot, so that the cursor can be passed as is in a query parameter.
+ * This class cannot be instantiated.
+ */
+public final class CursorUtils {
+
+    private static final char SEPARATOR = '.';
+
+    private CursorUtils() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Encodes the given key values into a cursor.
+     *
+     * @param values The string form of the key values, in key order. Must not contain nulls.
+     * @return The encoded cursor.
+     */
+    public static String encode(List<String> values) {
+        final Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        final StringBuilder cursor = new StringBuilder();
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0)
+                cursor.append(SEPARATOR);
+            cursor.append(encoder.encodeToString(values.get(i).getBytes(StandardCharsets.UTF_8)));
+        }
+        return cursor.toString();
+    }
+
+    /**
+     * Decodes a cursor into its key values.
+     *
+     * @param cursor The cursor to decode.
+     * @return An {@link Optional} containing the key values in key order, or empty if the cursor is not a valid cursor.
+     */
+    public static Optional<List<String>> decode(String cursor) {
+        if (cursor == null || cursor.isEmpty())
+            return Optional.empty();
+
+        final Base64.Decoder decoder = Base64.getUrlDecoder();
+        final List<String> values = new ArrayList<>();
+        int start = 0;
+        while (true) {
+            final int end = cursor.indexOf(SEPARATOR, start);
+            final String part = end < 0 ? cursor.substring(start) : cursor.substring(start, end);
+            try {
+                values.add(new String(decoder.decode(part), StandardCharsets.UTF_8));
+            } catch (IllegalArgumentException e) {
+                return Optional.empty();
+            }
+            if (end < 0)
+                return Optional.of(values);
+            start = end + 1;
+        }
+    }
+}
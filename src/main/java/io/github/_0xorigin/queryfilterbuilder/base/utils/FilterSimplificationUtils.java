@@ -0,0 +1,135 @@
+package io.github._0xorigin.queryfilterbuilder.base.utils;
+
+import io.github._0xorigin.queryfilterbuilder.base.filteroperator.Operator;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A utility class for simplifying a filter once its values have been cast, before its condition is built.
+ * <p>
+ * UI widgets often produce degenerate filters, such as a range whose bounds are equal or reversed, or a pattern that
+ * matches any text. Such filters are rewritten to a cheaper operator, or to a constant condition, so that the database
+ * (or the in-memory evaluation) does not have to evaluate them. The rewritten filter always matches the same entities.
+ * Filters with invalid values are never simplified, so that the operator reports the same errors.
+ * This class cannot be instantiated.
+ */
+public final class FilterSimplificationUtils {
+
+    /**
+     * The types whose natural order is the order of their values in SQL. The other types (e.g., UUIDs, enums,
+     * strings or date-times with an offset) may be ordered differently by the database, so their ranges are kept.
+     */
+    private static final Set<Class<?>> SQL_ORDERED_TYPES = Set.of(
+        Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class, BigInteger.class, BigDecimal.class,
+        LocalDate.class, LocalDateTime.class, LocalTime.class, Instant.class, Year.class, YearMonth.class
+    );
+
+    private FilterSimplificationUtils() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Simplifies a filter.
+     * <ul>
+     *     <li>The ranges are only simplified when their bounds have a type whose natural order is the order of SQL
+     *     (e.g., numbers and local dates).</li>
+     *     <li>{@code between} with reversed bounds never matches, and with equal bounds is rewritten to {@code eq}.</li>
+     *     <li>{@code notBetween} with reversed bounds matches any non-null value, and with equal bounds is rewritten
+     *     to {@code neq}.</li>
+     *     <li>The pattern operators (e.g., {@code contains}) with an empty value match any non-null value.</li>
+     * </ul>
+     *
+     * @param operator The operator of the filter.
+     * @param values   The cast values of the filter.
+     * @param <K>      The type of the values.
+     * @return The simplified filter, which is the given filter when it cannot be simplified.
+     */
+    public static <K extends Comparable<? super K>> SimplifiedFilter<K> simplify(Operator operator, List<K> values) {
+        if (FilterUtils.isNotValidList(values))
+            return SimplifiedFilter.apply(operator, values);
+
+        return switch (operator) {
+            case BETWEEN -> simplifyRange(operator, values, SimplifiedFilter.neverMatches(), Operator.EQ);
+            case NOT_BETWEEN -> simplifyRange(operator, values, SimplifiedFilter.matchesNonNull(), Operator.NEQ);
+            case CONTAINS, ICONTAINS, STARTS_WITH, ISTARTS_WITH, ENDS_WITH, IENDS_WITH ->
+                values.get(0).toString().isEmpty() ? SimplifiedFilter.matchesNonNull() : SimplifiedFilter.apply(operator, values);
+            default -> SimplifiedFilter.apply(operator, values);
+        };
+    }
+
+    /**
+     * Checks whether a filter with the given operator may be simplified to a filter that never matches, depending on
+     * its values.
+     *
+     * @param operator The operator of the filter.
+     * @return {@code true} if {@link #simplify} may return {@link SimplifiedFilter.Outcome#NEVER_MATCHES} for the operator.
+     */
+    public static boolean canNeverMatch(Operator operator) {
+        return operator == Operator.BETWEEN;
+    }
+
+    private static <K extends Comparable<? super K>> SimplifiedFilter<K> simplifyRange(
+        Operator operator,
+        List<K> values,
+        SimplifiedFilter<K> reversed,
+        Operator singleValueOperator
+    ) {
+        if (values.size() != 2 || !hasSqlOrder(values.get(0)) || !hasSqlOrder(values.get(1)))
+            return SimplifiedFilter.apply(operator, values);
+
+        final int comparison = values.get(0).compareTo(values.get(1));
+        if (comparison > 0)
+            return reversed;
+        if (comparison == 0)
+            return SimplifiedFilter.apply(singleValueOperator, values.subList(0, 1));
+        return SimplifiedFilter.apply(operator, values);
+    }
+
+    private static boolean hasSqlOrder(Object value) {
+        return SQL_ORDERED_TYPES.contains(value.getClass());
+    }
+
+    /**
+     * The result of simplifying a filter.
+     *
+     * @param outcome  How the filter is evaluated.
+     * @param operator The operator to apply, when the outcome is {@link Outcome#APPLY}.
+     * @param values   The values to apply the operator with, when the outcome is {@link Outcome#APPLY}.
+     * @param <K>      The type of the values.
+     */
+    public record SimplifiedFilter<K>(Outcome outcome, Operator operator, List<K> values) {
+
+        /**
+         * How a simplified filter is evaluated.
+         */
+        public enum Outcome {
+            /** The operator is applied with the values. */
+            APPLY,
+            /** The filter matches no entity. */
+            NEVER_MATCHES,
+            /** The filter matches the entities whose value is not null. */
+            MATCHES_NON_NULL
+        }
+
+        static <K> SimplifiedFilter<K> apply(Operator operator, List<K> values) {
+            return new SimplifiedFilter<>(Outcome.APPLY, operator, values);
+        }
+
+        static <K> SimplifiedFilter<K> neverMatches() {
+            return new SimplifiedFilter<>(Outcome.NEVER_MATCHES, null, List.of());
+        }
+
+        static <K> SimplifiedFilter<K> matchesNonNull() {
+            return new SimplifiedFilter<>(Outcome.MATCHES_NON_NULL, null, List.of());
+        }
+    }
+}
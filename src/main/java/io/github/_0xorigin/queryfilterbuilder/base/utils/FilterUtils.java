@@ -11,6 +11,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.regex.Pattern;
@@ -87,6 +88,10 @@ public final class FilterUtils {
     /**
      * Splits a string by a delimiter, respecting URL-encoded delimiters (e.g., %2C for comma).
      * Decodes each part using URL decoding.
+     * <p>
+     * The delimiter is matched literally in a single pass, with the same semantics as {@link String#split(String)}
+     * on a quoted delimiter: leading empty parts are kept and trailing empty parts are removed.
+     * Parts that contain nothing to decode are returned as is.
      *
      * @param value     The string to split.
      * @param delimiter The raw delimiter to split by (not URL-encoded).
@@ -96,19 +101,37 @@ public final class FilterUtils {
         if (value == null || value.isEmpty() || delimiter == null || delimiter.isEmpty()) {
             return new String[0];
         }
-        Pattern pattern = Pattern.compile(Pattern.quote(delimiter));
-        String[] parts = pattern.split(value);
 
-        for (int i = 0; i < parts.length; i++) {
-            parts[i] = decodeString(parts[i]);
+        int index = value.indexOf(delimiter);
+        if (index < 0)
+            return new String[] { decodeString(value) };
+
+        final List<String> parts = new ArrayList<>();
+        int start = 0;
+        while (index >= 0) {
+            parts.add(value.substring(start, index));
+            start = index + delimiter.length();
+            index = value.indexOf(delimiter, start);
+        }
+        parts.add(value.substring(start));
+
+        int size = parts.size();
+        while (size > 0 && parts.get(size - 1).isEmpty())
+            size--;
+
+        final String[] result = new String[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = decodeString(parts.get(i));
         }
 
-        return parts;
+        return result;
     }
 
     private static String decodeString(String value) {
         if (value == null)
             return null;
+        if (value.indexOf('%') < 0 && value.indexOf('+') < 0)
+            return value;
         try {
             return URLDecoder.decode(value, StandardCharsets.UTF_8);
         } catch (IllegalArgumentException e) {
@@ -181,4 +204,30 @@ public final class FilterUtils {
     public static boolean isNotValidList(List<?> values) {
         return isEmpty(values) || isContainNulls(values);
     }
+
+    /**
+     * Compiles a SQL {@code LIKE} pattern into a regular expression that matches the same strings, so that the
+     * {@code LIKE} based operators can be evaluated in memory. The {@code %} wildcard matches any sequence of
+     * characters, {@code _} matches any single character, and all other characters match literally.
+     *
+     * @param likePattern The {@code LIKE} pattern.
+     * @return The compiled regular expression.
+     */
+    public static Pattern compileLikePattern(String likePattern) {
+        final StringBuilder regex = new StringBuilder(likePattern.length() + 16);
+        int literalStart = 0;
+        for (int i = 0; i < likePattern.length(); i++) {
+            final char c = likePattern.charAt(i);
+            if (c != '%' && c != '_')
+                continue;
+
+            if (i > literalStart)
+                regex.append(Pattern.quote(likePattern.substring(literalStart, i)));
+            regex.append(c == '%' ? ".*" : ".");
+            literalStart = i + 1;
+        }
+        if (literalStart < likePattern.length())
+            regex.append(Pattern.quote(likePattern.substring(literalStart)));
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
 }
@@ -0,0 +1,82 @@
+package io.github._0xorigin.queryfilterbuilder.base.utils;
+
+import io.github._0xorigin.queryfilterbuilder.configs.QueryFilterBuilderProperties.InClause;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * A utility class for building the IN predicates of the 'in' and 'notIn' operators.
+ * <p>
+ * Each distinct number of values renders a distinct SQL string, which defeats both the query plan cache of the
+ * persistence provider and the statement cache of the database. To keep the number of distinct SQL strings small,
+ * the values are de-duplicated, split into chunks of at most {@link InClause#chunkSize()} values, and each chunk is
+ * optionally padded to the next power of two by repeating its last value. Padding does not change the result of the
+ * predicate. This class cannot be instantiated.
+ */
+public final class InClauseUtils {
+
+    private InClauseUtils() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Checks whether the given values exceed the maximum number of values allowed for a single filter.
+     *
+     * @param values   The filter values.
+     * @param inClause The IN clause settings.
+     * @return {@code true} if a maximum size is set and the list has more than {@link InClause#maxSize()} elements.
+     */
+    public static boolean isTooLarge(List<?> values, InClause inClause) {
+        return inClause.maxSize() > 0 && values.size() > inClause.maxSize();
+    }
+
+    /**
+     * Builds a predicate that checks whether the expression's value is one of the given values. If the values do not
+     * fit in a single chunk, the IN predicates of all chunks are combined with OR.
+     *
+     * @param expression The expression to test.
+     * @param cb         The criteria builder.
+     * @param values     The filter values. Must be non-empty and contain no nulls.
+     * @param inClause   The IN clause settings.
+     * @param <T>        The type of the values.
+     * @return The IN predicate.
+     */
+    public static <T> Predicate in(Expression<T> expression, CriteriaBuilder cb, List<T> values, InClause inClause) {
+        final List<List<T>> chunks = chunk(new ArrayList<>(new LinkedHashSet<>(values)), inClause);
+        if (chunks.size() == 1)
+            return expression.in(chunks.get(0));
+
+        final Predicate[] predicates = new Predicate[chunks.size()];
+        for (int i = 0; i < chunks.size(); i++)
+            predicates[i] = expression.in(chunks.get(i));
+        return cb.or(predicates);
+    }
+
+    static <T> List<List<T>> chunk(List<T> values, InClause inClause) {
+        final int chunkSize = inClause.chunkSize();
+        final List<List<T>> chunks = new ArrayList<>((values.size() + chunkSize - 1) / chunkSize);
+        for (int from = 0; from < values.size(); from += chunkSize) {
+            final List<T> chunk = values.subList(from, Math.min(from + chunkSize, values.size()));
+            chunks.add(inClause.padding() ? pad(chunk, chunkSize) : chunk);
+        }
+        return chunks;
+    }
+
+    static <T> List<T> pad(List<T> values, int limit) {
+        final int size = Math.min(Integer.highestOneBit(values.size() - 1) << 1, limit);
+        if (values.size() >= size)
+            return values;
+
+        final List<T> padded = new ArrayList<>(size);
+        padded.addAll(values);
+        final T last = values.get(values.size() - 1);
+        while (padded.size() < size)
+            padded.add(last);
+        return padded;
+    }
+}
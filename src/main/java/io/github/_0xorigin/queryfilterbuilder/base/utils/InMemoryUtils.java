@@ -0,0 +1,135 @@
+package io.github._0xorigin.queryfilterbuilder.base.utils;
+
+import io.github._0xorigin.queryfilterbuilder.configs.QueryFilterBuilderProperties.InMemory;
+import org.springframework.lang.Nullable;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * A utility class for filtering and sorting in-memory collections with compiled predicates and comparators.
+ * <p>
+ * Collections of at least {@link InMemory#parallelThreshold()} entities are split by their spliterator and filtered in
+ * parallel on the common {@link java.util.concurrent.ForkJoinPool}, then sorted with {@link Arrays#parallelSort}.
+ * When a limit is set, each split keeps only its best {@code limit} entities in a bounded heap instead of sorting all
+ * the matches, and the heaps are merged. The result is always the same as a sequential, stable filter and sort.
+ * This class cannot be instantiated.
+ */
+public final class InMemoryUtils {
+
+    private InMemoryUtils() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Filters and sorts the given entities.
+     *
+     * @param entities   The entities to evaluate.
+     * @param predicate  The predicate the returned entities must match.
+     * @param comparator The comparator to sort the matches with, or {@code null} to keep the encounter order of
+     *                   {@code entities}. Entities that compare equal keep their encounter order.
+     * @param limit      The maximum number of entities to return.
+     * @param inMemory   The in-memory evaluation settings.
+     * @param <T>        The type of the entities.
+     * @return The first {@code limit} matching entities, in order.
+     * @throws IllegalArgumentException if the limit is not positive.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> List<T> filterAndSort(
+        Collection<? extends T> entities,
+        Predicate<? super T> predicate,
+        @Nullable Comparator<? super T> comparator,
+        int limit,
+        InMemory inMemory
+    ) {
+        if (limit <= 0)
+            throw new IllegalArgumentException("Limit must be positive");
+
+        final T[] elements = (T[]) entities.toArray();
+        final boolean parallel = elements.length >= inMemory.parallelThreshold();
+
+        if (comparator == null)
+            return stream(elements, parallel).filter(predicate).limit(limit).toList();
+
+        if (limit < elements.length)
+            return topK(elements, predicate, comparator, limit, parallel);
+
+        final T[] result = (T[]) stream(elements, parallel).filter(predicate).toArray();
+        if (parallel)
+            Arrays.parallelSort(result, comparator);
+        else
+            Arrays.sort(result, comparator);
+        return Collections.unmodifiableList(Arrays.asList(result));
+    }
+
+    private static <T> Stream<T> stream(T[] elements, boolean parallel) {
+        final Stream<T> stream = Arrays.stream(elements);
+        return parallel ? stream.parallel() : stream;
+    }
+
+    /**
+     * Selects the best {@code limit} matches, ordered by the comparator and then by their index, so that the result
+     * is the same as the prefix of a stable sort.
+     */
+    private static <T> List<T> topK(T[] elements, Predicate<? super T> predicate, Comparator<? super T> comparator, int limit, boolean parallel) {
+        final Comparator<Integer> indexComparator = (first, second) -> {
+            final int result = comparator.compare(elements[first], elements[second]);
+            return result != 0 ? result : Integer.compare(first, second);
+        };
+        final IntStream indexes = IntStream.range(0, elements.length);
+        final BoundedHeap heap = (parallel ? indexes.parallel() : indexes)
+            .filter(index -> predicate.test(elements[index]))
+            .boxed()
+            .collect(Collector.of(
+                () -> new BoundedHeap(limit, indexComparator),
+                BoundedHeap::offer,
+                BoundedHeap::merge
+            ));
+        return heap.drain().stream().map(index -> elements[index]).toList();
+    }
+
+    /**
+     * A heap of at most {@code limit} indexes, whose head is the worst index kept.
+     */
+    private static final class BoundedHeap {
+
+        private final int limit;
+        private final Comparator<Integer> comparator;
+        private final PriorityQueue<Integer> queue;
+
+        private BoundedHeap(int limit, Comparator<Integer> comparator) {
+            this.limit = limit;
+            this.comparator = comparator;
+            this.queue = new PriorityQueue<>(Math.min(limit, 1024), comparator.reversed());
+        }
+
+        private void offer(Integer index) {
+            if (queue.size() < limit) {
+                queue.add(index);
+            } else if (comparator.compare(index, queue.peek()) < 0) {
+                queue.poll();
+                queue.add(index);
+            }
+        }
+
+        private BoundedHeap merge(BoundedHeap other) {
+            for (Integer index : other.queue)
+                offer(index);
+            return this;
+        }
+
+        private List<Integer> drain() {
+            final Integer[] indexes = queue.toArray(new Integer[0]);
+            Arrays.sort(indexes, comparator);
+            return Arrays.asList(indexes);
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package io.github._0xorigin.queryfilterbuilder.base.utils;
+
+import org.springframework.beans.PropertyEditorRegistry;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+
+import java.beans.PropertyEditor;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A {@link BindingResult} that only materialises its underlying {@link BeanPropertyBindingResult} when it is first
+ * needed, typically when the first error is recorded.
+ * <p>
+ * The error queries used on the happy path ({@link #hasErrors()}, {@link #getErrorCount()}, {@link #getAllErrors()},
+ * {@link #hasFieldErrors()}, {@link #hasGlobalErrors()}) and {@link #getObjectName()} are answered without allocating
+ * the delegate. Every other method materialises it and delegates.
+ * <p>
+ * Like {@link BeanPropertyBindingResult}, this class is not thread-safe.
+ */
+public final class LazyBindingResult implements BindingResult {
+
+    private final Object target;
+    private final String objectName;
+    private BindingResult delegate;
+
+    /**
+     * Creates a new {@code LazyBindingResult}.
+     *
+     * @param target     The target object to bind onto.
+     * @param objectName The name of the target object.
+     */
+    public LazyBindingResult(@NonNull final Object target, @NonNull final String objectName) {
+        this.target = Objects.requireNonNull(target, "Target must not be null");
+        this.objectName = Objects.requireNonNull(objectName, "Object name must not be null");
+    }
+
+    /**
+     * Returns whether the underlying binding result has been created.
+     *
+     * @return {@code true} if the delegate has been materialised, {@code false} otherwise.
+     */
+    public boolean isMaterialized() {
+        return delegate != null;
+    }
+
+    private BindingResult delegate() {
+        if (delegate == null)
+            delegate = new BeanPropertyBindingResult(target, objectName);
+        return delegate;
+    }
+
+    @Override
+    public String getObjectName() {
+        return objectName;
+    }
+
+    @Override
+    public boolean hasErrors() {
+        return delegate != null && delegate.hasErrors();
+    }
+
+    @Override
+    public int getErrorCount() {
+        return delegate == null ? 0 : delegate.getErrorCount();
+    }
+
+    @Override
+    public List<ObjectError> getAllErrors() {
+        return delegate == null ? List.of() : delegate.getAllErrors();
+    }
+
+    @Override
+    public boolean hasGlobalErrors() {
+        return delegate != null && delegate.hasGlobalErrors();
+    }
+
+    @Override
+    public boolean hasFieldErrors() {
+        return delegate != null && delegate.hasFieldErrors();
+    }
+
+    @Override
+    public void addError(ObjectError error) {
+        delegate().addError(error);
+    }
+
+    @Override
+    public Object getTarget() {
+        return target;
+    }
+
+    @Override
+    public Map<String, Object> getModel() {
+        return delegate().getModel();
+    }
+
+    @Override
+    @Nullable
+    public Object getRawFieldValue(String field) {
+        return delegate().getRawFieldValue(field);
+    }
+
+    @Override
+    @Nullable
+    public PropertyEditor findEditor(@Nullable String field, @Nullable Class<?> valueType) {
+        return delegate().findEditor(field, valueType);
+    }
+
+    @Override
+    @Nullable
+    public PropertyEditorRegistry getPropertyEditorRegistry() {
+        return delegate().getPropertyEditorRegistry();
+    }
+
+    @Override
+    public String[] resolveMessageCodes(String errorCode) {
+        return delegate().resolveMessageCodes(errorCode);
+    }
+
+    @Override
+    public String[] resolveMessageCodes(String errorCode, String field) {
+        return delegate().resolveMessageCodes(errorCode, field);
+    }
+
+    @Override
+    public void recordFieldValue(String field, Class<?> type, @Nullable Object value) {
+        delegate().recordFieldValue(field, type, value);
+    }
+
+    @Override
+    public void recordSuppressedField(String field) {
+        delegate().recordSuppressedField(field);
+    }
+
+    @Override
+    public String[] getSuppressedFields() {
+        return delegate().getSuppressedFields();
+    }
+
+    @Override
+    public void setNestedPath(String nestedPath) {
+        delegate().setNestedPath(nestedPath);
+    }
+
+    @Override
+    public String getNestedPath() {
+        return delegate().getNestedPath();
+    }
+
+    @Override
+    public void pushNestedPath(String subPath) {
+        delegate().pushNestedPath(subPath);
+    }
+
+    @Override
+    public void popNestedPath() throws IllegalStateException {
+        delegate().popNestedPath();
+    }
+
+    @Override
+    public void reject(String errorCode) {
+        delegate().reject(errorCode);
+    }
+
+    @Override
+    public void reject(String errorCode, String defaultMessage) {
+        delegate().reject(errorCode, defaultMessage);
+    }
+
+    @Override
+    public void reject(String errorCode, @Nullable Object[] errorArgs, @Nullable String defaultMessage) {
+        delegate().reject(errorCode, errorArgs, defaultMessage);
+    }
+
+    @Override
+    public void rejectValue(@Nullable String field, String errorCode) {
+        delegate().rejectValue(field, errorCode);
+    }
+
+    @Override
+    public void rejectValue(@Nullable String field, String errorCode, String defaultMessage) {
+        delegate().rejectValue(field, errorCode, defaultMessage);
+    }
+
+    @Override
+    public void rejectValue(@Nullable String field, String errorCode, @Nullable Object[] errorArgs, @Nullable String defaultMessage) {
+        delegate().rejectValue(field, errorCode, errorArgs, defaultMessage);
+    }
+
+    @Override
+    public void addAllErrors(Errors errors) {
+        delegate().addAllErrors(errors);
+    }
+
+    @Override
+    public int getGlobalErrorCount() {
+        return delegate().getGlobalErrorCount();
+    }
+
+    @Override
+    public List<ObjectError> getGlobalErrors() {
+        return delegate().getGlobalErrors();
+    }
+
+    @Override
+    @Nullable
+    public ObjectError getGlobalError() {
+        return delegate().getGlobalError();
+    }
+
+    @Override
+    public int getFieldErrorCount() {
+        return delegate().getFieldErrorCount();
+    }
+
+    @Override
+    public List<FieldError> getFieldErrors() {
+        return delegate().getFieldErrors();
+    }
+
+    @Override
+    @Nullable
+    public FieldError getFieldError() {
+        return delegate().getFieldError();
+    }
+
+    @Override
+    public boolean hasFieldErrors(String field) {
+        return delegate().hasFieldErrors(field);
+    }
+
+    @Override
+    public int getFieldErrorCount(String field) {
+        return delegate().getFieldErrorCount(field);
+    }
+
+    @Override
+    public List<FieldError> getFieldErrors(String field) {
+        return delegate().getFieldErrors(field);
+    }
+
+    @Override
+    @Nullable
+    public FieldError getFieldError(String field) {
+        return delegate().getFieldError(field);
+    }
+
+    @Override
+    @Nullable
+    public Object getFieldValue(String field) {
+        return delegate().getFieldValue(field);
+    }
+
+    @Override
+    @Nullable
+    public Class<?> getFieldType(String field) {
+        return delegate().getFieldType(field);
+    }
+
+    @Override
+    public String toString() {
+        return delegate == null ? "LazyBindingResult [" + objectName + "]: 0 errors" : delegate.toString();
+    }
+}
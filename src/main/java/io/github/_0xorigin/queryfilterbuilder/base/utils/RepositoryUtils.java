@@ -0,0 +1,124 @@
+package io.github._0xorigin.queryfilterbuilder.base.utils;
+
+import io.github._0xorigin.queryfilterbuilder.FilterSpecification;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.util.List;
+
+/**
+ * A utility class for querying a {@link JpaSpecificationExecutor} with a filter specification.
+ * <p>
+ * When the specification is a {@link FilterSpecification} whose filters provably match no entity, an empty result is
+ * returned without querying the database. Otherwise, the call is delegated to the repository.
+ * This class cannot be instantiated.
+ */
+public final class RepositoryUtils {
+
+    private RepositoryUtils() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Returns all the entities matching the specification.
+     *
+     * @param repository    The repository to query.
+     * @param specification The specification to apply.
+     * @param <T>           The type of the entities.
+     * @return The matching entities, or an empty list if the specification matches no entity.
+     */
+    public static <T> List<T> findAll(JpaSpecificationExecutor<T> repository, Specification<T> specification) {
+        return isEmptyResult(specification) ? List.of() : repository.findAll(specification);
+    }
+
+    /**
+     * Returns all the entities matching the specification, in the given order.
+     *
+     * @param repository    The repository to query.
+     * @param specification The specification to apply.
+     * @param sort          The order of the entities.
+     * @param <T>           The type of the entities.
+     * @return The matching entities, or an empty list if the specification matches no entity.
+     */
+    public static <T> List<T> findAll(JpaSpecificationExecutor<T> repository, Specification<T> specification, Sort sort) {
+        return isEmptyResult(specification) ? List.of() : repository.findAll(specification, sort);
+    }
+
+    /**
+     * Returns a page of the entities matching the specification. No count query is issued for an empty result.
+     *
+     * @param repository    The repository to query.
+     * @param specification The specification to apply.
+     * @param pageable      The page to return.
+     * @param <T>           The type of the entities.
+     * @return The page of matching entities, or an empty page if the specification matches no entity.
+     */
+    public static <T> Page<T> findAll(JpaSpecificationExecutor<T> repository, Specification<T> specification, Pageable pageable) {
+        return isEmptyResult(specification) ? Page.empty(pageable) : repository.findAll(specification, pageable);
+    }
+
+    /**
+     * Returns a slice of the entities matching the specification, which tells whether a next slice exists instead of
+     * counting all the matching entities. The content query reads one more entity than the size of the slice to tell
+     * whether a next slice exists, so no count query is issued.
+     *
+     * @param repository    The repository to query.
+     * @param specification The specification to apply.
+     * @param pageable      The slice to return, with its sort.
+     * @param <T>           The type of the entities.
+     * @return The slice of matching entities, or an empty slice if the specification matches no entity.
+     */
+    public static <T> Slice<T> findSlice(JpaSpecificationExecutor<T> repository, Specification<T> specification, Pageable pageable) {
+        if (isEmptyResult(specification))
+            return new SliceImpl<>(List.of(), pageable, false);
+        if (pageable.isUnpaged())
+            return new SliceImpl<>(repository.findAll(specification, pageable.getSort()), pageable, false);
+
+        final Window<T> window = repository.findBy(specification, query -> query
+            .sortBy(pageable.getSort())
+            .limit(pageable.getPageSize())
+            .scroll(ScrollPosition.offset(pageable.getOffset())));
+        return new SliceImpl<>(window.getContent(), pageable, window.hasNext());
+    }
+
+    /**
+     * Counts the entities matching the specification.
+     *
+     * @param repository    The repository to query.
+     * @param specification The specification to apply.
+     * @param <T>           The type of the entities.
+     * @return The number of matching entities, which is {@code 0} if the specification matches no entity.
+     */
+    public static <T> long count(JpaSpecificationExecutor<T> repository, Specification<T> specification) {
+        return isEmptyResult(specification) ? 0L : repository.count(specification);
+    }
+
+    /**
+     * Checks whether any entity matches the specification.
+     *
+     * @param repository    The repository to query.
+     * @param specification The specification to apply.
+     * @param <T>           The type of the entities.
+     * @return {@code true} if an entity matches, which is never the case if the specification matches no entity.
+     */
+    public static <T> boolean exists(JpaSpecificationExecutor<T> repository, Specification<T> specification) {
+        return !isEmptyResult(specification) && repository.exists(specification);
+    }
+
+    /**
+     * Checks whether the specification is a {@link FilterSpecification} whose filters provably match no entity.
+     *
+     * @param specification The specification to check, which may be null.
+     * @return {@code true} if querying the database can be skipped.
+     */
+    public static boolean isEmptyResult(Specification<?> specification) {
+        return specification instanceof FilterSpecification<?> filterSpecification && filterSpecification.isEmptyResult();
+    }
+}
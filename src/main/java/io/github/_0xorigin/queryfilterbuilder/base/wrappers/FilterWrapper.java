@@ -3,6 +3,7 @@ package io.github._0xorigin.queryfilterbuilder.base.wrappers;
 import io.github._0xorigin.queryfilterbuilder.base.enums.FilterType;
 import io.github._0xorigin.queryfilterbuilder.base.enums.SourceType;
 import io.github._0xorigin.queryfilterbuilder.base.filteroperator.Operator;
+import org.springframework.validation.ObjectError;
 
 import java.util.List;
 import java.util.Optional;
@@ -17,6 +18,7 @@ import java.util.Optional;
  * @param values            A list of string values to be used by the operator.
  * @param sourceType        The source of the filter (e.g., query parameter or request body).
  * @param filterType        The type of the filter (normal or custom), which is determined in parsing process.
+ * @param castValues        The values cast ahead of the queries, when a specification is built, if any.
  */
 public record FilterWrapper (
     String field,
@@ -24,8 +26,30 @@ public record FilterWrapper (
     Operator operator,
     List<String> values,
     SourceType sourceType,
-    Optional<FilterType> filterType
+    Optional<FilterType> filterType,
+    Optional<CastValues> castValues
 ) {
+    /**
+     * Creates a new {@code FilterWrapper} instance whose values are not cast yet.
+     *
+     * @param field             The delimited path to the field.
+     * @param originalFieldName The original field name from the request.
+     * @param operator          The filter operator to be applied.
+     * @param values            A list of string values to be used by the operator.
+     * @param sourceType        The source of the filter.
+     * @param filterType        The type of the filter.
+     */
+    public FilterWrapper(
+        final String field,
+        final String originalFieldName,
+        final Operator operator,
+        final List<String> values,
+        final SourceType sourceType,
+        final Optional<FilterType> filterType
+    ) {
+        this(field, originalFieldName, operator, values, sourceType, filterType, Optional.empty());
+    }
+
     /**
      * Creates a new {@code FilterWrapper} instance with the specified {@link FilterType}.
      * This is a wither method that allows for the immutable update of the filter type.
@@ -34,6 +58,68 @@ public record FilterWrapper (
      * @return A new {@code FilterWrapper} instance with the updated filter type.
      */
     public FilterWrapper withFilterType(final FilterType filterType) {
-        return new FilterWrapper(field, originalFieldName, operator, values, sourceType, Optional.ofNullable(filterType));
+        return new FilterWrapper(field, originalFieldName, operator, values, sourceType, Optional.ofNullable(filterType), castValues);
+    }
+
+    /**
+     * Creates a new {@code FilterWrapper} instance with the values cast to the given data type.
+     * This is a wither method that allows for the immutable update of the cast values.
+     *
+     * @param dataType The data type the values were cast to.
+     * @param values   The cast values, in the order of the raw values.
+     * @return A new {@code FilterWrapper} instance with the cast values.
+     */
+    public FilterWrapper withCastValues(final Class<?> dataType, final List<?> values) {
+        return withCastValues(dataType, values, List.of());
+    }
+
+    /**
+     * Creates a new {@code FilterWrapper} instance with the values cast to the given data type, and the errors found
+     * while casting them.
+     * This is a wither method that allows for the immutable update of the cast values.
+     *
+     * @param dataType The data type the values were cast to.
+     * @param values   The cast values, in the order of the raw values.
+     * @param errors   The errors found while casting the values.
+     * @return A new {@code FilterWrapper} instance with the cast values.
+     */
+    public FilterWrapper withCastValues(final Class<?> dataType, final List<?> values, final List<ObjectError> errors) {
+        return new FilterWrapper(field, originalFieldName, operator, this.values, sourceType, filterType, Optional.of(new CastValues(dataType, values, errors)));
+    }
+
+    /**
+     * The values of a filter, cast once so that each query built from the filter reuses them.
+     *
+     * @param dataType The data type the values were cast to, which must match the type of the filtered expression.
+     * @param values   The cast values.
+     * @param errors   The errors found while casting the values, which are reported by each query built from the filter.
+     */
+    public record CastValues(Class<?> dataType, List<?> values, List<ObjectError> errors) {
+
+        /**
+         * Creates new {@code CastValues}, copying the errors.
+         */
+        public CastValues {
+            errors = List.copyOf(errors);
+        }
+
+        /**
+         * Creates new {@code CastValues} whose values are all valid.
+         *
+         * @param dataType The data type the values were cast to.
+         * @param values   The cast values.
+         */
+        public CastValues(final Class<?> dataType, final List<?> values) {
+            this(dataType, values, List.of());
+        }
+
+        /**
+         * Checks whether errors were found while casting the values.
+         *
+         * @return {@code true} if some values could not be cast, {@code false} otherwise.
+         */
+        public boolean hasErrors() {
+            return !errors.isEmpty();
+        }
     }
 }
@@ -0,0 +1,17 @@
+package io.github._0xorigin.queryfilterbuilder.base.wrappers;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * A wrapper that represents a single key of a keyset (seek) pagination.
+ * Keys are kept in the order in which they are compared, with the entity id as the last, tie-breaking key.
+ *
+ * @param field             The delimited path to the field (e.g., "customer.name").
+ * @param originalFieldName The original field name from the request, used for error reporting.
+ * @param direction         The direction of the key (ASC or DESC).
+ */
+public record KeysetWrapper(
+    String field,
+    String originalFieldName,
+    Sort.Direction direction
+) {}
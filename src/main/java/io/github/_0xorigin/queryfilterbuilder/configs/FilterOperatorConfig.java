@@ -2,6 +2,7 @@ package io.github._0xorigin.queryfilterbuilder.configs;
 
 import io.github._0xorigin.queryfilterbuilder.base.services.LocalizationService;
 import io.github._0xorigin.queryfilterbuilder.operators.*;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -10,6 +11,7 @@ import org.springframework.context.annotation.Configuration;
  * Each bean encapsulates the logic for a specific {@link io.github._0xorigin.queryfilterbuilder.base.filteroperator.Operator}.
  */
 @Configuration
+@EnableConfigurationProperties(QueryFilterBuilderProperties.class)
 public class FilterOperatorConfig {
 
     /**
@@ -87,11 +89,13 @@ public class FilterOperatorConfig {
 
     /**
      * Creates a bean for the 'in' operator.
+     * @param properties          Configuration properties holding the IN clause settings.
+     * @param localizationService Service for retrieving localized error messages.
      * @return An {@link In} instance.
      */
     @Bean
-    public In in() {
-        return new In();
+    public In in(QueryFilterBuilderProperties properties, LocalizationService localizationService) {
+        return new In(properties, localizationService);
     }
 
     /**
@@ -160,11 +164,13 @@ public class FilterOperatorConfig {
 
     /**
      * Creates a bean for the 'notIn' operator.
+     * @param properties          Configuration properties holding the IN clause settings.
+     * @param localizationService Service for retrieving localized error messages.
      * @return A {@link NotIn} instance.
      */
     @Bean
-    public NotIn notIn() {
-        return new NotIn();
+    public NotIn notIn(QueryFilterBuilderProperties properties, LocalizationService localizationService) {
+        return new NotIn(properties, localizationService);
     }
 
     /**
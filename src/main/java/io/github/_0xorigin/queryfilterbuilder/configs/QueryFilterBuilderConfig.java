@@ -1,15 +1,32 @@
 package io.github._0xorigin.queryfilterbuilder.configs;
 
+import io.github._0xorigin.queryfilterbuilder.InMemoryQueryFilterBuilder;
+import io.github._0xorigin.queryfilterbuilder.InMemoryQueryFilterBuilderImp;
 import io.github._0xorigin.queryfilterbuilder.QueryFilterBuilder;
 import io.github._0xorigin.queryfilterbuilder.QueryFilterBuilderImp;
+import io.github._0xorigin.queryfilterbuilder.QueryProjector;
+import io.github._0xorigin.queryfilterbuilder.QueryProjectorImp;
+import io.github._0xorigin.queryfilterbuilder.QueryStreamer;
+import io.github._0xorigin.queryfilterbuilder.QueryStreamerImp;
 import io.github._0xorigin.queryfilterbuilder.base.builders.FilterBuilder;
 import io.github._0xorigin.queryfilterbuilder.base.builders.FilterBuilderImp;
+import io.github._0xorigin.queryfilterbuilder.base.builders.InMemoryBuilder;
+import io.github._0xorigin.queryfilterbuilder.base.builders.InMemoryBuilderImp;
+import io.github._0xorigin.queryfilterbuilder.base.builders.KeysetBuilder;
+import io.github._0xorigin.queryfilterbuilder.base.builders.KeysetBuilderImp;
 import io.github._0xorigin.queryfilterbuilder.base.builders.SortBuilder;
 import io.github._0xorigin.queryfilterbuilder.base.builders.SortBuilderImp;
+import io.github._0xorigin.queryfilterbuilder.base.cache.LocalQueryResultCache;
+import io.github._0xorigin.queryfilterbuilder.base.cache.QueryResultCache;
+import io.github._0xorigin.queryfilterbuilder.base.cache.QueryResultCacheInvalidator;
+import io.github._0xorigin.queryfilterbuilder.base.cache.SpringQueryResultCache;
 import io.github._0xorigin.queryfilterbuilder.base.enumfield.AbstractEnumFilterField;
 import io.github._0xorigin.queryfilterbuilder.base.enumfield.EnumFilterFieldImp;
+import io.github._0xorigin.queryfilterbuilder.base.generators.AccessorGenerator;
+import io.github._0xorigin.queryfilterbuilder.base.generators.FieldAccessorGenerator;
 import io.github._0xorigin.queryfilterbuilder.base.generators.FieldPathGenerator;
 import io.github._0xorigin.queryfilterbuilder.base.generators.PathGenerator;
+import io.github._0xorigin.queryfilterbuilder.base.metrics.QueryFilterBuilderMetricsPostProcessor;
 import io.github._0xorigin.queryfilterbuilder.base.parsers.FilterParser;
 import io.github._0xorigin.queryfilterbuilder.base.parsers.FilterParserImp;
 import io.github._0xorigin.queryfilterbuilder.base.parsers.SortParser;
@@ -17,11 +34,17 @@ import io.github._0xorigin.queryfilterbuilder.base.parsers.SortParserImp;
 import io.github._0xorigin.queryfilterbuilder.base.services.LocalizationService;
 import io.github._0xorigin.queryfilterbuilder.registries.FilterFieldRegistry;
 import io.github._0xorigin.queryfilterbuilder.registries.FilterOperatorRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.metamodel.Metamodel;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
 
 /**
  * The main Spring configuration class for the Query Filter Builder.
@@ -75,14 +98,28 @@ public class QueryFilterBuilderConfig {
         return new FieldPathGenerator<>(metamodel, properties, localizationService);
     }
 
+    /**
+     * Creates the {@link AccessorGenerator} bean.
+     * @param metamodel The JPA metamodel.
+     * @param properties The configuration properties.
+     * @param localizationService The service for localized messages.
+     * @param <T> The generic type of the entity.
+     * @return A {@link FieldAccessorGenerator} instance.
+     */
+    @Bean
+    public <T> AccessorGenerator<T> accessorGenerator(Metamodel metamodel, QueryFilterBuilderProperties properties, LocalizationService localizationService) {
+        return new FieldAccessorGenerator<>(metamodel, properties, localizationService);
+    }
+
     /**
      * Creates the {@link AbstractEnumFilterField} bean
      *
+     * @param properties The configuration properties.
      * @return A {@link EnumFilterFieldImp} instance.
      */
     @Bean
-    public AbstractEnumFilterField abstractEnumFilterField() {
-        return new EnumFilterFieldImp();
+    public AbstractEnumFilterField abstractEnumFilterField(QueryFilterBuilderProperties properties) {
+        return new EnumFilterFieldImp(properties.defaults().enumMatching());
     }
 
     /**
@@ -123,18 +160,172 @@ public class QueryFilterBuilderConfig {
         return new SortBuilderImp<>(fieldPathGenerator, sortParser);
     }
 
+    /**
+     * Creates the {@link KeysetBuilder} bean.
+     * @param sortBuilder The sort builder service.
+     * @param fieldPathGenerator The path generator service.
+     * @param metamodel The JPA metamodel.
+     * @param properties The configuration properties.
+     * @param filterFieldRegistry The registry of filterable fields.
+     * @param enumFilterField The enum filter field service.
+     * @param localizationService The service for localized messages.
+     * @param <T> The generic type of the entity.
+     * @return A {@link KeysetBuilderImp} instance.
+     */
+    @Bean
+    public <T> KeysetBuilder<T> keysetBuilder(
+        SortBuilder<T> sortBuilder,
+        PathGenerator<T> fieldPathGenerator,
+        Metamodel metamodel,
+        QueryFilterBuilderProperties properties,
+        FilterFieldRegistry filterFieldRegistry,
+        AbstractEnumFilterField enumFilterField,
+        LocalizationService localizationService
+    ) {
+        return new KeysetBuilderImp<>(sortBuilder, fieldPathGenerator, metamodel, properties, filterFieldRegistry, enumFilterField, localizationService);
+    }
+
     /**
      * Creates the main {@link QueryFilterBuilder} bean.
      * @param filterBuilder The filter builder service.
      * @param sortBuilder The sort builder service.
+     * @param keysetBuilder The keyset builder service.
      * @param <T> The generic type of the entity.
      * @return A {@link QueryFilterBuilderImp} instance.
      */
     @Bean
     public <T> QueryFilterBuilder<T> queryFilterBuilder(
         FilterBuilder<T> filterBuilder,
-        SortBuilder<T> sortBuilder
+        SortBuilder<T> sortBuilder,
+        KeysetBuilder<T> keysetBuilder
+    ) {
+        return new QueryFilterBuilderImp<>(filterBuilder, sortBuilder, keysetBuilder);
+    }
+
+    /**
+     * Creates the {@link InMemoryBuilder} bean.
+     * @param accessorGenerator The accessor generator service.
+     * @param filterFieldRegistry The registry of filterable fields.
+     * @param filterOperatorRegistry The registry of filter operators.
+     * @param enumFilterField The enum filter field service.
+     * @param localizationService The service for localized messages.
+     * @param <T> The generic type of the entity.
+     * @return A {@link InMemoryBuilderImp} instance.
+     */
+    @Bean
+    public <T> InMemoryBuilder<T> inMemoryBuilder(
+        AccessorGenerator<T> accessorGenerator,
+        FilterFieldRegistry filterFieldRegistry,
+        FilterOperatorRegistry filterOperatorRegistry,
+        AbstractEnumFilterField enumFilterField,
+        LocalizationService localizationService
+    ) {
+        return new InMemoryBuilderImp<>(accessorGenerator, filterFieldRegistry, filterOperatorRegistry, enumFilterField, localizationService);
+    }
+
+    /**
+     * Creates the {@link InMemoryQueryFilterBuilder} bean.
+     * @param filterBuilder The filter builder service.
+     * @param sortBuilder The sort builder service.
+     * @param inMemoryBuilder The in-memory builder service.
+     * @param properties The configuration properties.
+     * @param <T> The generic type of the entity.
+     * @return A {@link InMemoryQueryFilterBuilderImp} instance.
+     */
+    @Bean
+    public <T> InMemoryQueryFilterBuilder<T> inMemoryQueryFilterBuilder(
+        FilterBuilder<T> filterBuilder,
+        SortBuilder<T> sortBuilder,
+        InMemoryBuilder<T> inMemoryBuilder,
+        QueryFilterBuilderProperties properties
     ) {
-        return new QueryFilterBuilderImp<>(filterBuilder, sortBuilder);
+        return new InMemoryQueryFilterBuilderImp<>(filterBuilder, sortBuilder, inMemoryBuilder, properties);
+    }
+
+    /**
+     * Creates the {@link QueryProjector} bean.
+     * @param entityManagerFactory The entity manager factory, whose transactional entity manager runs the queries.
+     * @param pathGenerator The path generator service.
+     * @param <T> The generic type of the entity.
+     * @return A {@link QueryProjectorImp} instance.
+     */
+    @Bean
+    public <T> QueryProjector<T> queryProjector(EntityManagerFactory entityManagerFactory, PathGenerator<T> pathGenerator) {
+        return new QueryProjectorImp<>(SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory), pathGenerator);
+    }
+
+    /**
+     * Creates the {@link QueryStreamer} bean, which streams entities through Hibernate scrollable results.
+     * Only active when Hibernate is on the classpath.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.hibernate.ScrollableResults")
+    public static class StreamingConfiguration {
+
+        /**
+         * Creates the {@link QueryStreamer} bean.
+         * @param entityManagerFactory The application's entity manager factory.
+         * @param properties The configuration properties.
+         * @param <T> The type of the entity being streamed.
+         * @return A {@link QueryStreamerImp} instance.
+         */
+        @Bean
+        public <T> QueryStreamer<T> queryStreamer(EntityManagerFactory entityManagerFactory, QueryFilterBuilderProperties properties) {
+            return new QueryStreamerImp<>(SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory), properties);
+        }
+    }
+
+    /**
+     * Creates the cache of query results and its invalidation on committed writes.
+     * Only active when Hibernate is on the classpath and {@code query-filter-builder.defaults.result-cache.enabled} is true.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.hibernate.event.service.spi.EventListenerRegistry")
+    @ConditionalOnProperty(prefix = "query-filter-builder.defaults.result-cache", name = "enabled", havingValue = "true")
+    public static class ResultCacheConfiguration {
+
+        /**
+         * Creates the {@link QueryResultCache} bean, unless the application defines its own (e.g., a {@link SpringQueryResultCache}).
+         * @param properties The configuration properties.
+         * @return A {@link LocalQueryResultCache} instance.
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public QueryResultCache queryResultCache(QueryFilterBuilderProperties properties) {
+            final QueryFilterBuilderProperties.ResultCache resultCache = properties.defaults().resultCache();
+            return new LocalQueryResultCache(resultCache.maximumSize(), resultCache.timeToLive());
+        }
+
+        /**
+         * Creates the {@link QueryResultCacheInvalidator} bean, and registers it with Hibernate.
+         * @param queryResultCache The cache to evict.
+         * @param entityManagerFactory The application's entity manager factory.
+         * @return A {@link QueryResultCacheInvalidator} instance.
+         */
+        @Bean
+        public QueryResultCacheInvalidator queryResultCacheInvalidator(QueryResultCache queryResultCache, EntityManagerFactory entityManagerFactory) {
+            final QueryResultCacheInvalidator invalidator = new QueryResultCacheInvalidator(queryResultCache);
+            invalidator.register(entityManagerFactory);
+            return invalidator;
+        }
+    }
+
+    /**
+     * Instruments the query building beans with Micrometer meters.
+     * Only active when Micrometer is on the classpath; the beans are only wrapped when a {@link MeterRegistry} bean exists.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    public static class MetricsConfiguration {
+
+        /**
+         * Creates the {@link QueryFilterBuilderMetricsPostProcessor} bean.
+         * @param meterRegistry A provider of the application's meter registry.
+         * @return A {@link QueryFilterBuilderMetricsPostProcessor} instance.
+         */
+        @Bean
+        public static QueryFilterBuilderMetricsPostProcessor queryFilterBuilderMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+            return new QueryFilterBuilderMetricsPostProcessor(meterRegistry);
+        }
     }
 }
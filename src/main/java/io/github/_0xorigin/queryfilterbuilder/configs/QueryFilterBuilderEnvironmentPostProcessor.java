@@ -26,6 +26,18 @@ public class QueryFilterBuilderEnvironmentPostProcessor implements EnvironmentPo
     public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
         Map<String, Object> defaultProperties = new LinkedHashMap<>();
         defaultProperties.put("query-filter-builder.defaults.field-delimiter", ".");
+        defaultProperties.put("query-filter-builder.defaults.to-many-filter-strategy", "join");
+        defaultProperties.put("query-filter-builder.defaults.in-clause.padding", "true");
+        defaultProperties.put("query-filter-builder.defaults.in-clause.chunk-size", "1000");
+        defaultProperties.put("query-filter-builder.defaults.in-clause.max-size", "0");
+        defaultProperties.put("query-filter-builder.defaults.in-memory.parallel-threshold", "10000");
+        defaultProperties.put("query-filter-builder.defaults.result-cache.enabled", "false");
+        defaultProperties.put("query-filter-builder.defaults.result-cache.maximum-size", "1000");
+        defaultProperties.put("query-filter-builder.defaults.result-cache.time-to-live", "60s");
+        defaultProperties.put("query-filter-builder.defaults.streaming.fetch-size", "500");
+        defaultProperties.put("query-filter-builder.defaults.streaming.clear-interval", "0");
+        defaultProperties.put("query-filter-builder.defaults.enum-matching.case-insensitive", "false");
+        defaultProperties.put("query-filter-builder.defaults.enum-matching.json-value", "false");
         defaultProperties.put("query-filter-builder.query-param.defaults.sort-parameter", "sort");
 
         MapPropertySource propertySource = new MapPropertySource("query-filter-builder", defaultProperties);
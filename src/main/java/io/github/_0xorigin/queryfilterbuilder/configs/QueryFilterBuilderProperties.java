@@ -1,11 +1,17 @@
 package io.github._0xorigin.queryfilterbuilder.configs;
 
+import io.github._0xorigin.queryfilterbuilder.base.enums.ToManyFilterStrategy;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
 import org.springframework.lang.NonNull;
 import org.springframework.validation.annotation.Validated;
 
+import java.time.Duration;
+
 /**
  * Defines the configuration properties for the Query Filter Builder.
  * This record is bound to properties prefixed with "query-filter-builder".
@@ -22,10 +28,135 @@ public record QueryFilterBuilderProperties(
     /**
      * Global default settings.
      *
-     * @param fieldDelimiter The character used to separate nested fields in a path (e.g., "." in "customer.name").
+     * @param fieldDelimiter       The character used to separate nested fields in a path (e.g., "." in "customer.name").
+     * @param toManyFilterStrategy How filters on paths through to-many associations are applied (joins or EXISTS subqueries).
+     * @param inClause             Settings for the value lists of the 'in' and 'notIn' operators.
+     * @param inMemory             Settings for the evaluation of filters and sorts on in-memory collections.
+     * @param resultCache          Settings for the cache of query results.
+     * @param streaming            Settings for the streaming of query results.
+     * @param enumMatching         Settings for the matching of filter values to enum constants.
      */
     public record Defaults(
-        @NotBlank @NonNull String fieldDelimiter
+        @NotBlank @NonNull String fieldDelimiter,
+        @NotNull @NonNull ToManyFilterStrategy toManyFilterStrategy,
+        @NotNull @NonNull InClause inClause,
+        @NotNull @NonNull InMemory inMemory,
+        @NotNull @NonNull ResultCache resultCache,
+        @NotNull @NonNull Streaming streaming,
+        @NotNull @NonNull EnumMatching enumMatching
+    ) {
+        /**
+         * Binds the configuration properties through the canonical constructor.
+         */
+        @ConstructorBinding
+        public Defaults {}
+
+        /**
+         * Creates the default settings with the given field delimiter, joining to-many associations, and the default
+         * values of the other settings.
+         *
+         * @param fieldDelimiter The character used to separate nested fields in a path.
+         */
+        public Defaults(String fieldDelimiter) {
+            this(fieldDelimiter, ToManyFilterStrategy.JOIN);
+        }
+
+        /**
+         * Creates the default settings with the given field delimiter and to-many filter strategy, and the default
+         * values of the other settings.
+         *
+         * @param fieldDelimiter       The character used to separate nested fields in a path.
+         * @param toManyFilterStrategy How filters on paths through to-many associations are applied.
+         */
+        public Defaults(String fieldDelimiter, ToManyFilterStrategy toManyFilterStrategy) {
+            this(fieldDelimiter, toManyFilterStrategy, new InClause(true, 1000, 0));
+        }
+
+        /**
+         * Creates the default settings with the given field delimiter, to-many filter strategy and IN clause settings,
+         * and the default values of the other settings.
+         *
+         * @param fieldDelimiter       The character used to separate nested fields in a path.
+         * @param toManyFilterStrategy How filters on paths through to-many associations are applied.
+         * @param inClause             Settings for the value lists of the 'in' and 'notIn' operators.
+         */
+        public Defaults(String fieldDelimiter, ToManyFilterStrategy toManyFilterStrategy, InClause inClause) {
+            this(
+                fieldDelimiter,
+                toManyFilterStrategy,
+                inClause,
+                new InMemory(10000),
+                new ResultCache(false, 1000, Duration.ofSeconds(60)),
+                new Streaming(500, 0),
+                new EnumMatching(false, false)
+            );
+        }
+    }
+
+    /**
+     * Settings for the value lists of the 'in' and 'notIn' operators.
+     *
+     * @param padding   Whether value lists are padded to the next power of two (by repeating the last value), so that
+     *                  lists of similar sizes share the same SQL string and cached query plan.
+     * @param chunkSize The maximum number of values in a single IN list; longer lists are split into OR'ed IN lists.
+     * @param maxSize   The maximum number of values accepted for a single filter; longer lists are rejected as a client error.
+     *                  {@code 0} accepts lists of any size.
+     */
+    public record InClause(
+        boolean padding,
+        @Positive int chunkSize,
+        @PositiveOrZero int maxSize
+    ) {}
+
+    /**
+     * Settings for the evaluation of filters and sorts on in-memory collections.
+     *
+     * @param parallelThreshold The minimum number of entities from which a collection is filtered and sorted in
+     *                          parallel on the common {@link java.util.concurrent.ForkJoinPool}; smaller collections
+     *                          are evaluated on the calling thread.
+     */
+    public record InMemory(
+        @Positive int parallelThreshold
+    ) {}
+
+    /**
+     * Settings for the cache of query results, keyed by the signature of the requests.
+     *
+     * @param enabled     Whether a {@link io.github._0xorigin.queryfilterbuilder.base.cache.QueryResultCache} is
+     *                    created, with its invalidation on committed writes.
+     * @param maximumSize The maximum number of results cached per entity type by the default cache.
+     * @param timeToLive  The duration after which a result expires in the default cache.
+     */
+    public record ResultCache(
+        boolean enabled,
+        @Positive int maximumSize,
+        @NotNull @NonNull Duration timeToLive
+    ) {}
+
+    /**
+     * Settings for the streaming of query results through scrollable cursors.
+     *
+     * @param fetchSize     The number of rows fetched from the database per round trip (the JDBC fetch size).
+     * @param clearInterval The number of streamed entities after which the persistence context is flushed and
+     *                      cleared, so that its memory stays bounded; {@code 0} never clears it. Clearing detaches
+     *                      every entity of the context, including those loaded by the caller.
+     */
+    public record Streaming(
+        @Positive int fetchSize,
+        @PositiveOrZero int clearInterval
+    ) {}
+
+    /**
+     * Settings for the matching of filter values to enum constants, which are always matched by their exact names and
+     * by the codes of the enums implementing {@link io.github._0xorigin.queryfilterbuilder.base.enumfield.CodedEnum}.
+     *
+     * @param caseInsensitive Whether the values are also matched ignoring case (e.g., "active" for {@code ACTIVE}).
+     * @param jsonValue       Whether the values are also matched to the {@code @JsonValue} of the constants, so that
+     *                        filters accept the values that the API serializes.
+     */
+    public record EnumMatching(
+        boolean caseInsensitive,
+        boolean jsonValue
     ) {}
 
     /**
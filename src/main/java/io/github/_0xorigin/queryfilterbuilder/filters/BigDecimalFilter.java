@@ -1,6 +1,8 @@
 package io.github._0xorigin.queryfilterbuilder.filters;
 
 import io.github._0xorigin.queryfilterbuilder.base.filterfield.AbstractNumberFilterField;
+import io.github._0xorigin.queryfilterbuilder.base.filterfield.CastResult;
+import io.github._0xorigin.queryfilterbuilder.base.utils.CastUtils;
 
 import java.math.BigDecimal;
 
@@ -17,6 +19,14 @@ public final class BigDecimalFilter extends AbstractNumberFilterField<BigDecimal
         return new BigDecimal(value);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CastResult<BigDecimal> tryCast(String value) {
+        return CastUtils.toBigDecimal(value);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1,6 +1,8 @@
 package io.github._0xorigin.queryfilterbuilder.filters;
 
 import io.github._0xorigin.queryfilterbuilder.base.filterfield.AbstractNumberFilterField;
+import io.github._0xorigin.queryfilterbuilder.base.filterfield.CastResult;
+import io.github._0xorigin.queryfilterbuilder.base.utils.CastUtils;
 
 import java.math.BigInteger;
 
@@ -17,6 +19,14 @@ public final class BigIntegerFilter extends AbstractNumberFilterField<BigInteger
         return new BigInteger(value);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CastResult<BigInteger> tryCast(String value) {
+        return CastUtils.toBigInteger(value);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1,6 +1,7 @@
 package io.github._0xorigin.queryfilterbuilder.filters;
 
 import io.github._0xorigin.queryfilterbuilder.base.filterfield.AbstractFilterField;
+import io.github._0xorigin.queryfilterbuilder.base.filterfield.CastResult;
 import io.github._0xorigin.queryfilterbuilder.base.filteroperator.Operator;
 
 import java.util.Set;
@@ -31,6 +32,16 @@ public final class BooleanFilter extends AbstractFilterField<Boolean> {
         return !value.equals("null") ? Boolean.valueOf(value) : null;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Every non-null string is cast without error.
+     */
+    @Override
+    public CastResult<Boolean> tryCast(String value) {
+        return value != null ? CastResult.success(cast(value)) : CastResult.invalid();
+    }
+
     /**
      * {@inheritDoc}
      */
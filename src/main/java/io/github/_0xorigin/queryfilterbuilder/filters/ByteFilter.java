@@ -1,6 +1,8 @@
 package io.github._0xorigin.queryfilterbuilder.filters;
 
 import io.github._0xorigin.queryfilterbuilder.base.filterfield.AbstractNumberFilterField;
+import io.github._0xorigin.queryfilterbuilder.base.filterfield.CastResult;
+import io.github._0xorigin.queryfilterbuilder.base.utils.CastUtils;
 
 /**
  * A filter implementation for handling {@link Byte} fields.
@@ -15,6 +17,14 @@ public final class ByteFilter extends AbstractNumberFilterField<Byte> {
         return Byte.parseByte(value);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CastResult<Byte> tryCast(String value) {
+        return CastUtils.toByte(value);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1,6 +1,7 @@
 package io.github._0xorigin.queryfilterbuilder.filters;
 
 import io.github._0xorigin.queryfilterbuilder.base.filterfield.AbstractFilterField;
+import io.github._0xorigin.queryfilterbuilder.base.filterfield.CastResult;
 import io.github._0xorigin.queryfilterbuilder.base.filteroperator.Operator;
 
 import java.util.Set;
@@ -33,6 +34,16 @@ public final class CharacterFilter extends AbstractFilterField<Character> {
         return value.charAt(0);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Every non-empty string is cast without error.
+     */
+    @Override
+    public CastResult<Character> tryCast(String value) {
+        return value != null && !value.isEmpty() ? CastResult.success(value.charAt(0)) : CastResult.invalid();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1,6 +1,8 @@
 package io.github._0xorigin.queryfilterbuilder.filters;
 
 import io.github._0xorigin.queryfilterbuilder.base.filterfield.AbstractNumberFilterField;
+import io.github._0xorigin.queryfilterbuilder.base.filterfield.CastResult;
+import io.github._0xorigin.queryfilterbuilder.base.utils.CastUtils;
 
 /**
  * A filter implementation for handling {@link Double} fields.
@@ -15,6 +17,14 @@ public final class DoubleFilter extends AbstractNumberFilterField<Double> {
         return Double.parseDouble(value);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CastResult<Double> tryCast(String value) {
+        return CastUtils.toDouble(value);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1,6 +1,8 @@
 package io.github._0xorigin.queryfilterbuilder.filters;
 
 import io.github._0xorigin.queryfilterbuilder.base.filterfield.AbstractNumberFilterField;
+import io.github._0xorigin.queryfilterbuilder.base.filterfield.CastResult;
+import io.github._0xorigin.queryfilterbuilder.base.utils.CastUtils;
 
 /**
  * A filter implementation for handling {@link Float} fields.
@@ -15,6 +17,14 @@ public final class FloatFilter extends AbstractNumberFilterField<Float> {
         return Float.parseFloat(value);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CastResult<Float> tryCast(String value) {
+        return CastUtils.toFloat(value);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1,14 +1,20 @@
 package io.github._0xorigin.queryfilterbuilder.filters;
 
 import io.github._0xorigin.queryfilterbuilder.base.filterfield.AbstractTemporalFilterField;
+import io.github._0xorigin.queryfilterbuilder.base.filterfield.CastResult;
+import io.github._0xorigin.queryfilterbuilder.base.utils.CastUtils;
 
 import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Function;
 
 /**
  * A filter implementation for handling {@link Instant} fields.
  */
 public final class InstantFilter extends AbstractTemporalFilterField<Instant> {
 
+    private static final Function<String, CastResult<Instant>> CASTER = CastUtils.temporalCaster(DateTimeFormatter.ISO_INSTANT, Instant::from);
+
     /**
      * {@inheritDoc}
      */
@@ -17,6 +23,14 @@ public final class InstantFilter extends AbstractTemporalFilterField<Instant> {
         return Instant.parse(value);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CastResult<Instant> tryCast(String value) {
+        return CASTER.apply(value);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1,6 +1,8 @@
 package io.github._0xorigin.queryfilterbuilder.filters;
 
 import io.github._0xorigin.queryfilterbuilder.base.filterfield.AbstractNumberFilterField;
+import io.github._0xorigin.queryfilterbuilder.base.filterfield.CastResult;
+import io.github._0xorigin.queryfilterbuilder.base.utils.CastUtils;
 
 /**
  * A filter implementation for handling {@link Integer} fields.
@@ -15,6 +17,14 @@ public final class IntegerFilter extends AbstractNumberFilterField<Integer> {
         return Integer.parseInt(value);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CastResult<Integer> tryCast(String value) {
+        return CastUtils.toInteger(value);
+    }
+
     /**
      * {@inheritDoc}
      */
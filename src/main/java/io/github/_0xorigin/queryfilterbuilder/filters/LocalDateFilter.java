@@ -1,14 +1,20 @@
 package io.github._0xorigin.queryfilterbuilder.filters;
 
 import io.github._0xorigin.queryfilterbuilder.base.filterfield.AbstractTemporalFilterField;
+import io.github._0xorigin.queryfilterbuilder.base.filterfield.CastResult;
+import io.github._0xorigin.queryfilterbuilder.base.utils.CastUtils;
 
 import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Function;
 
 /**
  * A filter implementation for handling {@link LocalDate} fields.
  */
 public final class LocalDateFilter extends AbstractTemporalFilterField<LocalDate> {
 
+    private static final Function<String, CastResult<LocalDate>> CASTER = CastUtils.temporalCaster(DateTimeFormatter.ISO_LOCAL_DATE, LocalDate::from);
+
     /**
      * {@inheritDoc}
      */
@@ -17,6 +23,14 @@ public final class LocalDateFilter extends AbstractTemporalFilterField<LocalDate
         return LocalDate.parse(value);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CastResult<LocalDate> tryCast(String value) {
+        return CASTER.apply(value);
+    }
+
     /**
      * {@inheritDoc}
      */
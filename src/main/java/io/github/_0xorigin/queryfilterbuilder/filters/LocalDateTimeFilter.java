@@ -1,14 +1,20 @@
 package io.github._0xorigin.queryfilterbuilder.filters;
 
 import io.github._0xorigin.queryfilterbuilder.base.filterfield.AbstractTemporalFilterField;
+import io.github._0xorigin.queryfilterbuilder.base.filterfield.CastResult;
+import io.github._0xorigin.queryfilterbuilder.base.utils.CastUtils;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Function;
 
 /**
  * A filter implementation for handling {@link LocalDateTime} fields.
  */
 public final class LocalDateTimeFilter extends AbstractTemporalFilterField<LocalDateTime> {
 
+    private static final Function<String, CastResult<LocalDateTime>> CASTER = CastUtils.temporalCaster(DateTimeFormatter.ISO_LOCAL_DATE_TIME, LocalDateTime::from);
+
     /**
      * {@inheritDoc}
      */
@@ -17,6 +23,14 @@ public final class LocalDateTimeFilter extends AbstractTemporalFilterField<Local
         return LocalDateTime.parse(value);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CastResult<LocalDateTime> tryCast(String value) {
+        return CASTER.apply(value);
+    }
+
     /**
      * {@inheritDoc}
      */
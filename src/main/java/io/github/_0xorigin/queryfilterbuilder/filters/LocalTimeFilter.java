@@ -1,14 +1,20 @@
 package io.github._0xorigin.queryfilterbuilder.filters;
 
 import io.github._0xorigin.queryfilterbuilder.base.filterfield.AbstractTemporalFilterField;
+import io.github._0xorigin.queryfilterbuilder.base.filterfield.CastResult;
+import io.github._0xorigin.queryfilterbuilder.base.utils.CastUtils;
 
 import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Function;
 
 /**
  * A filter implementation for handling {@link LocalTime} fields.
  */
 public final class LocalTimeFilter extends AbstractTemporalFilterField<LocalTime> {
 
+    private static final Function<String, CastResult<LocalTime>> CASTER = CastUtils.temporalCaster(DateTimeFormatter.ISO_LOCAL_TIME, LocalTime::from);
+
     /**
      * {@inheritDoc}
      */
@@ -17,6 +23,14 @@ public final class LocalTimeFilter extends AbstractTemporalFilterField<LocalTime
         return LocalTime.parse(value);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CastResult<LocalTime> tryCast(String value) {
+        return CASTER.apply(value);
+    }
+
     /**
      * {@inheritDoc}
      */
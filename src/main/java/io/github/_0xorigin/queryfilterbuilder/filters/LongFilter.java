@@ -1,6 +1,8 @@
 package io.github._0xorigin.queryfilterbuilder.filters;
 
 import io.github._0xorigin.queryfilterbuilder.base.filterfield.AbstractNumberFilterField;
+import io.github._0xorigin.queryfilterbuilder.base.filterfield.CastResult;
+import io.github._0xorigin.queryfilterbuilder.base.utils.CastUtils;
 
 /**
  * A filter implementation for handling {@link Long} fields.
@@ -15,6 +17,14 @@ public final class LongFilter extends AbstractNumberFilterField<Long> {
         return Long.parseLong(value);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CastResult<Long> tryCast(String value) {
+        return CastUtils.toLong(value);
+    }
+
     /**
      * {@inheritDoc}
      */
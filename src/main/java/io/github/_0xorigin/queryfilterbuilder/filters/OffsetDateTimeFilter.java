@@ -1,14 +1,20 @@
 package io.github._0xorigin.queryfilterbuilder.filters;
 
 import io.github._0xorigin.queryfilterbuilder.base.filterfield.AbstractTemporalFilterField;
+import io.github._0xorigin.queryfilterbuilder.base.filterfield.CastResult;
+import io.github._0xorigin.queryfilterbuilder.base.utils.CastUtils;
 
 import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Function;
 
 /**
  * A filter implementation for handling {@link OffsetDateTime} fields.
  */
 public final class OffsetDateTimeFilter extends AbstractTemporalFilterField<OffsetDateTime> {
 
+    private static final Function<String, CastResult<OffsetDateTime>> CASTER = CastUtils.temporalCaster(DateTimeFormatter.ISO_OFFSET_DATE_TIME, OffsetDateTime::from);
+
     /**
      * {@inheritDoc}
      */
@@ -17,6 +23,14 @@ public final class OffsetDateTimeFilter extends AbstractTemporalFilterField<Offs
         return OffsetDateTime.parse(value);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CastResult<OffsetDateTime> tryCast(String value) {
+        return CASTER.apply(value);
+    }
+
     /**
      * {@inheritDoc}
      */
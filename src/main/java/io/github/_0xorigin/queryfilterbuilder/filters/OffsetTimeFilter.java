@@ -1,14 +1,20 @@
 package io.github._0xorigin.queryfilterbuilder.filters;
 
 import io.github._0xorigin.queryfilterbuilder.base.filterfield.AbstractTemporalFilterField;
+import io.github._0xorigin.queryfilterbuilder.base.filterfield.CastResult;
+import io.github._0xorigin.queryfilterbuilder.base.utils.CastUtils;
 
 import java.time.OffsetTime;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Function;
 
 /**
  * A filter implementation for handling {@link OffsetTime} fields.
  */
 public final class OffsetTimeFilter extends AbstractTemporalFilterField<OffsetTime> {
 
+    private static final Function<String, CastResult<OffsetTime>> CASTER = CastUtils.temporalCaster(DateTimeFormatter.ISO_OFFSET_TIME, OffsetTime::from);
+
     /**
      * {@inheritDoc}
      */
@@ -17,6 +23,14 @@ public final class OffsetTimeFilter extends AbstractTemporalFilterField<OffsetTi
         return OffsetTime.parse(value);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CastResult<OffsetTime> tryCast(String value) {
+        return CASTER.apply(value);
+    }
+
     /**
      * {@inheritDoc}
      */
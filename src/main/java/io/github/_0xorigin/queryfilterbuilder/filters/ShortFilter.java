@@ -1,6 +1,8 @@
 package io.github._0xorigin.queryfilterbuilder.filters;
 
 import io.github._0xorigin.queryfilterbuilder.base.filterfield.AbstractNumberFilterField;
+import io.github._0xorigin.queryfilterbuilder.base.filterfield.CastResult;
+import io.github._0xorigin.queryfilterbuilder.base.utils.CastUtils;
 
 /**
  * A filter implementation for handling {@link Short} fields.
@@ -15,6 +17,14 @@ public final class ShortFilter extends AbstractNumberFilterField<Short> {
         return Short.parseShort(value);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CastResult<Short> tryCast(String value) {
+        return CastUtils.toShort(value);
+    }
+
     /**
      * {@inheritDoc}
      */
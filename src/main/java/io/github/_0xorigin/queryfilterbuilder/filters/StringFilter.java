@@ -1,6 +1,7 @@
 package io.github._0xorigin.queryfilterbuilder.filters;
 
 import io.github._0xorigin.queryfilterbuilder.base.filterfield.AbstractFilterField;
+import io.github._0xorigin.queryfilterbuilder.base.filterfield.CastResult;
 import io.github._0xorigin.queryfilterbuilder.base.filteroperator.Operator;
 
 import java.util.Set;
@@ -34,6 +35,14 @@ public final class StringFilter extends AbstractFilterField<String> {
         return value;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CastResult<String> tryCast(String value) {
+        return CastResult.success(value);
+    }
+
     /**
      * {@inheritDoc}
      */
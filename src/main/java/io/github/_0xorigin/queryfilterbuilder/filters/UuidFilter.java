@@ -1,7 +1,9 @@
 package io.github._0xorigin.queryfilterbuilder.filters;
 
 import io.github._0xorigin.queryfilterbuilder.base.filterfield.AbstractFilterField;
+import io.github._0xorigin.queryfilterbuilder.base.filterfield.CastResult;
 import io.github._0xorigin.queryfilterbuilder.base.filteroperator.Operator;
+import io.github._0xorigin.queryfilterbuilder.base.utils.CastUtils;
 
 import java.util.Set;
 import java.util.UUID;
@@ -31,6 +33,14 @@ public final class UuidFilter extends AbstractFilterField<UUID> {
         return UUID.fromString(value);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CastResult<UUID> tryCast(String value) {
+        return CastUtils.toUuid(value);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1,20 +1,45 @@
 package io.github._0xorigin.queryfilterbuilder.filters;
 
 import io.github._0xorigin.queryfilterbuilder.base.filterfield.AbstractTemporalFilterField;
+import io.github._0xorigin.queryfilterbuilder.base.filterfield.CastResult;
+import io.github._0xorigin.queryfilterbuilder.base.utils.CastUtils;
 
 import java.time.Year;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.SignStyle;
+import java.time.temporal.ChronoField;
+import java.util.function.Function;
 
 /**
  * A filter implementation for handling {@link Year} fields.
  */
 public final class YearFilter extends AbstractTemporalFilterField<Year> {
 
+    /**
+     * The formatter of {@link Year#parse(CharSequence)}, used by both casts.
+     */
+    private static final DateTimeFormatter PARSER = new DateTimeFormatterBuilder()
+        .parseLenient()
+        .appendValue(ChronoField.YEAR, 1, 10, SignStyle.NORMAL)
+        .toFormatter();
+
+    private static final Function<String, CastResult<Year>> CASTER = CastUtils.temporalCaster(PARSER, Year::from);
+
     /**
      * {@inheritDoc}
      */
     @Override
     public Year cast(String value) {
-        return Year.parse(value);
+        return Year.parse(value, PARSER);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CastResult<Year> tryCast(String value) {
+        return CASTER.apply(value);
     }
 
     /**
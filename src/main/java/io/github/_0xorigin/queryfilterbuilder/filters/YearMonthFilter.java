@@ -1,20 +1,46 @@
 package io.github._0xorigin.queryfilterbuilder.filters;
 
 import io.github._0xorigin.queryfilterbuilder.base.filterfield.AbstractTemporalFilterField;
+import io.github._0xorigin.queryfilterbuilder.base.filterfield.CastResult;
+import io.github._0xorigin.queryfilterbuilder.base.utils.CastUtils;
 
 import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.SignStyle;
+import java.time.temporal.ChronoField;
+import java.util.function.Function;
 
 /**
  * A filter implementation for handling {@link YearMonth} fields.
  */
 public final class YearMonthFilter extends AbstractTemporalFilterField<YearMonth> {
 
+    /**
+     * The formatter of {@link YearMonth#parse(CharSequence)}, used by both casts.
+     */
+    private static final DateTimeFormatter PARSER = new DateTimeFormatterBuilder()
+        .appendValue(ChronoField.YEAR, 4, 10, SignStyle.EXCEEDS_PAD)
+        .appendLiteral('-')
+        .appendValue(ChronoField.MONTH_OF_YEAR, 2)
+        .toFormatter();
+
+    private static final Function<String, CastResult<YearMonth>> CASTER = CastUtils.temporalCaster(PARSER, YearMonth::from);
+
     /**
      * {@inheritDoc}
      */
     @Override
     public YearMonth cast(String value) {
-        return YearMonth.parse(value);
+        return YearMonth.parse(value, PARSER);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CastResult<YearMonth> tryCast(String value) {
+        return CASTER.apply(value);
     }
 
     /**
@@ -1,14 +1,20 @@
 package io.github._0xorigin.queryfilterbuilder.filters;
 
 import io.github._0xorigin.queryfilterbuilder.base.filterfield.AbstractTemporalFilterField;
+import io.github._0xorigin.queryfilterbuilder.base.filterfield.CastResult;
+import io.github._0xorigin.queryfilterbuilder.base.utils.CastUtils;
 
 import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Function;
 
 /**
  * A filter implementation for handling {@link ZonedDateTime} fields.
  */
 public final class ZonedDateTimeFilter extends AbstractTemporalFilterField<ZonedDateTime> {
 
+    private static final Function<String, CastResult<ZonedDateTime>> CASTER = CastUtils.temporalCaster(DateTimeFormatter.ISO_ZONED_DATE_TIME, ZonedDateTime::from);
+
     /**
      * {@inheritDoc}
      */
@@ -17,6 +23,14 @@ public final class ZonedDateTimeFilter extends AbstractTemporalFilterField<Zoned
         return ZonedDateTime.parse(value);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CastResult<ZonedDateTime> tryCast(String value) {
+        return CASTER.apply(value);
+    }
+
     /**
      * {@inheritDoc}
      */
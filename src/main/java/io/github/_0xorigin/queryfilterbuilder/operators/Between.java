@@ -42,23 +42,68 @@ public final class Between implements FilterOperator {
         if (FilterUtils.isNotValidList(values))
             return Optional.empty();
 
-        if (values.size() != 2) {
-            FilterUtils.addFieldError(
-                filterErrorWrapper.bindingResult(),
-                filterErrorWrapper.filterWrapper().originalFieldName(),
-                values.toString(),
-                localizationService.getMessage(
-                    MessageKey.VALUE_MUST_EXACTLY_TWO_ELEMENTS.getCode(),
-                    localizationService.getMessage(Operator.BETWEEN.getValue())
-                )
-            );
-
+        if (isNotPair(values, filterErrorWrapper))
             return Optional.empty();
-        }
 
         return Optional.ofNullable(cb.between(expression, values.get(0), values.get(1)));
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation has the same requirements on the {@code values} list as {@link #apply}.
+     */
+    @Override
+    public <T extends Comparable<? super T> & Serializable> Optional<java.util.function.Predicate<T>> compile(List<T> values, FilterErrorWrapper filterErrorWrapper) {
+        if (FilterUtils.isNotValidList(values))
+            return Optional.empty();
+
+        if (isNotPair(values, filterErrorWrapper))
+            return Optional.empty();
+
+        final T lower = values.get(0);
+        final T upper = values.get(1);
+        return Optional.of(value -> value != null && value.compareTo(lower) >= 0 && value.compareTo(upper) <= 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation runs the same checks on the {@code values} list as {@link #apply}.
+     */
+    @Override
+    public <T extends Comparable<? super T> & Serializable> void validate(List<T> values, FilterErrorWrapper filterErrorWrapper) {
+        if (FilterUtils.isNotValidList(values))
+            return;
+
+        isNotPair(values, filterErrorWrapper);
+    }
+
+    // Adds an error to the filterErrorWrapper if the list does not contain exactly two elements
+    private boolean isNotPair(List<?> values, FilterErrorWrapper filterErrorWrapper) {
+        if (values.size() == 2)
+            return false;
+
+        FilterUtils.addFieldError(
+            filterErrorWrapper.bindingResult(),
+            filterErrorWrapper.filterWrapper().originalFieldName(),
+            values.toString(),
+            localizationService.getMessage(
+                MessageKey.VALUE_MUST_EXACTLY_TWO_ELEMENTS.getCode(),
+                localizationService.getMessage(Operator.BETWEEN.getValue())
+            )
+        );
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsInMemory() {
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      */
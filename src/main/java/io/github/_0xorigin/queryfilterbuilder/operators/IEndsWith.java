@@ -11,6 +11,7 @@ import jakarta.persistence.criteria.Predicate;
 import java.io.Serializable;
 import java.util.List;
 import java.util.Optional;
+import java.util.regex.Pattern;
 
 /**
  * A {@link FilterOperator} implementation that handles the 'iendsWith' operation (case-insensitive ends with).
@@ -33,6 +34,26 @@ public final class IEndsWith implements FilterOperator {
         return Optional.ofNullable(cb.like(cb.upper(expression.as(String.class)),"%" + values.get(0).toString().toUpperCase()));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends Comparable<? super T> & Serializable> Optional<java.util.function.Predicate<T>> compile(List<T> values, FilterErrorWrapper filterErrorWrapper) {
+        if (FilterUtils.isNotValidList(values))
+            return Optional.empty();
+
+        final Pattern pattern = FilterUtils.compileLikePattern("%" + values.get(0).toString().toUpperCase());
+        return Optional.of(value -> value != null && pattern.matcher(value.toString().toUpperCase()).matches());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsInMemory() {
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1,9 +1,13 @@
 package io.github._0xorigin.queryfilterbuilder.operators;
 
+import io.github._0xorigin.queryfilterbuilder.base.enums.MessageKey;
 import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterErrorWrapper;
 import io.github._0xorigin.queryfilterbuilder.base.filteroperator.FilterOperator;
+import io.github._0xorigin.queryfilterbuilder.base.services.LocalizationService;
 import io.github._0xorigin.queryfilterbuilder.base.utils.FilterUtils;
+import io.github._0xorigin.queryfilterbuilder.base.utils.InClauseUtils;
 import io.github._0xorigin.queryfilterbuilder.base.filteroperator.Operator;
+import io.github._0xorigin.queryfilterbuilder.configs.QueryFilterBuilderProperties;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Predicate;
@@ -11,6 +15,8 @@ import jakarta.persistence.criteria.Predicate;
 import java.io.Serializable;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 
 /**
  * A {@link FilterOperator} implementation that handles the 'in' operation.
@@ -18,17 +24,92 @@ import java.util.Optional;
  */
 public final class In implements FilterOperator {
 
+    private final QueryFilterBuilderProperties.InClause inClause;
+    private final LocalizationService localizationService;
+
+    /**
+     * Constructs a new In operator.
+     *
+     * @param properties          Configuration properties holding the IN clause settings.
+     * @param localizationService Service for retrieving localized error messages.
+     */
+    public In(QueryFilterBuilderProperties properties, LocalizationService localizationService) {
+        this.inClause = properties.defaults().inClause();
+        this.localizationService = localizationService;
+    }
+
     /**
      * {@inheritDoc}
      * <p>
      * This implementation requires the {@code values} list to be non-empty and contain no nulls.
+     * If the list has more elements than the configured maximum, an error is added to the {@code filterErrorWrapper}
+     * and an empty optional is returned. Otherwise, the values are chunked and padded as described in {@link InClauseUtils}.
      */
     @Override
     public <T extends Comparable<? super T> & Serializable> Optional<Predicate> apply(Expression<T> expression, CriteriaBuilder cb, List<T> values, FilterErrorWrapper filterErrorWrapper) {
         if (FilterUtils.isNotValidList(values))
             return Optional.empty();
 
-        return Optional.ofNullable(expression.in(values));
+        if (isTooLarge(values, filterErrorWrapper))
+            return Optional.empty();
+
+        return Optional.ofNullable(InClauseUtils.in(expression, cb, values, inClause));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation has the same requirements on the {@code values} list as {@link #apply}.
+     */
+    @Override
+    public <T extends Comparable<? super T> & Serializable> Optional<java.util.function.Predicate<T>> compile(List<T> values, FilterErrorWrapper filterErrorWrapper) {
+        if (FilterUtils.isNotValidList(values))
+            return Optional.empty();
+
+        if (isTooLarge(values, filterErrorWrapper))
+            return Optional.empty();
+
+        final Set<T> operands = new TreeSet<>(values);
+        return Optional.of(value -> value != null && operands.contains(value));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation runs the same checks on the {@code values} list as {@link #apply}.
+     */
+    @Override
+    public <T extends Comparable<? super T> & Serializable> void validate(List<T> values, FilterErrorWrapper filterErrorWrapper) {
+        if (FilterUtils.isNotValidList(values))
+            return;
+
+        isTooLarge(values, filterErrorWrapper);
+    }
+
+    // Adds an error to the filterErrorWrapper if the list has more elements than the configured maximum
+    private boolean isTooLarge(List<?> values, FilterErrorWrapper filterErrorWrapper) {
+        if (!InClauseUtils.isTooLarge(values, inClause))
+            return false;
+
+        FilterUtils.addFieldError(
+            filterErrorWrapper.bindingResult(),
+            filterErrorWrapper.filterWrapper().originalFieldName(),
+            String.valueOf(values.size()),
+            localizationService.getMessage(
+                MessageKey.VALUE_LIST_TOO_LARGE.getCode(),
+                localizationService.getMessage(Operator.IN.getValue()),
+                String.valueOf(inClause.maxSize())
+            )
+        );
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsInMemory() {
+        return true;
     }
 
     /**
@@ -36,6 +36,28 @@ public final class IsNotNull implements FilterOperator {
         return Optional.ofNullable(cb.isNotNull(expression));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends Comparable<? super T> & Serializable> Optional<java.util.function.Predicate<T>> compile(List<T> values, FilterErrorWrapper filterErrorWrapper) {
+        if (FilterUtils.isNotValidList(values))
+            return Optional.empty();
+
+        if (!Boolean.parseBoolean(values.get(0).toString()))
+            return Optional.of(value -> value == null);
+
+        return Optional.of(value -> value != null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsInMemory() {
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      */
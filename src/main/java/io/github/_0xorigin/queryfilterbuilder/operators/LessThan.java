@@ -31,6 +31,26 @@ public final class LessThan implements FilterOperator {
         return Optional.ofNullable(cb.lessThan(expression, values.get(0)));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends Comparable<? super T> & Serializable> Optional<java.util.function.Predicate<T>> compile(List<T> values, FilterErrorWrapper filterErrorWrapper) {
+        if (FilterUtils.isNotValidList(values))
+            return Optional.empty();
+
+        final T operand = values.get(0);
+        return Optional.of(value -> value != null && value.compareTo(operand) < 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsInMemory() {
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1,10 +1,13 @@
 package io.github._0xorigin.queryfilterbuilder;
 
 import io.github._0xorigin.queryfilterbuilder.base.dtos.FilterRequest;
+import io.github._0xorigin.queryfilterbuilder.base.enums.FilterType;
 import io.github._0xorigin.queryfilterbuilder.base.enums.SourceType;
 import io.github._0xorigin.queryfilterbuilder.base.filteroperator.Operator;
 import io.github._0xorigin.queryfilterbuilder.base.functions.CustomFilterFunction;
 import io.github._0xorigin.queryfilterbuilder.base.functions.ExpressionProviderFunction;
+import io.github._0xorigin.queryfilterbuilder.base.plans.FilterPlan;
+import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterWrapper;
 import io.github._0xorigin.queryfilterbuilder.entities.FakeUser;
 import io.github._0xorigin.queryfilterbuilder.entities.User;
 import jakarta.servlet.http.HttpServletRequest;
@@ -49,6 +52,27 @@ class FilterContextTest {
             .hasMessage("Consumer for FilterConfigurer must not be null");
     }
 
+    @Test
+    void templateBuilder_fetch_keepsDistinctPathsInOrder() {
+        FilterContext<User> context = FilterContext.buildTemplateForType(User.class)
+            .fetch("createdBy", "createdUsers")
+            .fetch("createdBy")
+            .buildTemplate()
+            .newSourceBuilder()
+            .withBodySource(List.of())
+            .buildFilterContext();
+
+        assertThat(context.getFetchPaths()).containsExactly("createdBy", "createdUsers");
+    }
+
+    @Test
+    void templateBuilder_fetch_nullPath_throwsNullPointerException() {
+        FilterContext.TemplateBuilder<User> builder = FilterContext.buildTemplateForType(User.class);
+        assertThatThrownBy(() -> builder.fetch("createdBy", null))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessage("Path must not be null");
+    }
+
     @Test
     void templateBuilder_requestBody_nullConsumer_throwsNullPointerException() {
         FilterContext.TemplateBuilder<User> builder = FilterContext.buildTemplateForType(User.class);
@@ -547,4 +571,59 @@ class FilterContextTest {
         Map<String, String> aliases = context.getAliasToFieldMap();
         assertThat(aliases).containsEntry("a", "field").containsEntry("b", "field");
     }
+
+    @Test
+    void resolveFilterWrapper_alias_resolvesToEntityFieldAsNormalFilter() {
+        FilterContext.TemplateBuilder<User> builder = FilterContext.buildTemplateForType(User.class);
+        builder.queryParam(c -> c.addFilter("name", "firstName", Operator.EQ));
+        FilterContext<User> context = builder.buildTemplate().newSourceBuilder().buildFilterContext();
+
+        FilterWrapper parsed = new FilterWrapper("name", "name", Operator.EQ, List.of("Ahmed"), SourceType.QUERY_PARAM, Optional.empty());
+        Optional<FilterWrapper> resolved = context.resolveFilterWrapper(parsed);
+
+        assertThat(resolved).contains(new FilterWrapper("firstName", "name", Operator.EQ, List.of("Ahmed"), SourceType.QUERY_PARAM, Optional.of(FilterType.NORMAL)));
+        FilterPlan<User> plan = context.getFilterPlan(resolved.orElseThrow()).orElseThrow();
+        assertThat(plan.field()).isEqualTo("firstName");
+        assertThat(plan.filterType()).isEqualTo(FilterType.NORMAL);
+        assertThat(plan.filterHolder()).containsSame(context.getFilters().get("firstName"));
+    }
+
+    @Test
+    void resolveFilterWrapper_disallowedOperatorOrSource_returnsEmpty() {
+        FilterContext.TemplateBuilder<User> builder = FilterContext.buildTemplateForType(User.class);
+        builder.queryParam(c -> c.addFilter("firstName", Operator.EQ));
+        FilterContext<User> context = builder.buildTemplate().newSourceBuilder().buildFilterContext();
+
+        FilterWrapper wrongOperator = new FilterWrapper("firstName", "firstName.gt", Operator.GT, List.of("A"), SourceType.QUERY_PARAM, Optional.empty());
+        FilterWrapper wrongSource = new FilterWrapper("firstName", "firstName", Operator.EQ, List.of("A"), SourceType.REQUEST_BODY, Optional.empty());
+
+        assertThat(context.resolveFilterWrapper(wrongOperator)).isEmpty();
+        assertThat(context.resolveFilterWrapper(wrongSource)).isEmpty();
+    }
+
+    @Test
+    void resolveFilterWrapper_customFilter_resolvesAsCustomFilter() {
+        CustomFilterFunction<User> filterFunction = (root, cq, cb, values, errorWrapper) -> Optional.empty();
+        FilterContext.TemplateBuilder<User> builder = FilterContext.buildTemplateForType(User.class);
+        builder.requestBody(c -> c.addCustomFilter("fullName", String.class, filterFunction));
+        FilterContext<User> context = builder.buildTemplate().newSourceBuilder().buildFilterContext();
+
+        FilterWrapper parsed = new FilterWrapper("fullName", "fullName", Operator.EQ, List.of("A"), SourceType.REQUEST_BODY, Optional.empty());
+        FilterWrapper resolved = context.resolveFilterWrapper(parsed).orElseThrow();
+
+        assertThat(resolved.filterType()).contains(FilterType.CUSTOM);
+        FilterPlan<User> plan = context.getFilterPlan(resolved).orElseThrow();
+        assertThat(plan.customFilterHolder()).containsSame(context.getCustomFilters().get("fullName"));
+        assertThat(context.resolveFilterWrapper(new FilterWrapper("fullName", "fullName", Operator.EQ, List.of("A"), SourceType.QUERY_PARAM, Optional.empty()))).isEmpty();
+    }
+
+    @Test
+    void getFilterPlan_wrapperWithoutFilterType_returnsEmpty() {
+        FilterContext.TemplateBuilder<User> builder = FilterContext.buildTemplateForType(User.class);
+        builder.queryParam(c -> c.addFilter("firstName", Operator.EQ));
+        FilterContext<User> context = builder.buildTemplate().newSourceBuilder().buildFilterContext();
+
+        FilterWrapper wrapper = new FilterWrapper("firstName", "firstName", Operator.EQ, List.of("A"), SourceType.QUERY_PARAM, Optional.empty());
+        assertThat(context.getFilterPlan(wrapper)).isEmpty();
+    }
 }
@@ -0,0 +1,292 @@
+package io.github._0xorigin.queryfilterbuilder;
+
+import io.github._0xorigin.queryfilterbuilder.base.dtos.FilterRequest;
+import io.github._0xorigin.queryfilterbuilder.base.dtos.SortRequest;
+import io.github._0xorigin.queryfilterbuilder.base.filteroperator.Operator;
+import io.github._0xorigin.queryfilterbuilder.configs.*;
+import io.github._0xorigin.queryfilterbuilder.entities.User;
+import io.github._0xorigin.queryfilterbuilder.entities.UserRepository;
+import io.github._0xorigin.queryfilterbuilder.exceptions.InvalidQueryParameterException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@EnableAutoConfiguration
+@ContextConfiguration(classes = {
+    DataSourceAutoConfiguration.class, FilterFieldConfig.class, FilterFieldRegistryConfig.class,
+    FilterOperatorConfig.class, FilterOperatorRegistryConfig.class,
+    QueryFilterBuilderConfig.class, QueryFilterBuilderEnvironmentPostProcessor.class,
+    LocalizationConfig.class
+})
+class InMemoryQueryFilterBuilderIntegrationTest {
+
+    @Autowired
+    private InMemoryQueryFilterBuilder<User> inMemoryQueryFilterBuilder;
+
+    @Autowired
+    private QueryFilterBuilder<User> queryFilterBuilder;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private FilterContext.Template<User> userFilterTemplate;
+    private SortContext.Template<User> userSortTemplate;
+
+    @BeforeEach
+    void setUp() {
+        userFilterTemplate = FilterContext.buildTemplateForType(User.class)
+            .requestBody(configurer -> configurer
+                .addFilter("role", Operator.EQ, Operator.NEQ, Operator.IN, Operator.NOT_IN)
+                .addFilter("firstName", Operator.EQ, Operator.CONTAINS, Operator.ICONTAINS, Operator.STARTS_WITH)
+                .addFilter("lastName", Operator.EQ, Operator.IS_NULL, Operator.IS_NOT_NULL, Operator.IENDS_WITH)
+                .addFilter("isActive", Operator.EQ)
+                .addFilter("createdAt", Operator.GT, Operator.LTE, Operator.BETWEEN, Operator.NOT_BETWEEN)
+                .addFilter("createdBy.firstName", Operator.EQ)
+                .addFilter("createdUsers.firstName", Operator.STARTS_WITH)
+                .addFilter(Set.of("parent-user"), "createdBy", Operator.EQ)
+                .addFilter("lastLogin", (root, criteriaQuery, cb) -> root.<OffsetDateTime>get("lastLogin"), Operator.GT)
+                .addCustomFilter("customRoleFilter", User.Role.class,
+                    (root, criteriaQuery, cb, values, filterErrorWrapper) ->
+                        Optional.of(cb.equal(root.get("role"), values.get(0))))
+            )
+            .buildTemplate();
+
+        userSortTemplate = SortContext.buildTemplateForType(User.class)
+            .requestBody(configurer -> configurer
+                .addSorts("firstName")
+                .addSorts("lastName")
+                .addSorts("createdAt")
+                .addSorts("role")
+                .addSorts("createdUsers.firstName"))
+            .buildTemplate();
+
+        setupTestData();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    private void setupTestData() {
+        Instant now = Instant.now();
+        User adminUser = saveUser("c0a86433-9e3b-198a-819e-3be990bf0000", "Admin", null, User.Role.ADMIN, true, now.minus(3, ChronoUnit.HOURS), null);
+        User regularUser = saveUser("c0a86433-9e3b-198a-819e-3be990d40001", "Regular", "User1", User.Role.USER, true, now.minus(1, ChronoUnit.HOURS), adminUser);
+        saveUser("c0a86433-9e3b-198a-819e-3be990d60002", "Inactive", "User1", User.Role.USER, false, now, regularUser);
+        // Reload the entities, so that the inverse side of the associations is populated
+        entityManager.clear();
+    }
+
+    private User saveUser(String id, String firstName, String lastName, User.Role role, boolean isActive, Instant createdAt, User createdBy) {
+        User user = new User();
+        user.setId(UUID.fromString(id));
+        user.setFirstName(firstName);
+        user.setLastName(lastName);
+        user.setRole(role);
+        user.setIsActive(isActive);
+        user.setCreatedAt(createdAt);
+        user.setCreatedBy(createdBy);
+        return userRepository.saveAndFlush(user);
+    }
+
+    private FilterContext<User> filterContext(List<FilterRequest> filterRequests) {
+        return userFilterTemplate
+            .newSourceBuilder()
+            .withBodySource(filterRequests)
+            .buildFilterContext();
+    }
+
+    private SortContext<User> sortContext(List<SortRequest> sortRequests) {
+        return userSortTemplate
+            .newSourceBuilder()
+            .withBodySource(sortRequests)
+            .buildSortContext();
+    }
+
+    static Stream<Arguments> filterRequestsProvider() {
+        String createdAt = Instant.now().minus(2, ChronoUnit.HOURS).toString();
+        return Stream.of(
+            Arguments.of(List.of(new FilterRequest("role", Operator.EQ.getValue(), "ADMIN"))),
+            Arguments.of(List.of(new FilterRequest("role", Operator.NOT_IN.getValue(), "ADMIN,USER"))),
+            Arguments.of(List.of(new FilterRequest("firstName", Operator.CONTAINS.getValue(), "e_u"))),
+            Arguments.of(List.of(new FilterRequest("firstName", Operator.ICONTAINS.getValue(), "GUL"))),
+            Arguments.of(List.of(new FilterRequest("lastName", Operator.IS_NULL.getValue(), "true"))),
+            Arguments.of(List.of(new FilterRequest("lastName", Operator.IENDS_WITH.getValue(), "R1"))),
+            Arguments.of(List.of(new FilterRequest("createdAt", Operator.GT.getValue(), createdAt))),
+            Arguments.of(List.of(new FilterRequest("createdAt", Operator.NOT_BETWEEN.getValue(), createdAt + "," + Instant.now().plusSeconds(60)))),
+            Arguments.of(List.of(new FilterRequest("createdAt", Operator.BETWEEN.getValue(), Instant.now() + "," + createdAt))),
+            Arguments.of(List.of(new FilterRequest("createdAt", Operator.NOT_BETWEEN.getValue(), Instant.now() + "," + createdAt))),
+            Arguments.of(List.of(new FilterRequest("lastName", Operator.IENDS_WITH.getValue(), ""))),
+            Arguments.of(List.of(new FilterRequest("createdBy.firstName", Operator.EQ.getValue(), "Admin"))),
+            Arguments.of(List.of(new FilterRequest("createdUsers.firstName", Operator.STARTS_WITH.getValue(), "In"))),
+            Arguments.of(List.of(new FilterRequest("parent-user", Operator.EQ.getValue(), "c0a86433-9e3b-198a-819e-3be990bf0000"))),
+            Arguments.of(List.of(new FilterRequest("lastName", Operator.IS_NOT_NULL.getValue(), "true"))),
+            Arguments.of(List.of(
+                new FilterRequest("isActive", Operator.EQ.getValue(), "true"),
+                new FilterRequest("role", Operator.IN.getValue(), "USER")
+            ))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("filterRequestsProvider")
+    @DisplayName("Filters in memory like the database does")
+    void testFilterPredicate_MatchesSpecification(List<FilterRequest> filterRequests) {
+        List<User> expected = userRepository.findAll(queryFilterBuilder.buildFilterSpecification(filterContext(filterRequests)));
+
+        List<User> results = userRepository.findAll().stream()
+            .filter(inMemoryQueryFilterBuilder.buildFilterPredicate(filterContext(filterRequests)))
+            .toList();
+
+        assertThat(results)
+            .extracting(User::getId)
+            .containsExactlyInAnyOrderElementsOf(expected.stream().map(User::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Filters to-many paths when any associated entity matches")
+    void testFilterPredicate_ToManyPath_MatchesAnyElement() {
+        List<User> results = userRepository.findAll().stream()
+            .filter(inMemoryQueryFilterBuilder.buildFilterPredicate(filterContext(List.of(
+                new FilterRequest("createdUsers.firstName", Operator.STARTS_WITH.getValue(), "Reg")
+            ))))
+            .toList();
+
+        assertThat(results)
+            .extracting(User::getFirstName)
+            .containsExactly("Admin");
+    }
+
+    @Test
+    @DisplayName("Sorts in memory like the database does")
+    void testSortComparator_MatchesSpecification() {
+        List<SortRequest> sortRequests = List.of(
+            new SortRequest("role", Sort.Direction.DESC),
+            new SortRequest("lastName", Sort.Direction.ASC),
+            new SortRequest("firstName", Sort.Direction.DESC)
+        );
+        List<User> expected = userRepository.findAll(queryFilterBuilder.buildSortSpecification(sortContext(sortRequests)));
+
+        List<User> results = userRepository.findAll().stream()
+            .sorted(inMemoryQueryFilterBuilder.buildSortComparator(sortContext(sortRequests)))
+            .toList();
+
+        assertThat(results)
+            .extracting(User::getFirstName)
+            .containsExactly("Regular", "Inactive", "Admin")
+            .containsExactlyElementsOf(expected.stream().map(User::getFirstName).toList());
+    }
+
+    @Test
+    @DisplayName("Orders null values first in ascending order")
+    void testSortComparator_NullValuesFirst() {
+        List<User> results = userRepository.findAll().stream()
+            .sorted(inMemoryQueryFilterBuilder.buildSortComparator(sortContext(List.of(
+                new SortRequest("lastName", Sort.Direction.ASC),
+                new SortRequest("createdAt", Sort.Direction.ASC)
+            ))))
+            .toList();
+
+        assertThat(results)
+            .extracting(User::getFirstName)
+            .containsExactly("Admin", "Regular", "Inactive");
+    }
+
+    @Test
+    @DisplayName("Evaluates filters, sorts and a limit over a collection")
+    void testEvaluate_FiltersSortsAndLimits() {
+        List<User> users = userRepository.findAll();
+        FilterContext<User> filterContext = filterContext(List.of(new FilterRequest("role", Operator.EQ.getValue(), "USER")));
+        SortContext<User> sortContext = sortContext(List.of(new SortRequest("firstName", Sort.Direction.DESC)));
+
+        List<User> results = inMemoryQueryFilterBuilder.evaluate(users, filterContext, sortContext);
+        List<User> limitedResults = inMemoryQueryFilterBuilder.evaluate(users, filterContext, sortContext, 1);
+
+        assertThat(results)
+            .extracting(User::getFirstName)
+            .containsExactly("Regular", "Inactive");
+        assertThat(limitedResults)
+            .extracting(User::getFirstName)
+            .containsExactly("Regular");
+    }
+
+    @Test
+    @DisplayName("Returns an empty predicate and comparator when there are no requests")
+    void testEmptyContexts_MatchAllAndKeepOrder() {
+        List<User> users = userRepository.findAll();
+
+        List<User> results = users.stream()
+            .filter(inMemoryQueryFilterBuilder.buildFilterPredicate(filterContext(List.of())))
+            .sorted(inMemoryQueryFilterBuilder.buildSortComparator(sortContext(List.of())))
+            .toList();
+
+        assertThat(results).containsExactlyElementsOf(users);
+    }
+
+    @Test
+    @DisplayName("Rejects filters that can only be built as JPA criteria")
+    void testFilterPredicate_CriteriaOnlyFilters_ThrowsException() {
+        FilterContext<User> customFilterContext = filterContext(List.of(
+            new FilterRequest("customRoleFilter", Operator.EQ.getValue(), "USER")
+        ));
+        FilterContext<User> expressionFilterContext = filterContext(List.of(
+            new FilterRequest("lastLogin", Operator.GT.getValue(), "2020-01-01T00:00:00Z")
+        ));
+
+        assertThatThrownBy(() -> inMemoryQueryFilterBuilder.buildFilterPredicate(customFilterContext))
+            .isInstanceOf(InvalidQueryParameterException.class)
+            .hasMessageContaining("cannot be evaluated in memory");
+        assertThatThrownBy(() -> inMemoryQueryFilterBuilder.buildFilterPredicate(expressionFilterContext))
+            .isInstanceOf(InvalidQueryParameterException.class)
+            .hasMessageContaining("cannot be evaluated in memory");
+    }
+
+    @Test
+    @DisplayName("Rejects sorts on to-many paths")
+    void testSortComparator_ToManyPath_ThrowsException() {
+        SortContext<User> context = sortContext(List.of(new SortRequest("createdUsers.firstName", Sort.Direction.ASC)));
+
+        assertThatThrownBy(() -> inMemoryQueryFilterBuilder.buildSortComparator(context))
+            .isInstanceOf(InvalidQueryParameterException.class)
+            .hasMessageContaining("cannot be evaluated in memory");
+    }
+
+    @Test
+    @DisplayName("Reports invalid values eagerly with the same errors as the database backend")
+    void testFilterPredicate_InvalidValue_ThrowsException() {
+        FilterContext<User> context = filterContext(List.of(
+            new FilterRequest("createdAt", Operator.GT.getValue(), "notadate")
+        ));
+
+        assertThatThrownBy(() -> inMemoryQueryFilterBuilder.buildFilterPredicate(context))
+            .isInstanceOf(InvalidQueryParameterException.class)
+            .hasMessageContaining("Value is not a valid date or time.");
+    }
+}
@@ -0,0 +1,108 @@
+package io.github._0xorigin.queryfilterbuilder;
+
+import io.github._0xorigin.queryfilterbuilder.base.dtos.FilterRequest;
+import io.github._0xorigin.queryfilterbuilder.base.filteroperator.Operator;
+import io.github._0xorigin.queryfilterbuilder.configs.*;
+import io.github._0xorigin.queryfilterbuilder.entities.User;
+import io.github._0xorigin.queryfilterbuilder.entities.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@EnableAutoConfiguration
+@ContextConfiguration(classes = {
+    DataSourceAutoConfiguration.class, FilterFieldConfig.class, FilterFieldRegistryConfig.class,
+    FilterOperatorConfig.class, FilterOperatorRegistryConfig.class,
+    QueryFilterBuilderConfig.class, QueryFilterBuilderEnvironmentPostProcessor.class,
+    LocalizationConfig.class
+})
+@TestPropertySource(properties = "query-filter-builder.defaults.to-many-filter-strategy=exists")
+class QueryFilterBuilderExistsIntegrationTest {
+
+    @Autowired
+    private QueryFilterBuilder<User> queryFilterBuilder;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private FilterContext.Template<User> userFilterTemplate;
+
+    @BeforeEach
+    void setUp() {
+        userFilterTemplate = FilterContext.buildTemplateForType(User.class)
+            .requestBody(configurer -> configurer
+                .addFilter("firstName", Operator.EQ)
+                .addFilter("createdUsers.firstName", Operator.EQ, Operator.STARTS_WITH)
+            )
+            .buildTemplate();
+
+        User adminUser = saveUser("c0a86433-9e3b-198a-819e-3be990bf0000", "Admin", User.Role.ADMIN, null);
+        saveUser("c0a86433-9e3b-198a-819e-3be990d40001", "Regular", User.Role.USER, adminUser);
+        saveUser("c0a86433-9e3b-198a-819e-3be990d60002", "Reggie", User.Role.USER, adminUser);
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    private User saveUser(String id, String firstName, User.Role role, User createdBy) {
+        User user = new User();
+        user.setId(UUID.fromString(id));
+        user.setFirstName(firstName);
+        user.setRole(role);
+        user.setCreatedAt(Instant.now());
+        user.setCreatedBy(createdBy);
+        return userRepository.saveAndFlush(user);
+    }
+
+    @Test
+    @DisplayName("Filters on a to-many path with an EXISTS subquery, returning the root once")
+    void testFilter_ToManyPath_ExistsStrategy_ReturnsRootOnce() {
+        FilterContext<User> filterContext = userFilterTemplate
+            .newSourceBuilder()
+            .withBodySource(List.of(new FilterRequest("createdUsers.firstName", Operator.STARTS_WITH.getValue(), "Reg")))
+            .buildFilterContext();
+
+        Specification<User> specification = queryFilterBuilder.buildFilterSpecification(filterContext);
+        List<User> results = userRepository.findAll(specification);
+        long count = userRepository.count(specification);
+
+        assertThat(results)
+            .extracting(User::getFirstName)
+            .containsExactly("Admin");
+        assertThat(count).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Combines an EXISTS subquery with filters on the root")
+    void testFilter_ToManyPathAndRootField_ExistsStrategy() {
+        FilterContext<User> filterContext = userFilterTemplate
+            .newSourceBuilder()
+            .withBodySource(List.of(
+                new FilterRequest("createdUsers.firstName", Operator.EQ.getValue(), "Reggie"),
+                new FilterRequest("firstName", Operator.EQ.getValue(), "Regular")
+            ))
+            .buildFilterContext();
+
+        Specification<User> specification = queryFilterBuilder.buildFilterSpecification(filterContext);
+        List<User> results = userRepository.findAll(specification);
+
+        assertThat(results).isEmpty();
+    }
+}
@@ -0,0 +1,165 @@
+package io.github._0xorigin.queryfilterbuilder;
+
+import io.github._0xorigin.queryfilterbuilder.base.dtos.FilterRequest;
+import io.github._0xorigin.queryfilterbuilder.base.dtos.SortRequest;
+import io.github._0xorigin.queryfilterbuilder.base.filteroperator.Operator;
+import io.github._0xorigin.queryfilterbuilder.configs.*;
+import io.github._0xorigin.queryfilterbuilder.entities.User;
+import io.github._0xorigin.queryfilterbuilder.entities.UserRepository;
+import io.github._0xorigin.queryfilterbuilder.exceptions.QueryBuilderConfigurationException;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@EnableAutoConfiguration
+@ContextConfiguration(classes = {
+    DataSourceAutoConfiguration.class, FilterFieldConfig.class, FilterFieldRegistryConfig.class,
+    FilterOperatorConfig.class, FilterOperatorRegistryConfig.class,
+    QueryFilterBuilderConfig.class, QueryFilterBuilderEnvironmentPostProcessor.class,
+    LocalizationConfig.class
+})
+class QueryFilterBuilderFetchIntegrationTest {
+
+    @Autowired
+    private QueryFilterBuilder<User> queryFilterBuilder;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private FilterContext.Template<User> userFilterTemplate;
+    private SortContext.Template<User> userSortTemplate;
+
+    @BeforeEach
+    void setUp() {
+        userFilterTemplate = FilterContext.buildTemplateForType(User.class)
+            .requestBody(configurer -> configurer
+                .addFilter("firstName", Operator.EQ)
+                .addFilter("createdBy.firstName", Operator.EQ)
+            )
+            .fetch("createdBy")
+            .buildTemplate();
+        userSortTemplate = SortContext.buildTemplateForType(User.class)
+            .requestBody(configurer -> configurer.addSorts("createdBy.firstName"))
+            .fetch("createdBy")
+            .buildTemplate();
+
+        User adminUser = saveUser("c0a86433-9e3b-198a-819e-3be990bf0000", "Admin", User.Role.ADMIN, null);
+        saveUser("c0a86433-9e3b-198a-819e-3be990d40001", "Regular", User.Role.USER, adminUser);
+        saveUser("c0a86433-9e3b-198a-819e-3be990d60002", "Guest", User.Role.GUEST, adminUser);
+        // Loaded entities must come from the queries, not from the persistence context
+        entityManager.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    private User saveUser(String id, String firstName, User.Role role, User createdBy) {
+        User user = new User();
+        user.setId(UUID.fromString(id));
+        user.setFirstName(firstName);
+        user.setRole(role);
+        user.setCreatedAt(Instant.now());
+        user.setCreatedBy(createdBy);
+        return userRepository.saveAndFlush(user);
+    }
+
+    private Specification<User> filter(FilterRequest... filterRequests) {
+        FilterContext<User> filterContext = userFilterTemplate
+            .newSourceBuilder()
+            .withBodySource(List.of(filterRequests))
+            .buildFilterContext();
+        return queryFilterBuilder.buildFilterSpecification(filterContext);
+    }
+
+    @Test
+    @DisplayName("Fetches a filtered association through the join of the filter, in paged queries with a count")
+    void testFetch_FilteredAssociation_FetchesWithInnerJoin() {
+        Specification<User> specification = filter(new FilterRequest("createdBy.firstName", Operator.EQ.getValue(), "Admin"));
+
+        Page<User> page = userRepository.findAll(specification, PageRequest.of(0, 1, Sort.by("firstName")));
+
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent())
+            .singleElement()
+            .satisfies(user -> {
+                assertThat(user.getFirstName()).isEqualTo("Guest");
+                assertThat(Hibernate.isInitialized(user.getCreatedBy())).isTrue();
+            });
+    }
+
+    @Test
+    @DisplayName("Fetches an association that no filter goes through with a left join, keeping null associations")
+    void testFetch_UnfilteredAssociation_FetchesWithLeftJoin() {
+        Specification<User> specification = filter(new FilterRequest("firstName", Operator.EQ.getValue(), "Admin"));
+        Specification<User> noFilters = filter();
+
+        List<User> admins = userRepository.findAll(specification);
+        List<User> all = userRepository.findAll(noFilters);
+
+        assertThat(admins).extracting(User::getFirstName).containsExactly("Admin");
+        assertThat(all).hasSize(3);
+        assertThat(all)
+            .filteredOn(user -> user.getCreatedBy() != null)
+            .allSatisfy(user -> assertThat(Hibernate.isInitialized(user.getCreatedBy())).isTrue());
+    }
+
+    @Test
+    @DisplayName("Fetches a sorted association through the join of the sort, returning the same rows")
+    void testFetch_SortedAssociation_FetchesWithInnerJoin() {
+        SortContext<User> sortContext = userSortTemplate
+            .newSourceBuilder()
+            .withBodySource(List.of(new SortRequest("createdBy.firstName", Sort.Direction.ASC)))
+            .buildSortContext();
+
+        Specification<User> specification = queryFilterBuilder.buildSortSpecification(sortContext);
+        List<User> results = userRepository.findAll(specification);
+        long count = userRepository.count(specification);
+
+        assertThat(results)
+            .hasSize(2)
+            .allSatisfy(user -> assertThat(Hibernate.isInitialized(user.getCreatedBy())).isTrue());
+        assertThat(count).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Rejects fetch paths that are not associations as a configuration error")
+    void testFetch_InvalidPath_ThrowsConfigurationException() {
+        FilterContext<User> filterContext = FilterContext.buildTemplateForType(User.class)
+            .requestBody(configurer -> configurer.addFilter("firstName", Operator.EQ))
+            .fetch("firstName")
+            .buildTemplate()
+            .newSourceBuilder()
+            .withBodySource(List.of())
+            .buildFilterContext();
+
+        Specification<User> specification = queryFilterBuilder.buildFilterSpecification(filterContext);
+
+        assertThatThrownBy(() -> userRepository.findAll(specification))
+            .isInstanceOf(QueryBuilderConfigurationException.class);
+    }
+}
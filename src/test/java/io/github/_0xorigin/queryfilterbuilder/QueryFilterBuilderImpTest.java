@@ -1,21 +1,28 @@
 package io.github._0xorigin.queryfilterbuilder;
 
 import io.github._0xorigin.queryfilterbuilder.base.builders.FilterBuilder;
+import io.github._0xorigin.queryfilterbuilder.base.builders.KeysetBuilder;
 import io.github._0xorigin.queryfilterbuilder.base.builders.SortBuilder;
 import io.github._0xorigin.queryfilterbuilder.base.holders.ErrorHolder;
 import io.github._0xorigin.queryfilterbuilder.base.utils.FilterUtils;
+import io.github._0xorigin.queryfilterbuilder.base.utils.LazyBindingResult;
 import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterWrapper;
+import io.github._0xorigin.queryfilterbuilder.base.wrappers.KeysetWrapper;
 import io.github._0xorigin.queryfilterbuilder.base.wrappers.SortWrapper;
 import io.github._0xorigin.queryfilterbuilder.entities.User;
 import io.github._0xorigin.queryfilterbuilder.exceptions.InvalidQueryParameterException;
+import io.github._0xorigin.queryfilterbuilder.exceptions.QueryBuilderConfigurationException;
 import jakarta.persistence.criteria.*;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.validation.ObjectError;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,6 +40,9 @@ class QueryFilterBuilderImpTest {
     @Mock
     private SortBuilder<User> sortBuilder;
 
+    @Mock
+    private KeysetBuilder<User> keysetBuilder;
+
     @Mock
     private Root<User> root;
 
@@ -91,6 +101,7 @@ class QueryFilterBuilderImpTest {
 
         assertThat(result).isNull();
         verify(filterBuilder).getDistinctFilterWrappers(filterContext);
+        verify(filterBuilder).fetchAssociations(eq(root), eq(criteriaQuery), eq(filterContext), eq(List.of()), any(ErrorHolder.class));
         verifyNoMoreInteractions(filterBuilder, sortBuilder, criteriaBuilder);
     }
 
@@ -98,6 +109,7 @@ class QueryFilterBuilderImpTest {
     void buildFilterSpecification_WhenPredicatesExist_ReturnsCombinedPredicate() {
         var filterWrapper = mock(FilterWrapper.class);
         when(filterBuilder.getDistinctFilterWrappers(filterContext)).thenReturn(List.of(filterWrapper));
+        when(filterBuilder.castValues(eq(filterContext), eq(filterWrapper), any(ErrorHolder.class))).thenReturn(filterWrapper);
         when(filterBuilder.buildPredicateForWrapper(any(), any(), any(), any(), any(), any())).thenReturn(Optional.of(predicate));
         when(criteriaBuilder.and(any(Predicate[].class))).thenReturn(predicate);
 
@@ -110,10 +122,67 @@ class QueryFilterBuilderImpTest {
         verifyNoInteractions(sortBuilder);
     }
 
+    @Test
+    void buildFilterSpecification_WhenFilterIsUnsatisfiable_SignalsEmptyResult() {
+        var filterWrapper = mock(FilterWrapper.class);
+        when(filterBuilder.getDistinctFilterWrappers(filterContext)).thenReturn(List.of(filterWrapper));
+        when(filterBuilder.castValues(eq(filterContext), eq(filterWrapper), any(ErrorHolder.class))).thenReturn(filterWrapper);
+        when(filterBuilder.isUnsatisfiable(filterContext, filterWrapper)).thenReturn(true);
+
+        FilterSpecification<User> specification = queryFilterBuilder.buildFilterSpecification(filterContext);
+
+        assertThat(specification.isEmptyResult()).isTrue();
+        verify(filterBuilder).getDistinctFilterWrappers(filterContext);
+        verify(filterBuilder, never()).buildPredicateForWrapper(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void buildFilterSpecification_WhenFiltersAreSatisfiable_ParsesAndCastsOnceAndDoesNotSignalEmptyResult() {
+        var filterWrapper = mock(FilterWrapper.class);
+        var castFilterWrapper = mock(FilterWrapper.class);
+        when(filterBuilder.getDistinctFilterWrappers(filterContext)).thenReturn(List.of(filterWrapper));
+        when(filterBuilder.castValues(eq(filterContext), eq(filterWrapper), any(ErrorHolder.class))).thenReturn(castFilterWrapper);
+        when(filterBuilder.buildPredicateForWrapper(any(), any(), any(), any(), any(), any())).thenReturn(Optional.of(predicate));
+        when(criteriaBuilder.and(any(Predicate[].class))).thenReturn(predicate);
+
+        FilterSpecification<User> specification = queryFilterBuilder.buildFilterSpecification(filterContext);
+        specification.toPredicate(root, criteriaQuery, criteriaBuilder);
+        specification.toPredicate(root, criteriaQuery, criteriaBuilder);
+
+        assertThat(specification.isEmptyResult()).isFalse();
+        verify(filterBuilder).getDistinctFilterWrappers(filterContext);
+        verify(filterBuilder).castValues(eq(filterContext), eq(filterWrapper), any(ErrorHolder.class));
+        verify(filterBuilder).isUnsatisfiable(filterContext, castFilterWrapper);
+        verify(filterBuilder, times(2)).buildPredicateForWrapper(eq(root), eq(criteriaQuery), eq(criteriaBuilder), eq(filterContext), eq(castFilterWrapper), any());
+    }
+
+    @Test
+    void buildFilterSpecification_WhenValuesAreInvalid_DoesNotSignalEmptyResultAndReportsErrorsWhenApplied() {
+        var filterWrapper = mock(FilterWrapper.class);
+        var invalidFilterWrapper = mock(FilterWrapper.class);
+        ObjectError error = new ObjectError("queryFilterBuilder", "Invalid value");
+        when(filterBuilder.getDistinctFilterWrappers(filterContext)).thenReturn(List.of(filterWrapper));
+        when(filterBuilder.castValues(eq(filterContext), eq(filterWrapper), any(ErrorHolder.class))).thenReturn(invalidFilterWrapper);
+        when(invalidFilterWrapper.castValues()).thenReturn(Optional.of(new FilterWrapper.CastValues(Integer.class, List.of(), List.of(error))));
+        when(filterBuilder.buildPredicateForWrapper(any(), any(), any(), any(), eq(invalidFilterWrapper), any())).thenAnswer(invocation -> {
+            ErrorHolder errorHolder = invocation.getArgument(5);
+            FilterUtils.addError(errorHolder.bindingResult(), error);
+            return Optional.empty();
+        });
+
+        FilterSpecification<User> specification = queryFilterBuilder.buildFilterSpecification(filterContext);
+
+        assertThat(specification.isEmptyResult()).isFalse();
+        assertThatThrownBy(() -> specification.toPredicate(root, criteriaQuery, criteriaBuilder))
+            .isInstanceOf(InvalidQueryParameterException.class);
+        verify(filterBuilder, never()).isUnsatisfiable(any(), any());
+    }
+
     @Test
     void buildFilterSpecification_WhenErrorHolderHasErrors_ThrowsClientSideException() {
         var filterWrapper = mock(FilterWrapper.class);
         when(filterBuilder.getDistinctFilterWrappers(filterContext)).thenReturn(List.of(filterWrapper));
+        when(filterBuilder.castValues(eq(filterContext), eq(filterWrapper), any(ErrorHolder.class))).thenReturn(filterWrapper);
         when(filterBuilder.buildPredicateForWrapper(any(), any(), any(), any(), any(), any())).thenAnswer(invocation -> {
            ErrorHolder errorHolder = invocation.getArgument(5);
            FilterUtils.addFieldError(errorHolder.bindingResult(), "isActive", "true", "Invalid value");
@@ -128,6 +197,29 @@ class QueryFilterBuilderImpTest {
         verifyNoInteractions(sortBuilder);
     }
 
+    @Test
+    void buildFilterSpecification_WhenNoErrors_DoesNotMaterializeBindingResultAndReusesMethodParameter() {
+        var filterWrapper = mock(FilterWrapper.class);
+        List<ErrorHolder> errorHolders = new ArrayList<>();
+        when(filterBuilder.getDistinctFilterWrappers(filterContext)).thenReturn(List.of(filterWrapper));
+        when(filterBuilder.castValues(eq(filterContext), eq(filterWrapper), any(ErrorHolder.class))).thenReturn(filterWrapper);
+        when(filterBuilder.buildPredicateForWrapper(any(), any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+            errorHolders.add(invocation.getArgument(5));
+            return Optional.of(predicate);
+        });
+        when(criteriaBuilder.and(any(Predicate[].class))).thenReturn(predicate);
+
+        queryFilterBuilder.buildFilterSpecification(filterContext).toPredicate(root, criteriaQuery, criteriaBuilder);
+        queryFilterBuilder.buildFilterSpecification(filterContext).toPredicate(root, criteriaQuery, criteriaBuilder);
+
+        assertThat(errorHolders).hasSize(2);
+        assertThat(errorHolders).allSatisfy(errorHolder ->
+            assertThat(errorHolder.bindingResult()).isInstanceOfSatisfying(LazyBindingResult.class,
+                bindingResult -> assertThat(bindingResult.isMaterialized()).isFalse()));
+        assertThat(errorHolders.get(0).methodParameter()).isSameAs(errorHolders.get(1).methodParameter());
+        assertThat(errorHolders.get(0).methodParameter().getMethod().getName()).isEqualTo("buildFilterSpecification");
+    }
+
     // Success scenarios for buildSortSpecification
     @Test
     void buildSortSpecification_WhenNoOrders_SetsEmptyOrderList() {
@@ -139,6 +231,7 @@ class QueryFilterBuilderImpTest {
 
         assertThat(result).isNull();
         verify(sortBuilder).getDistinctSortWrappers(sortContext);
+        verify(sortBuilder).fetchAssociations(eq(root), eq(criteriaQuery), eq(sortContext), eq(List.of()), any(ErrorHolder.class));
         verify(criteriaQuery).orderBy(List.of());
         verifyNoMoreInteractions(sortBuilder, filterBuilder, criteriaBuilder);
     }
@@ -159,6 +252,44 @@ class QueryFilterBuilderImpTest {
         verifyNoInteractions(filterBuilder);
     }
 
+    @Test
+    void buildSortSpecification_WhenAppliedTwice_ParsesOnce() {
+        var sortWrapper = mock(SortWrapper.class);
+        when(sortBuilder.getDistinctSortWrappers(sortContext)).thenReturn(List.of(sortWrapper));
+        when(sortBuilder.buildOrderForWrapper(any(), any(), any(), any(), any(), any())).thenReturn(Optional.of(order));
+
+        Specification<User> specification = queryFilterBuilder.buildSortSpecification(sortContext);
+        specification.toPredicate(root, criteriaQuery, criteriaBuilder);
+        specification.toPredicate(root, criteriaQuery, criteriaBuilder);
+
+        verify(sortBuilder).getDistinctSortWrappers(sortContext);
+        verify(sortBuilder, times(2)).buildOrderForWrapper(eq(root), eq(criteriaQuery), eq(criteriaBuilder), eq(sortContext), eq(sortWrapper), any());
+        verify(criteriaQuery, times(2)).orderBy(List.of(order));
+    }
+
+    @Test
+    void buildSortSpecification_WhenCountQuery_BuildsOnlyRowChangingSortsWithoutOrder() {
+        // Arrange
+        SortWrapper rowPreservingSort = mock(SortWrapper.class);
+        SortWrapper rowChangingSort = mock(SortWrapper.class);
+        doReturn(Long.class).when(criteriaQuery).getResultType();
+        when(sortBuilder.getDistinctSortWrappers(sortContext)).thenReturn(List.of(rowPreservingSort, rowChangingSort));
+        when(sortBuilder.mayChangeRows(sortContext, rowPreservingSort)).thenReturn(false);
+        when(sortBuilder.mayChangeRows(sortContext, rowChangingSort)).thenReturn(true);
+        when(sortBuilder.buildOrderForWrapper(eq(root), eq(criteriaQuery), eq(criteriaBuilder), eq(sortContext), eq(rowChangingSort), any()))
+            .thenReturn(Optional.of(order));
+
+        Specification<User> specification = queryFilterBuilder.buildSortSpecification(sortContext);
+
+        // Act
+        Predicate result = specification.toPredicate(root, criteriaQuery, criteriaBuilder);
+
+        // Assert
+        assertThat(result).isNull();
+        verify(sortBuilder, never()).buildOrderForWrapper(any(), any(), any(), any(), eq(rowPreservingSort), any());
+        verify(criteriaQuery, never()).orderBy(anyList());
+    }
+
     @Test
     void buildSortSpecification_WhenErrorHolderHasErrors_ThrowsClientSideException() {
         SortWrapper sortWrapper = mock(SortWrapper.class);
@@ -176,4 +307,108 @@ class QueryFilterBuilderImpTest {
         verify(sortBuilder).getDistinctSortWrappers(sortContext);
         verifyNoInteractions(filterBuilder);
     }
-}
\ No newline at end of file
+
+    // Scenarios for validate
+    @Test
+    void validate_WhenFilterValuesAreInvalid_ThrowsClientSideExceptionWithErrorsOfAllFilters() {
+        var firstFilterWrapper = mock(FilterWrapper.class);
+        var secondFilterWrapper = mock(FilterWrapper.class);
+        List<ErrorHolder> errorHolders = new ArrayList<>();
+        when(filterBuilder.getDistinctFilterWrappers(filterContext)).thenReturn(List.of(firstFilterWrapper, secondFilterWrapper));
+        doAnswer(invocation -> {
+            ErrorHolder errorHolder = invocation.getArgument(2);
+            errorHolders.add(errorHolder);
+            FilterUtils.addFieldError(errorHolder.bindingResult(), "age", "abc", "Invalid value");
+            return null;
+        }).when(filterBuilder).validate(eq(filterContext), any(FilterWrapper.class), any(ErrorHolder.class));
+
+        assertThatThrownBy(() -> queryFilterBuilder.validate(filterContext))
+            .isInstanceOfSatisfying(InvalidQueryParameterException.class,
+                exception -> assertThat(exception.getBindingResult().getErrorCount()).isEqualTo(2));
+        // Each filter is validated with its own errors, so that a filter does not fail on the errors of another one
+        assertThat(errorHolders).hasSize(2);
+        assertThat(errorHolders.get(0)).isNotSameAs(errorHolders.get(1));
+        assertThat(errorHolders.get(0).methodParameter().getMethod().getName()).isEqualTo("validate");
+        verifyNoInteractions(sortBuilder, root, criteriaQuery, criteriaBuilder);
+    }
+
+    @Test
+    void validate_WhenFiltersAreValid_DoesNotThrow() {
+        var filterWrapper = mock(FilterWrapper.class);
+        when(filterBuilder.getDistinctFilterWrappers(filterContext)).thenReturn(List.of(filterWrapper));
+
+        queryFilterBuilder.validate(filterContext);
+
+        verify(filterBuilder).validate(eq(filterContext), eq(filterWrapper), any(ErrorHolder.class));
+        verifyNoMoreInteractions(filterBuilder);
+    }
+
+    @Test
+    void validate_WhenSortFieldIsInvalid_ThrowsServerSideException() {
+        SortWrapper sortWrapper = mock(SortWrapper.class);
+        when(sortBuilder.getDistinctSortWrappers(sortContext)).thenReturn(List.of(sortWrapper));
+        doAnswer(invocation -> {
+            ErrorHolder errorHolder = invocation.getArgument(2);
+            FilterUtils.addFieldError(errorHolder.bindingResult(), "unknown", "unknown", "Invalid field");
+            return null;
+        }).when(sortBuilder).validate(eq(sortContext), eq(sortWrapper), any(ErrorHolder.class));
+
+        assertThatThrownBy(() -> queryFilterBuilder.validate(sortContext))
+            .isInstanceOf(QueryBuilderConfigurationException.class);
+        verifyNoInteractions(filterBuilder);
+    }
+
+    // Scenarios for buildKeysetSpecification
+    @Test
+    void buildKeysetSpecification_WhenSortContextIsNull_ThrowsNullPointerException() {
+        assertThatThrownBy(() -> queryFilterBuilder.buildKeysetSpecification(null, null))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessage("SortContext must not be null");
+    }
+
+    @Test
+    void buildKeysetSpecification_WhenCursorIsValid_SetsOrdersAndReturnsSeekPredicate() {
+        List<KeysetWrapper> keysetWrappers = List.of(new KeysetWrapper("id", "id", Sort.Direction.ASC));
+        when(keysetBuilder.getKeysetWrappers(eq(sortContext), any())).thenReturn(keysetWrappers);
+        when(keysetBuilder.buildOrders(eq(root), eq(criteriaQuery), eq(criteriaBuilder), eq(keysetWrappers), any())).thenReturn(List.of(order));
+        when(keysetBuilder.buildSeekPredicate(eq(root), eq(criteriaQuery), eq(criteriaBuilder), eq(keysetWrappers), eq("cursor"), any())).thenReturn(Optional.of(predicate));
+
+        KeysetSpecification<User> specification = queryFilterBuilder.buildKeysetSpecification(sortContext, "cursor");
+
+        Predicate result = specification.toPredicate(root, criteriaQuery, criteriaBuilder);
+
+        assertThat(result).isSameAs(predicate);
+        assertThat(specification.getKeysetWrappers()).isEqualTo(keysetWrappers);
+        verify(criteriaQuery).orderBy(List.of(order));
+        verifyNoInteractions(filterBuilder, sortBuilder);
+    }
+
+    @Test
+    void buildKeysetSpecification_WhenSortIsRejected_ThrowsClientSideExceptionBeforeBuildingOrders() {
+        when(keysetBuilder.getKeysetWrappers(eq(sortContext), any())).thenAnswer(invocation -> {
+            ErrorHolder errorHolder = invocation.getArgument(1);
+            FilterUtils.addFieldError(errorHolder.bindingResult(), "customSort", "customSort", "Invalid sort");
+            return List.of();
+        });
+
+        KeysetSpecification<User> specification = queryFilterBuilder.buildKeysetSpecification(sortContext, null);
+
+        assertThatThrownBy(() -> specification.toPredicate(root, criteriaQuery, criteriaBuilder))
+            .isInstanceOf(InvalidQueryParameterException.class);
+        verify(keysetBuilder, never()).buildOrders(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void buildKeysetSpecification_NextCursor_EncodesLastRow() {
+        User first = new User();
+        User last = new User();
+        List<KeysetWrapper> keysetWrappers = List.of(new KeysetWrapper("id", "id", Sort.Direction.ASC));
+        when(keysetBuilder.getKeysetWrappers(eq(sortContext), any())).thenReturn(keysetWrappers);
+        when(keysetBuilder.buildCursor(last, keysetWrappers)).thenReturn("next");
+
+        KeysetSpecification<User> specification = queryFilterBuilder.buildKeysetSpecification(sortContext, null);
+
+        assertThat(specification.nextCursor(List.of(first, last))).contains("next");
+        assertThat(specification.nextCursor(List.of())).isEmpty();
+    }
+}
@@ -4,11 +4,16 @@ import io.github._0xorigin.queryfilterbuilder.base.dtos.FilterRequest;
 import io.github._0xorigin.queryfilterbuilder.base.dtos.SortRequest;
 import io.github._0xorigin.queryfilterbuilder.base.enums.SourceType;
 import io.github._0xorigin.queryfilterbuilder.base.filteroperator.Operator;
+import io.github._0xorigin.queryfilterbuilder.base.utils.RepositoryUtils;
 import io.github._0xorigin.queryfilterbuilder.configs.*;
 import io.github._0xorigin.queryfilterbuilder.entities.User;
 import io.github._0xorigin.queryfilterbuilder.entities.UserRepository;
 import io.github._0xorigin.queryfilterbuilder.exceptions.InvalidQueryParameterException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,6 +25,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import jakarta.persistence.criteria.JoinType;
 import org.springframework.data.jpa.domain.Specification;
@@ -52,6 +60,9 @@ class QueryFilterBuilderIntegrationTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private FilterContext.Template<User> userFilterTemplate;
     private SortContext.Template<User> userSortTemplate;
 
@@ -74,6 +85,7 @@ class QueryFilterBuilderIntegrationTest {
                 .addFilter("lastLogin", Operator.GT, Operator.LT, Operator.GTE, Operator.LTE, Operator.BETWEEN)
                 .addFilter("createdAt", Operator.GT, Operator.LT, Operator.GTE, Operator.LTE, Operator.BETWEEN)
                 .addFilter("createdBy.firstName", Operator.EQ)
+                .addFilter("createdUsers.firstName", Operator.STARTS_WITH)
                 .addFilter(Set.of("parent-user", "parent.User"), "createdBy", Operator.EQ, Operator.LT)
                 .addCustomFilter("customRoleFilter", User.Role.class,
                     (root, criteriaQuery, cb, values, filterErrorWrapper) ->
@@ -329,8 +341,9 @@ class QueryFilterBuilderIntegrationTest {
             .buildFilterContext();
 
         Specification<User> specification = queryFilterBuilder.buildFilterSpecification(filterContext);
-        List<User> results = userRepository.findAll(specification);
+        List<User> results = RepositoryUtils.findAll(userRepository, specification);
 
+        assertThat(RepositoryUtils.isEmptyResult(specification)).isFalse();
         assertThat(results)
             .hasSize(2)
             .allSatisfy(user ->
@@ -339,6 +352,30 @@ class QueryFilterBuilderIntegrationTest {
             );
     }
 
+    @Test
+    @DisplayName("Simplifies BETWEEN with reversed bounds to an empty result")
+    void testFilter_BetweenOperator_ReversedBounds() {
+        Instant start = Instant.now();
+        Instant end = Instant.now().minus(2, ChronoUnit.DAYS);
+
+        List<FilterRequest> filterRequests = List.of(
+            new FilterRequest("createdAt", Operator.BETWEEN.getValue(),
+                String.format("%s,%s", start, end))
+        );
+
+        FilterContext<User> filterContext = userFilterTemplate
+            .newSourceBuilder()
+            .withBodySource(filterRequests)
+            .buildFilterContext();
+
+        Specification<User> specification = queryFilterBuilder.buildFilterSpecification(filterContext);
+
+        assertThat(RepositoryUtils.isEmptyResult(specification)).isTrue();
+        assertThat(userRepository.findAll(specification)).isEmpty();
+        assertThat(userRepository.count(specification)).isZero();
+        assertThat(RepositoryUtils.findAll(userRepository, specification, PageRequest.of(0, 10))).isEmpty();
+    }
+
     @Test
     @DisplayName("Handles sorting with null values")
     void testSorting_MultipleFieldsWithNulls() {
@@ -464,7 +501,7 @@ class QueryFilterBuilderIntegrationTest {
         Specification<User> specification1 = queryFilterBuilder.buildFilterSpecification(filterContextDate);
         assertThatThrownBy(() -> userRepository.findAll(specification1))
             .isInstanceOf(InvalidQueryParameterException.class)
-            .hasMessageContaining("could not be parsed");
+            .hasMessageContaining("Value is not a valid date or time.");
     }
 
     @Test
@@ -585,6 +622,48 @@ class QueryFilterBuilderIntegrationTest {
             .hasMessageContaining("No enum constant");
     }
 
+    @Test
+    @DisplayName("Rejects invalid filter values before the specification is applied")
+    void testValidate_InvalidValues_ThrowsWithoutQuery() {
+        List<FilterRequest> filterRequests = List.of(
+            new FilterRequest("role", Operator.IN.getValue(), "ADMIN,INVALID"),
+            new FilterRequest("createdAt", Operator.GT.getValue(), "yesterday")
+        );
+        FilterContext<User> filterContext = userFilterTemplate
+            .newSourceBuilder()
+            .withBodySource(filterRequests)
+            .buildFilterContext();
+
+        assertThatThrownBy(() -> queryFilterBuilder.validate(filterContext))
+            .isInstanceOfSatisfying(InvalidQueryParameterException.class,
+                exception -> assertThat(exception.getBindingResult().getErrorCount()).isEqualTo(2));
+    }
+
+    @Test
+    @DisplayName("Accepts valid filters and sorts before the specifications are applied")
+    void testValidate_ValidFiltersAndSorts_DoesNotThrow() {
+        FilterContext<User> filterContext = userFilterTemplate
+            .newSourceBuilder()
+            .withBodySource(List.of(
+                new FilterRequest("role", Operator.IN.getValue(), "ADMIN,USER"),
+                new FilterRequest("createdBy.firstName", Operator.EQ.getValue(), "Admin"),
+                new FilterRequest("customRoleFilter", Operator.EQ.getValue(), User.Role.USER.name())
+            ))
+            .buildFilterContext();
+        SortContext<User> sortContext = userSortTemplate
+            .newSourceBuilder()
+            .withBodySource(List.of(new SortRequest("parentUser", Sort.Direction.ASC), new SortRequest("firstName", Sort.Direction.DESC)))
+            .buildSortContext();
+
+        assertThatCode(() -> {
+            queryFilterBuilder.validate(filterContext);
+            queryFilterBuilder.validate(sortContext);
+        }).doesNotThrowAnyException();
+        assertThat(userRepository.findAll(queryFilterBuilder.buildFilterSpecification(filterContext)))
+            .extracting(User::getFirstName)
+            .containsExactly("Regular");
+    }
+
     @Test
     @DisplayName("Handles nested field lookup")
     void testFilter_NestedFieldLookup() {
@@ -602,6 +681,65 @@ class QueryFilterBuilderIntegrationTest {
         assertThat(results).hasSize(1).allMatch(user -> user.getCreatedBy().getFirstName().equals("Admin"));
     }
 
+    @Test
+    @DisplayName("Builds the same signature for equivalent query param and body requests")
+    void testSignature_QueryParamAndBody_AreEqual() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addParameter("role.in", "USER,ADMIN,USER");
+        request.addParameter("isActive", "TRUE");
+        request.addParameter("sort", "lastName,-createdAt");
+        FilterContext<User> queryFilterContext = userFilterTemplate.newSourceBuilder().withQuerySource(request).buildFilterContext();
+        SortContext<User> querySortContext = userSortTemplate.newSourceBuilder().withQuerySource(request).buildSortContext();
+
+        FilterContext<User> bodyFilterContext = userFilterTemplate
+            .newSourceBuilder()
+            .withBodySource(List.of(
+                new FilterRequest("isActive", Operator.EQ.getValue(), "true"),
+                new FilterRequest("role", Operator.IN.getValue(), "ADMIN,USER")
+            ))
+            .buildFilterContext();
+        SortContext<User> bodySortContext = userSortTemplate
+            .newSourceBuilder()
+            .withBodySource(List.of(new SortRequest("lastName", Sort.Direction.ASC), new SortRequest("createdAt", Sort.Direction.DESC)))
+            .buildSortContext();
+
+        QuerySignature querySignature = queryFilterBuilder.buildSignature(queryFilterContext, querySortContext);
+        QuerySignature bodySignature = queryFilterBuilder.buildSignature(bodyFilterContext, bodySortContext);
+
+        assertThat(querySignature).isEqualTo(bodySignature);
+        assertThat(querySignature.digest()).isEqualTo(bodySignature.digest());
+        assertThat(querySignature.filters()).containsExactly(
+            new QuerySignature.FilterTerm("isActive", Operator.EQ, List.of("true")),
+            new QuerySignature.FilterTerm("role", Operator.IN, List.of("ADMIN", "USER"))
+        );
+    }
+
+    @Test
+    @DisplayName("Builds different signatures for different sort orders and rejects invalid values")
+    void testSignature_DifferentSortOrders_AreNotEqual() {
+        FilterContext<User> filterContext = userFilterTemplate.newSourceBuilder().withBodySource(List.of()).buildFilterContext();
+        SortContext<User> ascending = userSortTemplate
+            .newSourceBuilder()
+            .withBodySource(List.of(new SortRequest("firstName", Sort.Direction.ASC), new SortRequest("lastName", Sort.Direction.ASC)))
+            .buildSortContext();
+        SortContext<User> reordered = userSortTemplate
+            .newSourceBuilder()
+            .withBodySource(List.of(new SortRequest("lastName", Sort.Direction.ASC), new SortRequest("firstName", Sort.Direction.ASC)))
+            .buildSortContext();
+        FilterContext<User> invalidFilterContext = userFilterTemplate
+            .newSourceBuilder()
+            .withBodySource(List.of(new FilterRequest("lastLogin", Operator.GT.getValue(), "yesterday")))
+            .buildFilterContext();
+
+        QuerySignature first = queryFilterBuilder.buildSignature(filterContext, ascending);
+        QuerySignature second = queryFilterBuilder.buildSignature(filterContext, reordered);
+
+        assertThat(first).isNotEqualTo(second);
+        assertThat(first.digest()).isNotEqualTo(second.digest());
+        assertThatThrownBy(() -> queryFilterBuilder.buildSignature(invalidFilterContext, ascending))
+            .isInstanceOf(InvalidQueryParameterException.class);
+    }
+
     @Test
     @DisplayName("Handles multiple/nested field sorting")
     void testSort_MultipleFields_NestedField() {
@@ -624,6 +762,126 @@ class QueryFilterBuilderIntegrationTest {
             .containsSequence("Inactive", "Regular");
     }
 
+    @Test
+    @DisplayName("Shares the joins of nested paths between the filter and sort specifications of a query")
+    void testFilterAndSort_SameAssociation_JoinsOnce() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addParameter("sort", "-createdBy.firstName");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        FilterContext<User> filterContext = userFilterTemplate
+            .newSourceBuilder()
+            .withBodySource(List.of(new FilterRequest("createdBy.firstName", Operator.EQ.getValue(), "Admin")))
+            .buildFilterContext();
+        SortContext<User> sortContext = userSortTemplate
+            .newSourceBuilder()
+            .withQuerySource(request)
+            .buildSortContext();
+        Specification<User> specification = queryFilterBuilder.buildFilterSpecification(filterContext)
+            .and(queryFilterBuilder.buildSortSpecification(sortContext));
+
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<User> criteriaQuery = criteriaBuilder.createQuery(User.class);
+        Root<User> root = criteriaQuery.from(User.class);
+        criteriaQuery.select(root).where(specification.toPredicate(root, criteriaQuery, criteriaBuilder));
+
+        assertThat(root.getJoins()).hasSize(1);
+        assertThat(entityManager.createQuery(criteriaQuery).getResultList())
+            .extracting(User::getFirstName)
+            .containsExactly("Regular");
+    }
+
+    @Test
+    @DisplayName("Reuses the joins of a custom specification composed after the first filter specification")
+    void testFilter_CustomJoinBetweenSpecifications_JoinsOnce() {
+        FilterContext<User> roleFilterContext = userFilterTemplate
+            .newSourceBuilder()
+            .withBodySource(List.of(new FilterRequest("role", Operator.EQ.getValue(), User.Role.USER.name())))
+            .buildFilterContext();
+        FilterContext<User> creatorFilterContext = userFilterTemplate
+            .newSourceBuilder()
+            .withBodySource(List.of(new FilterRequest("createdBy.firstName", Operator.EQ.getValue(), "Admin")))
+            .buildFilterContext();
+        Specification<User> customJoin = (root, query, cb) -> cb.isNotNull(root.join("createdBy").get("id"));
+        Specification<User> specification = queryFilterBuilder.buildFilterSpecification(roleFilterContext)
+            .and(customJoin)
+            .and(queryFilterBuilder.buildFilterSpecification(creatorFilterContext));
+
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<User> criteriaQuery = criteriaBuilder.createQuery(User.class);
+        Root<User> root = criteriaQuery.from(User.class);
+        criteriaQuery.select(root).where(specification.toPredicate(root, criteriaQuery, criteriaBuilder));
+
+        assertThat(root.getJoins()).hasSize(1);
+        assertThat(entityManager.createQuery(criteriaQuery).getResultList())
+            .extracting(User::getFirstName)
+            .containsExactly("Regular");
+    }
+
+    @Test
+    @DisplayName("Counts the rows dropped by nested field sorting in paginated queries")
+    void testSort_NestedField_PageCountMatchesContent() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addParameter("sort", "-createdBy.firstName");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        SortContext<User> sortContext = userSortTemplate
+            .newSourceBuilder()
+            .withQuerySource(request)
+            .buildSortContext();
+
+        Specification<User> specification = queryFilterBuilder.buildSortSpecification(sortContext);
+        Page<User> page = userRepository.findAll(specification, PageRequest.of(0, 1));
+
+        assertThat(page.getContent())
+            .extracting(User::getFirstName)
+            .containsExactly("Inactive");
+        assertThat(page.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Counts all rows when sorting by root fields in paginated queries")
+    void testSort_RootField_PageCountIgnoresOrder() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addParameter("sort", "firstName");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        SortContext<User> sortContext = userSortTemplate
+            .newSourceBuilder()
+            .withQuerySource(request)
+            .buildSortContext();
+
+        Specification<User> specification = queryFilterBuilder.buildSortSpecification(sortContext);
+        Page<User> page = userRepository.findAll(specification, PageRequest.of(1, 2));
+
+        assertThat(page.getContent())
+            .extracting(User::getFirstName)
+            .containsExactly("Regular");
+        assertThat(page.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Reads slices without counting the matching rows")
+    void testSort_FindSlice() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addParameter("sort", "firstName");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        SortContext<User> sortContext = userSortTemplate
+            .newSourceBuilder()
+            .withQuerySource(request)
+            .buildSortContext();
+
+        Specification<User> specification = queryFilterBuilder.buildSortSpecification(sortContext);
+        Slice<User> firstSlice = RepositoryUtils.findSlice(userRepository, specification, PageRequest.of(0, 2));
+        Slice<User> secondSlice = RepositoryUtils.findSlice(userRepository, specification, PageRequest.of(1, 2));
+
+        assertThat(firstSlice.getContent())
+            .extracting(User::getFirstName)
+            .containsExactly("Admin", "Inactive");
+        assertThat(firstSlice.hasNext()).isTrue();
+        assertThat(secondSlice.getContent())
+            .extracting(User::getFirstName)
+            .containsExactly("Regular");
+        assertThat(secondSlice.hasNext()).isFalse();
+    }
+
     @Test
     @DisplayName("Filters by alias using query parameter")
     void testFilter_ByAlias_QueryParam() {
@@ -1319,4 +1577,93 @@ class QueryFilterBuilderIntegrationTest {
                 .extracting(User::getFirstName)
                 .isEqualTo("Inactive");
     }
+
+    @Test
+    @DisplayName("Pages through all users with keyset pagination by multiple fields")
+    void testKeysetPagination_MultipleFields() {
+        List<SortRequest> sortRequests = List.of(
+            new SortRequest("role", Sort.Direction.ASC),
+            new SortRequest("firstName", Sort.Direction.DESC)
+        );
+        SortContext<User> sortContext = userSortTemplate
+            .newSourceBuilder()
+            .withBodySource(sortRequests)
+            .buildSortContext();
+
+        KeysetSpecification<User> firstPageSpecification = queryFilterBuilder.buildKeysetSpecification(sortContext, null);
+        List<User> firstPage = userRepository.findAll(firstPageSpecification, PageRequest.ofSize(2)).getContent();
+        String cursor = firstPageSpecification.nextCursor(firstPage).orElseThrow();
+
+        KeysetSpecification<User> secondPageSpecification = queryFilterBuilder.buildKeysetSpecification(sortContext, cursor);
+        List<User> secondPage = userRepository.findAll(secondPageSpecification, PageRequest.ofSize(2)).getContent();
+        String lastCursor = secondPageSpecification.nextCursor(secondPage).orElseThrow();
+
+        List<User> thirdPage = userRepository.findAll(queryFilterBuilder.buildKeysetSpecification(sortContext, lastCursor), PageRequest.ofSize(2)).getContent();
+
+        assertThat(firstPage).extracting(User::getFirstName).containsExactly("Admin", "Regular");
+        assertThat(secondPage).extracting(User::getFirstName).containsExactly("Inactive");
+        assertThat(thirdPage).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Breaks keyset pagination ties by the entity id")
+    void testKeysetPagination_TieBrokenById() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addParameter("sort", "role");
+        SortContext<User> sortContext = userSortTemplate
+            .newSourceBuilder()
+            .withQuerySource(request)
+            .buildSortContext();
+
+        List<String> firstNames = new ArrayList<>();
+        String cursor = null;
+        for (int page = 0; page < 3; page++) {
+            KeysetSpecification<User> specification = queryFilterBuilder.buildKeysetSpecification(sortContext, cursor);
+            List<User> results = userRepository.findAll(specification, PageRequest.ofSize(1)).getContent();
+            results.forEach(user -> firstNames.add(user.getFirstName()));
+            cursor = specification.nextCursor(results).orElseThrow();
+        }
+
+        assertThat(firstNames).containsExactly("Admin", "Regular", "Inactive");
+    }
+
+    @Test
+    @DisplayName("Rejects an invalid keyset pagination cursor")
+    void testKeysetPagination_InvalidCursor_ThrowsException() {
+        SortContext<User> sortContext = userSortTemplate
+            .newSourceBuilder()
+            .withBodySource(List.of(new SortRequest("firstName", Sort.Direction.ASC)))
+            .buildSortContext();
+
+        KeysetSpecification<User> specification = queryFilterBuilder.buildKeysetSpecification(sortContext, "not-a-cursor");
+
+        assertThatThrownBy(() -> userRepository.findAll(specification))
+            .isInstanceOf(InvalidQueryParameterException.class);
+    }
+
+    @Test
+    @DisplayName("Filters on a to-many path with joins, counting the root once per match")
+    void testFilter_ToManyPath_JoinStrategy_RepeatsRoot() {
+        User secondCreatedUser = new User();
+        secondCreatedUser.setId(UUID.fromString("c0a86433-9e3b-198a-819e-3be990d80003"));
+        secondCreatedUser.setFirstName("Reggie");
+        secondCreatedUser.setRole(User.Role.GUEST);
+        secondCreatedUser.setCreatedAt(Instant.now());
+        secondCreatedUser.setCreatedBy(userRepository.findById(UUID.fromString("c0a86433-9e3b-198a-819e-3be990bf0000")).orElseThrow());
+        userRepository.saveAndFlush(secondCreatedUser);
+
+        FilterContext<User> filterContext = userFilterTemplate
+            .newSourceBuilder()
+            .withBodySource(List.of(new FilterRequest("createdUsers.firstName", Operator.STARTS_WITH.getValue(), "Reg")))
+            .buildFilterContext();
+
+        Specification<User> specification = queryFilterBuilder.buildFilterSpecification(filterContext);
+        List<User> results = userRepository.findAll(specification);
+        long count = userRepository.count(specification);
+
+        assertThat(results)
+            .extracting(User::getFirstName)
+            .containsExactly("Admin");
+        assertThat(count).isEqualTo(2);
+    }
 }
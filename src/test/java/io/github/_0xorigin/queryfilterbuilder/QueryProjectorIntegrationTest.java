@@ -0,0 +1,158 @@
+package io.github._0xorigin.queryfilterbuilder;
+
+import io.github._0xorigin.queryfilterbuilder.base.dtos.FilterRequest;
+import io.github._0xorigin.queryfilterbuilder.base.filteroperator.Operator;
+import io.github._0xorigin.queryfilterbuilder.base.utils.RepositoryUtils;
+import io.github._0xorigin.queryfilterbuilder.configs.*;
+import io.github._0xorigin.queryfilterbuilder.entities.User;
+import io.github._0xorigin.queryfilterbuilder.entities.UserRepository;
+import io.github._0xorigin.queryfilterbuilder.exceptions.QueryBuilderConfigurationException;
+import jakarta.persistence.Tuple;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@EnableAutoConfiguration
+@ContextConfiguration(classes = {
+    DataSourceAutoConfiguration.class, FilterFieldConfig.class, FilterFieldRegistryConfig.class,
+    FilterOperatorConfig.class, FilterOperatorRegistryConfig.class,
+    QueryFilterBuilderConfig.class, QueryFilterBuilderEnvironmentPostProcessor.class,
+    LocalizationConfig.class
+})
+class QueryProjectorIntegrationTest {
+
+    @Autowired
+    private QueryFilterBuilder<User> queryFilterBuilder;
+
+    @Autowired
+    private QueryProjector<User> queryProjector;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private FilterContext.Template<User> userFilterTemplate;
+
+    record UserSummary(String firstName, User.Role role, String creatorFirstName) {}
+
+    @BeforeEach
+    void setUp() {
+        userFilterTemplate = FilterContext.buildTemplateForType(User.class)
+            .requestBody(configurer -> configurer
+                .addFilter("createdBy.firstName", Operator.EQ)
+                .addFilter("firstName", Operator.BETWEEN)
+                .addFilter("createdAt", Operator.BETWEEN)
+            )
+            .buildTemplate();
+
+        User adminUser = saveUser("c0a86433-9e3b-198a-819e-3be990bf0000", "Admin", User.Role.ADMIN, null);
+        saveUser("c0a86433-9e3b-198a-819e-3be990d40001", "Regular", User.Role.USER, adminUser);
+        saveUser("c0a86433-9e3b-198a-819e-3be990d60002", "Guest", User.Role.GUEST, adminUser);
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    private User saveUser(String id, String firstName, User.Role role, User createdBy) {
+        User user = new User();
+        user.setId(UUID.fromString(id));
+        user.setFirstName(firstName);
+        user.setRole(role);
+        user.setCreatedAt(Instant.now());
+        user.setCreatedBy(createdBy);
+        return userRepository.saveAndFlush(user);
+    }
+
+    private Specification<User> filter(FilterRequest... filterRequests) {
+        FilterContext<User> filterContext = userFilterTemplate
+            .newSourceBuilder()
+            .withBodySource(List.of(filterRequests))
+            .buildFilterContext();
+        return queryFilterBuilder.buildFilterSpecification(filterContext);
+    }
+
+    @Test
+    @DisplayName("Selects nested fields as aliased tuples, keeping the entities whose association is null")
+    void testProjection_NestedField_KeepsNullAssociations() {
+        List<Tuple> results = queryProjector.findAll(User.class, null, List.of("firstName", "createdBy.firstName"));
+
+        assertThat(results)
+            .extracting(result -> result.get("firstName"), result -> result.get("createdBy.firstName"))
+            .containsExactlyInAnyOrder(
+                tuple("Admin", null),
+                tuple("Regular", "Admin"),
+                tuple("Guest", "Admin")
+            );
+    }
+
+    @Test
+    @DisplayName("Builds DTOs from the fields of the entities matching a filter specification")
+    void testProjection_FilterSpecification_ReturnsDtos() {
+        Specification<User> specification = filter(new FilterRequest("createdBy.firstName", Operator.EQ.getValue(), "Admin"));
+
+        List<UserSummary> results = queryProjector.findAll(
+            User.class, specification, List.of("firstName", "role", "createdBy.firstName"), UserSummary.class
+        );
+
+        assertThat(results).containsExactlyInAnyOrder(
+            new UserSummary("Regular", User.Role.USER, "Admin"),
+            new UserSummary("Guest", User.Role.GUEST, "Admin")
+        );
+    }
+
+    @Test
+    @DisplayName("Returns a sorted page of tuples with the total number of matching entities")
+    void testProjection_Pageable_ReturnsPage() {
+        Specification<User> specification = (root, query, criteriaBuilder) -> {
+            query.orderBy(criteriaBuilder.desc(root.get("firstName")));
+            return null;
+        };
+
+        Page<Tuple> page = queryProjector.findAll(User.class, specification, List.of("firstName"), PageRequest.of(0, 2, Sort.by("firstName")));
+
+        assertThat(page.getContent())
+            .extracting(result -> result.get(0))
+            .containsExactly("Admin", "Guest");
+        assertThat(page.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Returns an empty result without querying when the filters match no entity")
+    void testProjection_EmptyResultSpecification_ReturnsEmpty() {
+        Specification<User> specification = filter(new FilterRequest("createdAt", Operator.BETWEEN.getValue(), "2025-01-02T00:00:00Z,2025-01-01T00:00:00Z"));
+
+        List<Tuple> results = queryProjector.findAll(User.class, specification, List.of("firstName"));
+        Page<Tuple> page = queryProjector.findAll(User.class, specification, List.of("firstName"), PageRequest.of(0, 2));
+
+        assertThat(RepositoryUtils.isEmptyResult(specification)).isTrue();
+        assertThat(results).isEmpty();
+        assertThat(page.getTotalElements()).isZero();
+    }
+
+    @Test
+    @DisplayName("Rejects fields that cannot be resolved as a configuration error")
+    void testProjection_InvalidField_ThrowsConfigurationException() {
+        assertThatThrownBy(() -> queryProjector.findAll(User.class, null, List.of("firstName", "unknown")))
+            .isInstanceOf(QueryBuilderConfigurationException.class);
+    }
+}
@@ -0,0 +1,115 @@
+package io.github._0xorigin.queryfilterbuilder;
+
+import io.github._0xorigin.queryfilterbuilder.base.cache.LocalQueryResultCache;
+import io.github._0xorigin.queryfilterbuilder.base.cache.QueryResultCache;
+import io.github._0xorigin.queryfilterbuilder.base.dtos.FilterRequest;
+import io.github._0xorigin.queryfilterbuilder.base.filteroperator.Operator;
+import io.github._0xorigin.queryfilterbuilder.configs.*;
+import io.github._0xorigin.queryfilterbuilder.entities.User;
+import io.github._0xorigin.queryfilterbuilder.entities.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Not transactional, so that each repository call commits and triggers the post-commit invalidation
+@DataJpaTest
+@EnableAutoConfiguration
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ContextConfiguration(classes = {
+    DataSourceAutoConfiguration.class, FilterFieldConfig.class, FilterFieldRegistryConfig.class,
+    FilterOperatorConfig.class, FilterOperatorRegistryConfig.class,
+    QueryFilterBuilderConfig.class, QueryFilterBuilderEnvironmentPostProcessor.class,
+    LocalizationConfig.class
+})
+@TestPropertySource(properties = "query-filter-builder.defaults.result-cache.enabled=true")
+class QueryResultCacheIntegrationTest {
+
+    @Autowired
+    private QueryFilterBuilder<User> queryFilterBuilder;
+
+    @Autowired
+    private QueryResultCache queryResultCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final AtomicInteger queries = new AtomicInteger();
+
+    private FilterContext.Template<User> userFilterTemplate;
+
+    private SortContext.Template<User> userSortTemplate;
+
+    @BeforeEach
+    void setUp() {
+        userFilterTemplate = FilterContext.buildTemplateForType(User.class)
+            .requestBody(configurer -> configurer.addFilter("role", Operator.EQ))
+            .buildTemplate();
+        userSortTemplate = SortContext.buildTemplateForType(User.class)
+            .requestBody(configurer -> configurer.addSorts("firstName"))
+            .buildTemplate();
+        saveUser("c0a86433-9e3b-198a-819e-3be990bf0000", "Admin", User.Role.ADMIN);
+        queryResultCache.evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Caches results by signature until an entity of the type is committed")
+    void testCache_CommittedWrite_EvictsResults() {
+        assertThat(queryResultCache).isInstanceOf(LocalQueryResultCache.class);
+
+        assertThat(findAdminNames()).containsExactly("Admin");
+        assertThat(findAdminNames()).containsExactly("Admin");
+        assertThat(queries).hasValue(1);
+
+        saveUser("c0a86433-9e3b-198a-819e-3be990d40001", "Other", User.Role.ADMIN);
+
+        assertThat(findAdminNames()).containsExactly("Admin", "Other");
+        assertThat(queries).hasValue(2);
+    }
+
+    private List<String> findAdminNames() {
+        FilterContext<User> filterContext = userFilterTemplate
+            .newSourceBuilder()
+            .withBodySource(List.of(new FilterRequest("role", Operator.EQ.getValue(), User.Role.ADMIN.name())))
+            .buildFilterContext();
+        SortContext<User> sortContext = userSortTemplate.newSourceBuilder().withBodySource(List.of()).buildSortContext();
+        QuerySignature signature = queryFilterBuilder.buildSignature(filterContext, sortContext);
+
+        return queryResultCache.get(signature, null, () -> {
+            queries.incrementAndGet();
+            return userRepository.findAll(queryFilterBuilder.buildFilterSpecification(filterContext)).stream()
+                .map(User::getFirstName)
+                .sorted()
+                .toList();
+        });
+    }
+
+    private void saveUser(String id, String firstName, User.Role role) {
+        User user = new User();
+        user.setId(UUID.fromString(id));
+        user.setFirstName(firstName);
+        user.setRole(role);
+        user.setCreatedAt(Instant.now());
+        userRepository.save(user);
+    }
+}
@@ -0,0 +1,73 @@
+package io.github._0xorigin.queryfilterbuilder;
+
+import io.github._0xorigin.queryfilterbuilder.QuerySignature.FilterTerm;
+import io.github._0xorigin.queryfilterbuilder.QuerySignature.SortTerm;
+import io.github._0xorigin.queryfilterbuilder.base.filteroperator.Operator;
+import io.github._0xorigin.queryfilterbuilder.entities.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuerySignatureTest {
+
+    @Test
+    void filters_AreOrderedByFieldAndOperator() {
+        // Arrange
+        FilterTerm lastName = FilterTerm.of("lastName", Operator.EQ, List.of("Doe"));
+        FilterTerm firstNameContains = FilterTerm.of("firstName", Operator.CONTAINS, List.of("J"));
+        FilterTerm firstNameEquals = FilterTerm.of("firstName", Operator.EQ, List.of("John"));
+
+        // Act
+        QuerySignature signature = new QuerySignature(User.class, List.of(lastName, firstNameContains, firstNameEquals), List.of());
+
+        // Assert
+        assertThat(signature.filters()).containsExactly(firstNameEquals, firstNameContains, lastName);
+    }
+
+    @Test
+    void setOperatorValues_AreSortedAndDeduplicated() {
+        // Act
+        FilterTerm in = FilterTerm.of("age", Operator.IN, List.of(30, 18, 30));
+        FilterTerm between = FilterTerm.of("age", Operator.BETWEEN, List.of(30, 18));
+
+        // Assert
+        assertThat(in.values()).containsExactly("18", "30");
+        assertThat(between.values()).containsExactly("30", "18");
+    }
+
+    @Test
+    void digest_IsStableAndDistinguishesValueBoundaries() {
+        // Arrange
+        List<SortTerm> sorts = List.of(new SortTerm("firstName", Sort.Direction.ASC));
+        QuerySignature signature = new QuerySignature(User.class, List.of(FilterTerm.of("role", Operator.IN, List.of("a,b"))), sorts);
+        QuerySignature sameSignature = new QuerySignature(User.class, List.of(FilterTerm.of("role", Operator.IN, List.of("a,b"))), sorts);
+        QuerySignature splitValues = new QuerySignature(User.class, List.of(FilterTerm.of("role", Operator.IN, List.of("a", "b"))), sorts);
+
+        // Act
+        String digest = signature.digest();
+
+        // Assert
+        assertThat(digest).isEqualTo(sameSignature.digest()).matches("[A-Za-z0-9_-]{43}");
+        assertThat(digest).isNotEqualTo(splitValues.digest());
+    }
+
+    @Test
+    void digest_DistinguishesValueCounts() {
+        // Arrange
+        // Without a delimiter, "1" + "120:..." and "11" + "20:..." would have the same canonical form
+        List<String> elevenValues = new ArrayList<>();
+        elevenValues.add("a".repeat(20));
+        for (int i = 0; i < 10; i++)
+            elevenValues.add("b".repeat(8));
+        String oneValue = "a".repeat(20) + "8:bbbbbbbb".repeat(10);
+        QuerySignature signature = new QuerySignature(User.class, List.of(FilterTerm.of("f", Operator.EQ, List.of(oneValue))), List.of());
+        QuerySignature otherSignature = new QuerySignature(User.class, List.of(FilterTerm.of("f", Operator.EQ, elevenValues)), List.of());
+
+        // Act & Assert
+        assertThat(signature.digest()).isNotEqualTo(otherSignature.digest());
+    }
+}
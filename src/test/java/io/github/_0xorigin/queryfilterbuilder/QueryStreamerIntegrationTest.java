@@ -0,0 +1,195 @@
+package io.github._0xorigin.queryfilterbuilder;
+
+import io.github._0xorigin.queryfilterbuilder.base.dtos.FilterRequest;
+import io.github._0xorigin.queryfilterbuilder.base.dtos.SortRequest;
+import io.github._0xorigin.queryfilterbuilder.base.filteroperator.Operator;
+import io.github._0xorigin.queryfilterbuilder.configs.*;
+import io.github._0xorigin.queryfilterbuilder.entities.User;
+import io.github._0xorigin.queryfilterbuilder.entities.UserRepository;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@EnableAutoConfiguration
+@ContextConfiguration(classes = {
+    DataSourceAutoConfiguration.class, FilterFieldConfig.class, FilterFieldRegistryConfig.class,
+    FilterOperatorConfig.class, FilterOperatorRegistryConfig.class,
+    QueryFilterBuilderConfig.class, QueryFilterBuilderEnvironmentPostProcessor.class,
+    LocalizationConfig.class
+})
+class QueryStreamerIntegrationTest {
+
+    @Autowired
+    private QueryFilterBuilder<User> queryFilterBuilder;
+
+    @Autowired
+    private QueryStreamer<User> queryStreamer;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private FilterContext.Template<User> userFilterTemplate;
+    private SortContext.Template<User> userSortTemplate;
+
+    @BeforeEach
+    void setUp() {
+        userFilterTemplate = FilterContext.buildTemplateForType(User.class)
+            .requestBody(configurer -> configurer
+                .addFilter("role", Operator.EQ)
+                .addFilter("firstName", Operator.BETWEEN)
+            )
+            .buildTemplate();
+        userSortTemplate = SortContext.buildTemplateForType(User.class)
+            .requestBody(configurer -> configurer.addSorts("firstName"))
+            .buildTemplate();
+
+        User adminUser = saveUser("c0a86433-9e3b-198a-819e-3be990bf0000", "Admin", User.Role.ADMIN, null);
+        saveUser("c0a86433-9e3b-198a-819e-3be990d40001", "Regular", User.Role.USER, adminUser);
+        saveUser("c0a86433-9e3b-198a-819e-3be990d60002", "Member", User.Role.USER, adminUser);
+        saveUser("c0a86433-9e3b-198a-819e-3be990d80003", "Guest", User.Role.GUEST, adminUser);
+    }
+
+    @AfterEach
+    void tearDown() {
+        // A single statement, so that the self-references do not fail the tests running outside of a transaction
+        userRepository.deleteAllInBatch();
+    }
+
+    private User saveUser(String id, String firstName, User.Role role, User createdBy) {
+        User user = new User();
+        user.setId(UUID.fromString(id));
+        user.setFirstName(firstName);
+        user.setRole(role);
+        user.setCreatedAt(Instant.now());
+        user.setCreatedBy(createdBy);
+        return userRepository.saveAndFlush(user);
+    }
+
+    private Specification<User> filterAndSort(FilterRequest... filterRequests) {
+        FilterContext<User> filterContext = userFilterTemplate
+            .newSourceBuilder()
+            .withBodySource(List.of(filterRequests))
+            .buildFilterContext();
+        SortContext<User> sortContext = userSortTemplate
+            .newSourceBuilder()
+            .withBodySource(List.of(new SortRequest("firstName", Sort.Direction.DESC)))
+            .buildSortContext();
+        return queryFilterBuilder.buildFilterSpecification(filterContext).and(queryFilterBuilder.buildSortSpecification(sortContext));
+    }
+
+    @Test
+    @DisplayName("Streams the filtered entities in order as read-only entities")
+    void testStream_FilterAndSortSpecifications_StreamsReadOnlyEntities() {
+        Specification<User> specification = filterAndSort(new FilterRequest("role", Operator.EQ.getValue(), User.Role.USER.name()));
+        Session session = entityManager.getEntityManager().unwrap(Session.class);
+        entityManager.clear();
+
+        try (Stream<User> users = queryStreamer.stream(User.class, specification)) {
+            assertThat(users)
+                .allSatisfy(user -> assertThat(session.isReadOnly(user)).isTrue())
+                .extracting(User::getFirstName)
+                .containsExactly("Regular", "Member");
+        }
+    }
+
+    @Test
+    @DisplayName("Clears the persistence context every clear interval")
+    void testStream_ClearInterval_DetachesStreamedEntities() {
+        QueryStreamer.StreamOptions options = queryStreamer.getDefaultOptions().withFetchSize(2).withClearInterval(2);
+        entityManager.clear();
+
+        try (Stream<User> users = queryStreamer.stream(User.class, filterAndSort(), options)) {
+            Iterator<User> iterator = users.iterator();
+            User first = iterator.next();
+            User second = iterator.next();
+            User third = iterator.next();
+
+            assertThat(List.of(first, second, third))
+                .extracting(User::getFirstName)
+                .containsExactly("Regular", "Member", "Guest");
+            assertThat(entityManager.getEntityManager().contains(first)).isFalse();
+            assertThat(entityManager.getEntityManager().contains(second)).isFalse();
+            assertThat(entityManager.getEntityManager().contains(third)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Keeps the entities of the caller managed by default")
+    void testStream_DefaultOptions_KeepsEntitiesManaged() {
+        entityManager.clear();
+        User admin = userRepository.findAll(filterAndSort(new FilterRequest("firstName", Operator.EQ.getValue(), "Admin"))).get(0);
+
+        try (Stream<User> users = queryStreamer.stream(User.class, filterAndSort())) {
+            assertThat(users).hasSize(4).allSatisfy(user -> assertThat(entityManager.getEntityManager().contains(user)).isTrue());
+        }
+        assertThat(queryStreamer.getDefaultOptions().clearInterval()).isZero();
+        assertThat(entityManager.getEntityManager().contains(admin)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Returns an empty stream without querying when the filters match no entity")
+    void testStream_EmptyResultSpecification_ReturnsEmptyStream() {
+        Specification<User> specification = filterAndSort(new FilterRequest("firstName", Operator.BETWEEN.getValue(), "Z,A"));
+
+        try (Stream<User> users = queryStreamer.stream(User.class, specification)) {
+            assertThat(users).isEmpty();
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Streams the entities from a stateless session outside of a transaction")
+    void testStream_Stateless_StreamsDetachedEntities() {
+        QueryStreamer.StreamOptions options = queryStreamer.getDefaultOptions().withStateless(true);
+
+        try (Stream<User> users = queryStreamer.stream(User.class, filterAndSort(), options)) {
+            assertThat(users)
+                .extracting(User::getFirstName)
+                .containsExactly("Regular", "Member", "Guest", "Admin");
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Requires a transaction to stream from the persistence context")
+    void testStream_WithoutTransaction_Throws() {
+        Specification<User> specification = filterAndSort();
+
+        assertThatThrownBy(() -> queryStreamer.stream(User.class, specification))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Rejects invalid options")
+    void testStreamOptions_InvalidValues_Throw() {
+        QueryStreamer.StreamOptions options = queryStreamer.getDefaultOptions();
+
+        assertThatThrownBy(() -> options.withFetchSize(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> options.withClearInterval(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
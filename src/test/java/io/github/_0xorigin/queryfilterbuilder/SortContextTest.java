@@ -1,9 +1,12 @@
 package io.github._0xorigin.queryfilterbuilder;
 
 import io.github._0xorigin.queryfilterbuilder.base.dtos.SortRequest;
+import io.github._0xorigin.queryfilterbuilder.base.enums.SortType;
 import io.github._0xorigin.queryfilterbuilder.base.enums.SourceType;
 import io.github._0xorigin.queryfilterbuilder.base.functions.CustomSortFunction;
 import io.github._0xorigin.queryfilterbuilder.base.functions.ExpressionProviderFunction;
+import io.github._0xorigin.queryfilterbuilder.base.plans.SortPlan;
+import io.github._0xorigin.queryfilterbuilder.base.wrappers.SortWrapper;
 import io.github._0xorigin.queryfilterbuilder.entities.FakeUser;
 import io.github._0xorigin.queryfilterbuilder.entities.User;
 import jakarta.servlet.http.HttpServletRequest;
@@ -49,6 +52,27 @@ class SortContextTest {
             .hasMessage("Consumer for SortConfigurer must not be null");
     }
 
+    @Test
+    void templateBuilder_fetch_keepsDistinctPathsInOrder() {
+        SortContext<User> context = SortContext.buildTemplateForType(User.class)
+            .fetch("createdBy", "createdUsers")
+            .fetch("createdBy")
+            .buildTemplate()
+            .newSourceBuilder()
+            .withBodySource(List.of())
+            .buildSortContext();
+
+        assertThat(context.getFetchPaths()).containsExactly("createdBy", "createdUsers");
+    }
+
+    @Test
+    void templateBuilder_fetch_nullPath_throwsNullPointerException() {
+        SortContext.TemplateBuilder<User> builder = SortContext.buildTemplateForType(User.class);
+        assertThatThrownBy(() -> builder.fetch("createdBy", null))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessage("Path must not be null");
+    }
+
     @Test
     void templateBuilder_requestBody_nullConsumer_throwsNullPointerException() {
         SortContext.TemplateBuilder<User> builder = SortContext.buildTemplateForType(User.class);
@@ -765,4 +789,59 @@ class SortContextTest {
         Map<String, String> aliases = context.getAliasToFieldMap();
         assertThat(aliases).containsEntry("a", "field").containsEntry("b", "field");
     }
+
+    @Test
+    void resolveSortWrapper_alias_resolvesToEntityFieldAsNormalSort() {
+        SortContext.TemplateBuilder<User> builder = SortContext.buildTemplateForType(User.class);
+        builder.queryParam(c -> c.addDescSort("name", "firstName"));
+        SortContext<User> context = builder.buildTemplate().newSourceBuilder().buildSortContext();
+
+        SortWrapper parsed = new SortWrapper("name", "name", Sort.Direction.DESC, SourceType.QUERY_PARAM, Optional.empty());
+        Optional<SortWrapper> resolved = context.resolveSortWrapper(parsed);
+
+        assertThat(resolved).contains(new SortWrapper("firstName", "name", Sort.Direction.DESC, SourceType.QUERY_PARAM, Optional.of(SortType.NORMAL)));
+        SortPlan<User> plan = context.getSortPlan(resolved.orElseThrow()).orElseThrow();
+        assertThat(plan.field()).isEqualTo("firstName");
+        assertThat(plan.direction()).isEqualTo(Sort.Direction.DESC);
+        assertThat(plan.sortHolder()).containsSame(context.getSorts().get("firstName"));
+    }
+
+    @Test
+    void resolveSortWrapper_disallowedDirectionOrSource_returnsEmpty() {
+        SortContext.TemplateBuilder<User> builder = SortContext.buildTemplateForType(User.class);
+        builder.queryParam(c -> c.addAscSort("firstName"));
+        SortContext<User> context = builder.buildTemplate().newSourceBuilder().buildSortContext();
+
+        SortWrapper wrongDirection = new SortWrapper("firstName", "firstName", Sort.Direction.DESC, SourceType.QUERY_PARAM, Optional.empty());
+        SortWrapper wrongSource = new SortWrapper("firstName", "firstName", Sort.Direction.ASC, SourceType.REQUEST_BODY, Optional.empty());
+
+        assertThat(context.resolveSortWrapper(wrongDirection)).isEmpty();
+        assertThat(context.resolveSortWrapper(wrongSource)).isEmpty();
+    }
+
+    @Test
+    void resolveSortWrapper_customSort_resolvesAsCustomSort() {
+        CustomSortFunction<User> sortFunction = (root, cq, cb, errorWrapper) -> Optional.empty();
+        SortContext.TemplateBuilder<User> builder = SortContext.buildTemplateForType(User.class);
+        builder.requestBody(c -> c.addCustomSort("fullName", sortFunction));
+        SortContext<User> context = builder.buildTemplate().newSourceBuilder().buildSortContext();
+
+        SortWrapper parsed = new SortWrapper("fullName", "fullName", Sort.Direction.ASC, SourceType.REQUEST_BODY, Optional.empty());
+        SortWrapper resolved = context.resolveSortWrapper(parsed).orElseThrow();
+
+        assertThat(resolved.sortType()).contains(SortType.CUSTOM);
+        SortPlan<User> plan = context.getSortPlan(resolved).orElseThrow();
+        assertThat(plan.customSortHolder()).containsSame(context.getCustomSorts().get("fullName"));
+        assertThat(context.resolveSortWrapper(new SortWrapper("fullName", "fullName", Sort.Direction.ASC, SourceType.QUERY_PARAM, Optional.empty()))).isEmpty();
+    }
+
+    @Test
+    void getSortPlan_wrapperWithoutSortType_returnsEmpty() {
+        SortContext.TemplateBuilder<User> builder = SortContext.buildTemplateForType(User.class);
+        builder.queryParam(c -> c.addAscSort("firstName"));
+        SortContext<User> context = builder.buildTemplate().newSourceBuilder().buildSortContext();
+
+        SortWrapper wrapper = new SortWrapper("firstName", "firstName", Sort.Direction.ASC, SourceType.QUERY_PARAM, Optional.empty());
+        assertThat(context.getSortPlan(wrapper)).isEmpty();
+    }
 }
@@ -8,6 +8,7 @@ import io.github._0xorigin.queryfilterbuilder.base.enums.FilterType;
 import io.github._0xorigin.queryfilterbuilder.base.enums.MessageKey;
 import io.github._0xorigin.queryfilterbuilder.base.enums.SourceType;
 import io.github._0xorigin.queryfilterbuilder.base.filterfield.AbstractFilterField;
+import io.github._0xorigin.queryfilterbuilder.base.filterfield.CastResult;
 import io.github._0xorigin.queryfilterbuilder.base.filteroperator.FilterOperator;
 import io.github._0xorigin.queryfilterbuilder.base.filteroperator.Operator;
 import io.github._0xorigin.queryfilterbuilder.base.functions.CustomFilterFunction;
@@ -16,8 +17,8 @@ import io.github._0xorigin.queryfilterbuilder.base.holders.CustomFilterHolder;
 import io.github._0xorigin.queryfilterbuilder.base.holders.ErrorHolder;
 import io.github._0xorigin.queryfilterbuilder.base.holders.FilterHolder;
 import io.github._0xorigin.queryfilterbuilder.base.parsers.FilterParser;
+import io.github._0xorigin.queryfilterbuilder.base.plans.FilterPlan;
 import io.github._0xorigin.queryfilterbuilder.base.services.LocalizationService;
-import io.github._0xorigin.queryfilterbuilder.base.utils.FilterUtils;
 import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterErrorWrapper;
 import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterWrapper;
 import io.github._0xorigin.queryfilterbuilder.entities.User;
@@ -28,12 +29,14 @@ import jakarta.persistence.criteria.*;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.MethodParameter;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
 
 import java.time.Instant;
 import java.time.OffsetDateTime;
@@ -46,7 +49,8 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class FilterBuilderImpTest {
 
-    @Mock
+    // Real default methods, so that generatePredicate goes through the stubbed generate
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
     private PathGenerator<User> fieldPathGenerator;
 
     @Mock
@@ -115,10 +119,7 @@ class FilterBuilderImpTest {
         when(filterContext.getRequest()).thenReturn(Optional.of(httpServletRequest));
         when(filterContext.getFilterRequests()).thenReturn(Optional.empty());
         when(filterParser.parse(httpServletRequest)).thenReturn(parsedWrappers);
-        FilterHolder<User, String> filterHolder = mock(FilterHolder.class);
-        when(filterContext.getFilters()).thenReturn(Map.of("firstName", filterHolder));
-        when(filterHolder.operators()).thenReturn(Set.of(Operator.EQ));
-        when(filterHolder.sourceTypes()).thenReturn(Set.of(SourceType.QUERY_PARAM));
+        when(filterContext.resolveFilterWrapper(wrapper)).thenReturn(Optional.of(wrapper.withFilterType(FilterType.NORMAL)));
 
         // Act
         Collection<FilterWrapper> result = filterBuilder.getDistinctFilterWrappers(filterContext);
@@ -137,9 +138,7 @@ class FilterBuilderImpTest {
         when(filterContext.getRequest()).thenReturn(Optional.empty());
         when(filterContext.getFilterRequests()).thenReturn(Optional.of(filterRequests));
         when(filterParser.parse(filterRequests)).thenReturn(parsedWrappers);
-        CustomFilterHolder<User, OffsetDateTime> customFilterHolder = mock(CustomFilterHolder.class);
-        when(filterContext.getCustomFilters()).thenReturn(Map.of("lastLogin", customFilterHolder));
-        when(customFilterHolder.sourceTypes()).thenReturn(Set.of(SourceType.REQUEST_BODY));
+        when(filterContext.resolveFilterWrapper(wrapper)).thenReturn(Optional.of(wrapper.withFilterType(FilterType.CUSTOM)));
 
         // Act
         Collection<FilterWrapper> result = filterBuilder.getDistinctFilterWrappers(filterContext);
@@ -173,24 +172,34 @@ class FilterBuilderImpTest {
         when(filterContext.getFilterRequests()).thenReturn(Optional.empty());
         when(filterParser.parse(httpServletRequest)).thenReturn(parsedWrappers);
 
-        // Alias map contains the parsed 'alias' key -> mappedField
-        when(filterContext.getAliasToFieldMap()).thenReturn(Map.of("alias", "mappedField"));
-
-        // Ensure the mapped field is registered in filters so it becomes a NORMAL filter
-        FilterHolder<User, String> filterHolder = mock(FilterHolder.class);
-        when(filterContext.getFilters()).thenReturn(Map.of("mappedField", filterHolder));
-        when(filterHolder.operators()).thenReturn(Set.of(Operator.EQ));
-        when(filterHolder.sourceTypes()).thenReturn(Set.of(SourceType.QUERY_PARAM));
+        // The context resolves the parsed 'alias' to the mapped field as a NORMAL filter
+        FilterWrapper expected = new FilterWrapper("mappedField", "alias", Operator.EQ, List.of("val"), SourceType.QUERY_PARAM, Optional.of(FilterType.NORMAL));
+        when(filterContext.resolveFilterWrapper(parsed)).thenReturn(Optional.of(expected));
 
         // Act
         Collection<FilterWrapper> result = filterBuilder.getDistinctFilterWrappers(filterContext);
 
         // Assert: the returned wrapper should have its field resolved to the mapped field
-        FilterWrapper expected = new FilterWrapper("mappedField", "alias", Operator.EQ, List.of("val"), SourceType.QUERY_PARAM, Optional.of(FilterType.NORMAL));
         assertThat(result).hasSize(1).containsExactly(expected);
         verify(filterParser).parse(httpServletRequest);
     }
 
+    @Test
+    void getDistinctFilterWrappers_UnresolvedWrapper_IsSkipped() {
+        // Arrange
+        FilterWrapper parsed = new FilterWrapper("unknown", "unknown", Operator.EQ, List.of("val"), SourceType.QUERY_PARAM, Optional.empty());
+        when(filterContext.getRequest()).thenReturn(Optional.of(httpServletRequest));
+        when(filterContext.getFilterRequests()).thenReturn(Optional.empty());
+        when(filterParser.parse(httpServletRequest)).thenReturn(List.of(parsed));
+        when(filterContext.resolveFilterWrapper(parsed)).thenReturn(Optional.empty());
+
+        // Act
+        Collection<FilterWrapper> result = filterBuilder.getDistinctFilterWrappers(filterContext);
+
+        // Assert
+        assertThat(result).isEmpty();
+    }
+
     @Test
     void buildPredicateForWrapper_NoFilterType_ReturnsEmpty() {
         // Arrange
@@ -209,15 +218,13 @@ class FilterBuilderImpTest {
         List<String> values = List.of("John");
         FilterWrapper wrapper = new FilterWrapper("firstName", "firstName", Operator.EQ, values, SourceType.QUERY_PARAM, Optional.of(FilterType.NORMAL));
         FilterHolder<User, String> filterHolder = mock(FilterHolder.class);
-        when(filterContext.getFilters()).thenReturn(Map.of("firstName", filterHolder));
-        when(filterHolder.operators()).thenReturn(Set.of(Operator.EQ));
-        when(filterHolder.sourceTypes()).thenReturn(Set.of(SourceType.QUERY_PARAM));
+        when(filterContext.getFilterPlan(wrapper)).thenReturn(Optional.of(FilterPlan.normal("firstName", filterHolder)));
         when(filterHolder.getExpression(root, criteriaQuery, criteriaBuilder)).thenAnswer(invocation -> Optional.of(stringExpression));
         when(stringExpression.getJavaType()).thenAnswer(invocation -> String.class);
         when(filterFieldRegistry.getFilterField(String.class)).thenAnswer(invocation -> filterField);
         when(filterOperatorRegistry.getOperator(Operator.EQ)).thenReturn(filterOperator);
         when(filterField.getSupportedOperators()).thenReturn(Set.of(Operator.EQ));
-        when(filterField.safeCast(eq("John"), any(FilterErrorWrapper.class))).thenAnswer(invocation -> "John");
+        when(filterField.tryCast("John")).thenAnswer(invocation -> CastResult.success("John"));
         when(filterOperator.apply(eq(stringExpression), eq(criteriaBuilder), eq(values), any(FilterErrorWrapper.class))).thenReturn(Optional.of(predicate));
         when(errorHolder.bindingResult()).thenReturn(bindingResult);
 
@@ -229,6 +236,257 @@ class FilterBuilderImpTest {
         verify(filterOperator).apply(eq(stringExpression), eq(criteriaBuilder), eq(values), any(FilterErrorWrapper.class));
     }
 
+    @Test
+    void buildPredicateForWrapper_BetweenWithReversedBounds_ReturnsDisjunction() {
+        // Arrange
+        List<String> values = List.of("10", "1");
+        FilterWrapper wrapper = new FilterWrapper("age", "age", Operator.BETWEEN, values, SourceType.QUERY_PARAM, Optional.of(FilterType.NORMAL));
+        FilterHolder<User, Integer> filterHolder = mock(FilterHolder.class);
+        when(filterContext.getFilterPlan(wrapper)).thenReturn(Optional.of(FilterPlan.normal("age", filterHolder)));
+        Expression<Integer> integerExpression = mock(Expression.class);
+        when(filterHolder.getExpression(root, criteriaQuery, criteriaBuilder)).thenAnswer(invocation -> Optional.of(integerExpression));
+        when(integerExpression.getJavaType()).thenAnswer(invocation -> Integer.class);
+        when(filterFieldRegistry.getFilterField(Integer.class)).thenAnswer(invocation -> filterField);
+        when(filterOperatorRegistry.getOperator(Operator.BETWEEN)).thenReturn(filterOperator);
+        when(filterField.getSupportedOperators()).thenReturn(Set.of(Operator.BETWEEN));
+        when(filterField.tryCast(anyString())).thenAnswer(invocation -> CastResult.success(Integer.valueOf(invocation.getArgument(0))));
+        when(criteriaBuilder.disjunction()).thenReturn(predicate);
+        when(errorHolder.bindingResult()).thenReturn(bindingResult);
+
+        // Act
+        Optional<Predicate> result = filterBuilder.buildPredicateForWrapper(root, criteriaQuery, criteriaBuilder, filterContext, wrapper, errorHolder);
+
+        // Assert
+        assertThat(result).isPresent().contains(predicate);
+        verify(filterOperator, never()).apply(any(), any(), any(), any());
+    }
+
+    @Test
+    void isUnsatisfiable_BetweenWithReversedBounds_ReturnsTrue() {
+        // Arrange
+        FilterWrapper wrapper = new FilterWrapper("age", "age", Operator.BETWEEN, List.of("10", "1"), SourceType.QUERY_PARAM, Optional.of(FilterType.NORMAL))
+            .withCastValues(Integer.class, List.of(10, 1));
+        when(filterContext.getFilterPlan(wrapper)).thenReturn(Optional.of(FilterPlan.normal("age", mock(FilterHolder.class))));
+
+        // Act
+        boolean result = filterBuilder.isUnsatisfiable(filterContext, wrapper);
+
+        // Assert
+        assertThat(result).isTrue();
+        verifyNoInteractions(root, criteriaQuery, criteriaBuilder, fieldPathGenerator, filterFieldRegistry);
+    }
+
+    @Test
+    void isUnsatisfiable_BetweenWithOrderedBounds_ReturnsFalse() {
+        // Arrange
+        FilterWrapper wrapper = new FilterWrapper("firstName", "firstName", Operator.BETWEEN, List.of("a", "z"), SourceType.QUERY_PARAM, Optional.of(FilterType.NORMAL))
+            .withCastValues(String.class, List.of("a", "z"));
+        when(filterContext.getFilterPlan(wrapper)).thenReturn(Optional.of(FilterPlan.normal("firstName", mock(FilterHolder.class))));
+
+        // Act
+        boolean result = filterBuilder.isUnsatisfiable(filterContext, wrapper);
+
+        // Assert
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    void isUnsatisfiable_BetweenWithBoundsOutOfSqlOrder_ReturnsFalse() {
+        // Arrange
+        FilterWrapper wrapper = new FilterWrapper("firstName", "firstName", Operator.BETWEEN, List.of("z", "a"), SourceType.QUERY_PARAM, Optional.of(FilterType.NORMAL))
+            .withCastValues(String.class, List.of("z", "a"));
+        when(filterContext.getFilterPlan(wrapper)).thenReturn(Optional.of(FilterPlan.normal("firstName", mock(FilterHolder.class))));
+
+        // Act
+        boolean result = filterBuilder.isUnsatisfiable(filterContext, wrapper);
+
+        // Assert
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    void isUnsatisfiable_DefaultImplementation_ReturnsFalse() {
+        // Arrange
+        @SuppressWarnings("unchecked")
+        FilterBuilder<User> customFilterBuilder = mock(FilterBuilder.class, CALLS_REAL_METHODS);
+        FilterWrapper wrapper = new FilterWrapper("age", "age", Operator.BETWEEN, List.of("10", "1"), SourceType.QUERY_PARAM, Optional.of(FilterType.NORMAL))
+            .withCastValues(Integer.class, List.of(10, 1));
+
+        // Act
+        boolean result = customFilterBuilder.isUnsatisfiable(filterContext, wrapper);
+
+        // Assert
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    void isUnsatisfiable_CastValuesWithErrors_ReturnsFalse() {
+        // Arrange
+        List<Integer> values = new ArrayList<>();
+        values.add(null);
+        values.add(1);
+        FilterWrapper wrapper = new FilterWrapper("age", "age", Operator.BETWEEN, List.of("x", "1"), SourceType.QUERY_PARAM, Optional.of(FilterType.NORMAL))
+            .withCastValues(Integer.class, values, List.of(new ObjectError("test", "Invalid value")));
+        when(filterContext.getFilterPlan(wrapper)).thenReturn(Optional.of(FilterPlan.normal("age", mock(FilterHolder.class))));
+
+        // Act
+        boolean result = filterBuilder.isUnsatisfiable(filterContext, wrapper);
+
+        // Assert
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    void isUnsatisfiable_ValuesNotCast_ReturnsFalseWithoutResolvingTheField() {
+        // Arrange
+        FilterWrapper wrapper = new FilterWrapper("firstName", "firstName", Operator.BETWEEN, List.of("z", "a"), SourceType.QUERY_PARAM, Optional.of(FilterType.NORMAL));
+        when(filterContext.getFilterPlan(wrapper)).thenReturn(Optional.of(FilterPlan.normal("firstName", mock(FilterHolder.class))));
+
+        // Act
+        boolean result = filterBuilder.isUnsatisfiable(filterContext, wrapper);
+
+        // Assert
+        assertThat(result).isFalse();
+        verifyNoInteractions(fieldPathGenerator, filterFieldRegistry);
+    }
+
+    @Test
+    void isUnsatisfiable_OperatorThatAlwaysMayMatch_ReturnsFalseWithoutResolvingTheField() {
+        // Arrange
+        FilterWrapper wrapper = new FilterWrapper("firstName", "firstName", Operator.EQ, List.of("John"), SourceType.QUERY_PARAM, Optional.of(FilterType.NORMAL));
+
+        // Act
+        boolean result = filterBuilder.isUnsatisfiable(filterContext, wrapper);
+
+        // Assert
+        assertThat(result).isFalse();
+        verifyNoInteractions(filterContext, fieldPathGenerator, filterFieldRegistry);
+    }
+
+    @Test
+    void castValues_NormalFilterType_ReturnsWrapperWithCastValues() {
+        // Arrange
+        FilterWrapper wrapper = new FilterWrapper("firstName", "firstName", Operator.BETWEEN, List.of("z", "a"), SourceType.QUERY_PARAM, Optional.of(FilterType.NORMAL));
+        arrangeUnsatisfiableCheck(wrapper);
+
+        // Act
+        FilterWrapper result = filterBuilder.castValues(filterContext, wrapper, errorHolder);
+
+        // Assert
+        assertThat(result.castValues()).contains(new FilterWrapper.CastValues(String.class, List.of("z", "a")));
+        assertThat(result.withFilterType(FilterType.NORMAL).castValues()).isEqualTo(result.castValues());
+        verifyNoInteractions(root, criteriaQuery, criteriaBuilder);
+    }
+
+    @Test
+    void castValues_InvalidValue_ReturnsWrapperWithCastErrors() {
+        // Arrange
+        FilterWrapper wrapper = new FilterWrapper("firstName", "firstName", Operator.BETWEEN, List.of("z", "a"), SourceType.QUERY_PARAM, Optional.of(FilterType.NORMAL));
+        arrangeUnsatisfiableCheck(wrapper);
+        ObjectError error = new ObjectError("test", "Invalid value");
+        when(bindingResult.getAllErrors()).thenReturn(List.of(error));
+
+        // Act
+        FilterWrapper result = filterBuilder.castValues(filterContext, wrapper, errorHolder);
+
+        // Assert
+        assertThat(result.castValues()).hasValueSatisfying(castValues -> {
+            assertThat(castValues.hasErrors()).isTrue();
+            assertThat(castValues.errors()).containsExactly(error);
+        });
+    }
+
+    @Test
+    void buildPredicateForWrapper_WithCastErrors_ReportsErrorsWithoutCastingAgain() {
+        // Arrange
+        List<String> values = List.of("John");
+        ObjectError error = new ObjectError("test", "Invalid value");
+        FilterWrapper wrapper = new FilterWrapper("firstName", "firstName", Operator.EQ, values, SourceType.QUERY_PARAM, Optional.of(FilterType.NORMAL))
+            .withCastValues(String.class, values, List.of(error));
+        FilterHolder<User, String> filterHolder = mock(FilterHolder.class);
+        when(filterContext.getFilterPlan(wrapper)).thenReturn(Optional.of(FilterPlan.normal("firstName", filterHolder)));
+        when(filterHolder.getExpression(root, criteriaQuery, criteriaBuilder)).thenAnswer(invocation -> Optional.of(stringExpression));
+        when(stringExpression.getJavaType()).thenAnswer(invocation -> String.class);
+        when(filterOperatorRegistry.getOperator(Operator.EQ)).thenReturn(filterOperator);
+        when(errorHolder.bindingResult()).thenReturn(bindingResult);
+
+        // Act
+        filterBuilder.buildPredicateForWrapper(root, criteriaQuery, criteriaBuilder, filterContext, wrapper, errorHolder);
+
+        // Assert
+        verify(bindingResult).addError(error);
+        verifyNoInteractions(filterFieldRegistry, filterField);
+    }
+
+    @Test
+    void buildPredicateForWrapper_WithCastValuesOfExpressionType_DoesNotCastAgain() {
+        // Arrange
+        List<String> values = List.of("John");
+        FilterWrapper wrapper = new FilterWrapper("firstName", "firstName", Operator.EQ, values, SourceType.QUERY_PARAM, Optional.of(FilterType.NORMAL))
+            .withCastValues(String.class, values);
+        FilterHolder<User, String> filterHolder = mock(FilterHolder.class);
+        when(filterContext.getFilterPlan(wrapper)).thenReturn(Optional.of(FilterPlan.normal("firstName", filterHolder)));
+        when(filterHolder.getExpression(root, criteriaQuery, criteriaBuilder)).thenAnswer(invocation -> Optional.of(stringExpression));
+        when(stringExpression.getJavaType()).thenAnswer(invocation -> String.class);
+        when(filterOperatorRegistry.getOperator(Operator.EQ)).thenReturn(filterOperator);
+        when(filterOperator.apply(eq(stringExpression), eq(criteriaBuilder), eq(values), any(FilterErrorWrapper.class))).thenReturn(Optional.of(predicate));
+        when(errorHolder.bindingResult()).thenReturn(bindingResult);
+
+        // Act
+        Optional<Predicate> result = filterBuilder.buildPredicateForWrapper(root, criteriaQuery, criteriaBuilder, filterContext, wrapper, errorHolder);
+
+        // Assert
+        assertThat(result).contains(predicate);
+        verifyNoInteractions(filterFieldRegistry, filterField);
+    }
+
+    @Test
+    void validate_NormalFilterType_CastsValuesAndValidatesOperatorWithoutQuery() {
+        // Arrange
+        FilterWrapper wrapper = new FilterWrapper("firstName", "firstName", Operator.BETWEEN, List.of("a", "z"), SourceType.QUERY_PARAM, Optional.of(FilterType.NORMAL));
+        arrangeUnsatisfiableCheck(wrapper);
+
+        // Act
+        filterBuilder.validate(filterContext, wrapper, errorHolder);
+
+        // Assert
+        verify(filterOperator).validate(eq(List.of("a", "z")), any(FilterErrorWrapper.class));
+        verify(filterOperator, never()).<String>compile(anyList(), any(FilterErrorWrapper.class));
+        verifyNoInteractions(root, criteriaQuery, criteriaBuilder);
+    }
+
+    @Test
+    void validate_UnresolvableField_ThrowsException() {
+        // Arrange
+        FilterWrapper wrapper = new FilterWrapper("unknown", "unknown", Operator.EQ, List.of("John"), SourceType.QUERY_PARAM, Optional.of(FilterType.NORMAL));
+        FilterHolder<User, String> filterHolder = mock(FilterHolder.class);
+        when(filterContext.getFilterPlan(wrapper)).thenReturn(Optional.of(FilterPlan.normal("unknown", filterHolder)));
+        when(filterHolder.expressionProviderFunction()).thenReturn(Optional.empty());
+        doReturn(User.class).when(filterContext).getType();
+        when(errorHolder.bindingResult()).thenReturn(bindingResult);
+        doReturn(null).when(fieldPathGenerator).resolveJavaType(User.class, "unknown", "unknown", bindingResult);
+        when(bindingResult.hasErrors()).thenReturn(true);
+        when(errorHolder.methodParameter()).thenReturn(getMethodParameter("buildFilterSpecification", FilterContext.class));
+
+        // Act & Assert
+        assertThatThrownBy(() -> filterBuilder.validate(filterContext, wrapper, errorHolder))
+            .isInstanceOf(QueryBuilderConfigurationException.class);
+        verifyNoInteractions(filterOperatorRegistry);
+    }
+
+    private void arrangeUnsatisfiableCheck(FilterWrapper wrapper) {
+        FilterHolder<User, String> filterHolder = mock(FilterHolder.class);
+        when(filterContext.getFilterPlan(wrapper)).thenReturn(Optional.of(FilterPlan.normal("firstName", filterHolder)));
+        when(filterHolder.expressionProviderFunction()).thenReturn(Optional.empty());
+        doReturn(User.class).when(filterContext).getType();
+        when(errorHolder.bindingResult()).thenReturn(bindingResult);
+        doReturn(String.class).when(fieldPathGenerator).resolveJavaType(User.class, "firstName", "firstName", bindingResult);
+        when(filterFieldRegistry.getFilterField(String.class)).thenAnswer(invocation -> filterField);
+        when(filterOperatorRegistry.getOperator(Operator.BETWEEN)).thenReturn(filterOperator);
+        when(filterField.getSupportedOperators()).thenReturn(Set.of(Operator.BETWEEN));
+        when(filterField.tryCast(anyString())).thenAnswer(invocation -> CastResult.success(invocation.getArgument(0)));
+    }
+
     @Test
     void buildPredicateForWrapper_NormalFilterType_ValidDateTimeFilter_ReturnsPredicate() {
         // Arrange
@@ -237,15 +495,13 @@ class FilterBuilderImpTest {
         List<OffsetDateTime> values = List.of(dateTime);
         FilterWrapper wrapper = new FilterWrapper("lastLogin", "lastLogin", Operator.GT, List.of(dateStr), SourceType.QUERY_PARAM, Optional.of(FilterType.NORMAL));
         FilterHolder<User, OffsetDateTime> filterHolder = mock(FilterHolder.class);
-        when(filterContext.getFilters()).thenReturn(Map.of("lastLogin", filterHolder));
-        when(filterHolder.operators()).thenReturn(Set.of(Operator.GT));
-        when(filterHolder.sourceTypes()).thenReturn(Set.of(SourceType.QUERY_PARAM));
+        when(filterContext.getFilterPlan(wrapper)).thenReturn(Optional.of(FilterPlan.normal("lastLogin", filterHolder)));
         when(filterHolder.getExpression(root, criteriaQuery, criteriaBuilder)).thenAnswer(invocation -> Optional.of(dateTimeExpression));
         when(dateTimeExpression.getJavaType()).thenAnswer(invocation -> OffsetDateTime.class);
         when(filterFieldRegistry.getFilterField(OffsetDateTime.class)).thenAnswer(invocation -> filterField);
         when(filterOperatorRegistry.getOperator(Operator.GT)).thenReturn(filterOperator);
         when(filterField.getSupportedOperators()).thenReturn(Set.of(Operator.GT));
-        when(filterField.safeCast(eq(dateStr), any())).thenAnswer(invocation -> dateTime);
+        when(filterField.tryCast(dateStr)).thenAnswer(invocation -> CastResult.success(dateTime));
         when(filterOperator.apply(eq(dateTimeExpression), eq(criteriaBuilder), eq(values), any())).thenReturn(Optional.of(predicate));
         when(errorHolder.bindingResult()).thenReturn(bindingResult);
 
@@ -263,15 +519,13 @@ class FilterBuilderImpTest {
         List<String> values = List.of("John");
         FilterWrapper wrapper = new FilterWrapper("firstName", "firstName", Operator.EQ, values, SourceType.QUERY_PARAM, Optional.of(FilterType.NORMAL));
         FilterHolder<User, String> filterHolder = mock(FilterHolder.class);
-        when(filterContext.getFilters()).thenReturn(Map.of("firstName", filterHolder));
-        when(filterHolder.operators()).thenReturn(Set.of(Operator.EQ));
-        when(filterHolder.sourceTypes()).thenReturn(Set.of(SourceType.QUERY_PARAM));
+        when(filterContext.getFilterPlan(wrapper)).thenReturn(Optional.of(FilterPlan.normal("firstName", filterHolder)));
         when(filterHolder.getExpression(root, criteriaQuery, criteriaBuilder)).thenAnswer(invocation -> Optional.of(stringExpression));
         when(stringExpression.getJavaType()).thenAnswer(invocation -> String.class);
         when(filterFieldRegistry.getFilterField(String.class)).thenAnswer(invocation -> filterField);
         when(filterOperatorRegistry.getOperator(Operator.EQ)).thenReturn(filterOperator);
         when(filterField.getSupportedOperators()).thenReturn(Set.of(Operator.EQ));
-        when(filterField.safeCast(eq("John"), any(FilterErrorWrapper.class))).thenAnswer(invocation -> "John");
+        when(filterField.tryCast("John")).thenAnswer(invocation -> CastResult.success("John"));
         when(filterOperator.apply(eq(stringExpression), eq(criteriaBuilder), eq(values), any(FilterErrorWrapper.class))).thenReturn(Optional.of(predicate));
         when(errorHolder.bindingResult()).thenReturn(bindingResult);
 
@@ -290,16 +544,14 @@ class FilterBuilderImpTest {
         List<String> values = List.of("Doe");
         FilterWrapper wrapper = new FilterWrapper("lastName", "lastName", Operator.EQ, values, SourceType.QUERY_PARAM, Optional.of(FilterType.NORMAL));
         FilterHolder<User, String> filterHolder = mock(FilterHolder.class);
-        when(filterContext.getFilters()).thenReturn(Map.of("lastName", filterHolder));
-        when(filterHolder.operators()).thenReturn(Set.of(Operator.EQ));
-        when(filterHolder.sourceTypes()).thenReturn(Set.of(SourceType.QUERY_PARAM));
+        when(filterContext.getFilterPlan(wrapper)).thenReturn(Optional.of(FilterPlan.normal("lastName", filterHolder)));
         when(filterHolder.getExpression(root, criteriaQuery, criteriaBuilder)).thenReturn(Optional.empty());
         when(fieldPathGenerator.generate(root, "lastName", "lastName", bindingResult)).thenAnswer(invocation -> stringExpression);
         when(stringExpression.getJavaType()).thenAnswer(invocation -> String.class);
         when(filterFieldRegistry.getFilterField(String.class)).thenAnswer(invocation -> filterField);
         when(filterOperatorRegistry.getOperator(Operator.EQ)).thenReturn(filterOperator);
         when(filterField.getSupportedOperators()).thenReturn(Set.of(Operator.EQ));
-        when(filterField.safeCast(eq("Doe"), any())).thenAnswer(invocation -> "Doe");
+        when(filterField.tryCast("Doe")).thenAnswer(invocation -> CastResult.success("Doe"));
         when(filterOperator.apply(eq(stringExpression), eq(criteriaBuilder), eq(values), any())).thenReturn(Optional.of(predicate));
         when(errorHolder.bindingResult()).thenReturn(bindingResult);
 
@@ -316,7 +568,7 @@ class FilterBuilderImpTest {
     void buildPredicateForWrapper_NormalFilterType_InvalidFilter_ReturnsEmpty() {
         // Arrange
         FilterWrapper wrapper = new FilterWrapper("firstName", "firstName", Operator.EQ, List.of("John"), SourceType.QUERY_PARAM, Optional.of(FilterType.NORMAL));
-        when(filterContext.getFilters()).thenReturn(Map.of());
+        when(filterContext.getFilterPlan(wrapper)).thenReturn(Optional.empty());
 
         // Act
         Optional<Predicate> result = filterBuilder.buildPredicateForWrapper(root, criteriaQuery, criteriaBuilder, filterContext, wrapper, errorHolder);
@@ -331,13 +583,12 @@ class FilterBuilderImpTest {
         List<String> values = List.of("Doe");
         FilterWrapper wrapper = new FilterWrapper("lastName", "lastName", Operator.EQ, values, SourceType.REQUEST_BODY, Optional.of(FilterType.CUSTOM));
         CustomFilterHolder<User, String> customFilterHolder = mock(CustomFilterHolder.class);
-        when(filterContext.getCustomFilters()).thenReturn(Map.of("lastName", customFilterHolder));
-        when(customFilterHolder.sourceTypes()).thenReturn(Set.of(SourceType.REQUEST_BODY));
+        when(filterContext.getFilterPlan(wrapper)).thenReturn(Optional.of(FilterPlan.custom("lastName", customFilterHolder)));
         when(customFilterHolder.dataType()).thenReturn(String.class);
         when(filterFieldRegistry.getFilterField(String.class)).thenAnswer(invocation -> filterField);
         when(filterOperatorRegistry.getOperator(Operator.EQ)).thenReturn(filterOperator);
         when(filterField.getSupportedOperators()).thenReturn(Set.of(Operator.EQ));
-        when(filterField.safeCast(eq("Doe"), any())).thenAnswer(invocation -> "Doe");
+        when(filterField.tryCast("Doe")).thenAnswer(invocation -> CastResult.success("Doe"));
         when(customFilterHolder.customFilterFunction()).thenReturn((r, q, cb, vals, error) -> Optional.of(predicate));
         when(errorHolder.bindingResult()).thenReturn(bindingResult);
 
@@ -352,7 +603,7 @@ class FilterBuilderImpTest {
     void buildPredicateForWrapper_CustomFilterType_InvalidFilter_ReturnsEmpty() {
         // Arrange
         FilterWrapper wrapper = new FilterWrapper("lastName", "lastName", Operator.EQ, List.of("Doe"), SourceType.REQUEST_BODY, Optional.of(FilterType.CUSTOM));
-        when(filterContext.getCustomFilters()).thenReturn(Map.of());
+        when(filterContext.getFilterPlan(wrapper)).thenReturn(Optional.empty());
 
         // Act
         Optional<Predicate> result = filterBuilder.buildPredicateForWrapper(root, criteriaQuery, criteriaBuilder, filterContext, wrapper, errorHolder);
@@ -367,9 +618,7 @@ class FilterBuilderImpTest {
         List<String> values = List.of("John");
         FilterWrapper wrapper = new FilterWrapper("firstName", "firstName", Operator.EQ, values, SourceType.QUERY_PARAM, Optional.of(FilterType.NORMAL));
         FilterHolder<User, String> filterHolder = mock(FilterHolder.class);
-        when(filterContext.getFilters()).thenReturn(Map.of("firstName", filterHolder));
-        when(filterHolder.operators()).thenReturn(Set.of(Operator.EQ));
-        when(filterHolder.sourceTypes()).thenReturn(Set.of(SourceType.QUERY_PARAM));
+        when(filterContext.getFilterPlan(wrapper)).thenReturn(Optional.of(FilterPlan.normal("firstName", filterHolder)));
         when(filterHolder.getExpression(root, criteriaQuery, criteriaBuilder)).thenAnswer(invocation -> Optional.of(stringExpression));
         when(errorHolder.bindingResult()).thenReturn(bindingResult);
         when(bindingResult.hasErrors()).thenReturn(true);
@@ -386,14 +635,13 @@ class FilterBuilderImpTest {
         List<String> values = List.of("John");
         FilterWrapper wrapper = new FilterWrapper("firstName", "firstName", Operator.GT, values, SourceType.QUERY_PARAM, Optional.of(FilterType.NORMAL));
         FilterHolder<User, String> filterHolder = mock(FilterHolder.class);
-        when(filterContext.getFilters()).thenReturn(Map.of("firstName", filterHolder));
-        when(filterHolder.operators()).thenReturn(Set.of(Operator.GT));
-        when(filterHolder.sourceTypes()).thenReturn(Set.of(SourceType.QUERY_PARAM));
+        when(filterContext.getFilterPlan(wrapper)).thenReturn(Optional.of(FilterPlan.normal("firstName", filterHolder)));
         when(filterHolder.getExpression(root, criteriaQuery, criteriaBuilder)).thenAnswer(invocation -> Optional.of(stringExpression));
         when(stringExpression.getJavaType()).thenAnswer(invocation -> String.class);
         when(filterFieldRegistry.getFilterField(String.class)).thenAnswer(invocation -> filterField);
         when(filterOperatorRegistry.getOperator(Operator.GT)).thenReturn(filterOperator);
         when(filterField.getSupportedOperators()).thenReturn(Set.of(Operator.EQ));
+        when(filterField.tryCast("John")).thenAnswer(invocation -> CastResult.success("John"));
         when(localizationService.getMessage(Operator.GT.getValue())).thenReturn("Greater than");
         when(localizationService.getMessage(MessageKey.OPERATOR_NOT_SUPPORTED.getCode(), "Greater than")).thenReturn("Operator GT not supported");
         when(errorHolder.bindingResult()).thenReturn(bindingResult);
@@ -415,9 +663,7 @@ class FilterBuilderImpTest {
         List<String> values = List.of("true");
         FilterWrapper wrapper = new FilterWrapper("isActive", "isActive", Operator.EQ, values, SourceType.QUERY_PARAM, Optional.of(FilterType.NORMAL));
         FilterHolder<User, Boolean> filterHolder = mock(FilterHolder.class);
-        when(filterContext.getFilters()).thenReturn(Map.of("isActive", filterHolder));
-        when(filterHolder.operators()).thenReturn(Set.of(Operator.EQ));
-        when(filterHolder.sourceTypes()).thenReturn(Set.of(SourceType.QUERY_PARAM));
+        when(filterContext.getFilterPlan(wrapper)).thenReturn(Optional.of(FilterPlan.normal("isActive", filterHolder)));
         when(filterHolder.getExpression(root, criteriaQuery, criteriaBuilder)).thenReturn(Optional.of(mock(Expression.class)));
         when(errorHolder.bindingResult()).thenReturn(bindingResult);
         when(errorHolder.methodParameter()).thenReturn(getMethodParameter("buildFilterSpecification", FilterContext.class));
@@ -435,8 +681,7 @@ class FilterBuilderImpTest {
         List<String> values = List.of("2025-09-08T12:00:00Z");
         FilterWrapper wrapper = new FilterWrapper("createdAt", "createdAt", Operator.EQ, values, SourceType.REQUEST_BODY, Optional.of(FilterType.CUSTOM));
         CustomFilterHolder<User, Instant> customFilterHolder = mock(CustomFilterHolder.class);
-        when(filterContext.getCustomFilters()).thenReturn(Map.of("createdAt", customFilterHolder));
-        when(customFilterHolder.sourceTypes()).thenReturn(Set.of(SourceType.REQUEST_BODY));
+        when(filterContext.getFilterPlan(wrapper)).thenReturn(Optional.of(FilterPlan.custom("createdAt", customFilterHolder)));
         when(customFilterHolder.dataType()).thenReturn(Instant.class);
         when(filterFieldRegistry.getFilterField(Instant.class)).thenAnswer(invocation -> filterField);
         when(filterOperatorRegistry.getOperator(Operator.EQ)).thenReturn(filterOperator);
@@ -463,10 +708,8 @@ class FilterBuilderImpTest {
         FilterWrapper bodyWrapper = new FilterWrapper("firstName", "firstName", Operator.EQ, List.of("Jane"), SourceType.REQUEST_BODY, Optional.empty());
         when(filterParser.parse(anyList())).thenReturn(List.of(bodyWrapper));
 
-        FilterHolder<User, String> filterHolder = mock(FilterHolder.class);
-        when(filterContext.getFilters()).thenReturn(Map.of("firstName", filterHolder));
-        when(filterHolder.operators()).thenReturn(Set.of(Operator.EQ));
-        when(filterHolder.sourceTypes()).thenReturn(Set.of(SourceType.QUERY_PARAM, SourceType.REQUEST_BODY));
+        when(filterContext.resolveFilterWrapper(queryWrapper)).thenReturn(Optional.of(queryWrapper.withFilterType(FilterType.NORMAL)));
+        when(filterContext.resolveFilterWrapper(bodyWrapper)).thenReturn(Optional.of(bodyWrapper.withFilterType(FilterType.NORMAL)));
 
         // Act
         Collection<FilterWrapper> result = filterBuilder.getDistinctFilterWrappers(filterContext);
@@ -487,15 +730,13 @@ class FilterBuilderImpTest {
         List<String> values = List.of("VALUE1");
         FilterWrapper wrapper = new FilterWrapper("enumField", "enumField", Operator.EQ, values, SourceType.QUERY_PARAM, Optional.of(FilterType.NORMAL));
         FilterHolder<User, TestEnum> filterHolder = mock(FilterHolder.class);
-        when(filterContext.getFilters()).thenReturn(Map.of("enumField", filterHolder));
-        when(filterHolder.operators()).thenReturn(Set.of(Operator.EQ));
-        when(filterHolder.sourceTypes()).thenReturn(Set.of(SourceType.QUERY_PARAM));
+        when(filterContext.getFilterPlan(wrapper)).thenReturn(Optional.of(FilterPlan.normal("enumField", filterHolder)));
         Expression<TestEnum> enumExpression = mock(Expression.class);
         when(filterHolder.getExpression(root, criteriaQuery, criteriaBuilder)).thenAnswer(invocation -> Optional.of(enumExpression));
         when(enumExpression.getJavaType()).thenAnswer(invocation -> TestEnum.class);
         when(filterOperatorRegistry.getOperator(Operator.EQ)).thenReturn(filterOperator);
         when(enumFilterField.getSupportedOperators()).thenReturn(Set.of(Operator.EQ));
-        when(enumFilterField.safeCast(eq(TestEnum.class), eq("VALUE1"), any(FilterErrorWrapper.class))).thenReturn(TestEnum.VALUE1);
+        when(enumFilterField.tryCast(TestEnum.class, "VALUE1")).thenReturn(CastResult.success(TestEnum.VALUE1));
         List<TestEnum> enumValues = List.of(TestEnum.VALUE1);
         when(filterOperator.apply(eq(enumExpression), eq(criteriaBuilder), eq(enumValues), any(FilterErrorWrapper.class))).thenReturn(Optional.of(predicate));
         when(errorHolder.bindingResult()).thenReturn(bindingResult);
@@ -505,7 +746,7 @@ class FilterBuilderImpTest {
 
         // Assert
         assertThat(result).isPresent().contains(predicate);
-        verify(enumFilterField).safeCast(eq(TestEnum.class), eq("VALUE1"), any());
+        verify(enumFilterField).tryCast(TestEnum.class, "VALUE1");
         verify(filterOperator).apply(eq(enumExpression), eq(criteriaBuilder), eq(enumValues), any());
     }
 
@@ -515,12 +756,11 @@ class FilterBuilderImpTest {
         List<String> values = List.of("VALUE1");
         FilterWrapper wrapper = new FilterWrapper("enumField", "enumField", Operator.EQ, values, SourceType.REQUEST_BODY, Optional.of(FilterType.CUSTOM));
         CustomFilterHolder<User, TestEnum> customFilterHolder = mock(CustomFilterHolder.class);
-        when(filterContext.getCustomFilters()).thenReturn(Map.of("enumField", customFilterHolder));
-        when(customFilterHolder.sourceTypes()).thenReturn(Set.of(SourceType.REQUEST_BODY));
+        when(filterContext.getFilterPlan(wrapper)).thenReturn(Optional.of(FilterPlan.custom("enumField", customFilterHolder)));
         when(customFilterHolder.dataType()).thenReturn(TestEnum.class);
         when(filterOperatorRegistry.getOperator(Operator.EQ)).thenReturn(filterOperator);
         when(enumFilterField.getSupportedOperators()).thenReturn(Set.of(Operator.EQ));
-        when(enumFilterField.safeCast(eq(TestEnum.class), eq("VALUE1"), any(FilterErrorWrapper.class))).thenReturn(TestEnum.VALUE1);
+        when(enumFilterField.tryCast(TestEnum.class, "VALUE1")).thenReturn(CastResult.success(TestEnum.VALUE1));
         when(customFilterHolder.customFilterFunction()).thenReturn(mock(CustomFilterFunction.class));
         when(customFilterHolder.customFilterFunction().apply(any(), any(), any(), any(), any())).thenAnswer(invocation -> Optional.of(predicate));
         when(errorHolder.bindingResult()).thenReturn(bindingResult);
@@ -530,7 +770,7 @@ class FilterBuilderImpTest {
 
         // Assert
         assertThat(result).isPresent().contains(predicate);
-        verify(enumFilterField).safeCast(eq(TestEnum.class), eq("VALUE1"), any());
+        verify(enumFilterField).tryCast(TestEnum.class, "VALUE1");
         verify(customFilterHolder.customFilterFunction()).apply(any(), any(), any(), any(), any());
     }
 
@@ -540,9 +780,7 @@ class FilterBuilderImpTest {
         List<String> values = List.of("VALUE1");
         FilterWrapper wrapper = new FilterWrapper("enumField", "enumField", Operator.GT, values, SourceType.QUERY_PARAM, Optional.of(FilterType.NORMAL));
         FilterHolder<User, TestEnum> filterHolder = mock(FilterHolder.class);
-        when(filterContext.getFilters()).thenReturn(Map.of("enumField", filterHolder));
-        when(filterHolder.operators()).thenReturn(Set.of(Operator.GT));
-        when(filterHolder.sourceTypes()).thenReturn(Set.of(SourceType.QUERY_PARAM));
+        when(filterContext.getFilterPlan(wrapper)).thenReturn(Optional.of(FilterPlan.normal("enumField", filterHolder)));
         Expression<TestEnum> enumExpression = mock(Expression.class);
         when(filterHolder.getExpression(root, criteriaQuery, criteriaBuilder)).thenAnswer(invocation -> Optional.of(enumExpression));
         when(errorHolder.bindingResult()).thenReturn(bindingResult);
@@ -560,24 +798,13 @@ class FilterBuilderImpTest {
         List<String> values = List.of("INVALID");
         FilterWrapper wrapper = new FilterWrapper("enumField", "enumField", Operator.EQ, values, SourceType.QUERY_PARAM, Optional.of(FilterType.NORMAL));
         FilterHolder<User, TestEnum> filterHolder = mock(FilterHolder.class);
-        when(filterContext.getFilters()).thenReturn(Map.of("enumField", filterHolder));
-        when(filterHolder.operators()).thenReturn(Set.of(Operator.EQ));
-        when(filterHolder.sourceTypes()).thenReturn(Set.of(SourceType.QUERY_PARAM));
+        when(filterContext.getFilterPlan(wrapper)).thenReturn(Optional.of(FilterPlan.normal("enumField", filterHolder)));
         Expression<TestEnum> enumExpression = mock(Expression.class);
         when(filterHolder.getExpression(root, criteriaQuery, criteriaBuilder)).thenAnswer(invocation -> Optional.of(enumExpression));
         when(enumExpression.getJavaType()).thenAnswer(invocation -> TestEnum.class);
         when(filterOperatorRegistry.getOperator(Operator.EQ)).thenReturn(filterOperator);
         when(enumFilterField.getSupportedOperators()).thenReturn(Set.of(Operator.EQ));
-        when(enumFilterField.safeCast(eq(TestEnum.class), eq("INVALID"), any(FilterErrorWrapper.class))).thenAnswer(invocation -> {
-            FilterErrorWrapper err = invocation.getArgument(2);
-            FilterUtils.addFieldError(
-                err.bindingResult(),
-                err.filterWrapper().originalFieldName(),
-                "INVALID",
-                "Not a valid enum value"
-            );
-            return null;
-        });
+        when(enumFilterField.tryCast(TestEnum.class, "INVALID")).thenReturn(CastResult.failure("Not a valid enum value"));
         List<TestEnum> enumValues = Collections.singletonList(null);
         when(filterOperator.apply(eq(enumExpression), eq(criteriaBuilder), eq(enumValues), any(FilterErrorWrapper.class))).thenReturn(Optional.empty());
         when(errorHolder.bindingResult()).thenReturn(bindingResult);
@@ -592,6 +819,31 @@ class FilterBuilderImpTest {
         verify(filterOperator).apply(eq(enumExpression), eq(criteriaBuilder), eq(enumValues), any());
     }
 
+    @Test
+    void buildPredicateForWrapper_NormalFilterType_InvalidValueWithoutMessage_AddsLocalizedError() {
+        // Arrange
+        List<String> values = List.of("abc");
+        FilterWrapper wrapper = new FilterWrapper("name", "name", Operator.EQ, values, SourceType.QUERY_PARAM, Optional.of(FilterType.NORMAL));
+        FilterHolder<User, String> filterHolder = mock(FilterHolder.class);
+        when(filterContext.getFilterPlan(wrapper)).thenReturn(Optional.of(FilterPlan.normal("name", filterHolder)));
+        Expression<String> stringExpression = mock(Expression.class);
+        when(filterHolder.getExpression(root, criteriaQuery, criteriaBuilder)).thenAnswer(invocation -> Optional.of(stringExpression));
+        when(stringExpression.getJavaType()).thenAnswer(invocation -> String.class);
+        when(filterOperatorRegistry.getOperator(Operator.EQ)).thenReturn(filterOperator);
+        when(filterFieldRegistry.getFilterField(String.class)).thenAnswer(invocation -> filterField);
+        when(filterField.getSupportedOperators()).thenReturn(Set.of(Operator.EQ));
+        when(filterField.tryCast("abc")).thenAnswer(invocation -> CastResult.invalid());
+        when(localizationService.getMessage(MessageKey.VALUE_NOT_VALID.getCode(), "abc")).thenReturn("Value 'abc' is not valid.");
+        when(errorHolder.bindingResult()).thenReturn(bindingResult);
+        when(bindingResult.getObjectName()).thenReturn("filter");
+
+        // Act
+        filterBuilder.buildPredicateForWrapper(root, criteriaQuery, criteriaBuilder, filterContext, wrapper, errorHolder);
+
+        // Assert
+        verify(bindingResult).addError(argThat(error -> "Value 'abc' is not valid.".equals(error.getDefaultMessage())));
+    }
+
     private MethodParameter getMethodParameter(String methodName, Class<?> clazz) {
         try {
             return new MethodParameter(QueryFilterBuilderImp.class.getMethod(methodName, clazz), 0);
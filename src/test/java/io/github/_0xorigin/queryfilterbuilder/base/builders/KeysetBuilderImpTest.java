@@ -0,0 +1,264 @@
+package io.github._0xorigin.queryfilterbuilder.base.builders;
+
+import io.github._0xorigin.queryfilterbuilder.SortContext;
+import io.github._0xorigin.queryfilterbuilder.base.enumfield.AbstractEnumFilterField;
+import io.github._0xorigin.queryfilterbuilder.base.enumfield.EnumFilterFieldImp;
+import io.github._0xorigin.queryfilterbuilder.base.enums.MessageKey;
+import io.github._0xorigin.queryfilterbuilder.base.enums.SortType;
+import io.github._0xorigin.queryfilterbuilder.base.enums.SourceType;
+import io.github._0xorigin.queryfilterbuilder.base.enums.ToManyFilterStrategy;
+import io.github._0xorigin.queryfilterbuilder.base.generators.PathGenerator;
+import io.github._0xorigin.queryfilterbuilder.base.holders.CustomSortHolder;
+import io.github._0xorigin.queryfilterbuilder.base.holders.ErrorHolder;
+import io.github._0xorigin.queryfilterbuilder.base.holders.SortHolder;
+import io.github._0xorigin.queryfilterbuilder.base.plans.SortPlan;
+import io.github._0xorigin.queryfilterbuilder.base.services.LocalizationService;
+import io.github._0xorigin.queryfilterbuilder.base.utils.CursorUtils;
+import io.github._0xorigin.queryfilterbuilder.base.wrappers.KeysetWrapper;
+import io.github._0xorigin.queryfilterbuilder.base.wrappers.SortWrapper;
+import io.github._0xorigin.queryfilterbuilder.configs.QueryFilterBuilderProperties;
+import io.github._0xorigin.queryfilterbuilder.entities.User;
+import io.github._0xorigin.queryfilterbuilder.filters.StringFilter;
+import io.github._0xorigin.queryfilterbuilder.filters.UuidFilter;
+import io.github._0xorigin.queryfilterbuilder.registries.FilterFieldRegistry;
+import jakarta.persistence.criteria.*;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.SingularAttribute;
+import jakarta.persistence.metamodel.Type;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.validation.BeanPropertyBindingResult;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class KeysetBuilderImpTest {
+
+    private static final UUID ID = UUID.fromString("c0a86433-9e3b-198a-819e-3be990bf0000");
+
+    @Mock
+    private SortBuilder<User> sortBuilder;
+
+    @Mock
+    private PathGenerator<User> fieldPathGenerator;
+
+    @Mock
+    private Metamodel metamodel;
+
+    @Mock
+    private LocalizationService localizationService;
+
+    @Mock
+    private SortContext<User> sortContext;
+
+    @Mock
+    private Root<User> root;
+
+    @Mock
+    private CriteriaQuery<?> criteriaQuery;
+
+    @Mock
+    private CriteriaBuilder criteriaBuilder;
+
+    @Mock
+    private Expression<String> firstNameExpression;
+
+    @Mock
+    private Expression<UUID> idExpression;
+
+    private final AbstractEnumFilterField enumFilterField = new EnumFilterFieldImp();
+    private final FilterFieldRegistry filterFieldRegistry = new FilterFieldRegistry(List.of(new StringFilter(), new UuidFilter()));
+    private final QueryFilterBuilderProperties properties = new QueryFilterBuilderProperties(
+        new QueryFilterBuilderProperties.Defaults(".", ToManyFilterStrategy.JOIN),
+        new QueryFilterBuilderProperties.QueryParam(new QueryFilterBuilderProperties.QueryParamDefaults("sort"))
+    );
+    private final List<KeysetWrapper> keysetWrappers = List.of(
+        new KeysetWrapper("firstName", "name", Sort.Direction.DESC),
+        new KeysetWrapper("id", "id", Sort.Direction.ASC)
+    );
+
+    private KeysetBuilderImp<User> keysetBuilder;
+    private ErrorHolder errorHolder;
+
+    @BeforeEach
+    void setUp() {
+        keysetBuilder = new KeysetBuilderImp<>(
+            sortBuilder, fieldPathGenerator, metamodel, properties, filterFieldRegistry, enumFilterField, localizationService
+        );
+        errorHolder = new ErrorHolder(new BeanPropertyBindingResult(this, "keysetBuilder"), null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubIdAttribute() {
+        EntityType<User> entityType = mock(EntityType.class);
+        Type<UUID> idType = mock(Type.class);
+        SingularAttribute<User, UUID> idAttribute = mock(SingularAttribute.class);
+        when(sortContext.getType()).thenReturn(User.class);
+        when(metamodel.entity(User.class)).thenReturn(entityType);
+        when(entityType.hasSingleIdAttribute()).thenReturn(true);
+        doReturn(idType).when(entityType).getIdType();
+        when(idType.getJavaType()).thenReturn(UUID.class);
+        doReturn(idAttribute).when(entityType).getId(UUID.class);
+        when(idAttribute.getName()).thenReturn("id");
+    }
+
+    @Test
+    void getKeysetWrappers_NormalSort_AppendsIdAsTieBreaker() {
+        // Arrange
+        stubIdAttribute();
+        SortWrapper sortWrapper = new SortWrapper("firstName", "name", Sort.Direction.DESC, SourceType.QUERY_PARAM, Optional.of(SortType.NORMAL));
+        SortHolder<User, String> sortHolder = new SortHolder<>(Set.of(Sort.Direction.DESC), Set.of(SourceType.QUERY_PARAM), Optional.empty());
+        when(sortBuilder.getDistinctSortWrappers(sortContext)).thenReturn(List.of(sortWrapper));
+        when(sortContext.getSortPlan(sortWrapper)).thenReturn(Optional.of(SortPlan.normal("firstName", Sort.Direction.DESC, sortHolder)));
+
+        // Act
+        List<KeysetWrapper> result = keysetBuilder.getKeysetWrappers(sortContext, errorHolder);
+
+        // Assert
+        assertThat(result).isEqualTo(keysetWrappers);
+        assertThat(errorHolder.bindingResult().hasErrors()).isFalse();
+    }
+
+    @Test
+    void getKeysetWrappers_SortById_DoesNotAppendIdTwice() {
+        // Arrange
+        stubIdAttribute();
+        SortWrapper sortWrapper = new SortWrapper("id", "id", Sort.Direction.DESC, SourceType.QUERY_PARAM, Optional.of(SortType.NORMAL));
+        SortHolder<User, UUID> sortHolder = new SortHolder<>(Set.of(Sort.Direction.DESC), Set.of(SourceType.QUERY_PARAM), Optional.empty());
+        when(sortBuilder.getDistinctSortWrappers(sortContext)).thenReturn(List.of(sortWrapper));
+        when(sortContext.getSortPlan(sortWrapper)).thenReturn(Optional.of(SortPlan.normal("id", Sort.Direction.DESC, sortHolder)));
+
+        // Act
+        List<KeysetWrapper> result = keysetBuilder.getKeysetWrappers(sortContext, errorHolder);
+
+        // Assert
+        assertThat(result).containsExactly(new KeysetWrapper("id", "id", Sort.Direction.DESC));
+    }
+
+    @Test
+    void getKeysetWrappers_CustomSort_AddsFieldError() {
+        // Arrange
+        stubIdAttribute();
+        SortWrapper sortWrapper = new SortWrapper("byRole", "byRole", Sort.Direction.ASC, SourceType.QUERY_PARAM, Optional.of(SortType.CUSTOM));
+        CustomSortHolder<User> customSortHolder = new CustomSortHolder<>((root, query, cb, errorWrapper) -> Optional.empty(), Set.of(SourceType.QUERY_PARAM));
+        when(sortBuilder.getDistinctSortWrappers(sortContext)).thenReturn(List.of(sortWrapper));
+        when(sortContext.getSortPlan(sortWrapper)).thenReturn(Optional.of(SortPlan.custom("byRole", customSortHolder)));
+        when(localizationService.getMessage(MessageKey.KEYSET_SORT_NOT_SUPPORTED.getCode(), "byRole")).thenReturn("Not supported");
+
+        // Act
+        List<KeysetWrapper> result = keysetBuilder.getKeysetWrappers(sortContext, errorHolder);
+
+        // Assert
+        assertThat(result).containsExactly(new KeysetWrapper("id", "id", Sort.Direction.ASC));
+        assertThat(errorHolder.bindingResult().getFieldError("byRole")).isNotNull();
+    }
+
+    @Test
+    void buildSeekPredicate_NoCursor_ReturnsEmpty() {
+        // Act
+        Optional<Predicate> result = keysetBuilder.buildSeekPredicate(root, criteriaQuery, criteriaBuilder, keysetWrappers, null, errorHolder);
+
+        // Assert
+        assertThat(result).isEmpty();
+        verifyNoInteractions(fieldPathGenerator, criteriaBuilder);
+    }
+
+    @Test
+    void buildSeekPredicate_CursorWithWrongNumberOfValues_AddsFieldError() {
+        // Arrange
+        String cursor = CursorUtils.encode(List.of("Admin"));
+        when(localizationService.getMessage(MessageKey.KEYSET_CURSOR_NOT_VALID.getCode())).thenReturn("Invalid cursor");
+
+        // Act
+        Optional<Predicate> result = keysetBuilder.buildSeekPredicate(root, criteriaQuery, criteriaBuilder, keysetWrappers, cursor, errorHolder);
+
+        // Assert
+        assertThat(result).isEmpty();
+        assertThat(errorHolder.bindingResult().getFieldError("cursor")).isNotNull();
+        verifyNoInteractions(fieldPathGenerator, criteriaBuilder);
+    }
+
+    @Test
+    void buildSeekPredicate_ValidCursor_BuildsLexicographicPredicate() {
+        // Arrange
+        String cursor = CursorUtils.encode(List.of("Admin", ID.toString()));
+        Predicate firstNameLess = mock(Predicate.class);
+        Predicate firstNameEqual = mock(Predicate.class);
+        Predicate idGreater = mock(Predicate.class);
+        Predicate tie = mock(Predicate.class);
+        Predicate seek = mock(Predicate.class);
+        when(fieldPathGenerator.<String>generate(root, "firstName", "name", errorHolder.bindingResult())).thenReturn(firstNameExpression);
+        when(fieldPathGenerator.<UUID>generate(root, "id", "id", errorHolder.bindingResult())).thenReturn(idExpression);
+        doReturn(String.class).when(firstNameExpression).getJavaType();
+        doReturn(UUID.class).when(idExpression).getJavaType();
+        when(criteriaBuilder.lessThan(firstNameExpression, "Admin")).thenReturn(firstNameLess);
+        when(criteriaBuilder.equal(firstNameExpression, "Admin")).thenReturn(firstNameEqual);
+        when(criteriaBuilder.greaterThan(idExpression, ID)).thenReturn(idGreater);
+        when(criteriaBuilder.and(new Predicate[]{firstNameEqual, idGreater})).thenReturn(tie);
+        when(criteriaBuilder.or(new Predicate[]{firstNameLess, tie})).thenReturn(seek);
+
+        // Act
+        Optional<Predicate> result = keysetBuilder.buildSeekPredicate(root, criteriaQuery, criteriaBuilder, keysetWrappers, cursor, errorHolder);
+
+        // Assert
+        assertThat(result).contains(seek);
+        assertThat(errorHolder.bindingResult().hasErrors()).isFalse();
+    }
+
+    @Test
+    void buildSeekPredicate_UncastableValue_AddsFieldError() {
+        // Arrange
+        String cursor = CursorUtils.encode(List.of("Admin", "not-a-uuid"));
+        when(fieldPathGenerator.<String>generate(root, "firstName", "name", errorHolder.bindingResult())).thenReturn(firstNameExpression);
+        when(fieldPathGenerator.<UUID>generate(root, "id", "id", errorHolder.bindingResult())).thenReturn(idExpression);
+        doReturn(String.class).when(firstNameExpression).getJavaType();
+        doReturn(UUID.class).when(idExpression).getJavaType();
+        when(localizationService.getMessage(MessageKey.KEYSET_CURSOR_NOT_VALID.getCode())).thenReturn("Invalid cursor");
+
+        // Act
+        Optional<Predicate> result = keysetBuilder.buildSeekPredicate(root, criteriaQuery, criteriaBuilder, keysetWrappers, cursor, errorHolder);
+
+        // Assert
+        assertThat(result).isEmpty();
+        assertThat(errorHolder.bindingResult().getFieldError("cursor")).isNotNull();
+        verifyNoInteractions(criteriaBuilder);
+    }
+
+    @Test
+    void buildCursor_ReadsKeyValuesOfRow() {
+        // Arrange
+        User user = new User();
+        user.setId(ID);
+        user.setFirstName("Admin");
+
+        // Act
+        String cursor = keysetBuilder.buildCursor(user, keysetWrappers);
+
+        // Assert
+        assertThat(CursorUtils.decode(cursor)).contains(List.of("Admin", ID.toString()));
+    }
+
+    @Test
+    void buildCursor_NullKeyValue_ThrowsIllegalStateException() {
+        // Arrange
+        User user = new User();
+        user.setId(ID);
+
+        // Act & Assert
+        assertThatThrownBy(() -> keysetBuilder.buildCursor(user, keysetWrappers))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("firstName");
+    }
+}
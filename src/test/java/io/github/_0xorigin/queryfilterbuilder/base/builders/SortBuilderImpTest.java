@@ -10,6 +10,7 @@ import io.github._0xorigin.queryfilterbuilder.base.holders.CustomSortHolder;
 import io.github._0xorigin.queryfilterbuilder.base.holders.ErrorHolder;
 import io.github._0xorigin.queryfilterbuilder.base.holders.SortHolder;
 import io.github._0xorigin.queryfilterbuilder.base.parsers.SortParser;
+import io.github._0xorigin.queryfilterbuilder.base.plans.SortPlan;
 import io.github._0xorigin.queryfilterbuilder.base.wrappers.SortWrapper;
 import io.github._0xorigin.queryfilterbuilder.entities.User;
 import io.github._0xorigin.queryfilterbuilder.exceptions.QueryBuilderConfigurationException;
@@ -77,10 +78,7 @@ class SortBuilderImpTest {
         when(sortContext.getRequest()).thenReturn(Optional.of(httpServletRequest));
         when(sortContext.getSortRequests()).thenReturn(Optional.empty());
         when(sortParser.parse(httpServletRequest)).thenReturn(parsedWrappers);
-        SortHolder<User, String> sortHolder = mock(SortHolder.class);
-        when(sortContext.getSorts()).thenReturn(Map.of("firstName", sortHolder));
-        when(sortHolder.directions()).thenReturn(Set.of(Sort.Direction.ASC));
-        when(sortHolder.sourceTypes()).thenReturn(Set.of(SourceType.QUERY_PARAM));
+        when(sortContext.resolveSortWrapper(wrapper)).thenReturn(Optional.of(wrapper.withSortType(SortType.NORMAL)));
 
         // Act
         Collection<SortWrapper> result = sortBuilder.getDistinctSortWrappers(sortContext);
@@ -99,9 +97,7 @@ class SortBuilderImpTest {
         when(sortContext.getRequest()).thenReturn(Optional.empty());
         when(sortContext.getSortRequests()).thenReturn(Optional.of(sortRequests));
         when(sortParser.parse(sortRequests)).thenReturn(parsedWrappers);
-        CustomSortHolder<User> customSortHolder = mock(CustomSortHolder.class);
-        when(sortContext.getCustomSorts()).thenReturn(Map.of("lastName", customSortHolder));
-        when(customSortHolder.sourceTypes()).thenReturn(Set.of(SourceType.REQUEST_BODY));
+        when(sortContext.resolveSortWrapper(wrapper)).thenReturn(Optional.of(wrapper.withSortType(SortType.CUSTOM)));
 
         // Act
         Collection<SortWrapper> result = sortBuilder.getDistinctSortWrappers(sortContext);
@@ -135,24 +131,34 @@ class SortBuilderImpTest {
         when(sortContext.getSortRequests()).thenReturn(Optional.empty());
         when(sortParser.parse(httpServletRequest)).thenReturn(parsedWrappers);
 
-        // Alias map contains the parsed 'alias' key -> mappedField
-        when(sortContext.getAliasToFieldMap()).thenReturn(Map.of("alias", "mappedField"));
-
-        // Ensure the mapped field is registered in sorts so it becomes a NORMAL sort
-        SortHolder<User, String> sortHolder = mock(SortHolder.class);
-        when(sortContext.getSorts()).thenReturn(Map.of("mappedField", sortHolder));
-        when(sortHolder.directions()).thenReturn(Set.of(Sort.Direction.ASC));
-        when(sortHolder.sourceTypes()).thenReturn(Set.of(SourceType.QUERY_PARAM));
+        // The context resolves the parsed 'alias' key -> mappedField as a NORMAL sort
+        SortWrapper expected = new SortWrapper("mappedField", "alias", Sort.Direction.ASC, SourceType.QUERY_PARAM, Optional.of(SortType.NORMAL));
+        when(sortContext.resolveSortWrapper(parsed)).thenReturn(Optional.of(expected));
 
         // Act
         Collection<SortWrapper> result = sortBuilder.getDistinctSortWrappers(sortContext);
 
         // Assert: the returned wrapper should have its field resolved to the mapped field
-        SortWrapper expected = new SortWrapper("mappedField", "alias", Sort.Direction.ASC, SourceType.QUERY_PARAM, Optional.of(SortType.NORMAL));
         assertThat(result).hasSize(1).containsExactly(expected);
         verify(sortParser).parse(httpServletRequest);
     }
 
+    @Test
+    void getDistinctSortWrappers_UnresolvedWrapper_IsSkipped() {
+        // Arrange
+        SortWrapper wrapper = new SortWrapper("unknown", "unknown", Sort.Direction.ASC, SourceType.QUERY_PARAM, Optional.empty());
+        when(sortContext.getRequest()).thenReturn(Optional.of(httpServletRequest));
+        when(sortContext.getSortRequests()).thenReturn(Optional.empty());
+        when(sortParser.parse(httpServletRequest)).thenReturn(List.of(wrapper));
+        when(sortContext.resolveSortWrapper(wrapper)).thenReturn(Optional.empty());
+
+        // Act
+        Collection<SortWrapper> result = sortBuilder.getDistinctSortWrappers(sortContext);
+
+        // Assert
+        assertThat(result).isEmpty();
+    }
+
     @Test
     void buildOrderForWrapper_NoSortType_ReturnsEmpty() {
         // Arrange
@@ -170,9 +176,7 @@ class SortBuilderImpTest {
         // Arrange
         SortWrapper wrapper = new SortWrapper("firstName", "firstName", Sort.Direction.ASC, SourceType.QUERY_PARAM, Optional.of(SortType.NORMAL));
         SortHolder<User, String> sortHolder = mock(SortHolder.class);
-        when(sortContext.getSorts()).thenReturn(Map.of("firstName", sortHolder));
-        when(sortHolder.directions()).thenReturn(Set.of(Sort.Direction.ASC));
-        when(sortHolder.sourceTypes()).thenReturn(Set.of(SourceType.QUERY_PARAM));
+        when(sortContext.getSortPlan(wrapper)).thenReturn(Optional.of(SortPlan.normal("firstName", Sort.Direction.ASC, sortHolder)));
         when(sortHolder.getExpression(root, criteriaQuery, criteriaBuilder)).thenAnswer(invocation -> Optional.of(stringExpression));
         when(criteriaBuilder.asc(stringExpression)).thenReturn(order);
         when(errorHolder.bindingResult()).thenReturn(bindingResult);
@@ -191,9 +195,7 @@ class SortBuilderImpTest {
         // Arrange
         SortWrapper wrapper = new SortWrapper("lastName", "lastName", Sort.Direction.DESC, SourceType.QUERY_PARAM, Optional.of(SortType.NORMAL));
         SortHolder<User, String> sortHolder = mock(SortHolder.class);
-        when(sortContext.getSorts()).thenReturn(Map.of("lastName", sortHolder));
-        when(sortHolder.directions()).thenReturn(Set.of(Sort.Direction.DESC));
-        when(sortHolder.sourceTypes()).thenReturn(Set.of(SourceType.QUERY_PARAM));
+        when(sortContext.getSortPlan(wrapper)).thenReturn(Optional.of(SortPlan.normal("lastName", Sort.Direction.DESC, sortHolder)));
         when(sortHolder.getExpression(root, criteriaQuery, criteriaBuilder)).thenAnswer(invocation -> Optional.of(stringExpression));
         when(criteriaBuilder.desc(stringExpression)).thenReturn(order);
         when(errorHolder.bindingResult()).thenReturn(bindingResult);
@@ -212,9 +214,7 @@ class SortBuilderImpTest {
         // Arrange
         SortWrapper wrapper = new SortWrapper("firstName", "firstName", Sort.Direction.ASC, SourceType.QUERY_PARAM, Optional.of(SortType.NORMAL));
         SortHolder<User, String> sortHolder = mock(SortHolder.class);
-        when(sortContext.getSorts()).thenReturn(Map.of("firstName", sortHolder));
-        when(sortHolder.directions()).thenReturn(Set.of(Sort.Direction.ASC));
-        when(sortHolder.sourceTypes()).thenReturn(Set.of(SourceType.QUERY_PARAM));
+        when(sortContext.getSortPlan(wrapper)).thenReturn(Optional.of(SortPlan.normal("firstName", Sort.Direction.ASC, sortHolder)));
         when(sortHolder.getExpression(root, criteriaQuery, criteriaBuilder)).thenAnswer(invocation -> Optional.of(stringExpression));
         when(criteriaBuilder.asc(stringExpression)).thenReturn(order);
         when(errorHolder.bindingResult()).thenReturn(bindingResult);
@@ -233,9 +233,7 @@ class SortBuilderImpTest {
         // Arrange
         SortWrapper wrapper = new SortWrapper("lastName", "lastName", Sort.Direction.ASC, SourceType.QUERY_PARAM, Optional.of(SortType.NORMAL));
         SortHolder<User, String> sortHolder = mock(SortHolder.class);
-        when(sortContext.getSorts()).thenReturn(Map.of("lastName", sortHolder));
-        when(sortHolder.directions()).thenReturn(Set.of(Sort.Direction.ASC));
-        when(sortHolder.sourceTypes()).thenReturn(Set.of(SourceType.QUERY_PARAM));
+        when(sortContext.getSortPlan(wrapper)).thenReturn(Optional.of(SortPlan.normal("lastName", Sort.Direction.ASC, sortHolder)));
         when(sortHolder.getExpression(root, criteriaQuery, criteriaBuilder)).thenReturn(Optional.empty());
         when(fieldPathGenerator.generate(root, "lastName", "lastName", bindingResult)).thenAnswer(invocation -> stringExpression);
         when(criteriaBuilder.asc(stringExpression)).thenReturn(order);
@@ -254,7 +252,7 @@ class SortBuilderImpTest {
     void buildOrderForWrapper_NormalSortType_InvalidSort_ReturnsEmpty() {
         // Arrange
         SortWrapper wrapper = new SortWrapper("firstName", "firstName", Sort.Direction.ASC, SourceType.QUERY_PARAM, Optional.of(SortType.NORMAL));
-        when(sortContext.getSorts()).thenReturn(Map.of());
+        when(sortContext.getSortPlan(wrapper)).thenReturn(Optional.empty());
 
         // Act
         Optional<Order> result = sortBuilder.buildOrderForWrapper(root, criteriaQuery, criteriaBuilder, sortContext, wrapper, errorHolder);
@@ -268,8 +266,7 @@ class SortBuilderImpTest {
         // Arrange
         SortWrapper wrapper = new SortWrapper("lastName", "lastName", Sort.Direction.ASC, SourceType.REQUEST_BODY, Optional.of(SortType.CUSTOM));
         CustomSortHolder<User> customSortHolder = mock(CustomSortHolder.class);
-        when(sortContext.getCustomSorts()).thenReturn(Map.of("lastName", customSortHolder));
-        when(customSortHolder.sourceTypes()).thenReturn(Set.of(SourceType.REQUEST_BODY));
+        when(sortContext.getSortPlan(wrapper)).thenReturn(Optional.of(SortPlan.custom("lastName", customSortHolder)));
         when(customSortHolder.customSortFunction()).thenReturn((r, q, cb, error) -> Optional.of(order));
         when(errorHolder.bindingResult()).thenReturn(bindingResult);
 
@@ -284,7 +281,7 @@ class SortBuilderImpTest {
     void buildOrderForWrapper_CustomSortType_InvalidSort_ReturnsEmpty() {
         // Arrange
         SortWrapper wrapper = new SortWrapper("lastName", "lastName", Sort.Direction.ASC, SourceType.REQUEST_BODY, Optional.of(SortType.CUSTOM));
-        when(sortContext.getCustomSorts()).thenReturn(Map.of());
+        when(sortContext.getSortPlan(wrapper)).thenReturn(Optional.empty());
 
         // Act
         Optional<Order> result = sortBuilder.buildOrderForWrapper(root, criteriaQuery, criteriaBuilder, sortContext, wrapper, errorHolder);
@@ -298,9 +295,7 @@ class SortBuilderImpTest {
         // Arrange
         SortWrapper wrapper = new SortWrapper("firstName", "firstName", Sort.Direction.ASC, SourceType.QUERY_PARAM, Optional.of(SortType.NORMAL));
         SortHolder<User, String> sortHolder = mock(SortHolder.class);
-        when(sortContext.getSorts()).thenReturn(Map.of("firstName", sortHolder));
-        when(sortHolder.directions()).thenReturn(Set.of(Sort.Direction.ASC));
-        when(sortHolder.sourceTypes()).thenReturn(Set.of(SourceType.QUERY_PARAM));
+        when(sortContext.getSortPlan(wrapper)).thenReturn(Optional.of(SortPlan.normal("firstName", Sort.Direction.ASC, sortHolder)));
         when(sortHolder.getExpression(root, criteriaQuery, criteriaBuilder)).thenAnswer(invocation -> Optional.of(stringExpression));
         when(errorHolder.bindingResult()).thenReturn(bindingResult);
         when(errorHolder.methodParameter()).thenReturn(getMethodParameter("buildSortSpecification", SortContext.class));
@@ -313,6 +308,25 @@ class SortBuilderImpTest {
     }
 
 
+    @Test
+    void validate_NormalSortType_ResolvesFieldWithoutQuery() {
+        // Arrange
+        SortWrapper wrapper = new SortWrapper("firstName", "firstName", Sort.Direction.ASC, SourceType.QUERY_PARAM, Optional.of(SortType.NORMAL));
+        SortHolder<User, String> sortHolder = mock(SortHolder.class);
+        when(sortContext.getSortPlan(wrapper)).thenReturn(Optional.of(SortPlan.normal("firstName", Sort.Direction.ASC, sortHolder)));
+        when(sortHolder.expressionProviderFunction()).thenReturn(Optional.empty());
+        doReturn(User.class).when(sortContext).getType();
+        when(errorHolder.bindingResult()).thenReturn(bindingResult);
+
+        // Act
+        sortBuilder.validate(sortContext, wrapper, errorHolder);
+
+        // Assert
+        verify(fieldPathGenerator).resolveJavaType(User.class, "firstName", "firstName", bindingResult);
+        verifyNoInteractions(root, criteriaQuery, criteriaBuilder);
+    }
+
+
     private MethodParameter getMethodParameter(String methodName, Class<?> clazz) {
         try {
             return new MethodParameter(QueryFilterBuilderImp.class.getMethod(methodName, clazz), 0);
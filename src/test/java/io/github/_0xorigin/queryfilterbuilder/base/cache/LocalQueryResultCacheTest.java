@@ -0,0 +1,141 @@
+package io.github._0xorigin.queryfilterbuilder.base.cache;
+
+import io.github._0xorigin.queryfilterbuilder.QuerySignature;
+import io.github._0xorigin.queryfilterbuilder.entities.FakeUser;
+import io.github._0xorigin.queryfilterbuilder.entities.User;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalQueryResultCacheTest {
+
+    private static final QuerySignature USER_SIGNATURE = new QuerySignature(User.class, List.of(), List.of());
+    private static final QuerySignature FAKE_USER_SIGNATURE = new QuerySignature(FakeUser.class, List.of(), List.of());
+
+    private final MutableClock clock = new MutableClock();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void get_SameKey_LoadsOnce() {
+        // Arrange
+        LocalQueryResultCache cache = new LocalQueryResultCache(10, Duration.ofMinutes(1), clock);
+
+        // Act
+        String first = cache.get(USER_SIGNATURE, 0, this::load);
+        String second = cache.get(USER_SIGNATURE, 0, this::load);
+        String otherPage = cache.get(USER_SIGNATURE, 1, this::load);
+
+        // Assert
+        assertThat(first).isEqualTo(second).isEqualTo("result-1");
+        assertThat(otherPage).isEqualTo("result-2");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void get_ExpiredResult_IsReloaded() {
+        // Arrange
+        LocalQueryResultCache cache = new LocalQueryResultCache(10, Duration.ofMinutes(1), clock);
+        cache.get(USER_SIGNATURE, null, this::load);
+
+        // Act
+        clock.advance(Duration.ofMinutes(1));
+        String result = cache.get(USER_SIGNATURE, null, this::load);
+
+        // Assert
+        assertThat(result).isEqualTo("result-2");
+    }
+
+    @Test
+    void get_BeyondMaximumSize_EvictsLeastRecentlyUsedResult() {
+        // Arrange
+        LocalQueryResultCache cache = new LocalQueryResultCache(2, Duration.ofMinutes(1), clock);
+        cache.get(USER_SIGNATURE, 0, this::load);
+        cache.get(USER_SIGNATURE, 1, this::load);
+        cache.get(USER_SIGNATURE, 0, this::load);
+
+        // Act
+        cache.get(USER_SIGNATURE, 2, this::load);
+
+        // Assert
+        assertThat(cache.get(USER_SIGNATURE, 0, this::load)).isEqualTo("result-1");
+        assertThat(cache.get(USER_SIGNATURE, 1, this::load)).isEqualTo("result-4");
+    }
+
+    @Test
+    void evict_OnlyEvictsResultsOfTheEntityType() {
+        // Arrange
+        LocalQueryResultCache cache = new LocalQueryResultCache(10, Duration.ofMinutes(1), clock);
+        cache.get(USER_SIGNATURE, null, this::load);
+        cache.get(FAKE_USER_SIGNATURE, null, this::load);
+
+        // Act
+        cache.evict(User.class);
+
+        // Assert
+        assertThat(cache.get(USER_SIGNATURE, null, this::load)).isEqualTo("result-3");
+        assertThat(cache.get(FAKE_USER_SIGNATURE, null, this::load)).isEqualTo("result-2");
+    }
+
+    @Test
+    void get_EvictedWhileLoading_ReturnsResultWithoutCachingIt() {
+        // Arrange
+        LocalQueryResultCache cache = new LocalQueryResultCache(10, Duration.ofMinutes(1), clock);
+
+        // Act
+        String result = cache.get(USER_SIGNATURE, null, () -> {
+            cache.evict(User.class);
+            return load();
+        });
+
+        // Assert
+        assertThat(result).isEqualTo("result-1");
+        assertThat(cache.get(USER_SIGNATURE, null, this::load)).isEqualTo("result-2");
+    }
+
+    @Test
+    void constructor_NonPositiveMaximumSize_ThrowsException() {
+        // Arrange
+        Duration timeToLive = Duration.ofMinutes(1);
+
+        // Act & Assert
+        assertThatThrownBy(() -> new LocalQueryResultCache(0, timeToLive))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Maximum size must be positive");
+    }
+
+    private String load() {
+        return "result-" + loads.incrementAndGet();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant = Instant.parse("2025-01-01T00:00:00Z");
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
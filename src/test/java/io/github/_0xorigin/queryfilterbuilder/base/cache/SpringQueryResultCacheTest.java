@@ -0,0 +1,40 @@
+package io.github._0xorigin.queryfilterbuilder.base.cache;
+
+import io.github._0xorigin.queryfilterbuilder.QuerySignature;
+import io.github._0xorigin.queryfilterbuilder.entities.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpringQueryResultCacheTest {
+
+    private static final QuerySignature USER_SIGNATURE = new QuerySignature(User.class, List.of(), List.of());
+
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void get_CachesResultsPerEntityTypeUntilEvicted() {
+        // Arrange
+        SpringQueryResultCache cache = new SpringQueryResultCache(cacheManager, "queryFilterBuilder");
+
+        // Act
+        String first = cache.get(USER_SIGNATURE, 0, this::load);
+        String second = cache.get(USER_SIGNATURE, 0, this::load);
+        cache.evict(User.class);
+        String reloaded = cache.get(USER_SIGNATURE, 0, this::load);
+
+        // Assert
+        assertThat(first).isEqualTo(second).isEqualTo("result-1");
+        assertThat(reloaded).isEqualTo("result-2");
+        assertThat(cacheManager.getCacheNames()).containsExactly("queryFilterBuilder." + User.class.getName());
+    }
+
+    private String load() {
+        return "result-" + loads.incrementAndGet();
+    }
+}
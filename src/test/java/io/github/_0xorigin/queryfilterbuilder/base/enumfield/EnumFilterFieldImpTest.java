@@ -1,11 +1,13 @@
 package io.github._0xorigin.queryfilterbuilder.base.enumfield;
 
+import com.fasterxml.jackson.annotation.JsonValue;
+import io.github._0xorigin.queryfilterbuilder.base.filterfield.CastResult;
 import io.github._0xorigin.queryfilterbuilder.base.filteroperator.Operator;
 import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterErrorWrapper;
 import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterWrapper;
+import io.github._0xorigin.queryfilterbuilder.configs.QueryFilterBuilderProperties;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.validation.BindingResult;
@@ -14,6 +16,7 @@ import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -25,6 +28,36 @@ class EnumFilterFieldImpTest {
         VALUE1, VALUE2, VALUE3
     }
 
+    enum Status implements CodedEnum {
+        ACTIVE("A"), INACTIVE("I"), ARCHIVED("ACTIVE");
+
+        private final String code;
+
+        Status(String code) {
+            this.code = code;
+        }
+
+        @Override
+        public String getCode() {
+            return code;
+        }
+    }
+
+    enum Region {
+        EUROPE_WEST("eu-west"), US_EAST("us-east");
+
+        private final String label;
+
+        Region(String label) {
+            this.label = label;
+        }
+
+        @JsonValue
+        String getLabel() {
+            return label;
+        }
+    }
+
     @Mock
     private FilterErrorWrapper filterErrorWrapper;
 
@@ -34,8 +67,7 @@ class EnumFilterFieldImpTest {
     @Mock
     private BindingResult bindingResult;
 
-    @InjectMocks
-    private EnumFilterFieldImp enumFilterField;
+    private final EnumFilterFieldImp enumFilterField = new EnumFilterFieldImp();
 
     @Test
     void testCast_ValidValue_ReturnsEnum() {
@@ -154,4 +186,89 @@ class EnumFilterFieldImpTest {
         assertThatThrownBy(() -> supportedOperators.add(null))
             .isInstanceOf(UnsupportedOperationException.class);
     }
+
+    @Test
+    void testTryCast_ValidValue_ReturnsSuccess() {
+        // Act
+        CastResult<TestEnum> result = enumFilterField.tryCast(TestEnum.class, "VALUE1");
+
+        // Assert
+        assertThat(result.success()).isTrue();
+        assertThat(result.value()).isEqualTo(TestEnum.VALUE1);
+    }
+
+    @Test
+    void testTryCast_InvalidValue_ReturnsFailureWithCastMessage() {
+        // Arrange
+        String invalidValue = "value1";
+        Throwable exception = catchThrowable(() -> enumFilterField.cast(TestEnum.class, invalidValue));
+
+        // Act
+        CastResult<TestEnum> result = enumFilterField.tryCast(TestEnum.class, invalidValue);
+
+        // Assert
+        assertThat(result.success()).isFalse();
+        assertThat(result.value()).isNull();
+        assertThat(result.errorMessage()).isEqualTo(exception.getMessage());
+    }
+
+    @Test
+    void testTryCast_Code_ReturnsConstant() {
+        // Act
+        CastResult<Status> result = enumFilterField.tryCast(Status.class, "I");
+
+        // Assert
+        assertThat(result.success()).isTrue();
+        assertThat(result.value()).isEqualTo(Status.INACTIVE);
+    }
+
+    @Test
+    void testTryCast_NameAndCodeOfDifferentConstants_ReturnsConstantWithName() {
+        // Act
+        CastResult<Status> result = enumFilterField.tryCast(Status.class, "ACTIVE");
+
+        // Assert
+        assertThat(result.value()).isEqualTo(Status.ACTIVE);
+    }
+
+    @Test
+    void testTryCast_DifferentCaseWithoutCaseInsensitiveMatching_ReturnsFailure() {
+        // Act
+        CastResult<Status> result = enumFilterField.tryCast(Status.class, "active");
+
+        // Assert
+        assertThat(result.success()).isFalse();
+        assertThat(result.errorMessage()).isEqualTo("No enum constant " + Status.class.getCanonicalName() + ".active");
+    }
+
+    @Test
+    void testTryCast_CaseInsensitiveMatching_ReturnsConstantOfNameOrCode() {
+        // Arrange
+        EnumFilterFieldImp caseInsensitiveField = new EnumFilterFieldImp(new QueryFilterBuilderProperties.EnumMatching(true, false));
+
+        // Act & Assert
+        assertThat(caseInsensitiveField.tryCast(Status.class, "inactive").value()).isEqualTo(Status.INACTIVE);
+        assertThat(caseInsensitiveField.tryCast(Status.class, "a").value()).isEqualTo(Status.ACTIVE);
+        assertThat(caseInsensitiveField.tryCast(Status.class, "unknown").success()).isFalse();
+    }
+
+    @Test
+    void testTryCast_JsonValueMatching_ReturnsConstantOfJsonValue() {
+        // Arrange
+        EnumFilterFieldImp jsonValueField = new EnumFilterFieldImp(new QueryFilterBuilderProperties.EnumMatching(false, true));
+
+        // Act & Assert
+        assertThat(jsonValueField.tryCast(Region.class, "eu-west").value()).isEqualTo(Region.EUROPE_WEST);
+        assertThat(jsonValueField.tryCast(Region.class, "US_EAST").value()).isEqualTo(Region.US_EAST);
+        assertThat(enumFilterField.tryCast(Region.class, "eu-west").success()).isFalse();
+    }
+
+    @Test
+    void testCast_Code_ReturnsConstant() {
+        // Act
+        Status result = enumFilterField.cast(Status.class, "A");
+
+        // Assert
+        assertThat(result).isEqualTo(Status.ACTIVE);
+    }
 }
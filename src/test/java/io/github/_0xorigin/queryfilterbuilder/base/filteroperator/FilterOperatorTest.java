@@ -0,0 +1,54 @@
+package io.github._0xorigin.queryfilterbuilder.base.filteroperator;
+
+import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterErrorWrapper;
+import io.github._0xorigin.queryfilterbuilder.operators.Equals;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(MockitoExtension.class)
+class FilterOperatorTest {
+
+    @Mock
+    private FilterErrorWrapper filterErrorWrapper;
+
+    private final FilterOperator databaseOnlyOperator = new FilterOperator() {
+        @Override
+        public <T extends Comparable<? super T> & Serializable> Optional<Predicate> apply(Expression<T> expression, CriteriaBuilder cb, List<T> values, FilterErrorWrapper filterErrorWrapper) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Operator getOperatorConstant() {
+            return Operator.EQ;
+        }
+    };
+
+    @Test
+    void supportsInMemory_operatorWithoutCompile_returnsFalse() {
+        assertThat(databaseOnlyOperator.supportsInMemory()).isFalse();
+    }
+
+    @Test
+    void supportsInMemory_builtInOperator_returnsTrue() {
+        assertThat(new Equals().supportsInMemory()).isTrue();
+    }
+
+    @Test
+    void compile_operatorWithoutCompile_throwsUnsupportedOperationException() {
+        assertThatThrownBy(() -> databaseOnlyOperator.compile(List.of(1), filterErrorWrapper))
+            .isInstanceOf(UnsupportedOperationException.class)
+            .hasMessageContaining("cannot be evaluated in memory");
+    }
+}
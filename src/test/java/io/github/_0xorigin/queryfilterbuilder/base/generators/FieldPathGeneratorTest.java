@@ -1,11 +1,14 @@
 package io.github._0xorigin.queryfilterbuilder.base.generators;
 
+import io.github._0xorigin.queryfilterbuilder.base.enums.ToManyFilterStrategy;
 import io.github._0xorigin.queryfilterbuilder.base.services.LocalizationService;
 import io.github._0xorigin.queryfilterbuilder.configs.QueryFilterBuilderProperties;
 import jakarta.persistence.criteria.*;
 import jakarta.persistence.metamodel.Attribute;
 import jakarta.persistence.metamodel.ManagedType;
 import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.PluralAttribute;
+import jakarta.persistence.metamodel.Type;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,6 +16,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.validation.BindingResult;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -78,8 +83,9 @@ class FieldPathGeneratorTest {
 
     @BeforeEach
     void setUp() {
-        when(properties.defaults()).thenReturn(defaults);
-        when(defaults.fieldDelimiter()).thenReturn(".");
+        // Paths are resolved lazily, so tests failing before resolution never read the delimiter
+        lenient().when(properties.defaults()).thenReturn(defaults);
+        lenient().when(defaults.fieldDelimiter()).thenReturn(".");
     }
 
     @Test
@@ -168,6 +174,42 @@ class FieldPathGeneratorTest {
         verify(bindingResult, never()).addError(any());
     }
 
+    @Test
+    void testResolveJavaType_AssociationWithId_ReturnsTypeWithoutBuildingPath() {
+        // Arrange
+        when(metamodel.managedType(TestEntity.class)).thenReturn(rootManagedType);
+        when(rootManagedType.getAttribute("manager")).thenAnswer(invocation -> managerAttribute);
+        when(managerAttribute.isAssociation()).thenReturn(true);
+        when(managerAttribute.getJavaType()).thenReturn(Manager.class);
+        when(metamodel.managedType(Manager.class)).thenReturn(managerManagedType);
+        when(managerManagedType.getAttribute("id")).thenAnswer(invocation -> idAttribute);
+        when(idAttribute.isAssociation()).thenReturn(false);
+        when(idAttribute.getJavaType()).thenReturn(Long.class);
+
+        // Act
+        Class<?> result = fieldPathGenerator.resolveJavaType(TestEntity.class, "manager.id", "manager.id", bindingResult);
+
+        // Assert
+        assertThat(result).isEqualTo(Long.class);
+        verifyNoInteractions(root);
+        verify(bindingResult, never()).addError(any());
+    }
+
+    @Test
+    void testResolveJavaType_InvalidField_ReturnsNull() {
+        // Arrange
+        when(metamodel.managedType(TestEntity.class)).thenReturn(rootManagedType);
+        when(rootManagedType.getAttribute("invalidField")).thenThrow(new IllegalArgumentException("Attribute not found"));
+        when(bindingResult.getObjectName()).thenReturn("testEntity");
+
+        // Act
+        Class<?> result = fieldPathGenerator.resolveJavaType(TestEntity.class, "invalidField", "invalidField", bindingResult);
+
+        // Assert
+        assertThat(result).isNull();
+        verify(bindingResult).addError(any());
+    }
+
     @Test
     void testGenerate_InvalidField_ThrowsIllegalArgumentException() {
         // Arrange
@@ -199,7 +241,6 @@ class FieldPathGeneratorTest {
         when(rootManagedType.getAttribute("manager")).thenAnswer(invocation -> managerAttribute);
         when(managerAttribute.isAssociation()).thenReturn(true);
         when(managerAttribute.getJavaType()).thenReturn(Manager.class);
-        when(root.join("manager", JoinType.INNER)).thenAnswer(invocation -> managerJoin);
 
         // Mock manager to name (non-association)
         when(metamodel.managedType(Manager.class)).thenReturn(managerManagedType);
@@ -214,6 +255,8 @@ class FieldPathGeneratorTest {
         // Assert
         assertThat(result).isNull();
         verify(bindingResult).addError(any());
+        // The path is validated before any join is created
+        verify(root, never()).join("manager", JoinType.INNER);
     }
 
     @Test
@@ -341,10 +384,274 @@ class FieldPathGeneratorTest {
         verify(bindingResult, never()).addError(any());
     }
 
+    @Test
+    void testGenerate_SamePathTwice_ResolvesMetamodelOnce() {
+        // Arrange
+        String field = "manager.department.name";
+        String originalFieldName = "manager.department.name";
+
+        when(root.getJavaType()).thenAnswer(invocation -> TestEntity.class);
+        when(metamodel.managedType(TestEntity.class)).thenReturn(rootManagedType);
+        when(rootManagedType.getAttribute("manager")).thenAnswer(invocation -> managerAttribute);
+        when(managerAttribute.isAssociation()).thenReturn(true);
+        when(managerAttribute.getJavaType()).thenReturn(Manager.class);
+        when(root.join("manager", JoinType.INNER)).thenAnswer(invocation -> managerJoin);
+
+        when(metamodel.managedType(Manager.class)).thenReturn(managerManagedType);
+        when(managerManagedType.getAttribute("department")).thenAnswer(invocation -> departmentAttribute);
+        when(departmentAttribute.isAssociation()).thenReturn(true);
+        when(departmentAttribute.getJavaType()).thenReturn(Department.class);
+        when(managerJoin.join("department", JoinType.INNER)).thenAnswer(invocation -> departmentJoin);
+
+        when(metamodel.managedType(Department.class)).thenReturn(departmentManagedType);
+        when(departmentManagedType.getAttribute("name")).thenAnswer(invocation -> nameAttribute);
+        when(nameAttribute.isAssociation()).thenReturn(false);
+        when(departmentJoin.get("name")).thenAnswer(invocation -> namePath);
+
+        // Act
+        Expression<?> first = fieldPathGenerator.generate(root, field, originalFieldName, bindingResult);
+        Expression<?> second = fieldPathGenerator.generate(root, field, originalFieldName, bindingResult);
+
+        // Assert
+        assertThat(first).isEqualTo(namePath);
+        assertThat(second).isEqualTo(namePath);
+        verify(metamodel, times(1)).managedType(TestEntity.class);
+        verify(metamodel, times(1)).managedType(Manager.class);
+        verify(metamodel, times(1)).managedType(Department.class);
+        // The joins of the first path are registered for the query, so the second one reuses them without scanning
+        verify(root, times(1)).join("manager", JoinType.INNER);
+        verify(root, times(1)).getJoins();
+        verify(managerJoin, times(1)).join("department", JoinType.INNER);
+        verify(bindingResult, never()).addError(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testGenerate_SamePathOnAnotherRoot_DoesNotReuseJoinsOfPreviousQuery() {
+        // Arrange
+        String field = "manager.name";
+        Root<TestEntity> otherRoot = mock(Root.class);
+        Join<TestEntity, Manager> otherManagerJoin = mock(Join.class);
+        Path<String> otherNamePath = mock(Path.class);
+
+        when(root.getJavaType()).thenAnswer(invocation -> TestEntity.class);
+        when(otherRoot.getJavaType()).thenAnswer(invocation -> TestEntity.class);
+        when(metamodel.managedType(TestEntity.class)).thenReturn(rootManagedType);
+        when(rootManagedType.getAttribute("manager")).thenAnswer(invocation -> managerAttribute);
+        when(managerAttribute.isAssociation()).thenReturn(true);
+        when(managerAttribute.getJavaType()).thenReturn(Manager.class);
+        when(metamodel.managedType(Manager.class)).thenReturn(managerManagedType);
+        when(managerManagedType.getAttribute("name")).thenAnswer(invocation -> nameAttribute);
+        when(nameAttribute.isAssociation()).thenReturn(false);
+        when(root.join("manager", JoinType.INNER)).thenAnswer(invocation -> managerJoin);
+        when(otherRoot.join("manager", JoinType.INNER)).thenAnswer(invocation -> otherManagerJoin);
+        when(managerJoin.get("name")).thenAnswer(invocation -> namePath);
+        when(otherManagerJoin.get("name")).thenAnswer(invocation -> otherNamePath);
+
+        // Act
+        Expression<?> first = fieldPathGenerator.generate(root, field, field, bindingResult);
+        Expression<?> second = fieldPathGenerator.generate(otherRoot, field, field, bindingResult);
+
+        // Assert
+        assertThat(first).isEqualTo(namePath);
+        assertThat(second).isEqualTo(otherNamePath);
+        verify(root).join("manager", JoinType.INNER);
+        verify(otherRoot).join("manager", JoinType.INNER);
+    }
+
+    @Test
+    void testGenerate_SamePathAfterGarbageCollection_KeepsTheJoinsOfTheQuery() {
+        // Arrange
+        String field = "manager.name";
+        when(root.getJavaType()).thenAnswer(invocation -> TestEntity.class);
+        when(metamodel.managedType(TestEntity.class)).thenReturn(rootManagedType);
+        when(rootManagedType.getAttribute("manager")).thenAnswer(invocation -> managerAttribute);
+        when(managerAttribute.isAssociation()).thenReturn(true);
+        when(managerAttribute.getJavaType()).thenReturn(Manager.class);
+        when(metamodel.managedType(Manager.class)).thenReturn(managerManagedType);
+        when(managerManagedType.getAttribute("name")).thenAnswer(invocation -> nameAttribute);
+        when(nameAttribute.isAssociation()).thenReturn(false);
+        when(root.join("manager", JoinType.INNER)).thenAnswer(invocation -> managerJoin);
+        when(managerJoin.get("name")).thenAnswer(invocation -> namePath);
+
+        // Act: the registry of a root that is still in use is strongly held
+        Expression<?> first = fieldPathGenerator.generate(root, field, field, bindingResult);
+        System.gc();
+        Expression<?> second = fieldPathGenerator.generate(root, field, field, bindingResult);
+
+        // Assert
+        assertThat(first).isEqualTo(namePath);
+        assertThat(second).isEqualTo(namePath);
+        verify(root, times(1)).join("manager", JoinType.INNER);
+        verify(root, times(1)).getJoins();
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void testGenerate_JoinAddedAfterFirstPath_ReusesJoin() {
+        // Arrange
+        Path<String> rootNamePath = mock(Path.class);
+        when(root.getJavaType()).thenAnswer(invocation -> TestEntity.class);
+        when(metamodel.managedType(TestEntity.class)).thenReturn(rootManagedType);
+        when(rootManagedType.getAttribute("name")).thenAnswer(invocation -> nameAttribute);
+        when(rootManagedType.getAttribute("manager")).thenAnswer(invocation -> managerAttribute);
+        when(managerAttribute.isAssociation()).thenReturn(true);
+        when(managerAttribute.getJavaType()).thenReturn(Manager.class);
+        when(managerAttribute.getName()).thenReturn("manager");
+        when(metamodel.managedType(Manager.class)).thenReturn(managerManagedType);
+        when(managerManagedType.getAttribute("name")).thenAnswer(invocation -> nameAttribute);
+        when(nameAttribute.isAssociation()).thenReturn(false);
+        when(root.get("name")).thenAnswer(invocation -> rootNamePath);
+        when(managerJoin.getAttribute()).thenReturn((Attribute) managerAttribute);
+        when(managerJoin.get("name")).thenAnswer(invocation -> namePath);
+
+        // Act: the join is added by other code (e.g., a custom specification) after the first path of the query
+        Expression<?> first = fieldPathGenerator.generate(root, "name", "name", bindingResult);
+        when(root.getJoins()).thenReturn(Set.of(managerJoin));
+        Expression<?> second = fieldPathGenerator.generate(root, "manager.name", "manager.name", bindingResult);
+
+        // Assert
+        assertThat(first).isEqualTo(rootNamePath);
+        assertThat(second).isEqualTo(namePath);
+        verify(root, never()).join("manager", JoinType.INNER);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testGenerate_AlternatingRoots_KeepTheJoinsOfEachQuery() {
+        // Arrange
+        String field = "manager.name";
+        Root<TestEntity> subqueryRoot = mock(Root.class);
+        Join<TestEntity, Manager> subqueryManagerJoin = mock(Join.class);
+        Path<String> subqueryNamePath = mock(Path.class);
+
+        when(root.getJavaType()).thenAnswer(invocation -> TestEntity.class);
+        when(subqueryRoot.getJavaType()).thenAnswer(invocation -> TestEntity.class);
+        when(metamodel.managedType(TestEntity.class)).thenReturn(rootManagedType);
+        when(rootManagedType.getAttribute("manager")).thenAnswer(invocation -> managerAttribute);
+        when(managerAttribute.isAssociation()).thenReturn(true);
+        when(managerAttribute.getJavaType()).thenReturn(Manager.class);
+        when(metamodel.managedType(Manager.class)).thenReturn(managerManagedType);
+        when(managerManagedType.getAttribute("name")).thenAnswer(invocation -> nameAttribute);
+        when(nameAttribute.isAssociation()).thenReturn(false);
+        when(root.join("manager", JoinType.INNER)).thenAnswer(invocation -> managerJoin);
+        when(subqueryRoot.join("manager", JoinType.INNER)).thenAnswer(invocation -> subqueryManagerJoin);
+        when(managerJoin.get("name")).thenAnswer(invocation -> namePath);
+        when(subqueryManagerJoin.get("name")).thenAnswer(invocation -> subqueryNamePath);
+
+        // Act
+        Expression<?> first = fieldPathGenerator.generate(root, field, field, bindingResult);
+        Expression<?> subquery = fieldPathGenerator.generate(subqueryRoot, field, field, bindingResult);
+        Expression<?> second = fieldPathGenerator.generate(root, field, field, bindingResult);
+
+        // Assert
+        assertThat(first).isEqualTo(namePath);
+        assertThat(subquery).isEqualTo(subqueryNamePath);
+        assertThat(second).isEqualTo(namePath);
+        // The joins of each root are scanned once, on the first miss, and survive the paths generated on the other root
+        verify(root, times(1)).join("manager", JoinType.INNER);
+        verify(root, times(1)).getJoins();
+        verify(subqueryRoot, times(1)).join("manager", JoinType.INNER);
+        verify(subqueryRoot, times(1)).getJoins();
+    }
+
+    @Test
+    void testGenerate_InvalidFieldTwice_IsNotCached() {
+        // Arrange
+        String field = "invalidField";
+        String originalFieldName = "invalidField";
+
+        when(root.getJavaType()).thenAnswer(invocation -> TestEntity.class);
+        when(metamodel.managedType(TestEntity.class)).thenReturn(rootManagedType);
+        when(rootManagedType.getAttribute("invalidField")).thenThrow(new IllegalArgumentException("Attribute not found"));
+        when(bindingResult.getObjectName()).thenReturn("testEntity");
+
+        // Act
+        Expression<?> first = fieldPathGenerator.generate(root, field, originalFieldName, bindingResult);
+        Expression<?> second = fieldPathGenerator.generate(root, field, originalFieldName, bindingResult);
+
+        // Assert
+        assertThat(first).isNull();
+        assertThat(second).isNull();
+        verify(rootManagedType, times(2)).getAttribute("invalidField");
+        verify(bindingResult, times(2)).addError(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubToManyPath() {
+        PluralAttribute<TestEntity, List<Manager>, Manager> managersAttribute = mock(PluralAttribute.class);
+        Type<Manager> managerType = mock(Type.class);
+        when(root.getJavaType()).thenAnswer(invocation -> TestEntity.class);
+        when(metamodel.managedType(TestEntity.class)).thenReturn(rootManagedType);
+        when(rootManagedType.getAttribute("managers")).thenAnswer(invocation -> managersAttribute);
+        when(managersAttribute.isAssociation()).thenReturn(true);
+        when(managersAttribute.getElementType()).thenReturn(managerType);
+        when(managerType.getJavaType()).thenReturn(Manager.class);
+        when(metamodel.managedType(Manager.class)).thenReturn(managerManagedType);
+        when(managerManagedType.getAttribute("name")).thenAnswer(invocation -> nameAttribute);
+        when(nameAttribute.isAssociation()).thenReturn(false);
+    }
+
+    @Test
+    void testGeneratePredicate_ToManyPath_JoinStrategy_AppliesFunctionOnJoin() {
+        // Arrange
+        CriteriaQuery<?> criteriaQuery = mock(CriteriaQuery.class);
+        CriteriaBuilder criteriaBuilder = mock(CriteriaBuilder.class);
+        Predicate predicate = mock(Predicate.class);
+        stubToManyPath();
+        when(defaults.toManyFilterStrategy()).thenReturn(ToManyFilterStrategy.JOIN);
+        when(root.join("managers", JoinType.INNER)).thenAnswer(invocation -> managerJoin);
+        when(managerJoin.get("name")).thenAnswer(invocation -> namePath);
+
+        // Act
+        Optional<Predicate> result = fieldPathGenerator.<String>generatePredicate(
+            root, criteriaQuery, criteriaBuilder, "managers.name", "managers.name", bindingResult,
+            expression -> expression == namePath ? Optional.of(predicate) : Optional.empty()
+        );
+
+        // Assert
+        assertThat(result).contains(predicate);
+        verifyNoInteractions(criteriaQuery, criteriaBuilder);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testGeneratePredicate_ToManyPath_ExistsStrategy_AppliesFunctionInCorrelatedSubquery() {
+        // Arrange
+        CriteriaQuery<?> criteriaQuery = mock(CriteriaQuery.class);
+        CriteriaBuilder criteriaBuilder = mock(CriteriaBuilder.class);
+        Subquery<Integer> subquery = mock(Subquery.class);
+        Root<TestEntity> correlatedRoot = mock(Root.class);
+        Expression<Integer> literal = mock(Expression.class);
+        Predicate predicate = mock(Predicate.class);
+        Predicate existsPredicate = mock(Predicate.class);
+        stubToManyPath();
+        when(defaults.toManyFilterStrategy()).thenReturn(ToManyFilterStrategy.EXISTS);
+        when(criteriaQuery.subquery(Integer.class)).thenReturn(subquery);
+        when(subquery.correlate(root)).thenReturn(correlatedRoot);
+        when(correlatedRoot.join("managers", JoinType.INNER)).thenAnswer(invocation -> managerJoin);
+        when(managerJoin.get("name")).thenAnswer(invocation -> namePath);
+        when(criteriaBuilder.literal(1)).thenReturn(literal);
+        when(subquery.select(literal)).thenReturn(subquery);
+        when(subquery.where(predicate)).thenReturn(subquery);
+        when(criteriaBuilder.exists(subquery)).thenReturn(existsPredicate);
+
+        // Act
+        Optional<Predicate> result = fieldPathGenerator.<String>generatePredicate(
+            root, criteriaQuery, criteriaBuilder, "managers.name", "managers.name", bindingResult,
+            expression -> expression == namePath ? Optional.of(predicate) : Optional.empty()
+        );
+
+        // Assert
+        assertThat(result).contains(existsPredicate);
+        verify(root, never()).join(anyString(), any(JoinType.class));
+    }
+
     // Mock entity classes for testing
     static class TestEntity {
         String name;
         Manager manager;
+        List<Manager> managers;
     }
 
     static class Manager {
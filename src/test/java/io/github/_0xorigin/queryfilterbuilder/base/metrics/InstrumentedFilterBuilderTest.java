@@ -0,0 +1,88 @@
+package io.github._0xorigin.queryfilterbuilder.base.metrics;
+
+import io.github._0xorigin.queryfilterbuilder.FilterContext;
+import io.github._0xorigin.queryfilterbuilder.base.builders.FilterBuilder;
+import io.github._0xorigin.queryfilterbuilder.base.enums.SourceType;
+import io.github._0xorigin.queryfilterbuilder.base.filteroperator.Operator;
+import io.github._0xorigin.queryfilterbuilder.base.holders.ErrorHolder;
+import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterWrapper;
+import io.github._0xorigin.queryfilterbuilder.entities.User;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InstrumentedFilterBuilderTest {
+
+    @Mock
+    private FilterBuilder<User> delegate;
+
+    @Mock
+    private Root<User> root;
+
+    @Mock
+    private CriteriaQuery<?> criteriaQuery;
+
+    @Mock
+    private CriteriaBuilder criteriaBuilder;
+
+    @Mock
+    private FilterContext<User> filterContext;
+
+    @Mock
+    private ErrorHolder errorHolder;
+
+    @Mock
+    private Predicate predicate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void buildPredicateForWrapper_RecordsTimerTaggedByEntityFieldOperatorAndSource() {
+        // Arrange
+        InstrumentedFilterBuilder<User> filterBuilder = new InstrumentedFilterBuilder<>(delegate, new QueryFilterBuilderMetrics(meterRegistry));
+        FilterWrapper wrapper = new FilterWrapper("firstName", "name.icontains", Operator.ICONTAINS, List.of("a"), SourceType.QUERY_PARAM, Optional.empty());
+        doReturn(User.class).when(root).getJavaType();
+        when(delegate.buildPredicateForWrapper(root, criteriaQuery, criteriaBuilder, filterContext, wrapper, errorHolder)).thenReturn(Optional.of(predicate));
+
+        // Act
+        Optional<Predicate> result = filterBuilder.buildPredicateForWrapper(root, criteriaQuery, criteriaBuilder, filterContext, wrapper, errorHolder);
+
+        // Assert
+        assertThat(result).contains(predicate);
+        Timer timer = meterRegistry.get(QueryFilterBuilderMetrics.PREDICATE_TIMER)
+            .tag(QueryFilterBuilderMetrics.ENTITY_TAG, "User")
+            .tag(QueryFilterBuilderMetrics.FIELD_TAG, "firstName")
+            .tag(QueryFilterBuilderMetrics.OPERATOR_TAG, "icontains")
+            .tag(QueryFilterBuilderMetrics.SOURCE_TAG, "query_param")
+            .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    void getDistinctFilterWrappers_DelegatesWithoutRecording() {
+        // Arrange
+        InstrumentedFilterBuilder<User> filterBuilder = new InstrumentedFilterBuilder<>(delegate, new QueryFilterBuilderMetrics(meterRegistry));
+        when(delegate.getDistinctFilterWrappers(filterContext)).thenReturn(List.of());
+
+        // Act
+        filterBuilder.getDistinctFilterWrappers(filterContext);
+
+        // Assert
+        verify(delegate).getDistinctFilterWrappers(filterContext);
+        assertThat(meterRegistry.getMeters()).isEmpty();
+    }
+}
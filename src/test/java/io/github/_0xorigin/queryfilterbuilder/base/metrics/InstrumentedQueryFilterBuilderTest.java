@@ -0,0 +1,117 @@
+package io.github._0xorigin.queryfilterbuilder.base.metrics;
+
+import io.github._0xorigin.queryfilterbuilder.FilterContext;
+import io.github._0xorigin.queryfilterbuilder.FilterSpecification;
+import io.github._0xorigin.queryfilterbuilder.QueryFilterBuilder;
+import io.github._0xorigin.queryfilterbuilder.SortContext;
+import io.github._0xorigin.queryfilterbuilder.entities.User;
+import io.github._0xorigin.queryfilterbuilder.exceptions.InvalidQueryParameterException;
+import io.github._0xorigin.queryfilterbuilder.exceptions.QueryBuilderConfigurationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InstrumentedQueryFilterBuilderTest {
+
+    @Mock
+    private QueryFilterBuilder<User> delegate;
+
+    @Mock
+    private FilterContext<User> filterContext;
+
+    @Mock
+    private SortContext<User> sortContext;
+
+    @Mock
+    private Root<User> root;
+
+    @Mock
+    private CriteriaQuery<?> criteriaQuery;
+
+    @Mock
+    private CriteriaBuilder criteriaBuilder;
+
+    @Mock
+    private Predicate predicate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void buildFilterSpecification_ClientSideError_IncrementsClientCounter() {
+        // Arrange
+        InstrumentedQueryFilterBuilder<User> queryFilterBuilder = new InstrumentedQueryFilterBuilder<>(delegate, new QueryFilterBuilderMetrics(meterRegistry));
+        InvalidQueryParameterException exception = mock(InvalidQueryParameterException.class);
+        when(delegate.buildFilterSpecification(filterContext)).thenReturn(new FilterSpecification<>((r, q, cb) -> { throw exception; }, false));
+        doReturn(User.class).when(root).getJavaType();
+
+        // Act
+        Specification<User> specification = queryFilterBuilder.buildFilterSpecification(filterContext);
+
+        // Assert
+        assertThatThrownBy(() -> specification.toPredicate(root, criteriaQuery, criteriaBuilder)).isSameAs(exception);
+        assertThat(errorCount("client")).isEqualTo(1);
+    }
+
+    @Test
+    void buildSortSpecification_ServerSideError_IncrementsServerCounter() {
+        // Arrange
+        InstrumentedQueryFilterBuilder<User> queryFilterBuilder = new InstrumentedQueryFilterBuilder<>(delegate, new QueryFilterBuilderMetrics(meterRegistry));
+        QueryBuilderConfigurationException exception = mock(QueryBuilderConfigurationException.class);
+        when(delegate.buildSortSpecification(sortContext)).thenReturn((r, q, cb) -> { throw exception; });
+        doReturn(User.class).when(root).getJavaType();
+
+        // Act
+        Specification<User> specification = queryFilterBuilder.buildSortSpecification(sortContext);
+
+        // Assert
+        assertThatThrownBy(() -> specification.toPredicate(root, criteriaQuery, criteriaBuilder)).isSameAs(exception);
+        assertThat(errorCount("server")).isEqualTo(1);
+    }
+
+    @Test
+    void buildFilterSpecification_NoError_ReturnsDelegatePredicateWithoutCounting() {
+        // Arrange
+        InstrumentedQueryFilterBuilder<User> queryFilterBuilder = new InstrumentedQueryFilterBuilder<>(delegate, new QueryFilterBuilderMetrics(meterRegistry));
+        when(delegate.buildFilterSpecification(filterContext)).thenReturn(new FilterSpecification<>((r, q, cb) -> predicate, false));
+
+        // Act
+        Predicate result = queryFilterBuilder.buildFilterSpecification(filterContext).toPredicate(root, criteriaQuery, criteriaBuilder);
+
+        // Assert
+        assertThat(result).isSameAs(predicate);
+        assertThat(meterRegistry.find(QueryFilterBuilderMetrics.ERRORS_COUNTER).counter()).isNull();
+    }
+
+    @Test
+    void buildFilterSpecification_EmptyResult_KeepsEmptyResultSignal() {
+        // Arrange
+        InstrumentedQueryFilterBuilder<User> queryFilterBuilder = new InstrumentedQueryFilterBuilder<>(delegate, new QueryFilterBuilderMetrics(meterRegistry));
+        when(delegate.buildFilterSpecification(filterContext)).thenReturn(new FilterSpecification<>((r, q, cb) -> predicate, true));
+
+        // Act
+        FilterSpecification<User> specification = queryFilterBuilder.buildFilterSpecification(filterContext);
+
+        // Assert
+        assertThat(specification.isEmptyResult()).isTrue();
+    }
+
+    private double errorCount(String side) {
+        return meterRegistry.get(QueryFilterBuilderMetrics.ERRORS_COUNTER)
+            .tag(QueryFilterBuilderMetrics.ENTITY_TAG, "User")
+            .tag(QueryFilterBuilderMetrics.SIDE_TAG, side)
+            .counter()
+            .count();
+    }
+}
@@ -0,0 +1,75 @@
+package io.github._0xorigin.queryfilterbuilder.base.metrics;
+
+import io.github._0xorigin.queryfilterbuilder.QueryFilterBuilder;
+import io.github._0xorigin.queryfilterbuilder.base.builders.FilterBuilder;
+import io.github._0xorigin.queryfilterbuilder.base.builders.SortBuilder;
+import io.github._0xorigin.queryfilterbuilder.base.generators.PathGenerator;
+import io.github._0xorigin.queryfilterbuilder.base.parsers.FilterParser;
+import io.github._0xorigin.queryfilterbuilder.base.parsers.SortParser;
+import io.github._0xorigin.queryfilterbuilder.entities.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class QueryFilterBuilderMetricsPostProcessorTest {
+
+    @Test
+    void postProcessAfterInitialization_WithoutMeterRegistry_ReturnsSameBean() {
+        // Arrange
+        QueryFilterBuilderMetricsPostProcessor postProcessor = new QueryFilterBuilderMetricsPostProcessor(meterRegistryProvider(null));
+        FilterParser filterParser = mock(FilterParser.class);
+
+        // Act
+        Object result = postProcessor.postProcessAfterInitialization(filterParser, "filterParser");
+
+        // Assert
+        assertThat(result).isSameAs(filterParser);
+    }
+
+    @Test
+    void postProcessAfterInitialization_WithMeterRegistry_WrapsQueryBuildingBeans() {
+        // Arrange
+        QueryFilterBuilderMetricsPostProcessor postProcessor = new QueryFilterBuilderMetricsPostProcessor(meterRegistryProvider(new SimpleMeterRegistry()));
+
+        // Act & Assert
+        assertThat(postProcessor.postProcessAfterInitialization(mock(FilterParser.class), "filterParser"))
+            .isInstanceOf(InstrumentedFilterParser.class);
+        assertThat(postProcessor.postProcessAfterInitialization(mock(SortParser.class), "sortParser"))
+            .isInstanceOf(InstrumentedSortParser.class);
+        assertThat(postProcessor.postProcessAfterInitialization(mock(FilterBuilder.class), "filterBuilder"))
+            .isInstanceOf(InstrumentedFilterBuilder.class);
+        assertThat(postProcessor.postProcessAfterInitialization(mock(SortBuilder.class), "sortBuilder"))
+            .isInstanceOf(InstrumentedSortBuilder.class);
+        assertThat(postProcessor.postProcessAfterInitialization(mock(PathGenerator.class), "pathGenerator"))
+            .isInstanceOf(InstrumentedPathGenerator.class);
+        assertThat(postProcessor.postProcessAfterInitialization(mock(QueryFilterBuilder.class), "queryFilterBuilder"))
+            .isInstanceOf(InstrumentedQueryFilterBuilder.class);
+    }
+
+    @Test
+    void postProcessAfterInitialization_WithMeterRegistry_LeavesOtherBeansUntouched() {
+        // Arrange
+        QueryFilterBuilderMetricsPostProcessor postProcessor = new QueryFilterBuilderMetricsPostProcessor(meterRegistryProvider(new SimpleMeterRegistry()));
+        User bean = new User();
+
+        // Act
+        Object result = postProcessor.postProcessAfterInitialization(bean, "user");
+
+        // Assert
+        assertThat(result).isSameAs(bean);
+    }
+
+    private ObjectProvider<MeterRegistry> meterRegistryProvider(MeterRegistry meterRegistry) {
+        StaticListableBeanFactory beanFactory = meterRegistry == null
+            ? new StaticListableBeanFactory()
+            : new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry));
+        return beanFactory.getBeanProvider(MeterRegistry.class);
+    }
+}
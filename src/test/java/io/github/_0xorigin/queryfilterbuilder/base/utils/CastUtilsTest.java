@@ -0,0 +1,96 @@
+package io.github._0xorigin.queryfilterbuilder.base.utils;
+
+import io.github._0xorigin.queryfilterbuilder.base.filterfield.CastResult;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CastUtilsTest {
+
+    @Test
+    void tryParse_ParserThrows_ReturnsFailureWithTheMessageOfTheException() {
+        // Act
+        CastResult<Integer> result = CastUtils.tryParse("value", value -> {
+            throw new IllegalArgumentException("Invalid value");
+        });
+
+        // Assert
+        assertThat(result.success()).isFalse();
+        assertThat(result.value()).isNull();
+        assertThat(result.errorMessage()).isEqualTo("Invalid value");
+    }
+
+    @Test
+    void toInteger_MinimumAndMaximumValues_ReturnsSuccess() {
+        // Act & Assert
+        assertThat(CastUtils.toInteger("-2147483648").value()).isEqualTo(Integer.MIN_VALUE);
+        assertThat(CastUtils.toInteger("+2147483647").value()).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @Test
+    void toInteger_MalformedValues_ReturnsSyntaxFailure() {
+        // Arrange
+        CastResult<Integer> expected = CastResult.failure("Value is not a valid integer.");
+
+        // Act & Assert
+        assertThat(CastUtils.toInteger("abc")).isEqualTo(expected);
+        assertThat(CastUtils.toInteger("")).isEqualTo(expected);
+        assertThat(CastUtils.toInteger("+")).isEqualTo(expected);
+        assertThat(CastUtils.toInteger(null)).isEqualTo(expected);
+    }
+
+    @Test
+    void toInteger_OutOfRangeValues_ReturnsRangeFailure() {
+        // Act & Assert
+        assertThat(CastUtils.toInteger("2147483648")).isEqualTo(CastResult.failure("Value is out of range."));
+        assertThat(CastUtils.toByte("128")).isEqualTo(CastResult.failure("Value is out of range."));
+    }
+
+    @Test
+    void toDouble_ValuesReadByTheParser_ReturnsSuccess() {
+        // Act & Assert
+        assertThat(CastUtils.toDouble(" 1.5 ").value()).isEqualTo(1.5d);
+        assertThat(CastUtils.toDouble("-.5e1d").value()).isEqualTo(-5d);
+        assertThat(CastUtils.toDouble("0x1p3").value()).isEqualTo(8d);
+        assertThat(CastUtils.toDouble("NaN").value()).isNaN();
+        assertThat(CastUtils.toDouble("1.2.3")).isEqualTo(CastResult.failure("Value is not a valid floating-point number."));
+        assertThat(CastUtils.toDouble("1e")).isEqualTo(CastResult.failure("Value is not a valid floating-point number."));
+    }
+
+    @Test
+    void toBigDecimal_ValueWithExponent_ReturnsSuccess() {
+        // Act & Assert
+        assertThat(CastUtils.toBigDecimal("1.5e3").value()).isEqualByComparingTo(new BigDecimal("1500"));
+        assertThat(CastUtils.toBigDecimal("1.2.3")).isEqualTo(CastResult.failure("Value is not a valid decimal number."));
+    }
+
+    @Test
+    void toUuid_CanonicalAndMalformedValues_ReturnsResult() {
+        // Arrange
+        UUID uuid = UUID.randomUUID();
+
+        // Act & Assert
+        assertThat(CastUtils.toUuid(uuid.toString()).value()).isEqualTo(uuid);
+        assertThat(CastUtils.toUuid("not-a-uuid")).isEqualTo(CastResult.failure("Value is not a valid UUID."));
+        assertThat(CastUtils.toUuid("0123456789abcdef0123456789abcdef-0-0-0-0")).isEqualTo(CastResult.failure("Value is out of range."));
+    }
+
+    @Test
+    void temporalCaster_ValidAndInvalidValues_ReturnsResult() {
+        // Arrange
+        Function<String, CastResult<LocalDate>> caster = CastUtils.temporalCaster(DateTimeFormatter.ISO_LOCAL_DATE, LocalDate::from);
+
+        // Act & Assert
+        assertThat(caster.apply("2024-02-29").value()).isEqualTo(LocalDate.of(2024, 2, 29));
+        assertThat(caster.apply("2024-02-30")).isEqualTo(CastResult.failure("Value is not a valid date or time."));
+        assertThat(caster.apply("2024-02-29x")).isEqualTo(CastResult.failure("Value is not a valid date or time."));
+        assertThat(caster.apply("notadate")).isEqualTo(CastResult.failure("Value is not a valid date or time."));
+        assertThat(caster.apply(null)).isEqualTo(CastResult.failure("Value is not a valid date or time."));
+    }
+}
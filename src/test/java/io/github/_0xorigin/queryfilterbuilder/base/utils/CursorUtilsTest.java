@@ -0,0 +1,36 @@
+package io.github._0xorigin.queryfilterbuilder.base.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CursorUtilsTest {
+
+    @Test
+    void encode_ThenDecode_ReturnsSameValues() {
+        // Arrange
+        List<String> values = List.of("Admin.User", "", "عربي", "c0a86433-9e3b-198a-819e-3be990bf0000");
+
+        // Act
+        String cursor = CursorUtils.encode(values);
+
+        // Assert
+        assertThat(cursor).matches("[A-Za-z0-9_.-]*");
+        assertThat(CursorUtils.decode(cursor)).contains(values);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "a+b", "a/b", "a=b", "a.b!"})
+    void decode_InvalidCursor_ReturnsEmpty(String cursor) {
+        assertThat(CursorUtils.decode(cursor)).isEmpty();
+    }
+
+    @Test
+    void decode_NullCursor_ReturnsEmpty() {
+        assertThat(CursorUtils.decode(null)).isEmpty();
+    }
+}
@@ -0,0 +1,126 @@
+package io.github._0xorigin.queryfilterbuilder.base.utils;
+
+import io.github._0xorigin.queryfilterbuilder.base.filteroperator.Operator;
+import io.github._0xorigin.queryfilterbuilder.base.utils.FilterSimplificationUtils.SimplifiedFilter;
+import io.github._0xorigin.queryfilterbuilder.base.utils.FilterSimplificationUtils.SimplifiedFilter.Outcome;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FilterSimplificationUtilsTest {
+
+    @Test
+    void simplify_BetweenWithReversedBounds_NeverMatches() {
+        // Act
+        SimplifiedFilter<Integer> result = FilterSimplificationUtils.simplify(Operator.BETWEEN, List.of(10, 1));
+
+        // Assert
+        assertThat(result.outcome()).isEqualTo(Outcome.NEVER_MATCHES);
+    }
+
+    @Test
+    void simplify_BetweenWithEqualBounds_RewritesToEquals() {
+        // Act
+        SimplifiedFilter<Integer> result = FilterSimplificationUtils.simplify(Operator.BETWEEN, List.of(5, 5));
+
+        // Assert
+        assertThat(result).isEqualTo(new SimplifiedFilter<>(Outcome.APPLY, Operator.EQ, List.of(5)));
+    }
+
+    @Test
+    void simplify_NotBetweenWithReversedBounds_MatchesNonNull() {
+        // Act
+        SimplifiedFilter<Integer> result = FilterSimplificationUtils.simplify(Operator.NOT_BETWEEN, List.of(10, 1));
+
+        // Assert
+        assertThat(result.outcome()).isEqualTo(Outcome.MATCHES_NON_NULL);
+    }
+
+    @Test
+    void simplify_NotBetweenWithEqualBounds_RewritesToNotEquals() {
+        // Act
+        SimplifiedFilter<Integer> result = FilterSimplificationUtils.simplify(Operator.NOT_BETWEEN, List.of(5, 5));
+
+        // Assert
+        assertThat(result).isEqualTo(new SimplifiedFilter<>(Outcome.APPLY, Operator.NEQ, List.of(5)));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Operator.class, names = {"BETWEEN", "NOT_BETWEEN"})
+    void simplify_UuidBoundsReversedInJavaOrder_AreKept(Operator operator) {
+        // Arrange: reversed for UUID#compareTo, which compares signed bits, but ordered for the database
+        List<UUID> values = List.of(
+            UUID.fromString("00000000-0000-0000-0000-000000000001"),
+            UUID.fromString("ffffffff-ffff-ffff-ffff-ffffffffffff")
+        );
+
+        // Act
+        SimplifiedFilter<UUID> result = FilterSimplificationUtils.simplify(operator, values);
+
+        // Assert
+        assertThat(values.get(0)).isGreaterThan(values.get(1));
+        assertThat(result).isEqualTo(new SimplifiedFilter<>(Outcome.APPLY, operator, values));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Operator.class, names = {"BETWEEN", "NOT_BETWEEN"})
+    void simplify_EnumBoundsReversedInJavaOrder_AreKept(Operator operator) {
+        // Arrange: reversed by ordinal, but ordered by name for an enum stored as a string
+        List<Status> values = List.of(Status.ACTIVE, Status.PENDING);
+
+        // Act
+        SimplifiedFilter<Status> result = FilterSimplificationUtils.simplify(operator, values);
+
+        // Assert
+        assertThat(values.get(0)).isGreaterThan(values.get(1));
+        assertThat(result).isEqualTo(new SimplifiedFilter<>(Outcome.APPLY, operator, values));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Operator.class, names = {"CONTAINS", "ICONTAINS", "STARTS_WITH", "ISTARTS_WITH", "ENDS_WITH", "IENDS_WITH"})
+    void simplify_PatternOperatorWithEmptyValue_MatchesNonNull(Operator operator) {
+        // Act
+        SimplifiedFilter<String> result = FilterSimplificationUtils.simplify(operator, List.of(""));
+
+        // Assert
+        assertThat(result.outcome()).isEqualTo(Outcome.MATCHES_NON_NULL);
+    }
+
+    @Test
+    void simplify_RegularFilters_AreKept() {
+        // Act
+        SimplifiedFilter<Integer> between = FilterSimplificationUtils.simplify(Operator.BETWEEN, List.of(1, 10));
+        SimplifiedFilter<String> contains = FilterSimplificationUtils.simplify(Operator.CONTAINS, List.of("a"));
+        SimplifiedFilter<Integer> equals = FilterSimplificationUtils.simplify(Operator.EQ, List.of(1));
+
+        // Assert
+        assertThat(between).isEqualTo(new SimplifiedFilter<>(Outcome.APPLY, Operator.BETWEEN, List.of(1, 10)));
+        assertThat(contains).isEqualTo(new SimplifiedFilter<>(Outcome.APPLY, Operator.CONTAINS, List.of("a")));
+        assertThat(equals).isEqualTo(new SimplifiedFilter<>(Outcome.APPLY, Operator.EQ, List.of(1)));
+    }
+
+    @Test
+    void simplify_InvalidValues_AreKeptForTheOperatorToReport() {
+        // Arrange
+        List<Integer> valuesWithNull = Arrays.asList(10, null);
+        List<Integer> threeValues = List.of(10, 5, 1);
+
+        // Act
+        SimplifiedFilter<Integer> withNull = FilterSimplificationUtils.simplify(Operator.BETWEEN, valuesWithNull);
+        SimplifiedFilter<Integer> wrongSize = FilterSimplificationUtils.simplify(Operator.BETWEEN, threeValues);
+
+        // Assert
+        assertThat(withNull).isEqualTo(new SimplifiedFilter<>(Outcome.APPLY, Operator.BETWEEN, valuesWithNull));
+        assertThat(wrongSize).isEqualTo(new SimplifiedFilter<>(Outcome.APPLY, Operator.BETWEEN, threeValues));
+    }
+
+    private enum Status {
+        PENDING, ACTIVE
+    }
+}
@@ -0,0 +1,98 @@
+package io.github._0xorigin.queryfilterbuilder.base.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FilterUtilsTest {
+
+    @Test
+    void splitWithEscapedDelimiter_NullOrEmptyInput_ReturnsEmptyArray() {
+        assertThat(FilterUtils.splitWithEscapedDelimiter(null, ".")).isEmpty();
+        assertThat(FilterUtils.splitWithEscapedDelimiter("", ".")).isEmpty();
+        assertThat(FilterUtils.splitWithEscapedDelimiter("a.b", null)).isEmpty();
+        assertThat(FilterUtils.splitWithEscapedDelimiter("a.b", "")).isEmpty();
+    }
+
+    @Test
+    void splitWithEscapedDelimiter_EncodedDelimiter_IsKeptInsideThePart() {
+        // Act
+        String[] result = FilterUtils.splitWithEscapedDelimiter("a%2Cb,c", ",");
+
+        // Assert
+        assertThat(result).containsExactly("a,b", "c");
+    }
+
+    @Test
+    void splitWithEscapedDelimiter_NothingToDecode_ReturnsSameInstance() {
+        // Arrange
+        String value = "firstName";
+
+        // Act
+        String[] result = FilterUtils.splitWithEscapedDelimiter(value, ".");
+
+        // Assert
+        assertThat(result).hasSize(1);
+        assertThat(result[0]).isSameAs(value);
+    }
+
+    @Test
+    void splitWithEscapedDelimiter_MalformedEncoding_ReturnsRawPart() {
+        // Act
+        String[] result = FilterUtils.splitWithEscapedDelimiter("100%,a+b", ",");
+
+        // Assert
+        assertThat(result).containsExactly("100%", "a b");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "a", "a.b.c", ".a", "a.", "a..b", "..", ".", "a...", "customer.address.city", "a%2Eb.c", "a+b.c%20d"
+    })
+    void splitWithEscapedDelimiter_MatchesRegexSplitSemantics(String value) {
+        // Arrange
+        String[] expected = Arrays.stream(Pattern.compile(Pattern.quote(".")).split(value))
+            .map(part -> URLDecoder.decode(part, StandardCharsets.UTF_8))
+            .toArray(String[]::new);
+
+        // Act
+        String[] result = FilterUtils.splitWithEscapedDelimiter(value, ".");
+
+        // Assert
+        assertThat(result).containsExactly(expected);
+    }
+
+    @Test
+    void compileLikePattern_TranslatesWildcardsAndQuotesOtherCharacters() {
+        // Arrange
+        String likePattern = "a.%b_(c)";
+
+        // Act
+        Pattern result = FilterUtils.compileLikePattern(likePattern);
+
+        // Assert
+        assertThat(result.matcher("a.xyzbQ(c)").matches()).isTrue();
+        assertThat(result.matcher("a.\nbQ(c)").matches()).isTrue();
+        assertThat(result.matcher("aXbQ(c)").matches()).isFalse();
+        assertThat(result.matcher("a.bQc").matches()).isFalse();
+    }
+
+    @Test
+    void splitWithEscapedDelimiter_MultiCharacterDelimiter_MatchesRegexSplitSemantics() {
+        // Arrange
+        String value = "a__b____c__";
+
+        // Act
+        String[] result = FilterUtils.splitWithEscapedDelimiter(value, "__");
+
+        // Assert
+        assertThat(result).containsExactly(Pattern.compile(Pattern.quote("__")).split(value));
+    }
+}
@@ -0,0 +1,81 @@
+package io.github._0xorigin.queryfilterbuilder.base.utils;
+
+import io.github._0xorigin.queryfilterbuilder.configs.QueryFilterBuilderProperties.InClause;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InClauseUtilsTest {
+
+    @ParameterizedTest
+    @CsvSource({"1,1", "2,2", "3,4", "4,4", "5,8", "9,16", "17,20"})
+    void pad_PadsToNextPowerOfTwoUpToLimit(int size, int expectedSize) {
+        // Arrange
+        List<Integer> values = range(size);
+
+        // Act
+        List<Integer> padded = InClauseUtils.pad(values, 20);
+
+        // Assert
+        assertThat(padded).hasSize(expectedSize).startsWith(values.toArray(Integer[]::new));
+        assertThat(padded.subList(size, expectedSize)).allMatch(value -> value == size - 1);
+    }
+
+    @Test
+    void chunk_SplitsIntoChunksOfAtMostChunkSize() {
+        // Arrange
+        InClause inClause = new InClause(true, 4, 100);
+
+        // Act
+        List<List<Integer>> chunks = InClauseUtils.chunk(range(9), inClause);
+
+        // Assert
+        assertThat(chunks).containsExactly(
+            List.of(0, 1, 2, 3),
+            List.of(4, 5, 6, 7),
+            List.of(8)
+        );
+    }
+
+    @Test
+    void chunk_PaddingDisabled_KeepsChunkSizes() {
+        // Arrange
+        InClause inClause = new InClause(false, 4, 100);
+
+        // Act
+        List<List<Integer>> chunks = InClauseUtils.chunk(range(7), inClause);
+
+        // Assert
+        assertThat(chunks).containsExactly(
+            List.of(0, 1, 2, 3),
+            List.of(4, 5, 6)
+        );
+    }
+
+    @Test
+    void isTooLarge_ComparesWithMaxSize() {
+        InClause inClause = new InClause(true, 4, 3);
+
+        assertThat(InClauseUtils.isTooLarge(range(3), inClause)).isFalse();
+        assertThat(InClauseUtils.isTooLarge(range(4), inClause)).isTrue();
+    }
+
+    @Test
+    void isTooLarge_MaxSizeDisabled_ReturnsFalse() {
+        InClause inClause = new InClause(true, 4, 0);
+
+        assertThat(InClauseUtils.isTooLarge(range(20000), inClause)).isFalse();
+    }
+
+    private static List<Integer> range(int size) {
+        List<Integer> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+            values.add(i);
+        return values;
+    }
+}
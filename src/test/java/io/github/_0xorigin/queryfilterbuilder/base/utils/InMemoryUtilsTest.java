@@ -0,0 +1,91 @@
+package io.github._0xorigin.queryfilterbuilder.base.utils;
+
+import io.github._0xorigin.queryfilterbuilder.configs.QueryFilterBuilderProperties.InMemory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryUtilsTest {
+
+    private static final Predicate<Item> IS_EVEN = item -> item.value() % 2 == 0;
+    private static final Comparator<Item> BY_GROUP = Comparator.comparingInt(Item::group);
+
+    @ParameterizedTest
+    @CsvSource({
+        "1000, 1",
+        "1000, 10",
+        "1000, 2147483647",
+        "1000000, 10",
+        "1000000, 2147483647"
+    })
+    void filterAndSort_MatchesSequentialStableSort(int parallelThreshold, int limit) {
+        // Arrange
+        List<Item> items = items(20_000);
+        List<Item> expected = items.stream().filter(IS_EVEN).sorted(BY_GROUP).limit(limit).toList();
+
+        // Act
+        List<Item> result = InMemoryUtils.filterAndSort(items, IS_EVEN, BY_GROUP, limit, new InMemory(parallelThreshold));
+
+        // Assert
+        assertThat(result).containsExactlyElementsOf(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1000", "1000000"})
+    void filterAndSort_NoComparator_KeepsEncounterOrder(int parallelThreshold) {
+        // Arrange
+        List<Item> items = items(20_000);
+        List<Item> expected = items.stream().filter(IS_EVEN).limit(50).toList();
+
+        // Act
+        List<Item> result = InMemoryUtils.filterAndSort(items, IS_EVEN, null, 50, new InMemory(parallelThreshold));
+
+        // Assert
+        assertThat(result).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void filterAndSort_LimitLargerThanMatches_ReturnsAllMatches() {
+        // Arrange
+        List<Item> items = items(100);
+        Predicate<Item> predicate = item -> item.value() < 10;
+
+        // Act
+        List<Item> result = InMemoryUtils.filterAndSort(items, predicate, BY_GROUP, 50, new InMemory(10));
+
+        // Assert
+        assertThat(result).containsExactlyElementsOf(items.stream().filter(predicate).sorted(BY_GROUP).toList());
+    }
+
+    @Test
+    void filterAndSort_NonPositiveLimit_ThrowsException() {
+        // Arrange
+        List<Item> items = items(10);
+        InMemory inMemory = new InMemory(10);
+
+        // Act & Assert
+        assertThatThrownBy(() -> InMemoryUtils.filterAndSort(items, IS_EVEN, BY_GROUP, 0, inMemory))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Limit must be positive");
+    }
+
+    // Items with few distinct groups, so that most of them compare equal and the order of ties is checked
+    private static List<Item> items(int size) {
+        Random random = new Random(42);
+        List<Item> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+            items.add(new Item(i, random.nextInt(16)));
+        return items;
+    }
+
+    private record Item(int value, int group) {}
+}
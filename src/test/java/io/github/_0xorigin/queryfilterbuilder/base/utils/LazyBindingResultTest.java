@@ -0,0 +1,72 @@
+package io.github._0xorigin.queryfilterbuilder.base.utils;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.FieldError;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LazyBindingResultTest {
+
+    private final Object target = new Object();
+
+    @Test
+    void constructor_NullArguments_ThrowsNullPointerException() {
+        assertThatThrownBy(() -> new LazyBindingResult(null, "name"))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessage("Target must not be null");
+        assertThatThrownBy(() -> new LazyBindingResult(target, null))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessage("Object name must not be null");
+    }
+
+    @Test
+    void errorQueries_WithoutErrors_DoNotMaterializeDelegate() {
+        // Arrange
+        LazyBindingResult bindingResult = new LazyBindingResult(target, "queryFilterBuilder");
+
+        // Act & Assert
+        assertThat(bindingResult.getObjectName()).isEqualTo("queryFilterBuilder");
+        assertThat(bindingResult.getTarget()).isSameAs(target);
+        assertThat(bindingResult.hasErrors()).isFalse();
+        assertThat(bindingResult.getErrorCount()).isZero();
+        assertThat(bindingResult.getAllErrors()).isEmpty();
+        assertThat(bindingResult.hasFieldErrors()).isFalse();
+        assertThat(bindingResult.hasGlobalErrors()).isFalse();
+        assertThat(bindingResult.isMaterialized()).isFalse();
+    }
+
+    @Test
+    void addFieldError_MaterializesDelegateAndRecordsError() {
+        // Arrange
+        LazyBindingResult bindingResult = new LazyBindingResult(target, "queryFilterBuilder");
+
+        // Act
+        FilterUtils.addFieldError(bindingResult, "isActive", "maybe", "Invalid value");
+
+        // Assert
+        assertThat(bindingResult.isMaterialized()).isTrue();
+        assertThat(bindingResult.hasErrors()).isTrue();
+        assertThat(bindingResult.getErrorCount()).isEqualTo(1);
+        assertThat(bindingResult.hasFieldErrors("isActive")).isTrue();
+        FieldError fieldError = bindingResult.getFieldError("isActive");
+        assertThat(fieldError).isNotNull();
+        assertThat(fieldError.getObjectName()).isEqualTo("queryFilterBuilder");
+        assertThat(fieldError.getRejectedValue()).isEqualTo("maybe");
+        assertThat(fieldError.getDefaultMessage()).isEqualTo("Invalid value");
+    }
+
+    @Test
+    void reject_MaterializesDelegateAndRecordsGlobalError() {
+        // Arrange
+        LazyBindingResult bindingResult = new LazyBindingResult(target, "queryFilterBuilder");
+
+        // Act
+        bindingResult.reject("code", "Global error");
+
+        // Assert
+        assertThat(bindingResult.hasGlobalErrors()).isTrue();
+        assertThat(bindingResult.getGlobalErrorCount()).isEqualTo(1);
+        assertThat(bindingResult.getAllErrors()).hasSize(1);
+    }
+}
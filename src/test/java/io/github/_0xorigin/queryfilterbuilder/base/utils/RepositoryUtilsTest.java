@@ -0,0 +1,88 @@
+package io.github._0xorigin.queryfilterbuilder.base.utils;
+
+import io.github._0xorigin.queryfilterbuilder.FilterSpecification;
+import io.github._0xorigin.queryfilterbuilder.entities.User;
+import io.github._0xorigin.queryfilterbuilder.entities.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RepositoryUtilsTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private User user;
+
+    @Test
+    void emptyResultSpecification_ReturnsEmptyResultsWithoutQuerying() {
+        // Arrange
+        FilterSpecification<User> specification = new FilterSpecification<>((root, query, criteriaBuilder) -> null, true);
+        PageRequest pageRequest = PageRequest.of(2, 10);
+
+        // Act
+        List<User> all = RepositoryUtils.findAll(userRepository, specification);
+        List<User> sorted = RepositoryUtils.findAll(userRepository, specification, Sort.by("firstName"));
+        Page<User> page = RepositoryUtils.findAll(userRepository, specification, pageRequest);
+        long count = RepositoryUtils.count(userRepository, specification);
+        boolean exists = RepositoryUtils.exists(userRepository, specification);
+
+        // Assert
+        assertThat(all).isEmpty();
+        assertThat(sorted).isEmpty();
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.getPageable()).isEqualTo(pageRequest);
+        assertThat(page.getTotalElements()).isZero();
+        assertThat(count).isZero();
+        assertThat(exists).isFalse();
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void combinedWithEmptyResultSpecification_KeepsEmptyResult() {
+        // Arrange
+        FilterSpecification<User> emptyResult = new FilterSpecification<>((root, query, criteriaBuilder) -> null, true);
+        FilterSpecification<User> satisfiable = new FilterSpecification<>((root, query, criteriaBuilder) -> null, false);
+
+        // Act
+        List<User> result = RepositoryUtils.findAll(userRepository, satisfiable.and(emptyResult));
+
+        // Assert
+        assertThat(result).isEmpty();
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void otherSpecifications_DelegateToRepository() {
+        // Arrange
+        FilterSpecification<User> satisfiable = new FilterSpecification<>((root, query, criteriaBuilder) -> null, false);
+        Specification<User> plain = (root, query, criteriaBuilder) -> null;
+        PageRequest pageRequest = PageRequest.of(0, 10);
+        when(userRepository.findAll(satisfiable)).thenReturn(List.of(user));
+        when(userRepository.findAll(plain, pageRequest)).thenReturn(new PageImpl<>(List.of(user), pageRequest, 1));
+        when(userRepository.count(plain)).thenReturn(1L);
+
+        // Act
+        List<User> all = RepositoryUtils.findAll(userRepository, satisfiable);
+        Page<User> page = RepositoryUtils.findAll(userRepository, plain, pageRequest);
+        long count = RepositoryUtils.count(userRepository, plain);
+
+        // Assert
+        assertThat(all).containsExactly(user);
+        assertThat(page.getContent()).containsExactly(user);
+        assertThat(count).isEqualTo(1);
+    }
+}
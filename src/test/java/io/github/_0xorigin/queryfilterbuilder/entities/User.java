@@ -7,6 +7,8 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 @Entity
@@ -34,6 +36,9 @@ public class User {
     @JoinColumn(name = "created_by", nullable = true, updatable = false)
     private User createdBy;
 
+    @OneToMany(mappedBy = "createdBy")
+    private List<User> createdUsers = new ArrayList<>();
+
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
     private Role role;
@@ -66,6 +71,10 @@ public class User {
         return createdBy;
     }
 
+    public List<User> getCreatedUsers() {
+        return createdUsers;
+    }
+
     public Role getRole() {
         return role;
     }
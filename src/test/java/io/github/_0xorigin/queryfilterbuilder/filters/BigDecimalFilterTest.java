@@ -1,5 +1,6 @@
 package io.github._0xorigin.queryfilterbuilder.filters;
 
+import io.github._0xorigin.queryfilterbuilder.base.filterfield.CastResult;
 import io.github._0xorigin.queryfilterbuilder.base.filteroperator.Operator;
 import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterErrorWrapper;
 import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterWrapper;
@@ -87,4 +88,12 @@ class BigDecimalFilterTest {
         assertThat(result).isNull();
         verify(bindingResult).addError(any());
     }
+
+    @Test
+    void tryCast_validString_returnsSuccess() {
+        CastResult<BigDecimal> result = bigDecimalFilter.tryCast("123.45");
+
+        assertThat(result.success()).isTrue();
+        assertThat(result.value()).isEqualTo(new BigDecimal("123.45"));
+    }
 }
@@ -1,5 +1,6 @@
 package io.github._0xorigin.queryfilterbuilder.filters;
 
+import io.github._0xorigin.queryfilterbuilder.base.filterfield.CastResult;
 import io.github._0xorigin.queryfilterbuilder.base.filteroperator.Operator;
 import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterErrorWrapper;
 import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterWrapper;
@@ -139,4 +140,20 @@ class BooleanFilterTest {
         assertThat(result).isNull();
         verify(bindingResult).addError(any());
     }
+
+    @Test
+    void tryCast_nullString_returnsSuccessWithNull() {
+        CastResult<Boolean> result = booleanFilter.tryCast("null");
+
+        assertThat(result.success()).isTrue();
+        assertThat(result.value()).isNull();
+    }
+
+    @Test
+    void tryCast_nullValue_returnsFailure() {
+        CastResult<Boolean> result = booleanFilter.tryCast(null);
+
+        assertThat(result.success()).isFalse();
+        assertThat(result.value()).isNull();
+    }
 }
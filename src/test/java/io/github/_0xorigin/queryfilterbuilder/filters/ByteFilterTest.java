@@ -1,5 +1,6 @@
 package io.github._0xorigin.queryfilterbuilder.filters;
 
+import io.github._0xorigin.queryfilterbuilder.base.filterfield.CastResult;
 import io.github._0xorigin.queryfilterbuilder.base.filteroperator.Operator;
 import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterErrorWrapper;
 import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterWrapper;
@@ -108,4 +109,12 @@ class ByteFilterTest {
         assertThat(result).isNull();
         verify(bindingResult).addError(any());
     }
+
+    @Test
+    void tryCast_validString_returnsSuccess() {
+        CastResult<Byte> result = byteFilter.tryCast("127");
+
+        assertThat(result.success()).isTrue();
+        assertThat(result.value()).isEqualTo((byte) 127);
+    }
 }
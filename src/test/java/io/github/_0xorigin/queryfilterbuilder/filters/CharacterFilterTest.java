@@ -1,5 +1,6 @@
 package io.github._0xorigin.queryfilterbuilder.filters;
 
+import io.github._0xorigin.queryfilterbuilder.base.filterfield.CastResult;
 import io.github._0xorigin.queryfilterbuilder.base.filteroperator.Operator;
 import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterErrorWrapper;
 import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterWrapper;
@@ -105,4 +106,12 @@ class CharacterFilterTest {
         assertThat(result).isNull();
         verify(bindingResult).addError(any());
     }
+
+    @Test
+    void tryCast_validString_returnsSuccess() {
+        CastResult<Character> result = characterFilter.tryCast("A");
+
+        assertThat(result.success()).isTrue();
+        assertThat(result.value()).isEqualTo('A');
+    }
 }
@@ -1,5 +1,6 @@
 package io.github._0xorigin.queryfilterbuilder.filters;
 
+import io.github._0xorigin.queryfilterbuilder.base.filterfield.CastResult;
 import io.github._0xorigin.queryfilterbuilder.base.filteroperator.Operator;
 import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterErrorWrapper;
 import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterWrapper;
@@ -86,4 +87,12 @@ class DoubleFilterTest {
         assertThat(result).isNull();
         verify(bindingResult).addError(any());
     }
+
+    @Test
+    void tryCast_validString_returnsSuccess() {
+        CastResult<Double> result = doubleFilter.tryCast("123.45");
+
+        assertThat(result.success()).isTrue();
+        assertThat(result.value()).isEqualTo(123.45d);
+    }
 }
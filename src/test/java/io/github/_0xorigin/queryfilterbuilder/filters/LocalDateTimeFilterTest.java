@@ -1,5 +1,6 @@
 package io.github._0xorigin.queryfilterbuilder.filters;
 
+import io.github._0xorigin.queryfilterbuilder.base.filterfield.CastResult;
 import io.github._0xorigin.queryfilterbuilder.base.filteroperator.Operator;
 import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterErrorWrapper;
 import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterWrapper;
@@ -96,4 +97,12 @@ class LocalDateTimeFilterTest {
         assertThat(result).isNull();
         verify(bindingResult).addError(any());
     }
+
+    @Test
+    void tryCast_validString_returnsSuccess() {
+        CastResult<LocalDateTime> result = localDateTimeFilter.tryCast("2025-08-27T15:30:00");
+
+        assertThat(result.success()).isTrue();
+        assertThat(result.value()).isEqualTo(LocalDateTime.parse("2025-08-27T15:30:00"));
+    }
 }
@@ -1,5 +1,6 @@
 package io.github._0xorigin.queryfilterbuilder.filters;
 
+import io.github._0xorigin.queryfilterbuilder.base.filterfield.CastResult;
 import io.github._0xorigin.queryfilterbuilder.base.filteroperator.Operator;
 import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterErrorWrapper;
 import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterWrapper;
@@ -83,4 +84,12 @@ class StringFilterTest {
         assertThat(result).isNull();
         verifyNoInteractions(bindingResult);
     }
+
+    @Test
+    void tryCast_nullValue_returnsSuccessWithNull() {
+        CastResult<String> result = stringFilter.tryCast(null);
+
+        assertThat(result.success()).isTrue();
+        assertThat(result.value()).isNull();
+    }
 }
@@ -1,5 +1,6 @@
 package io.github._0xorigin.queryfilterbuilder.filters;
 
+import io.github._0xorigin.queryfilterbuilder.base.filterfield.CastResult;
 import io.github._0xorigin.queryfilterbuilder.base.filteroperator.Operator;
 import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterErrorWrapper;
 import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterWrapper;
@@ -91,4 +92,20 @@ class UuidFilterTest {
         assertThat(result).isNull();
         verify(bindingResult).addError(any());
     }
+
+    @Test
+    void tryCast_validString_returnsSuccess() {
+        CastResult<UUID> result = uuidFilter.tryCast("123e4567-e89b-12d3-a456-426614174000");
+
+        assertThat(result.success()).isTrue();
+        assertThat(result.value()).isEqualTo(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"));
+    }
+
+    @Test
+    void tryCast_invalidString_returnsFailure() {
+        CastResult<UUID> result = uuidFilter.tryCast("invalid");
+
+        assertThat(result.success()).isFalse();
+        assertThat(result.value()).isNull();
+    }
 }
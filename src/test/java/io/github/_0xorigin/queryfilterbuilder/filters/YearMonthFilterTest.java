@@ -1,5 +1,6 @@
 package io.github._0xorigin.queryfilterbuilder.filters;
 
+import io.github._0xorigin.queryfilterbuilder.base.filterfield.CastResult;
 import io.github._0xorigin.queryfilterbuilder.base.filteroperator.Operator;
 import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterErrorWrapper;
 import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterWrapper;
@@ -93,4 +94,20 @@ class YearMonthFilterTest {
         assertThat(result).isNull();
         verify(bindingResult).addError(any());
     }
+
+    @Test
+    void tryCast_validString_returnsSuccess() {
+        CastResult<YearMonth> result = yearMonthFilter.tryCast("2025-08");
+
+        assertThat(result.success()).isTrue();
+        assertThat(result.value()).isEqualTo(YearMonth.parse("2025-08"));
+    }
+
+    @Test
+    void tryCast_invalidString_returnsFailure() {
+        CastResult<YearMonth> result = yearMonthFilter.tryCast("2025-08-27");
+
+        assertThat(result.success()).isFalse();
+        assertThat(result.value()).isNull();
+    }
 }
@@ -86,6 +86,60 @@ class BetweenTest {
         verifyNoInteractions(criteriaBuilder);
     }
 
+    @Test
+    void compile_validList_returnsPredicateMatchingInclusiveRange() {
+        List<Integer> values = List.of(1, 10);
+
+        Optional<java.util.function.Predicate<Integer>> result = between.compile(values, filterErrorWrapper);
+
+        assertThat(result).isPresent();
+        assertThat(result.get().test(1)).isTrue();
+        assertThat(result.get().test(10)).isTrue();
+        assertThat(result.get().test(11)).isFalse();
+        assertThat(result.get().test(null)).isFalse();
+        verifyNoInteractions(filterErrorWrapper);
+    }
+
+    @Test
+    void compile_listWithWrongSize_addsErrorAndReturnsEmptyOptional() {
+        var values = List.of(1, 10, 100);
+        when(filterErrorWrapper.bindingResult()).thenReturn(bindingResult);
+        when(bindingResult.getObjectName()).thenReturn("test");
+        when(filterErrorWrapper.filterWrapper()).thenReturn(mock(FilterWrapper.class));
+        when(filterErrorWrapper.filterWrapper().originalFieldName()).thenReturn("fieldName");
+        when(localizationService.getMessage(Operator.BETWEEN.getValue())).thenReturn("between");
+        when(localizationService.getMessage(MessageKey.VALUE_MUST_EXACTLY_TWO_ELEMENTS.getCode(), "between"))
+            .thenReturn("Value must have exactly two elements for between operator");
+
+        Optional<java.util.function.Predicate<Integer>> result = between.compile(values, filterErrorWrapper);
+
+        assertThat(result).isEmpty();
+        verify(filterErrorWrapper.bindingResult()).addError(any());
+    }
+
+    @Test
+    void validate_listWithWrongSize_addsError() {
+        var values = List.of(1, 10, 100);
+        when(filterErrorWrapper.bindingResult()).thenReturn(bindingResult);
+        when(bindingResult.getObjectName()).thenReturn("test");
+        when(filterErrorWrapper.filterWrapper()).thenReturn(mock(FilterWrapper.class));
+        when(filterErrorWrapper.filterWrapper().originalFieldName()).thenReturn("fieldName");
+        when(localizationService.getMessage(Operator.BETWEEN.getValue())).thenReturn("between");
+        when(localizationService.getMessage(MessageKey.VALUE_MUST_EXACTLY_TWO_ELEMENTS.getCode(), "between"))
+            .thenReturn("Value must have exactly two elements for between operator");
+
+        between.validate(values, filterErrorWrapper);
+
+        verify(filterErrorWrapper.bindingResult()).addError(any());
+    }
+
+    @Test
+    void validate_validList_addsNoError() {
+        between.validate(List.of(1, 10), filterErrorWrapper);
+
+        verifyNoInteractions(filterErrorWrapper);
+    }
+
     @Test
     void getOperatorConstant_returnsBetweenOperator() {
         assertThat(between.getOperatorConstant()).isEqualTo(Operator.BETWEEN);
@@ -61,6 +61,21 @@ class ContainsTest {
         verifyNoInteractions(criteriaBuilder, bindingResult);
     }
 
+    @Test
+    void compile_validList_returnsPredicateMatchingLikePattern() {
+        List<String> values = List.of("e_t");
+
+        Optional<java.util.function.Predicate<String>> result = contains.compile(values, filterErrorWrapper);
+
+        assertThat(result).isPresent();
+        assertThat(result.get().test("a test")).isTrue();
+        assertThat(result.get().test("eat")).isTrue();
+        assertThat(result.get().test("et")).isFalse();
+        assertThat(result.get().test("E-T")).isFalse();
+        assertThat(result.get().test(null)).isFalse();
+        verifyNoInteractions(filterErrorWrapper);
+    }
+
     @Test
     void getOperatorConstant_returnsContainsOperator() {
         assertThat(contains.getOperatorConstant()).isEqualTo(Operator.CONTAINS);
@@ -60,6 +60,29 @@ class EqualsTest {
         verifyNoInteractions(criteriaBuilder, bindingResult);
     }
 
+    @Test
+    void compile_validList_returnsPredicateMatchingEqualValues() {
+        List<Integer> values = List.of(5);
+
+        Optional<java.util.function.Predicate<Integer>> result = equals.compile(values, filterErrorWrapper);
+
+        assertThat(result).isPresent();
+        assertThat(result.get().test(5)).isTrue();
+        assertThat(result.get().test(6)).isFalse();
+        assertThat(result.get().test(null)).isFalse();
+        verifyNoInteractions(filterErrorWrapper);
+    }
+
+    @Test
+    void compile_invalidList_returnsEmptyOptional() {
+        List<Integer> values = List.of();
+
+        Optional<java.util.function.Predicate<Integer>> result = equals.compile(values, filterErrorWrapper);
+
+        assertThat(result).isEmpty();
+        verifyNoInteractions(filterErrorWrapper);
+    }
+
     @Test
     void getOperatorConstant_returnsEqualsOperator() {
         assertThat(equals.getOperatorConstant()).isEqualTo(Operator.EQ);
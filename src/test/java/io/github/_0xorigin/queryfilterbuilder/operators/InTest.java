@@ -1,17 +1,23 @@
 package io.github._0xorigin.queryfilterbuilder.operators;
 
+import io.github._0xorigin.queryfilterbuilder.base.enums.MessageKey;
+import io.github._0xorigin.queryfilterbuilder.base.enums.ToManyFilterStrategy;
 import io.github._0xorigin.queryfilterbuilder.base.filteroperator.Operator;
+import io.github._0xorigin.queryfilterbuilder.base.services.LocalizationService;
 import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterErrorWrapper;
+import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterWrapper;
+import io.github._0xorigin.queryfilterbuilder.configs.QueryFilterBuilderProperties;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Predicate;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.validation.BindingResult;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +27,9 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class InTest {
 
+    @Mock
+    private LocalizationService localizationService;
+
     @Mock
     private CriteriaBuilder criteriaBuilder;
 
@@ -36,21 +45,82 @@ class InTest {
     @Mock
     private Expression<Integer> expression;
 
-    @InjectMocks
     private In inOperator;
 
+    @BeforeEach
+    void setUp() {
+        inOperator = new In(properties(true, 4, 10), localizationService);
+    }
+
+    private static QueryFilterBuilderProperties properties(boolean padding, int chunkSize, int maxSize) {
+        return new QueryFilterBuilderProperties(
+            new QueryFilterBuilderProperties.Defaults(
+                ".",
+                ToManyFilterStrategy.JOIN,
+                new QueryFilterBuilderProperties.InClause(padding, chunkSize, maxSize)
+            ),
+            new QueryFilterBuilderProperties.QueryParam(new QueryFilterBuilderProperties.QueryParamDefaults("sort"))
+        );
+    }
+
     @Test
-    void apply_validListWithElements_returnsPredicate() {
+    void apply_validListWithElements_returnsPaddedPredicate() {
         List<Integer> values = List.of(1, 2, 3);
-        when(expression.in(values)).thenReturn(predicate);
+        when(expression.in(List.of(1, 2, 3, 3))).thenReturn(predicate);
 
         Optional<Predicate> result = inOperator.apply(expression, criteriaBuilder, values, filterErrorWrapper);
 
         assertThat(result).isPresent().contains(predicate);
-        verify(expression).in(values);
+        verify(expression).in(List.of(1, 2, 3, 3));
         verifyNoInteractions(criteriaBuilder, bindingResult);
     }
 
+    @Test
+    void apply_paddingDisabled_returnsPredicateWithDistinctValues() {
+        inOperator = new In(properties(false, 4, 10), localizationService);
+        when(expression.in(List.of(1, 2, 3))).thenReturn(predicate);
+
+        Optional<Predicate> result = inOperator.apply(expression, criteriaBuilder, List.of(1, 2, 2, 3), filterErrorWrapper);
+
+        assertThat(result).isPresent().contains(predicate);
+        verify(expression).in(List.of(1, 2, 3));
+    }
+
+    @Test
+    void apply_listLargerThanChunkSize_returnsOrOfChunkedPredicates() {
+        List<Integer> values = List.of(1, 2, 3, 4, 5, 6);
+        Predicate firstChunk = mock(Predicate.class);
+        Predicate secondChunk = mock(Predicate.class);
+        when(expression.in(List.of(1, 2, 3, 4))).thenReturn(firstChunk);
+        when(expression.in(List.of(5, 6))).thenReturn(secondChunk);
+        when(criteriaBuilder.or(new Predicate[]{firstChunk, secondChunk})).thenReturn(predicate);
+
+        Optional<Predicate> result = inOperator.apply(expression, criteriaBuilder, values, filterErrorWrapper);
+
+        assertThat(result).isPresent().contains(predicate);
+    }
+
+    @Test
+    void apply_listLargerThanMaxSize_addsErrorAndReturnsEmptyOptional() {
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 11; i++)
+            values.add(i);
+        FilterWrapper filterWrapper = mock(FilterWrapper.class);
+        when(filterErrorWrapper.bindingResult()).thenReturn(bindingResult);
+        when(bindingResult.getObjectName()).thenReturn("test");
+        when(filterErrorWrapper.filterWrapper()).thenReturn(filterWrapper);
+        when(filterWrapper.originalFieldName()).thenReturn("fieldName");
+        when(localizationService.getMessage(Operator.IN.getValue())).thenReturn("in");
+        when(localizationService.getMessage(MessageKey.VALUE_LIST_TOO_LARGE.getCode(), "in", "10"))
+            .thenReturn("Value must be a List with at most 10 elements for in operator");
+
+        Optional<Predicate> result = inOperator.apply(expression, criteriaBuilder, values, filterErrorWrapper);
+
+        assertThat(result).isEmpty();
+        verify(bindingResult).addError(any());
+        verifyNoInteractions(criteriaBuilder, expression);
+    }
+
     @Test
     void apply_invalidList_returnsEmptyOptional() {
         List<String> values = List.of();
@@ -62,6 +132,59 @@ class InTest {
         verifyNoInteractions(criteriaBuilder, bindingResult);
     }
 
+    @Test
+    void compile_validList_returnsPredicateMatchingAnyValue() {
+        List<Integer> values = List.of(3, 1, 3);
+
+        Optional<java.util.function.Predicate<Integer>> result = inOperator.compile(values, filterErrorWrapper);
+
+        assertThat(result).isPresent();
+        assertThat(result.get().test(1)).isTrue();
+        assertThat(result.get().test(3)).isTrue();
+        assertThat(result.get().test(2)).isFalse();
+        assertThat(result.get().test(null)).isFalse();
+        verifyNoInteractions(filterErrorWrapper);
+    }
+
+    @Test
+    void compile_listLargerThanMaxSize_addsErrorAndReturnsEmptyOptional() {
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 11; i++)
+            values.add(i);
+        FilterWrapper filterWrapper = mock(FilterWrapper.class);
+        when(filterErrorWrapper.bindingResult()).thenReturn(bindingResult);
+        when(bindingResult.getObjectName()).thenReturn("test");
+        when(filterErrorWrapper.filterWrapper()).thenReturn(filterWrapper);
+        when(filterWrapper.originalFieldName()).thenReturn("fieldName");
+        when(localizationService.getMessage(Operator.IN.getValue())).thenReturn("in");
+        when(localizationService.getMessage(MessageKey.VALUE_LIST_TOO_LARGE.getCode(), "in", "10"))
+            .thenReturn("Value must be a List with at most 10 elements for in operator");
+
+        Optional<java.util.function.Predicate<Integer>> result = inOperator.compile(values, filterErrorWrapper);
+
+        assertThat(result).isEmpty();
+        verify(bindingResult).addError(any());
+    }
+
+    @Test
+    void validate_listLargerThanMaxSize_addsError() {
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 11; i++)
+            values.add(i);
+        FilterWrapper filterWrapper = mock(FilterWrapper.class);
+        when(filterErrorWrapper.bindingResult()).thenReturn(bindingResult);
+        when(bindingResult.getObjectName()).thenReturn("test");
+        when(filterErrorWrapper.filterWrapper()).thenReturn(filterWrapper);
+        when(filterWrapper.originalFieldName()).thenReturn("fieldName");
+        when(localizationService.getMessage(Operator.IN.getValue())).thenReturn("in");
+        when(localizationService.getMessage(MessageKey.VALUE_LIST_TOO_LARGE.getCode(), "in", "10"))
+            .thenReturn("Value must be a List with at most 10 elements for in operator");
+
+        inOperator.validate(values, filterErrorWrapper);
+
+        verify(bindingResult).addError(any());
+    }
+
     @Test
     void getOperatorConstant_returnsInOperator() {
         assertThat(inOperator.getOperatorConstant()).isEqualTo(Operator.IN);
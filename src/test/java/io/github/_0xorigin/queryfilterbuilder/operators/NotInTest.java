@@ -1,17 +1,23 @@
 package io.github._0xorigin.queryfilterbuilder.operators;
 
+import io.github._0xorigin.queryfilterbuilder.base.enums.MessageKey;
+import io.github._0xorigin.queryfilterbuilder.base.enums.ToManyFilterStrategy;
 import io.github._0xorigin.queryfilterbuilder.base.filteroperator.Operator;
+import io.github._0xorigin.queryfilterbuilder.base.services.LocalizationService;
 import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterErrorWrapper;
+import io.github._0xorigin.queryfilterbuilder.base.wrappers.FilterWrapper;
+import io.github._0xorigin.queryfilterbuilder.configs.QueryFilterBuilderProperties;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Predicate;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.validation.BindingResult;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +27,9 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class NotInTest {
 
+    @Mock
+    private LocalizationService localizationService;
+
     @Mock
     private CriteriaBuilder criteriaBuilder;
 
@@ -36,24 +45,76 @@ class NotInTest {
     @Mock
     private Expression<Integer> expression;
 
-    @InjectMocks
     private NotIn notIn;
 
+    @BeforeEach
+    void setUp() {
+        notIn = new NotIn(properties(true, 4, 10), localizationService);
+    }
+
+    private static QueryFilterBuilderProperties properties(boolean padding, int chunkSize, int maxSize) {
+        return new QueryFilterBuilderProperties(
+            new QueryFilterBuilderProperties.Defaults(
+                ".",
+                ToManyFilterStrategy.JOIN,
+                new QueryFilterBuilderProperties.InClause(padding, chunkSize, maxSize)
+            ),
+            new QueryFilterBuilderProperties.QueryParam(new QueryFilterBuilderProperties.QueryParamDefaults("sort"))
+        );
+    }
+
     @Test
-    void apply_validListWithElements_returnsPredicate() {
+    void apply_validListWithElements_returnsPaddedPredicate() {
         List<Integer> values = List.of(1, 2, 3);
         Predicate inPredicate = mock(Predicate.class);
-        when(expression.in(values)).thenReturn(inPredicate);
+        when(expression.in(List.of(1, 2, 3, 3))).thenReturn(inPredicate);
         when(criteriaBuilder.not(inPredicate)).thenReturn(predicate);
 
         Optional<Predicate> result = notIn.apply(expression, criteriaBuilder, values, filterErrorWrapper);
 
         assertThat(result).isPresent().contains(predicate);
-        verify(expression).in(values);
+        verify(expression).in(List.of(1, 2, 3, 3));
         verify(criteriaBuilder).not(inPredicate);
         verifyNoInteractions(bindingResult);
     }
 
+    @Test
+    void apply_listLargerThanChunkSize_returnsNegatedOrOfChunkedPredicates() {
+        List<Integer> values = List.of(1, 2, 3, 4, 5);
+        Predicate firstChunk = mock(Predicate.class);
+        Predicate secondChunk = mock(Predicate.class);
+        Predicate orPredicate = mock(Predicate.class);
+        when(expression.in(List.of(1, 2, 3, 4))).thenReturn(firstChunk);
+        when(expression.in(List.of(5))).thenReturn(secondChunk);
+        when(criteriaBuilder.or(new Predicate[]{firstChunk, secondChunk})).thenReturn(orPredicate);
+        when(criteriaBuilder.not(orPredicate)).thenReturn(predicate);
+
+        Optional<Predicate> result = notIn.apply(expression, criteriaBuilder, values, filterErrorWrapper);
+
+        assertThat(result).isPresent().contains(predicate);
+    }
+
+    @Test
+    void apply_listLargerThanMaxSize_addsErrorAndReturnsEmptyOptional() {
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 11; i++)
+            values.add(i);
+        FilterWrapper filterWrapper = mock(FilterWrapper.class);
+        when(filterErrorWrapper.bindingResult()).thenReturn(bindingResult);
+        when(bindingResult.getObjectName()).thenReturn("test");
+        when(filterErrorWrapper.filterWrapper()).thenReturn(filterWrapper);
+        when(filterWrapper.originalFieldName()).thenReturn("fieldName");
+        when(localizationService.getMessage(Operator.NOT_IN.getValue())).thenReturn("notIn");
+        when(localizationService.getMessage(MessageKey.VALUE_LIST_TOO_LARGE.getCode(), "notIn", "10"))
+            .thenReturn("Value must be a List with at most 10 elements for notIn operator");
+
+        Optional<Predicate> result = notIn.apply(expression, criteriaBuilder, values, filterErrorWrapper);
+
+        assertThat(result).isEmpty();
+        verify(bindingResult).addError(any());
+        verifyNoInteractions(criteriaBuilder, expression);
+    }
+
     @Test
     void apply_invalidList_returnsEmptyOptional() {
         List<String> values = List.of();